@@ -0,0 +1,60 @@
+package benchmark;
+
+import model.Cell;
+import model.Game;
+import model.Piece;
+import model.PieceGroup;
+import model.PieceState;
+import model.Player;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PieceGroup.backToPrevious 벤치마크
+ * -- 그룹(업힌 말 전체)을 외곽길로 몇 칸 보낸 뒤, 빽도로 한 칸 되돌아갔다가 다시 원래 칸으로 돌아오는 것을 한 번의 연산으로 측정
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BackDoBenchmark {
+    private static final int ADVANCE = 8;
+
+    @Param({"SQUARE", "PENTAGON", "HEXAGON"})
+    public String shape;
+    @Param({"2", "5"})
+    public int pieces;
+
+    private PieceGroup group;
+
+    @Setup
+    public void setUp() {
+        Game game = BenchmarkGames.newGame(shape, 2, pieces);
+        Player player = game.getPlayers().get(0);
+        group = new PieceGroup(player);
+        for (Piece piece : player.getPieces()) {
+            piece.setState(PieceState.ON_BOARD);
+            group.grouping(piece);
+        }
+        Cell cell = game.getBoard().getStartCell();
+        for (int i = 0; i < ADVANCE; i++) {
+            cell = cell.getNextCell(0);
+            group.moveGroupTo(cell);
+        }
+    }
+
+    @Benchmark
+    public PieceGroup backToPrevious() {
+        Cell current = group.getCurrentCell();
+        group.backToPrevious();
+        group.moveGroupTo(current);
+        return group;
+    }
+}
@@ -0,0 +1,29 @@
+package benchmark;
+
+import model.BoardSpec;
+import model.Game;
+import service.ThrowModel;
+
+import java.util.Arrays;
+
+/**
+ * 벤치마크 공통: 파라미터(보드 모양, 플레이어 수, 말 수)로 게임 생성
+ */
+final class BenchmarkGames {
+    private static final String[] PLAYER_NAMES = {"P1", "P2", "P3", "P4"};
+
+    private BenchmarkGames() {
+    }
+
+    static Game newGame(String spec, int players, int pieces) {
+        Game game = new Game(players, Arrays.copyOf(PLAYER_NAMES, players), pieces, BoardSpec.parse(spec));
+        game.startGame();
+        return game;
+    }
+
+    // 시작하지 않은 게임 (GameController가 시작함), seed로 던지기 결과를 정함
+    static Game newUnstartedGame(String spec, int players, int pieces, long seed) {
+        return new Game(players, Arrays.copyOf(PLAYER_NAMES, players), pieces, BoardSpec.parse(spec),
+                ThrowModel.FAIR, seed);
+    }
+}
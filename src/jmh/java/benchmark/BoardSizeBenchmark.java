@@ -0,0 +1,91 @@
+package benchmark;
+
+import model.BoardSpec;
+import model.CompactGameState;
+import model.Game;
+import model.Piece;
+import model.Player;
+import model.ThrowResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import service.CompactMoveEngine;
+import service.simulation.Policies;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 판 크기별 한 수 비용 벤치마크 (기본 사각형 29칸 ~ 12각형 229칸)
+ * -- 이동은 RouteTable에서 (칸, 들어온 방향, 칸 수)로 한 번 찾는 것이므로 판이 커져도 한 수 비용이 거의 같아야 함
+ * -- playTurn: Game(MoveActionService) 경유, compactApply: CompactMoveEngine으로 압축 국면에 직접 적용
+ * -- 판이 클수록 한 판이 길어지므로, 게임이 끝나면 처음 국면으로 되돌려 계속 진행 (MoveBenchmark와 같음)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BoardSizeBenchmark {
+    private static final int THROW_COUNT = 1 << 12;
+
+    @Param({"SQUARE", "HEXAGON", "8x8x4", "12x12x6"})
+    public String spec;
+
+    private Game game;
+    private CompactGameState initial;
+    private CompactMoveEngine engine;
+    private CompactGameState state;
+    private final int[] moves = new int[4];
+    private final ThrowResult[] throwResults = new ThrowResult[THROW_COUNT];
+    private final SplittableRandom random = new SplittableRandom(42);
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        game = BenchmarkGames.newGame(spec, 4, 4);
+        initial = CompactGameState.of(game);
+        engine = CompactMoveEngine.forSpec(BoardSpec.parse(spec));
+        state = initial.copy();
+        for (int i = 0; i < THROW_COUNT; i++) {
+            throwResults[i] = game.getThrowService().throwRandom();
+        }
+    }
+
+    @Benchmark
+    public Game playTurn() {
+        ThrowResult result = throwResults[cursor++ & (THROW_COUNT - 1)];
+        Player player = game.getCurrentPlayer();
+        Piece selected = result == ThrowResult.BACK_DO && player.hasNoMovablePiece(result)
+                ? null
+                : Policies.RANDOM.selectPiece(game, player, result, random);
+        if (selected != null) {
+            game.playTurn(player, result, selected);
+        }
+        if (game.isGameOver()) {
+            initial.restoreTo(game);
+        } else if (player.checkAllPiecesFinished() || !result.isExtraTurn()) {
+            game.advanceTurn();
+        }
+        return game;
+    }
+
+    @Benchmark
+    public CompactGameState compactApply() {
+        ThrowResult result = throwResults[cursor++ & (THROW_COUNT - 1)];
+        int seat = state.getCurrentPlayer();
+        if (!(result == ThrowResult.BACK_DO && engine.hasNoMovablePiece(state, seat, result))) {
+            int count = engine.legalMoves(state, seat, moves);
+            engine.apply(state, seat, moves[random.nextInt(count)], result);
+        }
+        if (state.isGameOver()) {
+            state.copyFrom(initial);
+        } else if (state.isFinishedPlayer(seat) || !result.isExtraTurn()) {
+            engine.advanceTurn(state);
+        }
+        return state;
+    }
+}
@@ -0,0 +1,91 @@
+package benchmark;
+
+import controller.GameController;
+import model.Game;
+import model.Piece;
+import model.PieceState;
+import model.Player;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import view.headless.HeadlessGameView;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GameController 처리량 벤치마크: 창 없이(HeadlessGameView) 한 판을 끝까지 클릭으로 진행
+ * -- 던지기 버튼이 켜져 있으면 onRandomThrowClicked, 아니면 차례인 플레이어의 남은 말 중 하나로 onPieceClicked
+ * -- 결과 단위: 초당 게임 수, 보조 카운터 events = 초당 컨트롤러 이벤트(클릭) 수
+ * -- 상태 메시지 목록은 남기지 않음 (recording = false), 문자열 생성 등 컨트롤러 자체의 비용은 포함
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ControllerBenchmark {
+    private static final int MAX_EVENTS = 100_000;
+
+    @Param({"SQUARE", "HEXAGON"})
+    public String shape;
+    @Param({"2", "4"})
+    public int players;
+    @Param({"4"})
+    public int pieces;
+
+    private final SplittableRandom random = new SplittableRandom(42);
+    private Piece[] choices;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Events {
+        public long events;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            events = 0;
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        choices = new Piece[pieces];
+    }
+
+    @Benchmark
+    public int playGame(Events counter) {
+        Game game = BenchmarkGames.newUnstartedGame(shape, players, pieces, random.nextLong());
+        HeadlessGameView view = new HeadlessGameView(HeadlessGameView.DelayMode.IMMEDIATE, false);
+        GameController controller = new GameController(game, view);
+
+        int events = 0;
+        while (view.getRanking() == null && events < MAX_EVENTS) {
+            if (view.isThrowEnabled()) {
+                controller.onRandomThrowClicked();
+            } else {
+                controller.onPieceClicked(choosePiece(game.getCurrentPlayer()));
+            }
+            events++;
+        }
+        counter.events += events;
+        return events;
+    }
+
+    private Piece choosePiece(Player player) {
+        List<Piece> pieceList = player.getPieces();
+        int count = 0;
+        for (Piece piece : pieceList) {
+            if (piece.getState() != PieceState.FINISHED) {
+                choices[count++] = piece;
+            }
+        }
+        return choices[random.nextInt(count)];
+    }
+}
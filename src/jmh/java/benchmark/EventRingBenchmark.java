@@ -0,0 +1,100 @@
+package benchmark;
+
+import controller.event.EventProcessor;
+import controller.event.GameEvent;
+import controller.event.GameEventHandler;
+import controller.event.GameEventRing;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GameEventRing 벤치마크 (소비자는 각자 스레드의 EventProcessor)
+ * -- publishAndAwait: 이벤트 하나를 발행하고 모든 소비자가 처리할 때까지의 시간 (SampleTime --> 지연 시간 분포)
+ * -- publishBurst: BURST개를 연달아 발행 (링이 차면 가장 느린 소비자를 기다림), 결과 단위는 이벤트당 시간
+ * 소비자 수만큼 코어가 있어야 의미 있는 값이 나옴 (코어가 모자라면 park/yield 시간이 섞임)
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EventRingBenchmark {
+    private static final int BURST = 1024;
+
+    @Param({"1", "3"})
+    public int consumers;
+    @Param({"1024"})
+    public int capacity;
+
+    private GameEventRing ring;
+    private List<EventProcessor> processors;
+    private CountingHandler[] handlers;
+    private long published;
+
+    // 처리한 마지막 번호를 다른 스레드에서 볼 수 있게 남기는 소비자
+    static final class CountingHandler implements GameEventHandler {
+        volatile long lastSequence = -1;
+
+        @Override
+        public void onEvent(GameEvent event, boolean endOfBatch) {
+            if (endOfBatch) {
+                lastSequence = event.getSequence();
+            }
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ring = new GameEventRing(capacity);
+        processors = new ArrayList<>();
+        handlers = new CountingHandler[consumers];
+        for (int c = 0; c < consumers; c++) {
+            handlers[c] = new CountingHandler();
+            processors.add(new EventProcessor(ring, handlers[c], "bench-consumer-" + c).start());
+        }
+        published = -1;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        for (EventProcessor processor : processors) {
+            processor.close();
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    public long publishAndAwait() {
+        ring.claim().reset(GameEvent.Type.MOVE, 0).piece(1).cells(3, 5);
+        ring.publish();
+        published++;
+        for (CountingHandler handler : handlers) {
+            while (handler.lastSequence < published) {
+                Thread.onSpinWait();
+            }
+        }
+        return published;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OperationsPerInvocation(BURST)
+    public long publishBurst() {
+        for (int i = 0; i < BURST; i++) {
+            ring.claim().reset(GameEvent.Type.THROW, i & 3);
+            ring.publish();
+        }
+        published += BURST;
+        return ring.getBackpressureWaits();
+    }
+}
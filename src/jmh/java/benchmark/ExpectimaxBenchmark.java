@@ -0,0 +1,96 @@
+package benchmark;
+
+import model.CompactGameState;
+import model.Game;
+import model.Piece;
+import model.Player;
+import model.ThrowResult;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import service.bot.ExpectimaxBot;
+import service.bot.SearchResult;
+import service.bot.TranspositionTable;
+import service.simulation.Policies;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ExpectimaxBot 고정 깊이 탐색 벤치마크
+ * -- 무작위로 몇 수 진행한 중반 국면에서 초당 탐색 횟수와 초당 노드 수(nodes 보조 카운터)를 측정
+ * -- threads 파라미터로 ForkJoinPool 병렬도에 따른 확장성을 비교 (하드웨어 산정용)
+ * -- tableEntries 파라미터로 치환표 유무를 비교 (0이면 치환표 없음, 매 호출 전에 비워서 이전 호출의 결과를 쓰지 않음)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ExpectimaxBenchmark {
+    @Param({"SQUARE", "HEXAGON"})
+    public String shape;
+    @Param({"2", "4"})
+    public int players;
+    @Param({"4"})
+    public int pieces;
+    @Param({"4"})
+    public int depth;
+    @Param({"1", "4"})
+    public int threads;
+    @Param({"0", "262144"})
+    public int tableEntries;
+
+    private ExpectimaxBot bot;
+    private TranspositionTable table;
+    private CompactGameState state;
+
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class NodeCounter {
+        public long nodes; // 결과 표에 초당 노드 수로 나옴
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            nodes = 0;
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        Game game = BenchmarkGames.newGame(shape, players, pieces);
+        SplittableRandom random = new SplittableRandom(7);
+        for (int move = 0; move < 6 * players && !game.isGameOver(); move++) {
+            Player player = game.getCurrentPlayer();
+            ThrowResult result = ThrowResult.values()[1 + random.nextInt(3)]; // 도/개/걸만 사용해 적당히 흩어진 국면
+            Piece piece = Policies.RANDOM.selectPiece(game, player, result, random);
+            game.playTurn(player, result, piece);
+            game.advanceTurn();
+        }
+        state = CompactGameState.of(game);
+        bot = new ExpectimaxBot(game.getThrowService(), Long.MAX_VALUE / 2_000_000, threads);
+        bot.setMaxDepth(depth);
+        table = tableEntries == 0 ? null : new TranspositionTable(tableEntries);
+        bot.setTranspositionTable(table);
+    }
+
+    @Setup(Level.Invocation)
+    public void clearTable() {
+        if (table != null) {
+            table.clear();
+        }
+    }
+
+    @Benchmark
+    public SearchResult search(NodeCounter counter) {
+        SearchResult result = bot.search(state, List.of(ThrowResult.GAE));
+        counter.nodes += result.getNodes();
+        return result;
+    }
+}
@@ -0,0 +1,52 @@
+package benchmark;
+
+import model.Game;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import service.simulation.PiecePolicy;
+import service.simulation.Policies;
+import service.simulation.SimulationEngine;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게임 한 판 전체(생성 --> 끝날 때까지 진행) 처리량 벤치마크, 결과 단위는 초당 게임 수
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class FullGameBenchmark {
+    private static final int MAX_TURNS = 10_000;
+
+    @Param({"SQUARE", "PENTAGON", "HEXAGON"})
+    public String shape;
+    @Param({"2", "4"})
+    public int players;
+    @Param({"2", "5"})
+    public int pieces;
+    @Param({"random", "furthest"})
+    public String policy;
+
+    private PiecePolicy[] seatPolicies;
+    private final SplittableRandom random = new SplittableRandom(42);
+
+    @Setup
+    public void setUp() {
+        seatPolicies = new PiecePolicy[players];
+        Arrays.fill(seatPolicies, Policies.byName(policy));
+    }
+
+    @Benchmark
+    public int playGame() {
+        Game game = BenchmarkGames.newGame(shape, players, pieces);
+        return SimulationEngine.playGame(game, seatPolicies, random, MAX_TURNS);
+    }
+}
@@ -0,0 +1,83 @@
+package benchmark;
+
+import model.CompactGameState;
+import model.Game;
+import model.Piece;
+import model.Player;
+import model.ThrowResult;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import service.bot.MctsBot;
+import service.bot.MctsResult;
+import service.simulation.Policies;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MctsBot 고정 플레이아웃 수 탐색 벤치마크
+ * -- 무작위로 몇 수 진행한 중반 국면에서 초당 탐색 횟수와 초당 플레이아웃 수(playouts 보조 카운터)를 측정
+ * -- threads 파라미터로 root 병렬화(트리 수)에 따른 확장성을 비교 (하드웨어 산정용)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class MctsBenchmark {
+    @Param({"SQUARE", "HEXAGON"})
+    public String shape;
+    @Param({"2", "4"})
+    public int players;
+    @Param({"5"})
+    public int pieces;
+    @Param({"1000"})
+    public int playoutsPerTree;
+    @Param({"1", "4"})
+    public int threads;
+
+    private MctsBot bot;
+    private CompactGameState state;
+
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class PlayoutCounter {
+        public long playouts; // 결과 표에 초당 플레이아웃 수로 나옴
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            playouts = 0;
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        Game game = BenchmarkGames.newGame(shape, players, pieces);
+        SplittableRandom random = new SplittableRandom(7);
+        for (int move = 0; move < 6 * players && !game.isGameOver(); move++) {
+            Player player = game.getCurrentPlayer();
+            ThrowResult result = ThrowResult.values()[1 + random.nextInt(3)]; // 도/개/걸만 사용해 적당히 흩어진 국면
+            Piece piece = Policies.RANDOM.selectPiece(game, player, result, random);
+            game.playTurn(player, result, piece);
+            game.advanceTurn();
+        }
+        state = CompactGameState.of(game);
+        bot = new MctsBot(game.getThrowService(), Long.MAX_VALUE / 2_000_000, threads);
+        bot.setSeed(7);
+        bot.setPlayoutLimit(playoutsPerTree);
+    }
+
+    @Benchmark
+    public MctsResult search(PlayoutCounter counter) {
+        MctsResult result = bot.search(state, List.of(ThrowResult.GAE));
+        counter.playouts += result.getPlayouts();
+        return result;
+    }
+}
@@ -0,0 +1,71 @@
+package benchmark;
+
+import model.CompactGameState;
+import model.Game;
+import model.Piece;
+import model.Player;
+import model.ThrowResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import service.simulation.Policies;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MoveActionService.movePiece 벤치마크 (Game.playTurn 경유)
+ * -- 실제 게임처럼 던진 결과를 차례로 적용하므로 그룹 만들기/잡기/도착/빽도가 자연스러운 비율로 섞임
+ * -- 게임이 끝나면 처음 국면(CompactGameState)으로 되돌려 계속 진행 (복원 비용은 수백 번의 이동에 나뉘어 묻힘)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MoveBenchmark {
+    private static final int THROW_COUNT = 1 << 12;
+
+    @Param({"SQUARE", "PENTAGON", "HEXAGON"})
+    public String shape;
+    @Param({"2", "4"})
+    public int players;
+    @Param({"2", "5"})
+    public int pieces;
+
+    private Game game;
+    private CompactGameState initial;
+    private final ThrowResult[] throwResults = new ThrowResult[THROW_COUNT];
+    private final SplittableRandom random = new SplittableRandom(42);
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        game = BenchmarkGames.newGame(shape, players, pieces);
+        initial = CompactGameState.of(game);
+        for (int i = 0; i < THROW_COUNT; i++) {
+            throwResults[i] = game.getThrowService().throwRandom();
+        }
+    }
+
+    @Benchmark
+    public Game movePiece() {
+        ThrowResult result = throwResults[cursor++ & (THROW_COUNT - 1)];
+        Player player = game.getCurrentPlayer();
+        Piece selected = result == ThrowResult.BACK_DO && player.hasNoMovablePiece(result)
+                ? null
+                : Policies.RANDOM.selectPiece(game, player, result, random);
+        if (selected != null) {
+            game.playTurn(player, result, selected);
+        }
+        if (game.isGameOver()) {
+            initial.restoreTo(game);
+        } else if (player.checkAllPiecesFinished() || !result.isExtraTurn()) {
+            game.advanceTurn();
+        }
+        return game;
+    }
+}
@@ -0,0 +1,77 @@
+package benchmark;
+
+import model.Board;
+import model.Cell;
+import model.Game;
+import model.Piece;
+import model.PieceState;
+import model.Player;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import service.RuleEngine;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RuleEngine.applyGrouping / applyCapture 벤치마크
+ * -- 보드의 모든 칸을 돌아가며 검사: 빈 칸, 말 하나, 같은 편 여러 개(업기), 다른 편 섞임(잡기), 출발 대기 말이 고르게 포함되도록 배치
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RuleBenchmark {
+    @Param({"SQUARE", "PENTAGON", "HEXAGON"})
+    public String shape;
+    @Param({"2", "4"})
+    public int players;
+    @Param({"2", "5"})
+    public int pieces;
+
+    private RuleEngine ruleEngine;
+    private Cell[] cells;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        Game game = BenchmarkGames.newGame(shape, players, pieces);
+        Board board = game.getBoard();
+        ruleEngine = game.getRuleEngine();
+
+        // 말을 세 칸 간격으로 배치: 같은 칸에 두 개씩 올려 업기/잡기 조건이 모두 나오게 함
+        // (첫 말은 출발점에 NOT_STARTED로 남겨 둠)
+        int slot = 0;
+        for (Player player : game.getPlayers()) {
+            for (Piece piece : player.getPieces()) {
+                if (slot > 0) {
+                    Cell cell = board.getCell(1 + 3 * (slot / 2) % (board.getCellCount() - 1));
+                    piece.setState(PieceState.ON_BOARD);
+                    piece.moveTo(cell);
+                }
+                slot++;
+            }
+        }
+        cells = board.getAllCells().toArray(new Cell[0]);
+    }
+
+    private Cell nextCell() {
+        Cell cell = cells[cursor];
+        cursor = cursor + 1 == cells.length ? 0 : cursor + 1;
+        return cell;
+    }
+
+    @Benchmark
+    public boolean applyGrouping() {
+        return ruleEngine.applyGrouping(nextCell());
+    }
+
+    @Benchmark
+    public boolean applyCapture() {
+        return ruleEngine.applyCapture(nextCell());
+    }
+}
@@ -0,0 +1,66 @@
+package benchmark;
+
+import model.Game;
+import model.Piece;
+import model.Player;
+import model.ThrowResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import view.swing.GameBoardPanel;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Swing GameBoardPanel 한 번 그리기(paint) 시간: 정적 레이어 캐시 사용(cached=true) vs 매번 전부 그림
+ * -- 화면 없이(headless) 패널 크기의 BufferedImage에 그림, 말 몇 개를 판 위에 올려 둔 국면
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class SwingBoardPaintBenchmark {
+    @Param({"SQUARE", "HEXAGON"})
+    public String shape;
+    @Param({"true", "false"})
+    public boolean cached;
+
+    private GameBoardPanel panel;
+    private BufferedImage target;
+    private Graphics2D graphics;
+
+    @Setup
+    public void setUp() {
+        Game game = BenchmarkGames.newGame(shape, 4, 4);
+        for (Player player : game.getPlayers()) {
+            Piece first = player.getPieces().get(0);
+            game.playTurn(player, ThrowResult.GEOL, first);
+            game.playTurn(player, ThrowResult.values()[1 + player.getId()], player.getPieces().get(1));
+        }
+        panel = new GameBoardPanel(game.getBoard(), game);
+        panel.setSize(panel.getPreferredSize());
+        panel.setStaticLayerCached(cached);
+        target = new BufferedImage(panel.getWidth(), panel.getHeight(), BufferedImage.TYPE_INT_RGB);
+        graphics = target.createGraphics();
+    }
+
+    @TearDown
+    public void tearDown() {
+        graphics.dispose();
+    }
+
+    @Benchmark
+    public BufferedImage paint() {
+        panel.paint(graphics);
+        return target;
+    }
+}
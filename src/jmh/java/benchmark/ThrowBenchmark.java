@@ -0,0 +1,47 @@
+package benchmark;
+
+import model.ThrowResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import service.ThrowModel;
+import service.YutThrowService;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * YutThrowService.throwRandom 벤치마크
+ * -- stick: 윷가락이 뒤집어질 확률 (0.5 = ThrowModel.FAIR)
+ * -- throwRandom: 서비스의 seed 흐름에서 묶음 뽑기, throwWithOwnRandom: 호출한 쪽 SplittableRandom으로 별칭 표 뽑기
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ThrowBenchmark {
+    @Param({"0.5", "0.6"})
+    public double stick;
+
+    private YutThrowService throwService;
+    private final SplittableRandom random = new SplittableRandom(7);
+
+    @Setup
+    public void setUp() {
+        throwService = new YutThrowService(ThrowModel.ofUniformSticks(stick));
+    }
+
+    @Benchmark
+    public ThrowResult throwRandom() {
+        return throwService.throwRandom();
+    }
+
+    @Benchmark
+    public ThrowResult throwWithOwnRandom() {
+        return throwService.throwRandom(random);
+    }
+}
@@ -1,16 +1,33 @@
 // src/controller/GameController.java
 package controller;
 
+import controller.event.EventMetrics;
+import controller.event.EventProcessor;
+import controller.event.GameEvent;
+import controller.event.GameEventRing;
+import model.CompactGameState;
 import model.Game;
 import model.Piece;
 import model.Player;
 import model.ThrowResult;
+import service.bot.ExpectimaxBot;
+import service.bot.GameBot;
+import service.bot.MctsBot;
+import service.record.GameRecordWriter;
+import service.tablebase.Tablebase;
 import view.IGameViewListener;
 import view.IGameView;
 
-import javax.swing.*;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * GameController
@@ -20,6 +37,17 @@ import java.util.List;
  * - Game 모델의 playTurn, advanceTurn, isGameOver, getWinner 등을 호출하고,
  *   그 결과를 IGameView를 통해 화면에 반영합니다.
  * - 본인 차례에만 본인 소유의 말 선택을 허용하도록 소유주 검사를 추가하였습니다.
+ * - setBot으로 지정한 플레이어는 컴퓨터(GameBot)가 윷을 던지고 말을 고릅니다. 게임이 끝나면 봇과 봇 스레드를 닫습니다.
+ *   탐색은 별도 스레드에서 하고, 고른 결과는 IGameView.runOnUiThread로 UI 스레드에 돌아와 onPieceClicked와 같은 흐름으로 적용합니다.
+ *   설정 화면에서는 -Dyut.bots=<플레이어 순서대로 human/mcts/expectimax>로 지정한 봇을 setBotsFromProperty로 앉힙니다.
+ * - setRecordWriter로 기록 스트림을 주면 던진 결과와 고른 말을 순서대로 GameRecordWriter에 남기고, 게임이 끝나면 기록을 닫습니다.
+ *   설정 화면에서는 -Dyut.record=<파일 또는 디렉터리>로 지정한 곳에 openRecordFromProperty로 기록을 남깁니다.
+ * - setEventRing으로 링 버퍼를 주면 던지기/이동/업기/잡기/도착/차례 변경을 GameEvent로 발행합니다.
+ *   화면, 기록, 통계는 각자 스레드에서 제 속도로 읽고, 컨트롤러(UI 스레드)는 기다리지 않습니다.
+ *   가장 느린 소비자가 한 바퀴 뒤처져 링이 가득 차면 그 이벤트는 버리고 getDroppedEvents로 셉니다.
+ *   설정 화면에서는 -Dyut.eventStats=true일 때 attachEventStatsFromProperty로 링과 EventMetrics 소비자를 붙입니다.
+ * - setHintTablebase로 엔드게임 표를 주면, 표에 있는 국면에서 사람이 말을 고를 때 추천 말과 승률을 상태 표시줄에 덧붙입니다.
+ *   설정 화면에서는 -Dyut.tablebase=<파일>로 지정한 표를 openHintTablebaseFromProperty로 엽니다.
  */
 public class GameController implements IGameViewListener {
 
@@ -30,6 +58,41 @@ public class GameController implements IGameViewListener {
     private int currThrowIndex = 0;
     private boolean isProcessingThrows = false;
 
+    // 컴퓨터 플레이어 (플레이어 id --> 봇)
+    private static final int BOT_DELAY_MILLIS = 700; // 컴퓨터가 던지는 모습이 보이도록 잠깐 기다림
+    // -Dyut.botStats=true: 컴퓨터가 말을 고를 때마다 탐색 요약(노드/플레이아웃 수, 초당 속도)을 콘솔에 출력
+    private static final boolean BOT_STATS = Boolean.getBoolean("yut.botStats");
+    // -Dyut.bots=human,mcts: 쉼표로 나눈 플레이어 순서대로 사람(human) 또는 봇 종류 (빠진 자리는 사람)
+    static final String BOTS_PROPERTY = "yut.bots";
+    private static final long BOT_TIME_BUDGET_MILLIS = 1000;
+    private final Map<Integer, GameBot> bots = new HashMap<>();
+    private ExecutorService botExecutor;
+    private int turnSerial = 0; // 턴이 바뀔 때마다 증가 (이전 턴에 시작한 탐색 결과가 늦게 도착하면 무시)
+
+    // 말 선택 힌트용 엔드게임 표 (없으면 null)
+    // -Dyut.tablebase=<파일>: TablebaseMain으로 만든 표가 게임과 맞으면 힌트로 씀
+    static final String HINT_TABLEBASE_PROPERTY = "yut.tablebase";
+    private Tablebase hintTablebase;
+    private boolean ownsHintTablebase; // 이 컨트롤러가 연 표면 게임이 끝날 때 닫음
+
+    // 게임 기록 (없으면 null, 쓰기에 실패하면 기록을 멈춤)
+    // -Dyut.record=<파일>: 그 파일에 새로 씀, 디렉터리면 그 안에 게임마다 새 파일 (GameRecordReader/GameReplay로 읽음)
+    static final String RECORD_PROPERTY = "yut.record";
+    private GameRecordWriter recordWriter;
+    private boolean ownsRecordWriter; // 이 컨트롤러가 연 파일이면 게임이 끝날 때 닫음
+
+    // 이벤트 링 (없으면 null), 이동 전후 국면을 비교해서 업기/잡기/도착 이벤트를 만듦
+    private GameEventRing eventRing;
+    private CompactGameState beforeMove;
+    private CompactGameState afterMove;
+    private long droppedEvents;
+
+    // -Dyut.eventStats=true: 이벤트 개수/지연을 소비자 스레드에서 세고 게임이 끝나면 콘솔에 출력
+    static final String EVENT_STATS_PROPERTY = "yut.eventStats";
+    private static final int EVENT_RING_CAPACITY = 1024;
+    private EventProcessor eventStatsProcessor; // 이 컨트롤러가 만든 소비자면 게임이 끝날 때 닫음
+    private EventMetrics eventMetrics;
+
     public GameController(Game game, IGameView view) {
         this.game = game;
         this.view = view;
@@ -52,13 +115,169 @@ public class GameController implements IGameViewListener {
         view.showWindow();
     }
 
+    /**
+     * 플레이어 id의 말을 컴퓨터(bot)가 두도록 지정 (지금 그 플레이어 차례면 바로 시작)
+     */
+    public void setBot(int playerId, GameBot bot) {
+        GameBot previous = bots.put(playerId, bot);
+        if (previous != null && previous != bot) {
+            previous.close();
+        }
+        if (!isProcessingThrows && throwResults.isEmpty() && game.getCurrentPlayer().getId() == playerId) {
+            startBotTurnIfNeeded();
+        }
+    }
+
+    /**
+     * -Dyut.bots로 지정한 자리에 봇을 앉힘 (설정 화면에서 게임을 만들 때 호출)
+     * 알 수 없는 종류는 알리고 사람 자리로 둠
+     */
+    public void setBotsFromProperty() {
+        String value = System.getProperty(BOTS_PROPERTY);
+        if (value == null || value.isBlank()) return;
+        String[] kinds = value.split(",");
+        for (int id = 0; id < kinds.length && id < game.getPlayers().size(); id++) {
+            GameBot bot = newBot(kinds[id].trim().toLowerCase());
+            if (bot != null) {
+                setBot(id, bot);
+            }
+        }
+    }
+
+    // 시간 예산 안에서 모든 코어로 탐색하는 봇 (사람 자리면 null)
+    private GameBot newBot(String kind) {
+        int parallelism = Runtime.getRuntime().availableProcessors();
+        return switch (kind) {
+            case "mcts" -> new MctsBot(game.getThrowService(), BOT_TIME_BUDGET_MILLIS, parallelism);
+            case "expectimax" -> new ExpectimaxBot(game.getThrowService(), BOT_TIME_BUDGET_MILLIS, parallelism);
+            case "", "human" -> null;
+            default -> {
+                System.err.println("알 수 없는 봇 종류: " + kind);
+                yield null;
+            }
+        };
+    }
+
+    /**
+     * 말 선택 힌트에 쓸 엔드게임 표 지정 (null이면 힌트 없음, 던지기 확률이 다른 표는 쓰지 않음)
+     */
+    public void setHintTablebase(Tablebase tablebase) {
+        closeHintTablebase();
+        this.hintTablebase = tablebase;
+    }
+
+    /**
+     * -Dyut.tablebase로 지정한 표를 열어 힌트로 씀 (설정 화면에서 게임을 만들 때 호출)
+     * 지정하지 않았거나, 열 수 없거나, 이 게임(보드 모양, 2인, 말 수)과 맞지 않으면 힌트 없이 진행
+     */
+    public void openHintTablebaseFromProperty() {
+        String path = System.getProperty(HINT_TABLEBASE_PROPERTY);
+        if (path == null || path.isBlank()) return;
+        Tablebase tablebase;
+        try {
+            tablebase = Tablebase.open(Path.of(path));
+        } catch (IOException e) {
+            e.printStackTrace();
+            return;
+        }
+        if (!tablebase.covers(CompactGameState.of(game))) {
+            closeQuietly(tablebase);
+            return;
+        }
+        setHintTablebase(tablebase);
+        ownsHintTablebase = true;
+    }
+
+    /**
+     * -Dyut.record로 지정한 파일에 이 게임의 기록을 남기기 시작 (설정 화면에서 게임을 만들 때, 첫 윷을 던지기 전에 호출)
+     * 파일을 열 수 없으면 기록 없이 진행
+     */
+    public void openRecordFromProperty() {
+        String value = System.getProperty(RECORD_PROPERTY);
+        if (value == null || value.isBlank()) return;
+        Path path = Path.of(value);
+        if (Files.isDirectory(path)) {
+            path = path.resolve(String.format("yut-%d-%016x.yrec", System.currentTimeMillis(), game.getSeed()));
+        }
+        GameRecordWriter writer;
+        try {
+            writer = new GameRecordWriter(new BufferedOutputStream(Files.newOutputStream(path)));
+        } catch (IOException e) {
+            e.printStackTrace();
+            return;
+        }
+        startRecord(writer, true);
+    }
+
+    /**
+     * 이 게임의 기록을 writer에 남기기 시작 (첫 윷을 던지기 전에 호출)
+     */
+    public void setRecordWriter(GameRecordWriter writer) {
+        startRecord(writer, false);
+    }
+
+    // owned면 게임이 끝나거나 기록에 실패할 때 writer를 닫음
+    private void startRecord(GameRecordWriter writer, boolean owned) {
+        if (writer != recordWriter) {
+            closeRecordWriter();
+        }
+        this.recordWriter = writer;
+        this.ownsRecordWriter = owned;
+        record(() -> writer.beginGame(game));
+    }
+
+    /**
+     * 이후의 게임 이벤트를 ring에 발행 (이 컨트롤러가 ring의 유일한 생산자)
+     */
+    public void setEventRing(GameEventRing ring) {
+        this.eventRing = ring;
+        this.beforeMove = CompactGameState.of(game);
+        this.afterMove = beforeMove.copy();
+    }
+
+    /**
+     * -Dyut.eventStats=true면 링과 EventMetrics 소비자를 만들어 붙임 (설정 화면에서 게임을 만들 때 호출)
+     */
+    public void attachEventStatsFromProperty() {
+        if (!Boolean.getBoolean(EVENT_STATS_PROPERTY) || eventRing != null) return;
+        GameEventRing ring = new GameEventRing(EVENT_RING_CAPACITY);
+        eventMetrics = new EventMetrics();
+        eventStatsProcessor = new EventProcessor(ring, eventMetrics, "game-event-stats").start();
+        setEventRing(ring);
+    }
+
+    // 링이 가득 차서 버린 이벤트 수
+    public long getDroppedEvents() { return droppedEvents; }
+
+    // attachEventStatsFromProperty로 붙인 통계 (없으면 null, 게임이 끝난 뒤에 읽음)
+    public EventMetrics getEventMetrics() { return eventMetrics; }
+
     @Override
     public void onRandomThrowClicked() {
-        Player currPlayer = game.getCurrentPlayer();
+        if (isBotTurn()) return; // 컴퓨터 차례에는 버튼 입력 무시
 
         // 랜덤 윷 던지기
-        ThrowResult result = game.getThrowService().throwRandom();
+        handleThrow(game.getThrowService().throwRandom());
+    }
+
+    @Override
+    public void onFixedThrowClicked(ThrowResult fixedResult) {
+        if (isBotTurn()) return;
+
+        handleThrow(fixedResult);
+    }
+
+    // 던진 결과를 모아두고, 추가 던지기/말 선택 단계로 전환
+    private void handleThrow(ThrowResult result) {
+        Player currPlayer = game.getCurrentPlayer();
+
         throwResults.add(result);
+        record(() -> recordWriter.writeThrow(result));
+        GameEvent thrown = claimEvent(GameEvent.Type.THROW, currPlayer.getId());
+        if (thrown != null) {
+            thrown.throwResult(result);
+            eventRing.publish();
+        }
 
         if (result.isExtraTurn()) {
             // 추가 던지기
@@ -76,52 +295,39 @@ public class GameController implements IGameViewListener {
                 if (result == ThrowResult.BACK_DO && currPlayer.hasNoMovablePiece(result)) {
                     view.updateStatus(currPlayer.getName() + "님, 결과: " + result.name() + ". 이동할 말이 없습니다.");
                     view.delayNextTurn(() -> nextTurn(), 1500);  // 1초 후 nextTurn 실행
+                    return;
                 } else {
-                    view.updateStatus(currPlayer.getName() + "님, 결과: " + result.name() + ". 이동할 말을 클릭하세요.");
+                    view.updateStatus(currPlayer.getName() + "님, 결과: " + result.name() + ". 이동할 말을 클릭하세요." + hint());
                 }
             } else {
                 ThrowResult first = throwResults.get(0);
                 ThrowResult last = throwResults.get(throwResults.size() - 1);
                 view.updateStatus(currPlayer.getName() + "님, 현재 결과: " + last.name()
-                        + " (첫 결과: " + first.name() + ") → 이동할 말을 클릭하세요.");
+                        + " (첫 결과: " + first.name() + ") → 이동할 말을 클릭하세요." + hint());
             }
         }
-    }
-
-    @Override
-    public void onFixedThrowClicked(ThrowResult fixedResult) {
-        Player currPlayer = game.getCurrentPlayer();
-
-        throwResults.add(fixedResult);
 
-        if (fixedResult.isExtraTurn()) {
-            view.setThrowEnabled(true);
-            view.setPieceSelectable(false);
-            view.updateStatus(currPlayer.getName() + "님, 결과: " + fixedResult.name() + ". 추가 던지기 기회입니다!");
-        } else {
-            isProcessingThrows = true;
-            currThrowIndex = 0;
+        // 컴퓨터 차례: 한 번 더 던지거나 말을 고르기 시작
+        if (isBotTurn()) {
             view.setThrowEnabled(false);
-            view.setPieceSelectable(true);
-
-            if (throwResults.size() == 1) {
-                if (fixedResult == ThrowResult.BACK_DO && currPlayer.hasNoMovablePiece(fixedResult)) {
-                    view.updateStatus(currPlayer.getName() + "님, 결과: " + fixedResult.name() + ". 이동할 말이 없습니다.");
-                    view.delayNextTurn(() -> nextTurn(), 1500);  // 1초 후 nextTurn 실행
-                } else {
-                    view.updateStatus(currPlayer.getName() + "님, 결과: " + fixedResult.name() + ". 이동할 말을 클릭하세요.");
-                }
+            view.setPieceSelectable(false);
+            if (result.isExtraTurn()) {
+                view.delayNextTurn(this::botThrow, BOT_DELAY_MILLIS);
             } else {
-                ThrowResult first = throwResults.get(0);
-                ThrowResult last = throwResults.get(throwResults.size() - 1);
-                view.updateStatus(currPlayer.getName() + "님, 현재 결과: " + last.name()
-                        + " (첫 결과: " + first.name() + ") → 이동할 말을 클릭하세요.");
+                requestBotMove();
             }
         }
     }
 
     @Override
     public void onPieceClicked(Piece piece) {
+        if (isBotTurn()) return; // 컴퓨터 차례에는 클릭 무시
+
+        applyPieceChoice(piece);
+    }
+
+    // 사람이 클릭했거나 컴퓨터가 고른 말로 현재 결과를 적용
+    private void applyPieceChoice(Piece piece) {
         Player currPlayer = game.getCurrentPlayer();
 
         // 1) 클릭 무시 조건
@@ -130,7 +336,13 @@ public class GameController implements IGameViewListener {
 
         // 2) 현재 처리할 ThrowResult 꺼내서 playTurn 호출
         ThrowResult tr = throwResults.get(currThrowIndex++);
+        int pieceIndex = currPlayer.getPieces().indexOf(piece);
+        record(() -> recordWriter.writeMove(pieceIndex));
+        if (eventRing != null) {
+            beforeMove.captureFrom(game);
+        }
         game.playTurn(currPlayer, tr, piece);
+        publishMoveEvents(currPlayer.getId(), pieceIndex, tr);
         view.updateBoard();
 
         // PlayTurn 후 해당 플레이어가 이 이동으로 모든 피스를 다 내보냈는지 검사
@@ -141,6 +353,11 @@ public class GameController implements IGameViewListener {
 
             if (game.isGameOver()) {
                 // 이제 모든 플레이어가 등수 기록 완료 --> 최종 등수 다이얼로그 띄우기
+                record(this::endRecord);
+                closeRecordWriter();
+                publishGameOver();
+                closeHintTablebase();
+                closeBots();
                 view.showRankingDialog(game.getRanking());
                 return;
             }
@@ -152,13 +369,22 @@ public class GameController implements IGameViewListener {
         if (currThrowIndex < throwResults.size()) {
             // 남은 결과 있으면 --> 말 선택
             ThrowResult next = throwResults.get(currThrowIndex);
-            view.updateStatus(currPlayer.getName() + "님, 다음 결과: " + next.name() + " → 이동할 말을 클릭하세요.");
+            view.updateStatus(currPlayer.getName() + "님, 다음 결과: " + next.name() + " → 이동할 말을 클릭하세요." + hint());
             view.setPieceSelectable(true);
             view.setThrowEnabled(false);
+            if (isBotTurn()) {
+                view.setPieceSelectable(false);
+                requestBotMove();
+            }
         } else {
             // 해당 턴의 모든 ThrowResult 처리 완료 시
             if (game.isGameOver()) {
                 // 이제 모든 플레이어가 등수 기록 완료 --> 최종 등수 다이얼로그 띄우기
+                record(this::endRecord);
+                closeRecordWriter();
+                publishGameOver();
+                closeHintTablebase();
+                closeBots();
                 view.showRankingDialog(game.getRanking());
                 return;
             }
@@ -171,11 +397,241 @@ public class GameController implements IGameViewListener {
         isProcessingThrows = false;
         throwResults.clear();
         currThrowIndex = 0;
+        turnSerial++;
 
         game.advanceTurn();
         Player nextPlayer = game.getCurrentPlayer();
+        if (claimEvent(GameEvent.Type.TURN_CHANGE, nextPlayer.getId()) != null) {
+            eventRing.publish();
+        }
         view.updateStatus(nextPlayer.getName() + "님, 윷을 던져주세요.");
         view.setPieceSelectable(false);
         view.setThrowEnabled(true);
+        startBotTurnIfNeeded();
+    }
+
+    // —— 게임 기록 —— //
+
+    private interface RecordAction {
+        void run() throws IOException;
+    }
+
+    private void endRecord() throws IOException {
+        recordWriter.endGame();
+        recordWriter.flush();
+    }
+
+    private void record(RecordAction action) {
+        if (recordWriter == null) return;
+        try {
+            action.run();
+        } catch (IOException e) {
+            e.printStackTrace();
+            closeRecordWriter(); // 기록 실패가 게임 진행을 막지 않도록 이후 기록은 멈춤
+        }
+    }
+
+    private void closeRecordWriter() {
+        if (ownsRecordWriter && recordWriter != null) {
+            try {
+                recordWriter.close();
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
+        recordWriter = null;
+        ownsRecordWriter = false;
+    }
+
+    // —— 게임 이벤트 —— //
+
+    // 이동 전후 국면을 비교해서 MOVE, 업기(GROUP), 잡기(CAPTURE), 도착(FINISH) 순서로 발행
+    private void publishMoveEvents(int player, int pieceIndex, ThrowResult tr) {
+        if (eventRing == null) return;
+        afterMove.captureFrom(game);
+        int from = beforeMove.getCellCode(player, pieceIndex);
+        int to = afterMove.getCellCode(player, pieceIndex);
+        GameEvent move = claimEvent(GameEvent.Type.MOVE, player);
+        if (move != null) {
+            move.piece(pieceIndex).throwResult(tr).cells(from, to);
+            eventRing.publish();
+        }
+
+        int moved = 0;
+        int joined = 0;
+        int finished = 0;
+        for (int i = 0; i < afterMove.getPiecesNum(); i++) {
+            int code = afterMove.getCellCode(player, i);
+            if (code != beforeMove.getCellCode(player, i)) {
+                moved++;
+                if (code == CompactGameState.FINISHED_CODE) finished++;
+            } else if (code == to && to != CompactGameState.NOT_STARTED_CODE && to != CompactGameState.FINISHED_CODE) {
+                joined++; // 도착한 칸에 원래 있던 내 말
+            }
+        }
+        GameEvent group = joined > 0 ? claimEvent(GameEvent.Type.GROUP, player) : null;
+        if (group != null) {
+            group.piece(pieceIndex).cells(from, to).count(moved + joined);
+            eventRing.publish();
+        }
+        for (int other = 0; other < afterMove.getPlayersNum(); other++) {
+            if (other == player) continue;
+            int captured = 0;
+            for (int i = 0; i < afterMove.getPiecesNum(); i++) {
+                if (afterMove.getCellCode(other, i) == CompactGameState.NOT_STARTED_CODE
+                        && beforeMove.getCellCode(other, i) != CompactGameState.NOT_STARTED_CODE) {
+                    captured++;
+                }
+            }
+            GameEvent capture = captured > 0 ? claimEvent(GameEvent.Type.CAPTURE, player) : null;
+            if (capture != null) {
+                capture.otherPlayer(other).cells(from, to).count(captured);
+                eventRing.publish();
+            }
+        }
+        if (finished > 0) {
+            int rank = -1;
+            for (int r = 0; r < afterMove.getFinishedCount(); r++) {
+                if (afterMove.getFinishedPlayer(r) == player) rank = r;
+            }
+            GameEvent finish = claimEvent(GameEvent.Type.FINISH, player);
+            if (finish != null) {
+                finish.piece(pieceIndex).count(finished).rank(rank);
+                eventRing.publish();
+            }
+        }
+    }
+
+    private void publishGameOver() {
+        GameEvent over = claimEvent(GameEvent.Type.GAME_OVER, game.getCurrentPlayer().getId());
+        if (over != null) {
+            over.count(game.getPlayers().size());
+            eventRing.publish();
+        }
+        if (eventStatsProcessor != null) {
+            eventStatsProcessor.close(); // GAME_OVER까지 센 뒤 멈춤
+            eventStatsProcessor = null;
+            System.out.println("게임 이벤트: " + eventMetrics + ", 버린 이벤트 " + droppedEvents + "개");
+        }
+    }
+
+    /**
+     * 다음 칸을 type으로 초기화해서 받음 (채운 뒤 publish), 링이 없거나 가득 찼으면 null
+     * UI 스레드에서 부르므로 claim처럼 느린 소비자를 기다리지 않고 그 이벤트를 버림
+     */
+    private GameEvent claimEvent(GameEvent.Type type, int player) {
+        if (eventRing == null) return null;
+        GameEvent event = eventRing.tryClaim();
+        if (event == null) {
+            droppedEvents++;
+            return null;
+        }
+        return event.reset(type, player);
+    }
+
+    private void closeHintTablebase() {
+        if (ownsHintTablebase) {
+            closeQuietly(hintTablebase);
+        }
+        hintTablebase = null;
+        ownsHintTablebase = false;
+    }
+
+    private static void closeQuietly(Tablebase tablebase) {
+        try {
+            tablebase.close();
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    // 엔드게임 표에 있는 국면이면 남은 결과들로 가장 승률이 높은 말 안내 (없으면 빈 문자열)
+    private String hint() {
+        if (hintTablebase == null || isBotTurn()
+                || !hintTablebase.getThrowModel().equals(game.getThrowService().getModel())) {
+            return "";
+        }
+        CompactGameState state = CompactGameState.of(game);
+        if (!hintTablebase.covers(state)) {
+            return "";
+        }
+        List<ThrowResult> pending = throwResults.subList(currThrowIndex, throwResults.size());
+        int best = hintTablebase.bestPiece(state, pending);
+        return best < 0 ? "" : String.format(" (추천: %d번 말, 승률 %.0f%%)",
+                best + 1, 100 * hintTablebase.moveValue(state, best, pending));
+    }
+
+    // —— 컴퓨터 플레이어 —— //
+
+    private boolean isBotTurn() {
+        return !bots.isEmpty() && bots.containsKey(game.getCurrentPlayer().getId());
+    }
+
+    private void startBotTurnIfNeeded() {
+        if (!isBotTurn() || game.isGameOver()) return;
+        view.setPieceSelectable(false);
+        view.setThrowEnabled(false);
+        view.updateStatus(game.getCurrentPlayer().getName() + "님(컴퓨터) 차례입니다.");
+        view.delayNextTurn(this::botThrow, BOT_DELAY_MILLIS);
+    }
+
+    private void botThrow() {
+        if (!isBotTurn() || isProcessingThrows || game.isGameOver()) return;
+        handleThrow(game.getThrowService().throwRandom());
+    }
+
+    /**
+     * 현재 국면을 압축해서 봇 스레드에서 탐색하고, 고른 말은 UI 스레드에서 적용
+     */
+    private void requestBotMove() {
+        Player player = game.getCurrentPlayer();
+        GameBot bot = bots.get(player.getId());
+        CompactGameState snapshot = CompactGameState.of(game);
+        List<ThrowResult> pending = new ArrayList<>(throwResults.subList(currThrowIndex, throwResults.size()));
+        int serial = turnSerial;
+
+        view.updateStatus(player.getName() + "님(컴퓨터), 결과: " + pending.get(0).name() + " → 움직일 말을 고르는 중...");
+        botExecutor().execute(() -> {
+            int index;
+            try {
+                index = bot.choosePiece(snapshot, pending);
+            } catch (RuntimeException e) {
+                e.printStackTrace();
+                index = -1; // 탐색 실패 시 기본 선택(Player.selectPiece)으로 진행
+            }
+            int chosen = index;
+            view.runOnUiThread(() -> onBotChoice(serial, player, chosen, bot));
+        });
+    }
+
+    private void onBotChoice(int serial, Player player, int index, GameBot bot) {
+        if (serial != turnSerial || game.getCurrentPlayer() != player || !isProcessingThrows) return;
+        if (BOT_STATS) {
+            System.out.println(player.getName() + "(컴퓨터): " + bot.getLastSearchSummary());
+        }
+        Piece piece = index >= 0 ? player.getPieces().get(index) : player.selectPiece();
+        applyPieceChoice(piece);
+    }
+
+    // 게임이 끝남: 봇의 탐색 스레드 풀과 봇 스레드를 정리
+    private void closeBots() {
+        for (GameBot bot : bots.values()) {
+            bot.close();
+        }
+        if (botExecutor != null) {
+            botExecutor.shutdownNow();
+            botExecutor = null;
+        }
+    }
+
+    private ExecutorService botExecutor() {
+        if (botExecutor == null) {
+            botExecutor = Executors.newSingleThreadExecutor(r -> {
+                Thread thread = new Thread(r, "game-bot");
+                thread.setDaemon(true); // 창을 닫으면 탐색 중이어도 종료
+                return thread;
+            });
+        }
+        return botExecutor;
     }
 }
\ No newline at end of file
@@ -0,0 +1,147 @@
+package controller;
+
+import model.Game;
+import model.Piece;
+import model.ThrowResult;
+import service.record.GameRecord;
+import service.record.GameReplay;
+import view.IGameView;
+import view.IGameViewListener;
+
+/**
+ * ReplayController
+ *
+ * - 기록된 게임(GameReplay)을 IGameView에 재생합니다. 게임 화면을 그대로 쓰고, 국면은 GameReplay가 계산한 것을 Game에 복원해서 보여줍니다.
+ * - play(초당 이벤트 수)로 원하는 속도로 자동 재생하고, seek/seekTurn/stepForward/stepBackward로 어느 위치든 바로 이동합니다.
+ * - 재생 중에는 말 클릭을 무시하고, 윷 던지기 버튼은 "한 칸 앞으로"로 씁니다.
+ */
+public class ReplayController implements IGameViewListener {
+
+    private final GameReplay replay;
+    private final Game game;
+    private final IGameView view;
+
+    private boolean playing = false;
+    private int delayMillis;
+    private int playSerial = 0; // pause/다시 play할 때마다 증가 (이전에 예약한 재생 단계는 무시)
+
+    private ReplayController(GameReplay replay, Game game, IGameView view) {
+        this.replay = replay;
+        this.game = game;
+        this.view = view;
+    }
+
+    /**
+     * 재생 화면을 열고 처음 국면을 보여줌 (화면 리스너 등록은 생성이 끝난 뒤에 함)
+     * @param game 화면에 연결된 Game (기록과 같은 설정, GameReplay.newGame으로 만들 수 있음)
+     */
+    public static ReplayController open(GameReplay replay, Game game, IGameView view) {
+        ReplayController controller = new ReplayController(replay, game, view);
+        view.setGameViewListener(controller);
+        view.setPieceSelectable(false);
+        view.setThrowEnabled(true);
+        controller.refresh();
+        view.showWindow();
+        return controller;
+    }
+
+    /**
+     * eventsPerSecond 속도로 자동 재생 (끝에 닿으면 멈추고 순위를 보여줌)
+     */
+    public void play(double eventsPerSecond) {
+        if (!(eventsPerSecond > 0)) {
+            throw new IllegalArgumentException("Playback speed must be positive: " + eventsPerSecond);
+        }
+        delayMillis = (int) Math.round(1000 / eventsPerSecond);
+        playing = true;
+        int serial = ++playSerial;
+        view.delayNextTurn(() -> tick(serial), delayMillis);
+    }
+
+    public void pause() {
+        playing = false;
+        playSerial++;
+    }
+
+    public boolean isPlaying() {
+        return playing;
+    }
+
+    public void seek(int position) {
+        replay.seek(position);
+        refresh();
+    }
+
+    public void seekTurn(int turn) {
+        replay.seekTurn(turn);
+        refresh();
+    }
+
+    public boolean stepForward() {
+        boolean moved = replay.stepForward();
+        refresh();
+        return moved;
+    }
+
+    public boolean stepBackward() {
+        boolean moved = replay.stepBackward();
+        refresh();
+        return moved;
+    }
+
+    private void tick(int serial) {
+        if (!playing || serial != playSerial) return;
+        if (!stepForward()) {
+            playing = false;
+            return;
+        }
+        if (replay.isAtEnd()) {
+            playing = false;
+            if (game.isGameOver()) {
+                view.showRankingDialog(game.getRanking());
+            }
+            return;
+        }
+        view.delayNextTurn(() -> tick(serial), delayMillis);
+    }
+
+    // 현재 위치의 국면을 Game에 복원하고 화면 갱신
+    private void refresh() {
+        replay.restoreTo(game);
+        view.updateBoard();
+        view.updateStatus(describe());
+    }
+
+    // [턴 3/41, 12/187] A님: GAE
+    private String describe() {
+        int position = replay.getPosition();
+        String header = String.format("[턴 %d/%d, %d/%d] ", replay.getTurnAt(position) + 1, replay.getTurnCount(),
+                position, replay.getEventCount());
+        if (position == 0) {
+            return header + "기록 재생 시작";
+        }
+        int event = replay.getRecord().getEvent(position - 1);
+        String name = game.getPlayers().get(replay.getActor(position - 1)).getName();
+        return header + name + "님: " + (GameRecord.isMove(event)
+                ? (GameRecord.pieceOf(event) + 1) + "번 말 이동"
+                : GameRecord.throwOf(event).name());
+    }
+
+    // —— 화면 입력 —— //
+
+    @Override
+    public void onRandomThrowClicked() {
+        pause();
+        stepForward();
+    }
+
+    @Override
+    public void onFixedThrowClicked(ThrowResult result) {
+        // 재생 중에는 결과를 고를 수 없음
+    }
+
+    @Override
+    public void onPieceClicked(Piece piece) {
+        // 재생 중에는 말을 옮길 수 없음
+    }
+}
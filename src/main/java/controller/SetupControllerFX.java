@@ -48,8 +48,13 @@ public class SetupControllerFX extends Application implements ISetupViewListener
                 // 게임 뷰 생성
                 IGameView gameView = new JavaFXGameView(game);
 
-                // 게임 컨트롤러 생성 및 연결
+                // 게임 컨트롤러 생성 및 연결 (-Dyut.bots로 컴퓨터 플레이어, -Dyut.tablebase로 말 선택 힌트,
+                // -Dyut.record로 게임 기록, -Dyut.eventStats로 이벤트 통계)
                 GameController gameController = new GameController(game, gameView);
+                gameController.openHintTablebaseFromProperty();
+                gameController.openRecordFromProperty();
+                gameController.attachEventStatsFromProperty();
+                gameController.setBotsFromProperty();
 
                 // 설정 화면 닫기
                 if (setupView != null) {
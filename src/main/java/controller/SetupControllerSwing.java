@@ -33,8 +33,13 @@ public class SetupControllerSwing implements ISetupViewListener {
         // 실제 게임 화면 생성
         IGameView gameView = new SwingGameView(game);
 
-        // GameController 생성 및 연결
-        new GameController(game, gameView);
+        // GameController 생성 및 연결 (-Dyut.bots로 컴퓨터 플레이어, -Dyut.tablebase로 말 선택 힌트,
+        // -Dyut.record로 게임 기록, -Dyut.eventStats로 이벤트 통계)
+        GameController gameController = new GameController(game, gameView);
+        gameController.openHintTablebaseFromProperty();
+        gameController.openRecordFromProperty();
+        gameController.attachEventStatsFromProperty();
+        gameController.setBotsFromProperty();
 
         // 설정 화면 닫기
         view.closeView();
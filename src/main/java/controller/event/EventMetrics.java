@@ -0,0 +1,67 @@
+package controller.event;
+
+/**
+ * EventMetrics
+ *
+ * 이벤트 종류별 개수와 발행 --> 처리 지연 시간, 묶음 크기를 세는 소비자
+ * -- 지연 시간은 2의 거듭제곱 ns 구간별 개수 (구간 k = [2^k, 2^(k+1)) ns)로 모아서 백분위를 근사
+ * -- 값은 소비자 스레드만 고치므로, 다른 스레드에서는 EventProcessor.close 뒤에 읽음
+ */
+public final class EventMetrics implements GameEventHandler {
+    private static final GameEvent.Type[] TYPES = GameEvent.Type.values();
+    private static final int BUCKETS = 64;
+
+    private final long[] counts = new long[TYPES.length];
+    private final long[] latencyBuckets = new long[BUCKETS];
+    private long events;
+    private long batches;
+    private long latencySum;
+    private long latencyMax;
+
+    @Override
+    public void onEvent(GameEvent event, boolean endOfBatch) {
+        counts[event.getType().ordinal()]++;
+        long latency = Math.max(1, System.nanoTime() - event.getPublishNanos());
+        latencyBuckets[63 - Long.numberOfLeadingZeros(latency)]++;
+        latencySum += latency;
+        latencyMax = Math.max(latencyMax, latency);
+        events++;
+        if (endOfBatch) {
+            batches++;
+        }
+    }
+
+    public long getCount(GameEvent.Type type) { return counts[type.ordinal()]; }
+    public long getEvents() { return events; }
+    public long getBatches() { return batches; }
+    public double getMeanBatchSize() { return batches == 0 ? 0.0 : (double) events / batches; }
+    public double getMeanLatencyNanos() { return events == 0 ? 0.0 : (double) latencySum / events; }
+    public long getMaxLatencyNanos() { return latencyMax; }
+
+    /**
+     * 지연 시간 백분위의 상한 (그 구간의 끝 값, 2배 이내로 정확)
+     */
+    public long getLatencyPercentileNanos(double percentile) {
+        long rank = (long) Math.ceil(events * percentile / 100.0);
+        long seen = 0;
+        for (int k = 0; k < BUCKETS; k++) {
+            seen += latencyBuckets[k];
+            if (seen >= rank && seen > 0) {
+                return k == 62 ? Long.MAX_VALUE : (1L << (k + 1)) - 1;
+            }
+        }
+        return 0;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("이벤트 %,d개 (묶음 평균 %.1f개), 지연 평균 %.1fµs, p99 < %.1fµs, 최대 %.1fµs [",
+                events, getMeanBatchSize(), getMeanLatencyNanos() / 1e3,
+                getLatencyPercentileNanos(99) / 1e3, latencyMax / 1e3));
+        for (GameEvent.Type type : TYPES) {
+            sb.append(type).append('=').append(counts[type.ordinal()]).append(type == TYPES[TYPES.length - 1] ? "]" : ", ");
+        }
+        return sb.toString();
+    }
+}
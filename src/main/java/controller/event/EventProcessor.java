@@ -0,0 +1,78 @@
+package controller.event;
+
+/**
+ * EventProcessor
+ *
+ * 소비자 하나를 자기 스레드에서 돌리는 루프 (쌓인 만큼 묶어서 처리, 없으면 GameEventRing.idle로 기다림)
+ * -- close: 그때까지 발행된 이벤트를 모두 처리한 뒤 스레드를 멈춤
+ * -- handler가 예외를 던지면 그 소비자는 링에서 빠지고 멈춤 (getFailure로 확인)
+ *    멈춘 소비자의 위치가 링을 붙잡으면 생산자의 claim은 영원히 기다리고, tryClaim(GameController)은 모든 이벤트를 버리게 되므로
+ */
+public final class EventProcessor implements AutoCloseable {
+    public static final int DEFAULT_MAX_BATCH = 256;
+
+    private final GameEventRing ring;
+    private final EventSubscriber subscriber;
+    private final GameEventHandler handler;
+    private final int maxBatch;
+    private final Thread thread;
+    private volatile boolean running = true;
+    private volatile long stopAt = Long.MAX_VALUE;
+    private volatile RuntimeException failure;
+
+    public EventProcessor(GameEventRing ring, GameEventHandler handler, String name) {
+        this(ring, handler, name, DEFAULT_MAX_BATCH);
+    }
+
+    public EventProcessor(GameEventRing ring, GameEventHandler handler, String name, int maxBatch) {
+        this.ring = ring;
+        this.subscriber = ring.subscribe();
+        this.handler = handler;
+        this.maxBatch = maxBatch;
+        this.thread = new Thread(this::loop, name);
+        thread.setDaemon(true);
+    }
+
+    public EventProcessor start() {
+        thread.start();
+        return this;
+    }
+
+    private void loop() {
+        int idle = 0;
+        try {
+            while (running && subscriber.getSequence() < stopAt) {
+                if (subscriber.poll(handler, maxBatch) > 0) {
+                    idle = 0;
+                } else {
+                    GameEventRing.idle(idle++);
+                }
+            }
+        } catch (RuntimeException e) {
+            failure = e;
+            ring.unsubscribe(subscriber);
+            e.printStackTrace();
+        }
+    }
+
+    public EventSubscriber getSubscriber() { return subscriber; }
+
+    // handler가 던진 예외 (없으면 null), 예외가 난 뒤로는 이벤트를 받지 않음
+    public RuntimeException getFailure() { return failure; }
+
+    /**
+     * 지금까지 발행된 이벤트를 다 처리할 때까지 기다린 뒤 멈추고 링에서 빠짐 (생산자 스레드에서 호출)
+     * 기다리는 중에 인터럽트되면 처리를 마저 기다리지 않고 멈춤 (인터럽트 상태는 그대로 둠)
+     */
+    @Override
+    public void close() {
+        stopAt = ring.getCursor();
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        running = false;
+        ring.unsubscribe(subscriber);
+    }
+}
@@ -0,0 +1,60 @@
+package controller.event;
+
+/**
+ * EventSubscriber
+ *
+ * 링을 읽는 소비자 하나의 위치 (GameEventRing.subscribe로 만듦, 한 스레드에서만 poll)
+ * -- poll: 커서까지 쌓인 이벤트를 최대 maxBatch개 처리한 뒤 위치를 한 번만 옮김
+ *    (묶음이 끝나기 전에는 생산자가 그 칸들을 덮어쓰지 않으므로 onEvent 안에서 칸을 그대로 읽어도 됨)
+ */
+public final class EventSubscriber {
+    private final GameEventRing ring;
+    final Sequence position;
+
+    private long batches;
+    private long events;
+
+    EventSubscriber(GameEventRing ring, Sequence position) {
+        this.ring = ring;
+        this.position = position;
+    }
+
+    /**
+     * 쌓인 이벤트를 handler로 처리 (기다리지 않음)
+     * @return 처리한 이벤트 수
+     */
+    public int poll(GameEventHandler handler, int maxBatch) {
+        long current = position.get();
+        long available = Math.min(ring.publishedCursor(), current + maxBatch);
+        if (available <= current) {
+            return 0;
+        }
+        for (long sequence = current + 1; sequence <= available; sequence++) {
+            handler.onEvent(ring.slot(sequence), sequence == available);
+        }
+        position.set(available);
+        batches++;
+        events += available - current;
+        return (int) (available - current);
+    }
+
+    /**
+     * 생산자가 sequence까지 발행할 때까지 기다렸다가 처리 (sequence까지 다 처리하면 반환)
+     */
+    public void pollUntil(long sequence, GameEventHandler handler, int maxBatch) {
+        for (int idle = 0; position.get() < sequence; ) {
+            if (poll(handler, maxBatch) == 0) {
+                GameEventRing.idle(idle++);
+            } else {
+                idle = 0;
+            }
+        }
+    }
+
+    // 마지막으로 처리한 번호
+    public long getSequence() { return position.get(); }
+    // 아직 처리하지 않은 이벤트 수
+    public long getLag() { return ring.publishedCursor() - position.get(); }
+    public long getBatches() { return batches; }
+    public long getEvents() { return events; }
+}
@@ -0,0 +1,89 @@
+package controller.event;
+
+import model.ThrowResult;
+
+/**
+ * GameEvent
+ *
+ * GameEventRing의 칸 하나 (게임에서 일어난 일 하나)
+ * -- 칸은 링을 만들 때 한 번만 만들고 계속 덮어쓰므로, 소비자는 onEvent 안에서만 읽고 객체를 보관하지 않음
+ * -- 종류마다 쓰는 필드
+ *    THROW:       player, throwResult
+ *    MOVE:        player, piece, throwResult, fromCode, toCode (칸 코드는 CompactGameState와 같음)
+ *    GROUP:       player, piece, toCode, count (업힌 뒤 그 칸의 내 말 수)
+ *    CAPTURE:     player, otherPlayer (잡힌 쪽), toCode, count (잡힌 말 수)
+ *    FINISH:      player, count (이번 이동으로 도착한 말 수), rank (모두 도착했으면 등수 0~, 아니면 -1)
+ *    TURN_CHANGE: player (새 차례)
+ *    GAME_OVER:   count (플레이어 수)
+ */
+public final class GameEvent {
+
+    public enum Type { THROW, MOVE, GROUP, CAPTURE, FINISH, TURN_CHANGE, GAME_OVER }
+
+    private long sequence;
+    private long publishNanos;
+    private Type type;
+    private int player;
+    private int piece;
+    private ThrowResult throwResult;
+    private int fromCode;
+    private int toCode;
+    private int otherPlayer;
+    private int count;
+    private int rank;
+
+    GameEvent() {
+    }
+
+    /**
+     * 칸을 새 이벤트로 초기화 (생산자가 claim한 직후 호출)
+     */
+    public GameEvent reset(Type type, int player) {
+        this.type = type;
+        this.player = player;
+        this.piece = -1;
+        this.throwResult = null;
+        this.fromCode = 0;
+        this.toCode = 0;
+        this.otherPlayer = -1;
+        this.count = 0;
+        this.rank = -1;
+        return this;
+    }
+
+    public GameEvent piece(int piece) { this.piece = piece; return this; }
+    public GameEvent throwResult(ThrowResult throwResult) { this.throwResult = throwResult; return this; }
+    public GameEvent cells(int fromCode, int toCode) { this.fromCode = fromCode; this.toCode = toCode; return this; }
+    public GameEvent otherPlayer(int otherPlayer) { this.otherPlayer = otherPlayer; return this; }
+    public GameEvent count(int count) { this.count = count; return this; }
+    public GameEvent rank(int rank) { this.rank = rank; return this; }
+
+    void stamp(long sequence, long publishNanos) {
+        this.sequence = sequence;
+        this.publishNanos = publishNanos;
+    }
+
+    public long getSequence() { return sequence; }
+    // 발행 시각 (System.nanoTime), 소비자가 지연 시간을 잴 때 씀
+    public long getPublishNanos() { return publishNanos; }
+    public Type getType() { return type; }
+    public int getPlayer() { return player; }
+    public int getPiece() { return piece; }
+    public ThrowResult getThrowResult() { return throwResult; }
+    public int getFromCode() { return fromCode; }
+    public int getToCode() { return toCode; }
+    public int getOtherPlayer() { return otherPlayer; }
+    public int getCount() { return count; }
+    public int getRank() { return rank; }
+
+    @Override
+    public String toString() {
+        return "#" + sequence + " " + type + " p" + player
+                + (piece >= 0 ? " piece=" + piece : "")
+                + (throwResult != null ? " " + throwResult : "")
+                + (type == Type.MOVE ? " " + fromCode + "->" + toCode : "")
+                + (otherPlayer >= 0 ? " other=p" + otherPlayer : "")
+                + (count > 0 ? " count=" + count : "")
+                + (rank >= 0 ? " rank=" + rank : "");
+    }
+}
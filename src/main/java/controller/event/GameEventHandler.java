@@ -0,0 +1,11 @@
+package controller.event;
+
+/**
+ * 링의 이벤트를 받는 소비자 (화면, 기록, 통계, ...)
+ */
+public interface GameEventHandler {
+    /**
+     * @param endOfBatch 이번에 한꺼번에 받은 이벤트 중 마지막이면 true (화면 갱신, flush를 묶음마다 한 번만 할 때 씀)
+     */
+    void onEvent(GameEvent event, boolean endOfBatch);
+}
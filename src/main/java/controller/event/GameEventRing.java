@@ -0,0 +1,175 @@
+package controller.event;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * GameEventRing
+ *
+ * 생산자 하나(GameController)와 소비자 여럿(화면, 기록, 통계)이 GameEvent를 주고받는 고정 크기 링 버퍼
+ * -- 칸은 미리 만들어 두고 덮어씀 (이벤트마다 객체를 만들지 않음), 크기는 2의 거듭제곱이라 위치 = 번호 & mask
+ * -- 생산자: claim으로 다음 칸을 받아 채우고 publish로 커서를 옮김 (커서는 release로 씀)
+ * -- 소비자: EventSubscriber마다 자기 위치가 있어서, 커서까지 쌓인 이벤트를 한꺼번에(묶음으로) 처리하고 위치를 옮김
+ *    느린 소비자가 있어도 다른 소비자는 제 속도로 읽음
+ * -- 배압: 가장 느린 소비자가 아직 읽지 않은 칸은 덮어쓰지 않음
+ *    claim은 자리가 날 때까지 기다리고(짧게 돌다가 yield, 그다음 잠깐씩 park), tryClaim은 바로 null을 돌려줌
+ * -- claim/publish는 한 스레드에서만 부름 (GameController는 UI 스레드를 막지 않도록 tryClaim을 씀)
+ */
+public final class GameEventRing {
+    private final GameEvent[] slots;
+    private final int mask;
+    private final Sequence cursor = new Sequence(-1);  // 마지막으로 발행한 번호
+    private final ReentrantLock subscribeLock = new ReentrantLock();
+    private volatile Sequence[] gating = new Sequence[0]; // 소비자들의 위치 (마지막으로 처리한 번호)
+
+    // 생산자 스레드만 씀
+    private long next;             // 다음에 claim할 번호
+    private long cachedGate = -1;  // 마지막으로 본 가장 느린 소비자 위치
+    private boolean claimed;
+    private long backpressureWaits;
+
+    public GameEventRing(int capacity) {
+        if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Ring capacity must be a power of two: " + capacity);
+        }
+        this.slots = new GameEvent[capacity];
+        for (int i = 0; i < capacity; i++) {
+            slots[i] = new GameEvent();
+        }
+        this.mask = capacity - 1;
+    }
+
+    // —— 소비자 등록 —— //
+
+    /**
+     * 지금 이후에 발행되는 이벤트를 받는 소비자 추가 (생산자가 한 바퀴 앞서 가지 않도록 발행을 시작하기 전에 등록)
+     */
+    public EventSubscriber subscribe() {
+        subscribeLock.lock();
+        try {
+            Sequence position = new Sequence(cursor.get());
+            Sequence[] grown = Arrays.copyOf(gating, gating.length + 1);
+            grown[gating.length] = position;
+            gating = grown;
+            return new EventSubscriber(this, position);
+        } finally {
+            subscribeLock.unlock();
+        }
+    }
+
+    /**
+     * 소비자 제거 (이후로는 이 소비자를 기다리지 않음)
+     */
+    public void unsubscribe(EventSubscriber subscriber) {
+        subscribeLock.lock();
+        try {
+            Sequence[] current = gating;
+            for (int i = 0; i < current.length; i++) {
+                if (current[i] == subscriber.position) {
+                    Sequence[] shrunk = new Sequence[current.length - 1];
+                    System.arraycopy(current, 0, shrunk, 0, i);
+                    System.arraycopy(current, i + 1, shrunk, i, current.length - i - 1);
+                    gating = shrunk;
+                    return;
+                }
+            }
+        } finally {
+            subscribeLock.unlock();
+        }
+    }
+
+    // —— 생산자 —— //
+
+    /**
+     * 다음 칸을 받음 (가장 느린 소비자가 한 바퀴 뒤처져 있으면 자리가 날 때까지 기다림)
+     * 받은 칸을 reset으로 채운 다음 publish
+     */
+    public GameEvent claim() {
+        checkNotClaimed();
+        long wrapPoint = next - slots.length;
+        if (wrapPoint > cachedGate) {
+            cachedGate = minimumGate();
+            if (wrapPoint > cachedGate) {
+                backpressureWaits++;
+                for (int idle = 0; wrapPoint > (cachedGate = minimumGate()); idle++) {
+                    idle(idle);
+                }
+            }
+        }
+        claimed = true;
+        return slots[(int) next & mask];
+    }
+
+    /**
+     * 다음 칸을 받음, 자리가 없으면 기다리지 않고 null
+     */
+    public GameEvent tryClaim() {
+        checkNotClaimed();
+        long wrapPoint = next - slots.length;
+        if (wrapPoint > cachedGate && wrapPoint > (cachedGate = minimumGate())) {
+            return null;
+        }
+        claimed = true;
+        return slots[(int) next & mask];
+    }
+
+    /**
+     * claim한 칸을 소비자에게 보이게 함
+     */
+    public void publish() {
+        if (!claimed) {
+            throw new IllegalStateException("publish() without claim()");
+        }
+        slots[(int) next & mask].stamp(next, System.nanoTime());
+        claimed = false;
+        cursor.set(next++);
+    }
+
+    private void checkNotClaimed() {
+        if (claimed) {
+            throw new IllegalStateException("Previous event was claimed but not published");
+        }
+    }
+
+    // 소비자가 없으면 커서가 기준 (아무도 기다리지 않음)
+    private long minimumGate() {
+        long minimum = next - 1;
+        for (Sequence position : gating) {
+            minimum = Math.min(minimum, position.get());
+        }
+        return minimum;
+    }
+
+    // —— 조회 —— //
+
+    public int getCapacity() { return slots.length; }
+    // 마지막으로 발행한 번호 (-1 = 아직 없음)
+    public long getCursor() { return cursor.get(); }
+    public int getSubscriberCount() { return gating.length; }
+    // claim이 링이 차서 기다린 횟수 (생산자 스레드에서 읽음)
+    public long getBackpressureWaits() { return backpressureWaits; }
+
+    // —— EventSubscriber에서 씀 —— //
+
+    long publishedCursor() {
+        return cursor.get();
+    }
+
+    GameEvent slot(long sequence) {
+        return slots[(int) sequence & mask];
+    }
+
+    /**
+     * 기다리는 횟수에 따라 바쁜 대기 --> yield --> 짧은 park (코어가 적은 기계에서도 생산자/소비자가 서로 막지 않도록)
+     */
+    static void idle(int count) {
+        if (count < 100) {
+            Thread.onSpinWait();
+        } else if (count < 200) {
+            Thread.yield();
+        } else {
+            LockSupport.parkNanos(50_000);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package controller.event;
+
+import service.record.GameRecordWriter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * RecordEventHandler
+ *
+ * 링의 THROW/MOVE 이벤트를 GameRecordWriter로 옮기는 소비자 (GAME_OVER에서 게임 하나를 닫고 flush)
+ * -- 컨트롤러가 기록 파일 쓰기를 기다리지 않도록 기록을 소비자 스레드로 옮길 때 씀 (GameController.setRecordWriter 대신)
+ * -- beginGame은 게임 설정이 필요하므로 이 객체를 만들기 전에 writer에 직접 호출
+ * -- 쓰기에 실패하면 UncheckedIOException (소비자 스레드가 멈추고 링은 이 소비자를 기다리게 되므로 unsubscribe 필요)
+ */
+public final class RecordEventHandler implements GameEventHandler {
+    private final GameRecordWriter writer;
+
+    public RecordEventHandler(GameRecordWriter writer) {
+        this.writer = writer;
+    }
+
+    @Override
+    public void onEvent(GameEvent event, boolean endOfBatch) {
+        try {
+            switch (event.getType()) {
+                case THROW -> writer.writeThrow(event.getThrowResult());
+                case MOVE -> writer.writeMove(event.getPiece());
+                case GAME_OVER -> {
+                    writer.endGame();
+                    writer.flush();
+                }
+                default -> {
+                    // 기록에는 던진 결과와 고른 말만 남김 (나머지는 다시 두어 보면 나옴)
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package controller.event;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * 생산자 커서, 소비자 위치를 담는 long (release로 쓰고 acquire로 읽음)
+ * -- 스레드마다 따로 고치는 값이 같은 캐시 라인에 놓이지 않도록 앞뒤를 채움 (상속으로 필드 순서를 고정)
+ */
+final class Sequence extends SequenceValue {
+    @SuppressWarnings("unused")
+    private long q1, q2, q3, q4, q5, q6, q7;
+
+    Sequence(long initial) {
+        set(initial);
+    }
+}
+
+abstract class SequencePadding {
+    @SuppressWarnings("unused")
+    private long p1, p2, p3, p4, p5, p6, p7;
+}
+
+abstract class SequenceValue extends SequencePadding {
+    private static final VarHandle VALUE;
+
+    static {
+        try {
+            VALUE = MethodHandles.lookup().findVarHandle(SequenceValue.class, "value", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    @SuppressWarnings("unused")
+    private long value;
+
+    final long get() {
+        return (long) VALUE.getAcquire(this);
+    }
+
+    final void set(long value) {
+        VALUE.setRelease(this, value);
+    }
+}
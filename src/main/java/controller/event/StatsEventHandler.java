@@ -0,0 +1,66 @@
+package controller.event;
+
+import model.BoardSpec;
+import service.simulation.SimulationStats;
+
+/**
+ * StatsEventHandler
+ *
+ * 링의 이벤트를 SimulationStats에 모으는 소비자 (화면으로 진행하는 게임도 시뮬레이션과 같은 통계에 넣을 때)
+ * -- 이동 하나는 MOVE 뒤에 GROUP, CAPTURE가 따라오므로 다음 MOVE/THROW/TURN_CHANGE/GAME_OVER가 올 때 한 번에 기록
+ * -- 턴 수 = 첫 턴 + TURN_CHANGE 수, 1등 = FINISH 중 rank가 0인 플레이어
+ * -- 소비자 스레드 하나에서만 불리므로 Recorder 하나를 그대로 씀
+ */
+public final class StatsEventHandler implements GameEventHandler {
+    private final SimulationStats.Recorder recorder;
+
+    // 아직 기록하지 않은 이동
+    private boolean movePending;
+    private int captured;
+    private boolean grouped;
+
+    private int turns = 1;
+    private int winner = -1;
+
+    public StatsEventHandler(SimulationStats stats, BoardSpec spec, int playersNum, int piecesNum) {
+        this.recorder = stats.recorder(spec, playersNum, piecesNum);
+    }
+
+    @Override
+    public void onEvent(GameEvent event, boolean endOfBatch) {
+        switch (event.getType()) {
+            case MOVE -> {
+                flushMove();
+                movePending = true;
+            }
+            case GROUP -> grouped = true;
+            case CAPTURE -> captured += event.getCount();
+            case FINISH -> {
+                if (event.getRank() == 0) winner = event.getPlayer();
+            }
+            case THROW -> flushMove();
+            case TURN_CHANGE -> {
+                flushMove();
+                turns++;
+            }
+            case GAME_OVER -> {
+                flushMove();
+                if (winner >= 0) {
+                    recorder.onGameEnd(winner, turns);
+                } else {
+                    recorder.onGameAborted();
+                }
+                turns = 1;
+                winner = -1;
+            }
+        }
+    }
+
+    private void flushMove() {
+        if (!movePending) return;
+        recorder.onMove(captured, grouped);
+        movePending = false;
+        captured = 0;
+        grouped = false;
+    }
+}
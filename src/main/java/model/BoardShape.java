@@ -1,7 +1,8 @@
 package model;
 
 /**
- * 윷놀이판의 형태를 나타내는 enum
+ * 윷놀이판의 형태를 나타내는 enum (설정 화면에서 고르는 기본 판)
+ * -- 판을 만드는 설정은 getSpec() (변마다 일반 셀 4개, 대각 셀 2개), 그 밖의 크기는 BoardSpec.of로 만듦
  */
 public enum BoardShape {
     SQUARE(4),
@@ -15,4 +16,7 @@ public enum BoardShape {
     public int getVertexCount() {
         return vertexCount;
     }
-}
\ No newline at end of file
+    public BoardSpec getSpec() {
+        return BoardSpec.of(vertexCount);
+    }
+}
@@ -0,0 +1,137 @@
+package model;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 판을 만드는 설정 (꼭짓점 수, 꼭짓점 사이 일반 셀 수, 꼭짓점~중앙 사이 대각 셀 수)
+ * -- 기본 판(BoardShape의 SQUARE, PENTAGON, HEXAGON)은 변마다 일반 셀 4개, 대각 셀 2개 (BoardShape.getSpec)
+ * -- 그 외 판은 of(sides, cellsPerEdge, diagonalCells)로 만듦 (4~12각형, 전체 셀 수는 MAX_CELLS 이하)
+ *    같은 설정이면 항상 같은 객체를 돌려주므로 ==로 비교하고 캐시(RouteTable, CompactMoveEngine 등)의 키로 씀
+ * -- 사각형(4각형) 판은 V2의 지름길로 중앙에 들어오면 출발점 쪽으로 직진 (isStraightThroughCenter)
+ */
+public final class BoardSpec {
+    public static final int MIN_SIDES = 4;
+    public static final int MAX_SIDES = 12;
+    public static final int DEFAULT_CELLS_PER_EDGE = 4;
+    public static final int DEFAULT_DIAGONAL_CELLS = 2;
+    public static final int MAX_CELLS = 254; // CompactGameState 칸 코드(1바이트)에 0과 0xFF를 빼고 담을 수 있는 수
+
+    private static final Map<Integer, BoardSpec> SPECS = new ConcurrentHashMap<>();
+
+    private final int vertexCount;
+    private final int cellsPerEdge;
+    private final int diagonalCells;
+
+    private BoardSpec(int vertexCount, int cellsPerEdge, int diagonalCells) {
+        this.vertexCount = vertexCount;
+        this.cellsPerEdge = cellsPerEdge;
+        this.diagonalCells = diagonalCells;
+    }
+
+    /**
+     * 설정에 맞는 판 (같은 설정이면 같은 객체)
+     * @throws IllegalArgumentException 꼭짓점 수가 4~12가 아니거나, 셀 수가 1 미만이거나, 전체 셀이 MAX_CELLS를 넘을 때
+     */
+    public static BoardSpec of(int sides, int cellsPerEdge, int diagonalCells) {
+        if (sides < MIN_SIDES || sides > MAX_SIDES || cellsPerEdge < 1 || diagonalCells < 1) {
+            throw new IllegalArgumentException("Invalid board spec: " + sides + " sides, "
+                    + cellsPerEdge + " cells per edge, " + diagonalCells + " diagonal cells");
+        }
+        int cells = cellCountOf(sides, cellsPerEdge, diagonalCells);
+        if (cells > MAX_CELLS) {
+            throw new IllegalArgumentException("Board too large: " + cells + " cells (max " + MAX_CELLS + ")");
+        }
+        int code = codeOf(sides, cellsPerEdge, diagonalCells);
+        BoardSpec spec = SPECS.get(code);
+        return spec != null ? spec : SPECS.computeIfAbsent(code, c -> new BoardSpec(sides, cellsPerEdge, diagonalCells));
+    }
+
+    // 변마다 일반 셀 4개, 대각 셀 2개인 sides각형
+    public static BoardSpec of(int sides) {
+        return of(sides, DEFAULT_CELLS_PER_EDGE, DEFAULT_DIAGONAL_CELLS);
+    }
+
+    /**
+     * getCode()로 만든 값에서 판 설정을 복원 (기록 파일, 엔드게임 표, 네트워크 메시지용)
+     * @throws IllegalArgumentException 올바른 코드가 아닐 때
+     */
+    public static BoardSpec ofCode(int code) {
+        int sides = code & 0xFF;
+        if ((code >>> 8) == 0) {
+            return of(sides);
+        }
+        if ((code >>> 24) != 0) {
+            throw new IllegalArgumentException("Invalid board spec code: " + code);
+        }
+        return of(sides, (code >>> 8) & 0xFF, (code >>> 16) & 0xFF);
+    }
+
+    /**
+     * 이름으로 판 설정 찾기: BoardShape 이름(대소문자 무시) 또는 "꼭짓점수x일반셀수x대각셀수" (예: "8x6x3")
+     * @throws IllegalArgumentException 알 수 없는 이름일 때
+     */
+    public static BoardSpec parse(String name) {
+        for (BoardShape shape : BoardShape.values()) {
+            if (shape.name().equalsIgnoreCase(name)) return shape.getSpec();
+        }
+        String[] parts = name.toLowerCase().split("x");
+        try {
+            if (parts.length == 3) {
+                return of(Integer.parseInt(parts[0]), Integer.parseInt(parts[1]), Integer.parseInt(parts[2]));
+            }
+        } catch (NumberFormatException e) {
+            // 아래에서 처리
+        }
+        throw new IllegalArgumentException("Unknown board spec: " + name);
+    }
+
+    public int getVertexCount() { return vertexCount; }
+    public int getCellsPerEdge() { return cellsPerEdge; }
+    public int getDiagonalCells() { return diagonalCells; }
+
+    // 전체 셀 수: 둘레(꼭짓점 + 일반 셀) + 중앙 + 꼭짓점마다 대각 셀
+    public int getCellCount() {
+        return cellCountOf(vertexCount, cellsPerEdge, diagonalCells);
+    }
+
+    // 사각형 판에서만 V2의 지름길 --> 중앙 --> 출발점으로 직진하는 규칙이 있음
+    public boolean isStraightThroughCenter() {
+        return vertexCount == 4;
+    }
+
+    // 변마다 일반 셀 4개, 대각 셀 2개 (BoardShape로 고를 수 있는 판)
+    public boolean isStandard() {
+        return cellsPerEdge == DEFAULT_CELLS_PER_EDGE && diagonalCells == DEFAULT_DIAGONAL_CELLS;
+    }
+
+    /**
+     * 정수 하나로 나타낸 판 설정: 기본 설정이면 꼭짓점 수 그대로(예전 기록/표와 같음),
+     * 아니면 꼭짓점 수 | 일반 셀 수 << 8 | 대각 셀 수 << 16
+     */
+    public int getCode() {
+        return codeOf(vertexCount, cellsPerEdge, diagonalCells);
+    }
+
+    // 기본 판이면 BoardShape 이름 (SQUARE 등), 아니면 parse로 읽을 수 있는 "8x6x3"
+    @Override
+    public String toString() {
+        if (isStandard()) {
+            for (BoardShape shape : BoardShape.values()) {
+                if (shape.getVertexCount() == vertexCount) return shape.name();
+            }
+        }
+        return vertexCount + "x" + cellsPerEdge + "x" + diagonalCells;
+    }
+
+    private static int cellCountOf(int sides, int cellsPerEdge, int diagonalCells) {
+        return sides * (cellsPerEdge + 1) + 1 + sides * diagonalCells;
+    }
+
+    private static int codeOf(int sides, int cellsPerEdge, int diagonalCells) {
+        if (cellsPerEdge == DEFAULT_CELLS_PER_EDGE && diagonalCells == DEFAULT_DIAGONAL_CELLS) {
+            return sides;
+        }
+        return sides | cellsPerEdge << 8 | diagonalCells << 16;
+    }
+}
@@ -4,7 +4,20 @@ import java.util.ArrayList;
 import java.util.List;
 
 public class Cell {
-    private final String id;
+    // 역할 플래그 (Board에 등록될 때 한 번만 계산, 이후 규칙 체크는 비트 연산만 함)
+    private static final int START = 1;
+    private static final int CENTER = 1 << 1;
+    private static final int VERTEX = 1 << 2;
+    private static final int LAST_VERTEX = 1 << 3;
+    private static final int MIDDLE_VERTEX = 1 << 4;
+    private static final int EDGE = 1 << 5;
+    private static final int DIAGONAL = 1 << 6;
+
+    private final String id; // 화면 표시/디버깅용 (규칙 체크에는 사용하지 않음)
+    private int index = -1; // Board에 등록된 순서 (0부터), 압축 상태/라우팅 테이블/보드 배열 조회에 사용
+    private int flags;
+    private final int sideIndex; // V i / E i_j / D i_j 의 i (중앙은 -1)
+    private final int offset;    // E i_j / D i_j 의 j (그 외 0)
     private List<Cell> nextCells; // 최대 2개 (외곽길, 대각길)
     private List<Piece> occupants; // 현재 이 cell에 올라온 말들
 
@@ -12,11 +25,45 @@ public class Cell {
         this.id = id; // 꼭짓점: V0, V1, ..., 일반 셀: E0_0, E0_1, ...
         this.nextCells = new ArrayList<>(2);
         this.occupants = new ArrayList<>();
+
+        // id는 생성 시 한 번만 해석함
+        char kind = id.charAt(0);
+        if (kind == 'C') {
+            flags = CENTER;
+            sideIndex = -1;
+            offset = 0;
+        } else if (kind == 'V') {
+            flags = VERTEX;
+            sideIndex = Integer.parseInt(id.substring(1));
+            offset = 0;
+        } else {
+            flags = kind == 'E' ? EDGE : DIAGONAL;
+            int sep = id.indexOf('_');
+            sideIndex = Integer.parseInt(id.substring(1, sep));
+            offset = Integer.parseInt(id.substring(sep + 1));
+        }
+    }
+
+    // Board에 등록될 때 인덱스와 보드 모양에 따른 역할(출발점, 마지막/가운데 꼭짓점)을 정함
+    void register(int index, int sides) {
+        this.index = index;
+        if ((flags & VERTEX) != 0) {
+            if (sideIndex == 0) {
+                flags |= START;
+            } else if (sideIndex == sides - 1) {
+                flags |= LAST_VERTEX;
+            } else {
+                flags |= MIDDLE_VERTEX;
+            }
+        }
     }
 
     public void addNextCell(Cell cell) { this.nextCells.add(cell);}
 
     public String getId() { return id;}
+    public int getIndex() { return index; }
+    public int getSideIndex() { return sideIndex; }
+    public int getOffset() { return offset; }
     public List<Cell> getNextCells() { return nextCells; }
     public int getNextCellCount() { return nextCells.size(); }
     public Cell getNextCell(int index) { return nextCells.get(index); }
@@ -27,26 +74,15 @@ public class Cell {
     public void removePiece(Piece piece) { occupants.remove(piece); } // 셀에서 말 제거
 
     // 특수 Cell 체크
-    public boolean isStartCell() {
-        return id.equals("V0"); // 또는 상황에 맞게 수정
-    }
-    public boolean isLastVertex(BoardShape shape) {
-        // 예시: 오각형이면 "V4", 사각형이면 "V3"
-        int lastIdx = shape.getVertexCount() - 1;
-        return id.equals("V" + lastIdx);
-    }
-    public boolean isCenter() {
-        return id.equals("C");
-    }
-    public boolean isMiddleVertex(BoardShape shape) { // 가운데 꼭짓점 Cell (출발점/마지막 제외)
-        if (!id.startsWith("V")) return false;
-        if (isStartCell() || isLastVertex(shape)) return false;
-        // 예: 오각형 - V1, V2, V3 / 사각형 - V1, V2
-        try {
-            int idx = Integer.parseInt(id.substring(1));
-            return idx > 0 && idx < (shape.getVertexCount() - 1);
-        } catch (NumberFormatException e) {
-            return false;
-        }
-    }
-}
\ No newline at end of file
+    public boolean isStartCell() { return (flags & START) != 0; }
+    public boolean isCenter() { return (flags & CENTER) != 0; }
+    public boolean isVertex() { return (flags & VERTEX) != 0; }
+    public boolean isEdge() { return (flags & EDGE) != 0; }
+    public boolean isDiagonal() { return (flags & DIAGONAL) != 0; }
+    public boolean isLastVertex() { return (flags & LAST_VERTEX) != 0; }
+    public boolean isMiddleVertex() { return (flags & MIDDLE_VERTEX) != 0; } // 가운데 꼭짓점 Cell (출발점/마지막 제외)
+
+    // 기존 호출부 호환용: 역할은 이 칸이 속한 Board의 모양으로 이미 계산되어 있음
+    public boolean isLastVertex(BoardShape shape) { return isLastVertex(); }
+    public boolean isMiddleVertex(BoardShape shape) { return isMiddleVertex(); }
+}
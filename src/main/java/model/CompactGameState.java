@@ -0,0 +1,384 @@
+package model;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * CompactGameState
+ *
+ * Game(Cell/Piece/PieceGroup 객체 그래프)의 한 국면을 기본형 값 몇 개로 압축한 표현
+ * -- 말 하나 = 16비트 (하위 8비트: 칸 코드, 상위 8비트: RouteTag), long 하나에 말 4개씩 저장
+ *    칸 코드: 0 = 출발 전(NOT_STARTED), 0xFF = 도착(FINISHED), 그 외 = Cell 인덱스 + 1
+ * -- 플레이어별 칸 점유 비트마스크 (비트 i = 해당 플레이어의 ON_BOARD 말이 i번 칸에 있음)
+ * -- 헤더: 현재 차례, 시작 여부, 도착 순서(플레이어 id를 4비트씩)
+ * -- Zobrist 해시: 말/헤더가 바뀔 때마다 바뀐 부분의 키만 더하고 빼서 갱신 (Zobrist 참고)
+ * 탐색/시뮬레이션/네트워크 전송에서 국면을 복사하고 비교할 때 객체 그래프 대신 사용함
+ * (업힌 말은 "같은 플레이어의 ON_BOARD 말이 같은 칸에 있음"으로 표현되므로 따로 저장하지 않음)
+ */
+public class CompactGameState {
+    public static final int NOT_STARTED_CODE = 0;
+    public static final int FINISHED_CODE = 0xFF;
+
+    private static final int BITS_PER_PIECE = 16;
+    private static final int PIECES_PER_WORD = Long.SIZE / BITS_PER_PIECE;
+
+    private final BoardSpec spec;
+    private final int cellCount;
+    private final int playersNum;
+    private final int piecesNum;
+    private final int occupancyWords; // 플레이어 한 명당 점유 마스크 long 개수
+
+    private final long[] pieces;
+    private final long[] occupancy;
+    private int currentPlayer;
+    private boolean started;
+    private int finishedCount;
+    private int finishedOrder; // 도착 순서대로 4비트씩 플레이어 id
+    private long zobristHash;
+
+    /**
+     * 모든 말이 출발 전인 빈 국면 생성
+     */
+    public CompactGameState(BoardSpec spec, int cellCount, int playersNum, int piecesNum) {
+        if (cellCount >= FINISHED_CODE) {
+            throw new IllegalArgumentException("Too many cells for compact encoding: " + cellCount);
+        }
+        this.spec = spec;
+        this.cellCount = cellCount;
+        this.playersNum = playersNum;
+        this.piecesNum = piecesNum;
+        this.occupancyWords = (cellCount + Long.SIZE - 1) / Long.SIZE;
+        this.pieces = new long[(playersNum * piecesNum + PIECES_PER_WORD - 1) / PIECES_PER_WORD];
+        this.occupancy = new long[playersNum * occupancyWords];
+        this.zobristHash = emptyHash();
+    }
+
+    /**
+     * 현재 Game의 국면을 압축
+     */
+    public static CompactGameState of(Game game) {
+        Board board = game.getBoard();
+        CompactGameState state = new CompactGameState(board.getSpec(), board.getCellCount(),
+                game.getPlayers().size(), game.getPlayers().get(0).getPieces().size());
+        state.captureFrom(game);
+        return state;
+    }
+
+    /**
+     * 같은 설정의 Game 국면을 이 객체에 덮어씀 (새 객체를 만들지 않음)
+     */
+    public void captureFrom(Game game) {
+        checkCompatible(game);
+        Arrays.fill(pieces, 0L);
+        Arrays.fill(occupancy, 0L);
+        finishedCount = 0;
+        finishedOrder = 0;
+        currentPlayer = 0;
+        started = false;
+        zobristHash = emptyHash();
+
+        List<Player> players = game.getPlayers();
+        for (int p = 0; p < playersNum; p++) {
+            List<Piece> playerPieces = players.get(p).getPieces();
+            for (int i = 0; i < piecesNum; i++) {
+                Piece piece = playerPieces.get(i);
+                switch (piece.getState()) {
+                    case NOT_STARTED -> setPiece(p, i, NOT_STARTED_CODE, RouteTag.PERIMETER);
+                    case FINISHED -> setPiece(p, i, FINISHED_CODE, RouteTag.PERIMETER);
+                    case ON_BOARD -> {
+                        PieceGroup group = piece.getGroup();
+                        List<Cell> path = group != null ? group.getPath() : piece.pathView(); // 이동은 그룹 경로 기준
+                        int tag = isRebound(path) ? RouteTag.REBOUND : RouteTag.ofPath(path);
+                        setPiece(p, i, piece.getPosition().getIndex() + 1, tag);
+                    }
+                }
+            }
+        }
+
+        for (Player finished : game.getFinishedPlayers()) {
+            addFinishedPlayer(finished.getId());
+        }
+        setCurrentPlayer(game.getCurrentPlayerIndex());
+        setStarted(game.isStarted());
+    }
+
+    /**
+     * 이 국면을 같은 설정의 Game에 그대로 적용 (말 위치, 경로, 업기 그룹, 순위, 현재 차례)
+     */
+    public void restoreTo(Game game) {
+        checkCompatible(game);
+        Board board = game.getBoard();
+        for (Cell cell : board.getAllCells()) {
+            cell.getOccupants().clear();
+        }
+        Cell start = board.getStartCell();
+
+        List<Player> players = game.getPlayers();
+        for (int p = 0; p < playersNum; p++) {
+            Player player = players.get(p);
+            for (PieceGroup group : player.getPieceGroups()) {
+                group.breakUp(); // 그룹 객체는 비워서 재사용
+            }
+            player.setFinished(false);
+            List<Piece> playerPieces = player.getPieces();
+
+            // 1) 말 하나씩 위치/상태/경로 복원
+            for (int i = 0; i < piecesNum; i++) {
+                Piece piece = playerPieces.get(i);
+                int code = getCellCode(p, i);
+                piece.setGroup(null);
+                if (code == NOT_STARTED_CODE || code == FINISHED_CODE) {
+                    piece.setState(code == NOT_STARTED_CODE ? PieceState.NOT_STARTED : PieceState.FINISHED);
+                    piece.setPosition(start);
+                    piece.copyPath(RouteTag.pathTo(board, start, RouteTag.PERIMETER, false));
+                    continue;
+                }
+                Cell cell = board.getCell(code - 1);
+                int tag = getRouteTag(p, i);
+                piece.setState(PieceState.ON_BOARD);
+                piece.setPosition(cell);
+                piece.copyPath(RouteTag.pathTo(board, cell, tag, cell == start && tag != RouteTag.REBOUND));
+                cell.addPiece(piece);
+            }
+
+            // 2) 같은 칸의 ON_BOARD 말끼리 다시 업기
+            for (int i = 0; i < piecesNum; i++) {
+                Piece piece = playerPieces.get(i);
+                if (piece.getState() != PieceState.ON_BOARD || piece.getGroup() != null) continue;
+                PieceGroup group = null;
+                for (int j = i + 1; j < piecesNum; j++) {
+                    Piece other = playerPieces.get(j);
+                    if (other.getState() == PieceState.ON_BOARD && other.getPosition() == piece.getPosition()) {
+                        if (group == null) {
+                            group = player.obtainGroup();
+                            group.grouping(piece);
+                        }
+                        group.grouping(other);
+                    }
+                }
+            }
+        }
+
+        // 3) 순위, 현재 차례
+        game.getFinishedPlayers().clear();
+        for (int rank = 0; rank < finishedCount; rank++) {
+            Player player = players.get(getFinishedPlayer(rank));
+            player.setFinished(true);
+            game.getFinishedPlayers().add(player);
+        }
+        game.restoreProgress(currentPlayer, started);
+    }
+
+    /**
+     * 이 국면으로 새 Game 객체를 만들어 반환
+     */
+    public Game toGame(String[] playerNames) {
+        Game game = new Game(playersNum, playerNames, piecesNum, spec);
+        restoreTo(game);
+        return game;
+    }
+
+    // —— 복사 / 비교 —— //
+
+    public CompactGameState copy() {
+        CompactGameState copy = new CompactGameState(spec, cellCount, playersNum, piecesNum);
+        copy.copyFrom(this);
+        return copy;
+    }
+
+    // 같은 설정의 다른 국면을 이 객체에 덮어씀 (할당 없음)
+    public void copyFrom(CompactGameState other) {
+        System.arraycopy(other.pieces, 0, pieces, 0, pieces.length);
+        System.arraycopy(other.occupancy, 0, occupancy, 0, occupancy.length);
+        currentPlayer = other.currentPlayer;
+        started = other.started;
+        finishedCount = other.finishedCount;
+        finishedOrder = other.finishedOrder;
+        zobristHash = other.zobristHash;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof CompactGameState other)) return false;
+        return spec == other.spec && playersNum == other.playersNum && piecesNum == other.piecesNum
+                && currentPlayer == other.currentPlayer && started == other.started
+                && finishedCount == other.finishedCount && finishedOrder == other.finishedOrder
+                && Arrays.equals(pieces, other.pieces);
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(zobristHash);
+    }
+
+    // 예) "P0[3:0,0:0] P1[12:2,255:0] turn=1 finished=[]" (칸코드:태그)
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        for (int p = 0; p < playersNum; p++) {
+            sb.append('P').append(p).append('[');
+            for (int i = 0; i < piecesNum; i++) {
+                if (i > 0) sb.append(',');
+                sb.append(getCellCode(p, i)).append(':').append(getRouteTag(p, i));
+            }
+            sb.append("] ");
+        }
+        sb.append("turn=").append(currentPlayer).append(" finished=[");
+        for (int rank = 0; rank < finishedCount; rank++) {
+            if (rank > 0) sb.append(',');
+            sb.append(getFinishedPlayer(rank));
+        }
+        return sb.append(']').toString();
+    }
+
+    // —— 말 단위 접근 —— //
+
+    public int getCellCode(int player, int piece) {
+        return (int) (pieceBits(player, piece) & 0xFF);
+    }
+
+    public int getRouteTag(int player, int piece) {
+        return (int) ((pieceBits(player, piece) >>> 8) & 0xFF);
+    }
+
+    // ON_BOARD 말이면 Cell 인덱스, 아니면 -1
+    public int getCellIndex(int player, int piece) {
+        int code = getCellCode(player, piece);
+        return (code == NOT_STARTED_CODE || code == FINISHED_CODE) ? -1 : code - 1;
+    }
+
+    public PieceState getPieceState(int player, int piece) {
+        int code = getCellCode(player, piece);
+        if (code == NOT_STARTED_CODE) return PieceState.NOT_STARTED;
+        if (code == FINISHED_CODE) return PieceState.FINISHED;
+        return PieceState.ON_BOARD;
+    }
+
+    /**
+     * 말 하나의 칸 코드와 태그를 바꾸고 점유 마스크, Zobrist 해시를 갱신
+     */
+    public void setPiece(int player, int piece, int cellCode, int tag) {
+        int oldIndex = getCellIndex(player, piece);
+        zobristHash += Zobrist.pieceKey(player, cellCode, tag)
+                - Zobrist.pieceKey(player, getCellCode(player, piece), getRouteTag(player, piece));
+
+        int slot = player * piecesNum + piece;
+        int word = slot / PIECES_PER_WORD;
+        int shift = (slot % PIECES_PER_WORD) * BITS_PER_PIECE;
+        long bits = (cellCode & 0xFFL) | ((tag & 0xFFL) << 8);
+        pieces[word] = (pieces[word] & ~(0xFFFFL << shift)) | (bits << shift);
+
+        if (oldIndex >= 0 && countPiecesAt(player, oldIndex) == 0) {
+            occupancy[player * occupancyWords + (oldIndex >>> 6)] &= ~(1L << oldIndex);
+        }
+        if (cellCode != NOT_STARTED_CODE && cellCode != FINISHED_CODE) {
+            int index = cellCode - 1;
+            occupancy[player * occupancyWords + (index >>> 6)] |= 1L << index;
+        }
+    }
+
+    // player의 ON_BOARD 말이 cellIndex 칸에 있는지
+    public boolean isOccupied(int player, int cellIndex) {
+        return (occupancy[player * occupancyWords + (cellIndex >>> 6)] & (1L << cellIndex)) != 0;
+    }
+
+    // player의 ON_BOARD 말 중 cellIndex 칸에 있는 말의 수
+    public int countPiecesAt(int player, int cellIndex) {
+        int code = cellIndex + 1;
+        int count = 0;
+        for (int i = 0; i < piecesNum; i++) {
+            if (getCellCode(player, i) == code) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    public long getOccupancyWord(int player, int word) {
+        return occupancy[player * occupancyWords + word];
+    }
+
+    // —— 헤더 —— //
+
+    public int getCurrentPlayer() { return currentPlayer; }
+    public void setCurrentPlayer(int currentPlayer) {
+        zobristHash += Zobrist.turnKey(currentPlayer) - Zobrist.turnKey(this.currentPlayer);
+        this.currentPlayer = currentPlayer;
+    }
+    public boolean isStarted() { return started; }
+    public void setStarted(boolean started) {
+        if (started != this.started) {
+            zobristHash += started ? Zobrist.startedKey() : -Zobrist.startedKey();
+        }
+        this.started = started;
+    }
+    public int getFinishedCount() { return finishedCount; }
+
+    public int getFinishedPlayer(int rank) {
+        return (finishedOrder >>> (rank * 4)) & 0xF;
+    }
+
+    public boolean isFinishedPlayer(int player) {
+        for (int rank = 0; rank < finishedCount; rank++) {
+            if (getFinishedPlayer(rank) == player) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public void addFinishedPlayer(int player) {
+        finishedOrder |= (player & 0xF) << (finishedCount * 4);
+        zobristHash += Zobrist.rankKey(finishedCount, player);
+        finishedCount++;
+    }
+
+    public boolean isGameOver() { return finishedCount == playersNum; }
+
+    /**
+     * 말 번호와 관계없는 국면 해시 (같은 플레이어의 말끼리 자리를 바꾼 배치는 같은 값)
+     * -- equals가 같으면 항상 같고, 다르면 거의 항상 다름 (치환표 키로 사용)
+     */
+    public long getZobristHash() { return zobristHash; }
+
+    public BoardSpec getSpec() { return spec; }
+    public int getCellCount() { return cellCount; }
+    public int getPlayersNum() { return playersNum; }
+    public int getPiecesNum() { return piecesNum; }
+
+    // —— 내부 헬퍼 —— //
+
+    // 모든 말이 출발 전이고 0번 차례, 시작 전, 도착한 플레이어 없음
+    private long emptyHash() {
+        long hash = Zobrist.turnKey(0);
+        for (int p = 0; p < playersNum; p++) {
+            hash += piecesNum * Zobrist.pieceKey(p, NOT_STARTED_CODE, RouteTag.PERIMETER);
+        }
+        return hash;
+    }
+
+    private long pieceBits(int player, int piece) {
+        int slot = player * piecesNum + piece;
+        return pieces[slot / PIECES_PER_WORD] >>> ((slot % PIECES_PER_WORD) * BITS_PER_PIECE);
+    }
+
+    // 경로가 출발점뿐인 ON_BOARD 말 (도 --> 빽도)
+    private static boolean isRebound(List<Cell> path) {
+        for (Cell cell : path) {
+            if (!cell.isStartCell()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void checkCompatible(Game game) {
+        Board board = game.getBoard();
+        if (board.getSpec() != spec || board.getCellCount() != cellCount
+                || game.getPlayers().size() != playersNum
+                || game.getPlayers().get(0).getPieces().size() != piecesNum) {
+            throw new IllegalArgumentException("Game does not match compact state configuration");
+        }
+    }
+}
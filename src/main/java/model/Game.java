@@ -2,9 +2,11 @@ package model;
 
 import service.MoveActionService;
 import service.RuleEngine;
+import service.ThrowModel;
 import service.YutThrowService;
 
 import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * 게임 한 판을 실행하는 클래스
@@ -14,6 +16,8 @@ public class Game {
     private List<Player> players; // 현재 게임에 참여하는 플레이어들
     private List<Player> finishedPlayers; // 말을 모두 내보내서 윷을 던질 수 없는 플레이어들 (순위 파악)
     private int currentPlayerIndex = 0; // 지금 차례인 플레이어의 인덱스
+    private final long seed; // 이 게임의 모든 난수 흐름(윷 던지기, splitRandom)의 시작값 --> 같은 seed면 같은 게임을 재현
+    private final SplittableRandom seedSource;
 
     // 보드 및 서비스
     private final YutThrowService yutThrowService;
@@ -29,18 +33,35 @@ public class Game {
         FINISHED // 모든 플레이어가 말을 내보내서 게임이 종료된 상태
     }
 
-    //생성자 : 플레이어/말/보드 모양을 받아와서 해당 게임을 초기화
+    //생성자 : 플레이어/말/보드 모양을 받아와서 해당 게임을 초기화 (윷은 ThrowModel.FAIR)
     public Game(int playersNum, String[] playerNames, int piecesNum, BoardShape boardShape){
+        this(playersNum, playerNames, piecesNum, boardShape.getSpec());
+    }
+
+    //생성자 : BoardSpec.of(...)로 만든 크기의 판으로 게임을 초기화 (윷은 ThrowModel.FAIR)
+    public Game(int playersNum, String[] playerNames, int piecesNum, BoardSpec boardSpec){
+        this(playersNum, playerNames, piecesNum, boardSpec, ThrowModel.FAIR);
+    }
+
+    //생성자 : 윷가락별 뒤집어질 확률이 다른 윷(throwModel)으로 게임을 초기화 (seed는 무작위)
+    public Game(int playersNum, String[] playerNames, int piecesNum, BoardSpec boardSpec, ThrowModel throwModel){
+        this(playersNum, playerNames, piecesNum, boardSpec, throwModel, ThreadLocalRandom.current().nextLong());
+    }
+
+    //생성자 : 같은 seed로 만든 게임은 같은 순서로 같은 윷이 나옴 (재현, 리플레이용)
+    public Game(int playersNum, String[] playerNames, int piecesNum, BoardSpec boardSpec, ThrowModel throwModel, long seed){
         this.players = new ArrayList<>();
         this.finishedPlayers = new ArrayList<>();
 
         // 보드 생성
-        this.board = new Board(boardShape);
+        this.board = new Board(boardSpec);
 
         // 서비스 초기화
         this.ruleEngine = new RuleEngine();
-        this.yutThrowService = new YutThrowService();
-        this.moveActionService = new MoveActionService(ruleEngine, boardShape);
+        this.seed = seed;
+        this.seedSource = new SplittableRandom(seed);
+        this.yutThrowService = new YutThrowService(throwModel, seedSource.split());
+        this.moveActionService = new MoveActionService(ruleEngine, board);
 
         // 각 플레이어 객체 생성
         for(int i=0; i<playersNum; i++){
@@ -70,19 +91,10 @@ public class Game {
             return;
         }
 
-        // 1) 윷 던지기를 모아두기 (Extra Turn 포함)
-        List<ThrowResult> results = new ArrayList<>();
-        ThrowResult result;
-        do {
-            YutThrowService yt = new YutThrowService();
-            result = yt.throwRandom();
-            results.add(result);
-        } while (result.isExtraTurn());
-
-        // 2) Piece(s) 이동
+        // 1) Piece(s) 이동 (윷 던지기는 Controller/시뮬레이터가 미리 처리해서 throwResult로 넘겨줌)
         moveActionService.movePiece(selected, throwResult, this);
 
-        // 3) 이 턴에서 마지막 플레이어까지 끝났다면 gameStatus 변경
+        // 2) 이 턴에서 마지막 플레이어까지 끝났다면 gameStatus 변경
         if (isGameOver()) {
             gameStatus = GameStatus.FINISHED;
         }
@@ -142,6 +154,18 @@ public class Game {
         return yutThrowService;
     }
 
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * 이 게임의 seed에서 갈라져 나온 새 난수 흐름 (말 선택 정책 등, 윷 던지기 흐름과 겹치지 않음)
+     * -- 호출 순서가 같으면 seed가 같은 게임끼리 같은 흐름을 받음
+     */
+    public SplittableRandom splitRandom() {
+        return seedSource.split();
+    }
+
     //board getter
     public Board getBoard(){
         return board;
@@ -151,4 +175,25 @@ public class Game {
         return ruleEngine;
     }
 
+    public int getCurrentPlayerIndex() {
+        return currentPlayerIndex;
+    }
+
+    // 게임이 시작되었는지 (READY가 아닌지) 여부
+    public boolean isStarted() {
+        return gameStatus != GameStatus.READY;
+    }
+
+    // —— CompactGameState 복원용 (같은 패키지에서만 사용) —— //
+    void restoreProgress(int currentPlayerIndex, boolean started) {
+        this.currentPlayerIndex = currentPlayerIndex;
+        if (!started) {
+            gameStatus = GameStatus.READY;
+        } else if (isGameOver()) {
+            gameStatus = GameStatus.FINISHED;
+        } else {
+            gameStatus = GameStatus.IN_PROGRESS;
+        }
+    }
+
 }
\ No newline at end of file
@@ -1,5 +1,7 @@
 package model;
 
+import service.RouteTable;
+
 import java.util.ArrayList;
 import java.util.List;
 
@@ -34,6 +36,8 @@ public class Piece {
     public PieceGroup getGroup() { return group; }
     public PieceState getState(){ return state; }
     public List<Cell> getPath() { return new ArrayList<>(path); }
+    public int getPathLength() { return path.size(); } // 경로 복사 없이 길이만 필요할 때
+    List<Cell> pathView() { return path; } // 같은 패키지에서 복사 없이 읽기 전용으로 사용
 
     public Cell getCurrentCell() {
         return path.getLast();
@@ -53,6 +57,16 @@ public class Piece {
     public void setPath(List<Cell> path){
         this.path = path;
     }
+    // 경로 리스트를 바꾸지 않고 내용만 복사 (이미 늘어난 용량을 재사용)
+    void copyPath(List<Cell> source) {
+        if (source == path) {
+            return;
+        }
+        path.clear();
+        for (int i = 0; i < source.size(); i++) {
+            path.add(source.get(i));
+        }
+    }
 
     // --- Helper --- //
 
@@ -61,6 +75,15 @@ public class Piece {
         pieceGroup.grouping(this);
     }
 
+    // 라우팅 테이블 항목을 따라 이동: 지나가는 칸은 경로에만 추가하고 마지막 칸으로 moveTo
+    public void moveAlong(Board board, RouteTable routes, int entry) {
+        int hops = routes.hopCount(entry);
+        for (int k = 0; k < hops - 1; k++) {
+            path.add(board.getCell(routes.hop(entry, k)));
+        }
+        moveTo(board.getCell(routes.hop(entry, hops - 1)));
+    }
+
     // 말을 dest칸으로 옮김
     public void moveTo(Cell dest) {
         position.removePiece(this); // 현재 칸에서 말 제거 (removePiece() : Cell 클래스에서 해당 Cell에 있는 말을 없애는 메소드를 의미)
@@ -1,12 +1,14 @@
 package model;
 
+import service.RouteTable;
+
 import java.util.List;
 import java.util.ArrayList;
 
 public class PieceGroup {
     private final Player owner;
     private final List<Piece> pieces = new ArrayList<>();
-    private List<Cell> path;
+    private final List<Cell> path;
 
     public PieceGroup(Player owner) {
         this.owner = owner;
@@ -45,17 +47,22 @@ public class PieceGroup {
     // --- Setter --- //
     // 새로 병합된 말의 path로 갱신
     public void setPiecesPath(List<Cell> newPath) {
-        for(Piece p : pieces){
-            p.setPath(newPath);
+        for (int i = 0; i < pieces.size(); i++) {
+            pieces.get(i).copyPath(newPath); // 말마다 자기 리스트에 따로 기록해야 moveTo에서 같은 리스트에 중복 추가되지 않음
         }
     }
+    // 그룹 경로는 그룹이 가진 리스트에 복사 (매 이동마다 새 리스트를 만들지 않음)
     private void setGroupPath(Piece newPiece) {
-        path = newPiece.getPath();
+        List<Cell> piecePath = newPiece.pathView();
+        path.clear();
+        for (int i = 0; i < piecePath.size(); i++) {
+            path.add(piecePath.get(i));
+        }
     }
 
     public void setPiecesState(PieceState state) {
-        for(Piece p : pieces){
-            p.setState(state);
+        for (int i = 0; i < pieces.size(); i++) {
+            pieces.get(i).setState(state);
         }
     }
 
@@ -64,9 +71,14 @@ public class PieceGroup {
     // 말을 이 그룹에 추가
     public void grouping(Piece piece) {
         if (!pieces.contains(piece)) {
+            PieceGroup previous = piece.getGroup();
+            if (previous != null) {
+                previous.remove(piece); // 다른 그룹에서 옮겨오는 말이면 이전 그룹에서 빼서 빈 그룹을 재사용할 수 있게 함
+            }
             pieces.add(piece);
             piece.setGroup(this);
             setGroupPath(piece);
+            setPiecesPath(path); // 업힌 말들은 마지막에 합류한 말의 경로를 함께 따라감 (이동/빽도 모두 그룹 경로 기준)
         }
     }
 
@@ -80,6 +92,12 @@ public class PieceGroup {
     // 그룹 해체 (1. 다른 유저의 말/그룹에 의해 이 그룹이 잡히거나 2. 도착하면 => 그룹 해체)
     // 그룹 자체를 없애는 건 게임 시스템 차원에서 관리해주는 거로 가정하겠음
     public void breakUp() {
+        for (int i = 0; i < pieces.size(); i++) {
+            Piece piece = pieces.get(i);
+            if (piece.getGroup() == this) {
+                piece.setGroup(null);
+            }
+        }
         pieces.clear();
     }
 
@@ -89,8 +107,19 @@ public class PieceGroup {
             return;
         }
         // 그룹에 있는 모든 말들을 dest Cell로 이동
-        for (Piece piece : pieces) {
-            piece.moveTo(nextCell);
+        for (int i = 0; i < pieces.size(); i++) {
+            pieces.get(i).moveTo(nextCell);
+        }
+        setGroupPath(pieces.get(0));
+    }
+
+    // 라우팅 테이블의 한 항목(entry)을 따라 그룹 전체를 이동: 중간 칸은 경로에만 기록하고 마지막 칸에 올려둠
+    public void moveGroupAlong(Board board, RouteTable routes, int entry) {
+        if (pieces.isEmpty()) {
+            return;
+        }
+        for (int i = 0; i < pieces.size(); i++) {
+            pieces.get(i).moveAlong(board, routes, entry);
         }
         setGroupPath(pieces.get(0));
     }
@@ -107,14 +136,13 @@ public class PieceGroup {
             // 실제 위치 업데이트
             moveGroupTo(prev);
         } // else: path가 startCell, 첫 번째 cell인 경우는 첫 번째 cell을 삭제하지 않음
+        else if (path.size() == 1) {
+            // 이미 출발점에 되돌아와 있는 말(경로 [출발점]): 더 돌아갈 곳이 없으므로 그대로 (경로에 출발점이 중복 기록되지 않게 함)
+            return getCurrentCell();
+        }
         else{ // 도 위치(E0_0)에서 빽도 나온 상황
             moveGroupTo(path.get(0));
         }
-        System.out.println("빽도 이후 경로: ");
-        for(Cell c : path){
-            System.out.print(c.getId() + " ");
-        }
-        System.out.println();
         return getCurrentCell();
     }
 }
\ No newline at end of file
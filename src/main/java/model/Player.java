@@ -31,6 +31,21 @@ public class Player {
     public java.util.List<Piece> getPieces() { return pieces; }
     public List<PieceGroup> getPieceGroups() { return pieceGroups; }
     public boolean getIsFinished() { return isFinished; }
+    void setFinished(boolean finished) { this.isFinished = finished; } // CompactGameState 복원용
+
+    // 비어 있는(말이 하나도 없는) 그룹을 재사용하고, 없을 때만 새로 만들어 pieceGroups에 보관
+    // -- 그룹은 동시에 최대 (말 수 / 2)개 + 이동 중 1개만 쓰이므로 몇 판 지나면 더 이상 만들지 않음
+    public PieceGroup obtainGroup() {
+        for (int i = 0; i < pieceGroups.size(); i++) {
+            PieceGroup group = pieceGroups.get(i);
+            if (group.size() == 0) {
+                return group;
+            }
+        }
+        PieceGroup group = new PieceGroup(this);
+        pieceGroups.add(group);
+        return group;
+    }
 
     // 플레이어의 말들 중에서 (내보내지 않은 상태의) 선택
     public Piece selectPiece() {
@@ -48,9 +63,9 @@ public class Player {
         if(isFinished){ // 모든 말을 내보낸 플레이어인 경우 바로 true 반환
             return true;
         }
-        for(Piece piece : pieces){
+        for(int i = 0; i < pieces.size(); i++){ // 매 이동마다 호출되므로 Iterator 없이 순회
             // 플레이어가 가진 말의 상태가 하나라도 FINISHED 상태가 아니라면 isFinished를 false로 설정하고 함수 종료
-            if(!(piece.getState() == PieceState.FINISHED)){
+            if(!(pieces.get(i).getState() == PieceState.FINISHED)){
                 return false;
             }
         }
@@ -59,7 +74,8 @@ public class Player {
 
     // 플레이어의 모든 말이 아직 출발하지 않은 상태라면 true 반환
     private boolean checkAllPiecesNotStarted(){
-        for(Piece piece : pieces){
+        for(int i = 0; i < pieces.size(); i++){
+            Piece piece = pieces.get(i);
             // 플레이어가 가진 말의 상태가 하나라도 NOT_STARTED 상태가 아니라면 false
             if(!(piece.getState() == PieceState.NOT_STARTED)){
                 return false;
@@ -68,6 +84,51 @@ public class Player {
         return true;
     }
 
+    /**
+     * throwResult로 둘 수 있는 서로 다른 수를 out에 말 번호(getPieces() 인덱스)로 채우고 개수를 반환 (객체를 할당하지 않음)
+     * -- 업힌 말(같은 칸의 PieceGroup)은 같이 움직이므로 대표 하나, 출발 전인 말들도 결과가 같으므로 대표 하나 (앞 번호가 대표)
+     * -- 빽도: hasNoMovablePiece면 0개 (차례만 넘어감), 아니면 뒤로 갈 수 있는 말 묶음마다 하나 +
+     *    골라도 제자리인 말(출발 전, '도 --> 빽도'로 출발점에 돌아온 말)이 있으면 대표 하나
+     * @param out 말 수 이상의 길이
+     */
+    public int legalMoves(ThrowResult throwResult, int[] out) {
+        boolean backDo = throwResult == ThrowResult.BACK_DO;
+        if (backDo && hasNoMovablePiece(throwResult)) {
+            return 0;
+        }
+        int count = 0;
+        for (int i = 0; i < pieces.size(); i++) {
+            Piece piece = pieces.get(i);
+            if (piece.getState() == PieceState.FINISHED) continue;
+            boolean duplicate = false;
+            for (int j = 0; j < i && !duplicate; j++) {
+                Piece earlier = pieces.get(j);
+                duplicate = earlier.getState() != PieceState.FINISHED && isSameMove(earlier, piece, backDo);
+            }
+            if (!duplicate) {
+                out[count++] = i;
+            }
+        }
+        return count;
+    }
+
+    // 두 말 중 어느 것을 골라도 같은 국면이 되는지
+    private static boolean isSameMove(Piece a, Piece b, boolean backDo) {
+        if (backDo && staysOnBackDo(a) && staysOnBackDo(b)) {
+            return true;
+        }
+        if (a.getState() != b.getState()) {
+            return false;
+        }
+        // 출발 전인 말끼리는 같고, 보드 위의 말은 같은 칸이면 업혀 있으므로 같음 (도착한 말은 넘기지 않음)
+        return a.getState() == PieceState.NOT_STARTED || a.getCurrentCell() == b.getCurrentCell();
+    }
+
+    private static boolean staysOnBackDo(Piece piece) {
+        return piece.getState() == PieceState.NOT_STARTED
+                || piece.getState() == PieceState.ON_BOARD && piece.getCurrentCell().isStartCell() && piece.getPathLength() <= 1;
+    }
+
     public boolean hasNoMovablePiece(ThrowResult throwResult){
         // 1) 보드 위에 있는 말이 없는 경우
         if(checkAllPiecesNotStarted()){
@@ -76,14 +137,15 @@ public class Player {
         // 2) 뒤로 이동 가능한 말이 있는지 검사
         // 보드 위에 있는 피스가 오직 '도 --> 빽도' 경로로 출발점에 도착한 피스밖에 없는 경우만 true
         if(throwResult == ThrowResult.BACK_DO){
-            for(Piece piece : pieces){
+            for(int i = 0; i < pieces.size(); i++){
+                Piece piece = pieces.get(i);
                 if(piece.getState() == PieceState.ON_BOARD){
                     if(!(piece.getCurrentCell().isStartCell())){
                         // 보드 위에 있는 피스의 위치가 출발점이 아니라면: 이동 가능
                         return false;
                     } else{
                         // 보드 위에 있는 피스의 위치가 출발점인데, 도--> 빽도 경로로 도착한 피스가 아니라면
-                        if(piece.getPath().size() > 1){
+                        if(piece.getPathLength() > 1){
                             return false;
                         }
                     }
@@ -0,0 +1,96 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * RouteTag
+ *
+ * 말이 출발점부터 어떤 길로 왔는지를 1바이트로 나타내는 값과, 그 값을 다루는 헬퍼 메소드
+ * -- 말의 경로(path)는 항상 "정해진 길"의 앞부분이므로, (현재 칸, 태그)만 알면 경로 전체를 복원할 수 있음
+ * -- 빽도는 경로를 한 칸씩 되돌아가므로 태그만 있으면 연속 빽도도 그대로 재현됨
+ *
+ * 값 구성:
+ * -- PERIMETER(0): 외곽길만 따라옴
+ * -- 1..(sides-2): V1..V(sides-2) 꼭짓점에서 대각길로 들어옴 (지름길을 탄 꼭짓점 번호)
+ * -- TO_START 비트: 중앙에서 출발점 쪽 대각길(D0)로 꺾음
+ * -- REBOUND: 도 --> 빽도로 출발점에 되돌아와 경로가 [출발점]뿐인 말
+ */
+public final class RouteTag {
+    public static final int PERIMETER = 0;
+    public static final int TO_START = 0x40;
+    public static final int REBOUND = 0x80;
+    private static final int DIAGONAL_MASK = 0x3F;
+
+    private RouteTag() {
+    }
+
+    // 대각길로 들어온 꼭짓점 번호 (외곽길이면 0)
+    public static int diagonalOf(int tag) {
+        return tag & DIAGONAL_MASK;
+    }
+
+    public static boolean isToStart(int tag) {
+        return (tag & TO_START) != 0;
+    }
+
+    /**
+     * from --> to 로 한 칸 이동했을 때의 새 태그
+     */
+    public static int next(int tag, Cell from, Cell to) {
+        if (from.isCenter()) {
+            // 중앙에서 D0 쪽으로 가면 출발점 방향, 그 외(D(n-1))는 외곽 방향
+            return to.getSideIndex() == 0 ? (tag & ~REBOUND) | TO_START : tag & ~(REBOUND | TO_START);
+        }
+        if (from.isMiddleVertex()) {
+            return to.isDiagonal() ? from.getSideIndex() : PERIMETER; // 지름길 진입: Vk --> Dk_0
+        }
+        return tag & ~REBOUND;
+    }
+
+    /**
+     * 실제 경로 기록을 훑어서 태그를 계산
+     */
+    public static int ofPath(List<Cell> path) {
+        int tag = PERIMETER;
+        for (int i = 1; i < path.size(); i++) {
+            Cell from = path.get(i - 1);
+            Cell to = path.get(i);
+            if (from != to) {
+                tag = next(tag, from, to);
+            }
+        }
+        return tag;
+    }
+
+    /**
+     * (현재 칸, 태그)로부터 출발점 --> 현재 칸까지의 경로를 복원
+     * @param atEnd cell이 출발점일 때 한 바퀴를 돌아 도착한 위치인지 여부
+     */
+    public static List<Cell> pathTo(Board board, Cell cell, int tag, boolean atEnd) {
+        List<Cell> path = new ArrayList<>();
+        Cell current = board.getStartCell();
+        path.add(current);
+        if (tag == REBOUND || (cell == current && !atEnd)) {
+            return path;
+        }
+        int diagonal = diagonalOf(tag);
+        int limit = board.getCellCount() + 1;
+        for (int step = 0; step < limit; step++) {
+            Cell next;
+            if (current.isMiddleVertex() && current.getSideIndex() == diagonal) {
+                next = current.getNextCell(1); // 이 태그가 가리키는 꼭짓점에서는 지름길
+            } else if (current.isCenter() && isToStart(tag)) {
+                next = current.getNextCell(1); // 중앙에서 출발점 방향
+            } else {
+                next = current.getNextCell(0);
+            }
+            path.add(next);
+            if (next == cell) {
+                return path;
+            }
+            current = next;
+        }
+        throw new IllegalStateException("Cell " + cell.getId() + " is not on route " + tag);
+    }
+}
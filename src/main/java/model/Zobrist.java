@@ -0,0 +1,61 @@
+package model;
+
+import java.util.SplittableRandom;
+
+/**
+ * Zobrist
+ *
+ * CompactGameState의 64비트 국면 해시에 쓰는 난수 키 (고정 시드라 실행마다 같은 값)
+ * -- 말 하나의 키 = 칸 키(플레이어, 칸 코드) * 태그 곱수(태그)
+ *    XOR 대신 덧셈으로 합쳐서, 같은 칸에 업힌 말들이 서로 지워지지 않고 말 번호가 바뀐 같은 배치는 같은 해시가 됨
+ * -- 헤더: 현재 차례, 시작 여부, (순위, 플레이어)마다 키 하나씩 더함
+ * 말이 움직이거나 잡히거나 업힐 때마다 CompactGameState.setPiece에서 바뀐 말의 키만 빼고 더해서 갱신됨
+ */
+public final class Zobrist {
+    public static final int MAX_PLAYERS = 16; // 도착 순서를 플레이어당 4비트로 저장하므로
+    private static final int CODES = 256;     // 칸 코드, 태그 모두 1바이트
+
+    private static final long[] CELL_KEYS = new long[MAX_PLAYERS * CODES];
+    private static final long[] TAG_MULTIPLIERS = new long[CODES];
+    private static final long[] TURN_KEYS = new long[MAX_PLAYERS];
+    private static final long[] RANK_KEYS = new long[MAX_PLAYERS * MAX_PLAYERS];
+    private static final long[] PERSPECTIVE_KEYS = new long[MAX_PLAYERS];
+    private static final long STARTED_KEY;
+
+    static {
+        SplittableRandom random = new SplittableRandom(0x59_55_54_4E_4F_52_49L); // "YUTNORI"
+        for (int i = 0; i < CELL_KEYS.length; i++) CELL_KEYS[i] = random.nextLong();
+        for (int i = 0; i < TAG_MULTIPLIERS.length; i++) TAG_MULTIPLIERS[i] = random.nextLong() | 1L; // 홀수여야 곱해도 정보가 안 사라짐
+        for (int i = 0; i < TURN_KEYS.length; i++) TURN_KEYS[i] = random.nextLong();
+        for (int i = 0; i < RANK_KEYS.length; i++) RANK_KEYS[i] = random.nextLong();
+        for (int i = 0; i < PERSPECTIVE_KEYS.length; i++) PERSPECTIVE_KEYS[i] = random.nextLong();
+        STARTED_KEY = random.nextLong();
+    }
+
+    private Zobrist() {
+    }
+
+    // player의 말 하나가 (칸 코드, 태그)에 있을 때의 키
+    public static long pieceKey(int player, int cellCode, int tag) {
+        return CELL_KEYS[(player << 8) | cellCode] * TAG_MULTIPLIERS[tag];
+    }
+
+    public static long turnKey(int player) {
+        return TURN_KEYS[player];
+    }
+
+    public static long rankKey(int rank, int player) {
+        return RANK_KEYS[rank * MAX_PLAYERS + player];
+    }
+
+    public static long startedKey() {
+        return STARTED_KEY;
+    }
+
+    /**
+     * 평가 기준 플레이어가 다른 탐색끼리 치환표 항목을 섞지 않도록 해시에 XOR하는 키
+     */
+    public static long perspectiveKey(int player) {
+        return PERSPECTIVE_KEYS[player];
+    }
+}
@@ -0,0 +1,205 @@
+package server;
+
+import model.BoardSpec;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.Socket;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * ClientConnection
+ *
+ * 클라이언트 연결 하나를 맡는 작업 (GameServer가 연결마다 가상 스레드 하나에서 run)
+ * -- 요청을 읽어서 세션에 넘기는 블로킹 루프, 소켓 읽기에서 기다리는 동안 캐리어 스레드는 다른 연결을 처리
+ * -- 쓰기는 연결마다 따로 둔 보낼 큐와 쓰기 가상 스레드가 맡음: 세션은 lock 안에서 큐에 넣기만 하므로
+ *    느리거나 멈춘 클라이언트가 세션(상대 플레이어)을 붙잡지 않음, 큐가 넘치면 그 연결을 끊음
+ * -- 쓰기 스레드는 큐가 빌 때마다 flush (요청 하나의 메시지들이 한 번에 나감)
+ * -- 한 연결은 한 번에 세션 하나에 들어가고, LEAVE 뒤에는 새 세션을 만들거나 들어갈 수 있음
+ */
+final class ClientConnection implements Runnable {
+    private static final int MAX_PLAYERS = 4;
+    private static final int MAX_PIECES = 5;
+    // 보내지 못하고 쌓아 둘 수 있는 메시지 수 (요청 하나에 몇 개이므로 이만큼 밀리면 읽지 않는 클라이언트로 봄)
+    static final int MAX_QUEUED_MESSAGES = 1024;
+    // 쓰기 스레드에게 남은 메시지를 보내고 소켓을 닫으라는 표시
+    private static final byte[] END = new byte[0];
+
+    private final GameServer server;
+    private final Socket socket;
+    private final DataInputStream in;
+    private final DataOutputStream out;
+    private final BlockingQueue<byte[]> outbox = new ArrayBlockingQueue<>(MAX_QUEUED_MESSAGES);
+    private final Thread writer;
+    private volatile boolean broken;
+
+    private GameSession session;
+
+    ClientConnection(GameServer server, Socket socket) throws IOException {
+        this.server = server;
+        this.socket = socket;
+        socket.setTcpNoDelay(true); // 작은 메시지를 주고받으므로 Nagle 지연을 끔
+        this.in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+        this.out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+        this.writer = Thread.ofVirtual().name("game-client-writer").unstarted(this::writeLoop);
+        writer.start();
+    }
+
+    @Override
+    public void run() {
+        try {
+            while (!broken) {
+                int type = in.read();
+                if (type < 0) break;
+                if (!dispatch(type)) break;
+            }
+        } catch (EOFException e) {
+            // 요청 중간에 끊김
+        } catch (IOException e) {
+            if (!socket.isClosed()) {
+                System.err.println("연결 오류: " + e.getMessage());
+            }
+        } finally {
+            leaveSession();
+            finishWriting();
+            server.connectionClosed(this);
+        }
+    }
+
+    /**
+     * @return false면 연결을 닫음 (알 수 없는 요청은 뒤따르는 길이를 모르므로 계속 읽을 수 없음)
+     */
+    private boolean dispatch(int type) throws IOException {
+        switch (type) {
+            case Protocol.CREATE -> {
+                int specCode = in.readInt();
+                int players = in.readUnsignedByte();
+                int pieces = in.readUnsignedByte();
+                int flags = in.readUnsignedByte();
+                long seed = (flags & Protocol.SEEDED) != 0 ? in.readLong() : server.nextSeed();
+                BoardSpec spec;
+                try {
+                    spec = Protocol.specOf(specCode);
+                } catch (IOException e) {
+                    spec = null;
+                }
+                boolean hotseat = (flags & Protocol.HOTSEAT) != 0;
+                boolean fixedThrows = (flags & Protocol.FIXED_THROWS) != 0;
+                if (session != null || spec == null || players < 2 || players > MAX_PLAYERS
+                        || pieces < 1 || pieces > MAX_PIECES || fixedThrows && !hotseat) {
+                    reject(Protocol.ERR_BAD_REQUEST);
+                    return true;
+                }
+                session = server.createSession(spec, players, pieces, hotseat, fixedThrows, seed);
+                session.join(this);
+            }
+            case Protocol.JOIN -> {
+                GameSession target = server.getSession(in.readInt());
+                if (session != null || target == null) {
+                    reject(session != null ? Protocol.ERR_BAD_REQUEST : Protocol.ERR_NO_SESSION);
+                } else if (target.join(this) < 0) {
+                    reject(Protocol.ERR_SESSION_FULL);
+                } else {
+                    session = target;
+                }
+            }
+            case Protocol.THROW_RANDOM -> request(type, 0);
+            case Protocol.THROW_FIXED, Protocol.SELECT -> request(type, in.readUnsignedByte());
+            case Protocol.LEAVE -> leaveSession();
+            default -> {
+                reject(Protocol.ERR_BAD_REQUEST);
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void request(int type, int argument) {
+        if (session == null) {
+            reject(Protocol.ERR_NO_SESSION);
+            return;
+        }
+        server.requestHandled();
+        if (session.handle(this, type, argument)) {
+            server.sessionFinished(session);
+        }
+    }
+
+    // 세션 밖에서 난 오류: ERROR + READY(플래그 없음)
+    private void reject(int code) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(8);
+        bytes.write(Protocol.ERROR);
+        bytes.write(code);
+        bytes.write(Protocol.READY);
+        bytes.write(0);
+        bytes.write(0);
+        send(bytes.toByteArray());
+    }
+
+    private void leaveSession() {
+        if (session == null) return;
+        if (session.leave(this)) {
+            server.sessionAbandoned(session);
+        }
+        session = null;
+    }
+
+    // —— 쓰기 (어느 스레드에서나) —— //
+
+    /**
+     * 보낼 큐에 넣고 바로 돌아옴 (message는 이후에 바꾸지 않아야 함, 여러 연결이 같은 배열을 공유)
+     * 큐가 가득 차면 메시지를 읽지 않는 클라이언트이므로 연결을 끊음 (읽기 루프가 세션에서 빼고 정리)
+     */
+    void send(byte[] message) {
+        if (broken) return;
+        if (!outbox.offer(message)) {
+            server.connectionDropped();
+            close();
+        }
+    }
+
+    boolean isBroken() { return broken; }
+
+    void close() {
+        broken = true;
+        try {
+            socket.close();
+        } catch (IOException e) {
+            // 이미 닫힘
+        }
+        writer.interrupt(); // 큐를 기다리는 중이면 깨움 (소켓 쓰기 중이면 닫힌 소켓에서 예외로 끝남)
+    }
+
+    // 읽기 루프가 끝남: 이미 넣은 응답(마지막 ERROR 등)은 보내고 닫음
+    private void finishWriting() {
+        if (broken || !outbox.offer(END)) {
+            close();
+        }
+    }
+
+    private void writeLoop() {
+        try {
+            while (true) {
+                byte[] message = outbox.take();
+                do {
+                    if (message == END) {
+                        out.flush();
+                        return;
+                    }
+                    out.write(message);
+                } while ((message = outbox.poll()) != null);
+                out.flush();
+            }
+        } catch (InterruptedException | IOException e) {
+            // close()로 멈췄거나 상대가 끊음
+        } finally {
+            close();
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package server;
+
+import model.BoardSpec;
+import model.CompactGameState;
+import model.ThrowResult;
+import service.CompactMoveEngine;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.util.Arrays;
+
+/**
+ * GameClient
+ *
+ * GameServer에 접속하는 클라이언트 (한 스레드에서 사용)
+ * -- 요청 메서드는 보내기만 하고, 응답은 readMessage/awaitReady로 읽음
+ * -- 서버는 요청마다(LEAVE 제외) READY로 끝나는 메시지 묶음을 보내고, 같은 세션의 다른 플레이어가 움직여도 묶음이 옴
+ *    --> awaitReady로 READY까지 읽고 isMyTurn/isThrowEnabled/isPieceSelectable을 보고 다음 요청을 정함
+ * -- 받은 BOARD는 CompactGameState로 풀어 두므로 봇(GameBot)이나 CompactMoveEngine을 그대로 쓸 수 있음
+ */
+public class GameClient implements AutoCloseable {
+    private final Socket socket;
+    private final DataInputStream in;
+    private final DataOutputStream out;
+
+    // 세션 정보 (JOINED)
+    private int sessionId = -1;
+    private int playerId = -1;
+    private CompactGameState state;
+    private CompactMoveEngine engine;
+    private long seed;
+
+    // 마지막으로 받은 내용
+    private String status = "";
+    private int flags;
+    private int currentPlayer;
+    private int[] ranking;
+    private int lastError;
+
+    public GameClient(Socket socket) throws IOException {
+        this.socket = socket;
+        socket.setTcpNoDelay(true);
+        this.in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+        this.out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+    }
+
+    public static GameClient connect(int port) throws IOException {
+        return new GameClient(new Socket(InetAddress.getLoopbackAddress(), port));
+    }
+
+    // —— 요청 —— //
+
+    /**
+     * 새 세션을 만들고 들어감 (seed가 null이면 서버가 정함)
+     */
+    public void create(BoardSpec spec, int playersNum, int piecesNum, boolean hotseat, Long seed) throws IOException {
+        create(spec, playersNum, piecesNum, hotseat, false, seed);
+    }
+
+    /**
+     * @param fixedThrows 지정 던지기(throwFixed)를 쓸 수 있는 테스트용 세션 (hotseat일 때만 서버가 받아줌)
+     */
+    public void create(BoardSpec spec, int playersNum, int piecesNum, boolean hotseat, boolean fixedThrows, Long seed)
+            throws IOException {
+        out.writeByte(Protocol.CREATE);
+        out.writeInt(spec.getCode());
+        out.writeByte(playersNum);
+        out.writeByte(piecesNum);
+        out.writeByte((hotseat ? Protocol.HOTSEAT : 0) | (fixedThrows ? Protocol.FIXED_THROWS : 0)
+                | (seed != null ? Protocol.SEEDED : 0));
+        if (seed != null) {
+            out.writeLong(seed);
+        }
+        out.flush();
+    }
+
+    public void join(int sessionId) throws IOException {
+        out.writeByte(Protocol.JOIN);
+        out.writeInt(sessionId);
+        out.flush();
+    }
+
+    public void throwRandom() throws IOException {
+        out.writeByte(Protocol.THROW_RANDOM);
+        out.flush();
+    }
+
+    public void throwFixed(ThrowResult result) throws IOException {
+        out.writeByte(Protocol.THROW_FIXED);
+        out.writeByte(result.ordinal());
+        out.flush();
+    }
+
+    // 차례인 플레이어의 piece번 말 선택
+    public void select(int piece) throws IOException {
+        out.writeByte(Protocol.SELECT);
+        out.writeByte(piece);
+        out.flush();
+    }
+
+    // 세션에서 나감 (응답 없음)
+    public void leave() throws IOException {
+        out.writeByte(Protocol.LEAVE);
+        out.flush();
+        sessionId = -1;
+        playerId = -1;
+        state = null;
+        ranking = null;
+    }
+
+    // —— 응답 —— //
+
+    /**
+     * 메시지 하나를 읽고 내용을 반영
+     * @return 메시지 종류 (Protocol.JOINED, BOARD, ...)
+     */
+    public int readMessage() throws IOException {
+        int type = in.readUnsignedByte();
+        switch (type) {
+            case Protocol.JOINED -> {
+                sessionId = in.readInt();
+                playerId = in.readUnsignedByte();
+                BoardSpec spec = Protocol.specOf(in.readInt());
+                int players = in.readUnsignedByte();
+                int pieces = in.readUnsignedByte();
+                seed = in.readLong();
+                engine = CompactMoveEngine.forSpec(spec);
+                state = new CompactGameState(spec, engine.getBoard().getCellCount(), players, pieces);
+                ranking = null;
+            }
+            case Protocol.BOARD -> Protocol.readBoard(in, state);
+            case Protocol.STATUS -> status = in.readUTF();
+            case Protocol.READY -> {
+                flags = in.readUnsignedByte();
+                currentPlayer = in.readUnsignedByte();
+            }
+            case Protocol.RANKING -> {
+                ranking = new int[in.readUnsignedByte()];
+                for (int i = 0; i < ranking.length; i++) {
+                    ranking[i] = in.readUnsignedByte();
+                }
+            }
+            case Protocol.ERROR -> lastError = in.readUnsignedByte();
+            default -> throw new IOException("Unknown message type: " + type);
+        }
+        return type;
+    }
+
+    /**
+     * READY가 올 때까지 읽음
+     * @return 그 사이에 받은 ERROR 코드, 없으면 0
+     */
+    public int awaitReady() throws IOException {
+        lastError = 0;
+        while (readMessage() != Protocol.READY) {
+            // 계속 읽음
+        }
+        return lastError;
+    }
+
+    public int getSessionId() { return sessionId; }
+    public int getPlayerId() { return playerId; }
+    public long getSeed() { return seed; }
+    public String getStatus() { return status; }
+    public int getCurrentPlayer() { return currentPlayer; }
+    public boolean isThrowEnabled() { return (flags & Protocol.THROW_ENABLED) != 0; }
+    public boolean isPieceSelectable() { return (flags & Protocol.PIECE_SELECTABLE) != 0; }
+    public boolean isGameOver() { return ranking != null; }
+
+    // 내가 조작할 차례인지 (HOTSEAT이면 항상)
+    public boolean isMyTurn() {
+        return playerId == Protocol.ALL_PLAYERS || playerId == currentPlayer;
+    }
+
+    // 마지막으로 받은 국면 (다음 BOARD에서 바뀜)
+    public CompactGameState getState() { return state; }
+    public CompactMoveEngine getEngine() { return engine; }
+
+    public int[] getRanking() {
+        return ranking == null ? null : Arrays.copyOf(ranking, ranking.length);
+    }
+
+    @Override
+    public void close() throws IOException {
+        socket.close();
+    }
+}
@@ -0,0 +1,155 @@
+package server;
+
+import model.BoardSpec;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * GameServer
+ *
+ * 여러 게임 세션을 동시에 돌리는 TCP 서버 (메시지 형식은 Protocol)
+ * -- 연결마다 가상 스레드 하나 (Executors.newVirtualThreadPerTaskExecutor): 블로킹 소켓 코드 그대로 수천 개의 연결을 받음
+ * -- 세션은 id --> GameSession 맵, 게임이 끝나거나 모든 연결이 떠나면 맵에서 뺌
+ * -- 통계(세션 수, 요청 수, 말 이동 수)는 LongAdder로 연결 스레드끼리 경합 없이 셈
+ */
+public class GameServer implements AutoCloseable {
+    private final ServerSocket serverSocket;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Map<Integer, GameSession> sessions = new ConcurrentHashMap<>();
+    private final Set<ClientConnection> connections = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger nextSessionId = new AtomicInteger(1);
+    private final ReentrantLock seedLock = new ReentrantLock();
+    private final SplittableRandom seeds = new SplittableRandom();
+
+    private final LongAdder sessionsCreated = new LongAdder();
+    private final LongAdder sessionsFinished = new LongAdder();
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder moves = new LongAdder();
+    private final LongAdder connectionsAccepted = new LongAdder();
+    private final LongAdder connectionsDropped = new LongAdder();
+
+    private volatile boolean closed;
+
+    /**
+     * 루프백 주소의 port에 바인드 (0이면 빈 포트, getPort로 확인)
+     */
+    public GameServer(int port) throws IOException {
+        this(new InetSocketAddress(InetAddress.getLoopbackAddress(), port));
+    }
+
+    public GameServer(InetSocketAddress address) throws IOException {
+        this.serverSocket = new ServerSocket();
+        serverSocket.bind(address, 1024);
+    }
+
+    /**
+     * 연결 받기 시작 (받는 루프도 가상 스레드)
+     */
+    public void start() {
+        Thread.ofVirtual().name("game-server-accept").start(this::acceptLoop);
+    }
+
+    private void acceptLoop() {
+        while (!closed) {
+            try {
+                Socket socket = serverSocket.accept();
+                ClientConnection connection = new ClientConnection(this, socket);
+                connections.add(connection);
+                connectionsAccepted.increment();
+                executor.execute(connection);
+            } catch (IOException e) {
+                if (!closed) {
+                    System.err.println("연결을 받지 못했습니다: " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        serverSocket.close();
+        for (ClientConnection connection : connections) {
+            connection.close();
+        }
+        executor.close(); // 연결 스레드가 모두 끝날 때까지 기다림
+    }
+
+    public int getPort() { return serverSocket.getLocalPort(); }
+    public int getActiveSessions() { return sessions.size(); }
+    public int getActiveConnections() { return connections.size(); }
+    public long getSessionsCreated() { return sessionsCreated.sum(); }
+    public long getSessionsFinished() { return sessionsFinished.sum(); }
+    public long getRequests() { return requests.sum(); }
+    public long getMoves() { return moves.sum(); }
+    public long getConnectionsAccepted() { return connectionsAccepted.sum(); }
+    // 보낼 큐가 넘쳐서 끊은 연결 수
+    public long getConnectionsDropped() { return connectionsDropped.sum(); }
+
+    @Override
+    public String toString() {
+        return String.format("연결 %d개 (누적 %,d, 끊음 %,d), 세션 %d개 (생성 %,d, 종료 %,d), 요청 %,d, 말 이동 %,d",
+                getActiveConnections(), getConnectionsAccepted(), getConnectionsDropped(), getActiveSessions(),
+                getSessionsCreated(), getSessionsFinished(), getRequests(), getMoves());
+    }
+
+    // —— 연결 스레드에서 호출 —— //
+
+    GameSession createSession(BoardSpec spec, int playersNum, int piecesNum, boolean hotseat, boolean fixedThrows,
+                              long seed) {
+        int id = nextSessionId.getAndIncrement();
+        GameSession session = new GameSession(id, spec, playersNum, piecesNum, hotseat, fixedThrows, seed, moves);
+        sessions.put(id, session);
+        sessionsCreated.increment();
+        return session;
+    }
+
+    GameSession getSession(int id) {
+        return sessions.get(id);
+    }
+
+    long nextSeed() {
+        seedLock.lock();
+        try {
+            return seeds.nextLong();
+        } finally {
+            seedLock.unlock();
+        }
+    }
+
+    void requestHandled() {
+        requests.increment();
+    }
+
+    void sessionFinished(GameSession session) {
+        if (sessions.remove(session.getId(), session)) {
+            sessionsFinished.increment();
+        }
+    }
+
+    // 끝나기 전에 모든 연결이 떠난 세션
+    void sessionAbandoned(GameSession session) {
+        sessions.remove(session.getId(), session);
+    }
+
+    void connectionDropped() {
+        connectionsDropped.increment();
+    }
+
+    void connectionClosed(ClientConnection connection) {
+        connections.remove(connection);
+    }
+}
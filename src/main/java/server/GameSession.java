@@ -0,0 +1,151 @@
+package server;
+
+import controller.GameController;
+import model.BoardSpec;
+import model.Game;
+import model.PieceState;
+import model.Player;
+import model.ThrowResult;
+import service.ThrowModel;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * GameSession
+ *
+ * 서버의 게임 하나 (Game + GameController + RemoteGameView)
+ * -- 자리: 플레이어 id마다 연결 하나, HOTSEAT이면 만든 연결 하나가 모든 플레이어를 조작
+ * -- 요청은 연결 스레드에서 들어오므로 view의 lock을 잡고 GameController에 넘김
+ *    (lock 안에서는 응답을 연결의 보낼 큐에 넣기만 하므로 느린 클라이언트가 있어도 lock을 오래 잡지 않음)
+ * -- 자기 차례가 아닌 요청은 컨트롤러에 넘기지 않고 ERROR로 돌려줌
+ * -- 지정 던지기(THROW_FIXED)는 테스트용 버튼을 옮긴 것이므로 FIXED_THROWS로 만든 HOTSEAT 세션에서만 받음
+ *    (원격 플레이어가 매번 윷/모를 골라 던지지 못하게 함)
+ */
+final class GameSession {
+    private static final ThrowResult[] THROWS = ThrowResult.values();
+
+    private final int id;
+    private final Game game;
+    private final RemoteGameView view;
+    private final GameController controller;
+    private final ReentrantLock lock;
+    private final boolean hotseat;
+    private final boolean fixedThrows;
+    private final ClientConnection[] seats;
+    private final LongAdder moves; // 서버 전체의 말 이동 수
+
+    GameSession(int id, BoardSpec spec, int playersNum, int piecesNum, boolean hotseat, boolean fixedThrows,
+                long seed, LongAdder moves) {
+        String[] names = new String[playersNum];
+        for (int i = 0; i < playersNum; i++) {
+            names[i] = "플레이어" + (i + 1);
+        }
+        this.id = id;
+        this.game = new Game(playersNum, names, piecesNum, spec, ThrowModel.FAIR, seed);
+        this.view = new RemoteGameView(game);
+        this.controller = new GameController(game, view);
+        this.lock = view.getLock();
+        this.hotseat = hotseat;
+        this.fixedThrows = fixedThrows;
+        this.seats = new ClientConnection[playersNum];
+        this.moves = moves;
+    }
+
+    int getId() { return id; }
+    RemoteGameView getView() { return view; }
+
+    /**
+     * 빈 자리에 연결을 앉히고 현재 국면을 보냄
+     * @return 플레이어 id (HOTSEAT이면 Protocol.ALL_PLAYERS), 자리가 없으면 -1
+     */
+    int join(ClientConnection connection) {
+        lock.lock();
+        try {
+            int playerId = -1;
+            if (hotseat) {
+                if (seats[0] == null) {
+                    Arrays.fill(seats, connection);
+                    playerId = Protocol.ALL_PLAYERS;
+                }
+            } else {
+                for (int p = 0; p < seats.length && playerId < 0; p++) {
+                    if (seats[p] == null) {
+                        seats[p] = connection;
+                        playerId = p;
+                    }
+                }
+            }
+            if (playerId >= 0) {
+                view.attach(connection);
+                view.sendWelcome(connection, id, playerId);
+                view.sendReady(connection);
+            }
+            return playerId;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 연결이 떠남 (자리는 비지만 게임은 그대로), 남은 연결이 없으면 true
+     */
+    boolean leave(ClientConnection connection) {
+        lock.lock();
+        try {
+            for (int p = 0; p < seats.length; p++) {
+                if (seats[p] == connection) {
+                    seats[p] = null;
+                }
+            }
+            view.detach(connection);
+            return !view.hasConnections();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 던지기/말 선택 요청 처리 (type은 Protocol.THROW_RANDOM, THROW_FIXED, SELECT)
+     * @return 이 요청으로 게임이 끝났으면 true
+     */
+    boolean handle(ClientConnection connection, int type, int argument) {
+        lock.lock();
+        try {
+            if (view.isGameOver()) {
+                view.sendError(connection, Protocol.ERR_BAD_REQUEST);
+                view.sendReady(connection);
+                return false;
+            }
+            Player current = game.getCurrentPlayer();
+            if (seats[current.getId()] != connection) {
+                view.sendError(connection, Protocol.ERR_NOT_YOUR_TURN);
+                view.sendReady(connection);
+                return false;
+            }
+            boolean accepted = switch (type) {
+                case Protocol.THROW_RANDOM -> view.isThrowEnabled();
+                case Protocol.THROW_FIXED -> fixedThrows && view.isThrowEnabled() && argument < THROWS.length;
+                case Protocol.SELECT -> view.isPieceSelectable() && argument < current.getPieces().size()
+                        && current.getPieces().get(argument).getState() != PieceState.FINISHED;
+                default -> false;
+            };
+            if (!accepted) {
+                view.sendError(connection, Protocol.ERR_BAD_REQUEST); // 지금 할 수 없는 동작
+            } else if (type == Protocol.THROW_RANDOM) {
+                controller.onRandomThrowClicked();
+            } else if (type == Protocol.THROW_FIXED) {
+                controller.onFixedThrowClicked(THROWS[argument]);
+            } else {
+                long before = view.getBoardUpdates();
+                controller.onPieceClicked(current.getPieces().get(argument));
+                moves.add(view.getBoardUpdates() - before);
+            }
+            view.sendReady();
+            return view.isGameOver();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
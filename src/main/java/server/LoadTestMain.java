@@ -0,0 +1,151 @@
+package server;
+
+import model.BoardShape;
+import model.BoardSpec;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 루프백으로 GameServer에 부하를 주는 클라이언트
+ * -- 클라이언트마다 가상 스레드 하나, 연결 하나로 HOTSEAT 세션을 만들어 무작위로 끝까지 두고 나가기를 반복
+ * -- 초당 끝낸 세션 수, 초당 말 이동 수, 요청 왕복 시간(평균)을 출력
+ * 사용법: LoadTestMain [클라이언트 수] [클라이언트당 게임 수] [보드모양] [플레이어 수] [말 수] [포트]
+ *   포트를 주지 않으면 같은 프로세스에 서버를 띄움
+ * 예) LoadTestMain 1000 20 SQUARE 2 4
+ */
+public class LoadTestMain {
+    public static void main(String[] args) throws Exception {
+        int clients = args.length > 0 ? Integer.parseInt(args[0]) : 200;
+        int gamesPerClient = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+        BoardSpec spec = args.length > 2 ? BoardSpec.parse(args[2]) : BoardShape.SQUARE.getSpec();
+        int players = args.length > 3 ? Integer.parseInt(args[3]) : 2;
+        int pieces = args.length > 4 ? Integer.parseInt(args[4]) : 4;
+
+        GameServer server = null;
+        int port;
+        if (args.length > 5) {
+            port = Integer.parseInt(args[5]);
+        } else {
+            server = new GameServer(0);
+            server.start();
+            port = server.getPort();
+        }
+
+        LoadTestResult result = run(port, clients, gamesPerClient, spec, players, pieces, 42L);
+        System.out.println(result);
+        if (server != null) {
+            System.out.println("서버: " + server);
+            server.close();
+        }
+    }
+
+    /**
+     * clients개의 클라이언트가 동시에 gamesPerClient판씩 두고 결과를 모음
+     */
+    public static LoadTestResult run(int port, int clients, int gamesPerClient, BoardSpec spec,
+                                     int players, int pieces, long seed) throws Exception {
+        LongAdder sessions = new LongAdder();
+        LongAdder moves = new LongAdder();
+        LongAdder requests = new LongAdder();
+        AtomicLong requestNanos = new AtomicLong();
+        SplittableRandom seeds = new SplittableRandom(seed);
+
+        long begin = System.nanoTime();
+        List<Future<?>> futures = new ArrayList<>(clients);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int c = 0; c < clients; c++) {
+                SplittableRandom random = seeds.split();
+                futures.add(executor.submit(() -> {
+                    playGames(port, gamesPerClient, spec, players, pieces, random,
+                            sessions, moves, requests, requestNanos);
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(); // 클라이언트에서 난 예외를 그대로 전달
+            }
+        }
+        long elapsed = System.nanoTime() - begin;
+        return new LoadTestResult(clients, sessions.sum(), moves.sum(), requests.sum(), requestNanos.get(), elapsed);
+    }
+
+    private static void playGames(int port, int games, BoardSpec spec, int players, int pieces,
+                                  SplittableRandom random, LongAdder sessions, LongAdder moves,
+                                  LongAdder requests, AtomicLong requestNanos) throws IOException {
+        int[] choices = new int[pieces];
+        long nanos = 0;
+        long count = 0;
+        try (GameClient client = GameClient.connect(port)) {
+            for (int g = 0; g < games; g++) {
+                client.create(spec, players, pieces, true, random.nextLong());
+                client.awaitReady();
+                while (!client.isGameOver()) {
+                    long sent = System.nanoTime();
+                    if (client.isThrowEnabled()) {
+                        client.throwRandom();
+                    } else if (client.isPieceSelectable()) {
+                        int movable = client.getEngine().legalMoves(client.getState(), client.getCurrentPlayer(), choices);
+                        client.select(choices[random.nextInt(movable)]);
+                        moves.increment();
+                    } else {
+                        throw new IOException("Server is not ready: " + client.getStatus());
+                    }
+                    int error = client.awaitReady();
+                    if (error != 0) {
+                        throw new IOException("Server rejected request: " + error);
+                    }
+                    nanos += System.nanoTime() - sent;
+                    count++;
+                }
+                client.leave();
+                sessions.increment();
+            }
+        }
+        requests.add(count);
+        requestNanos.addAndGet(nanos);
+    }
+
+    /**
+     * 부하 테스트 결과
+     */
+    public static final class LoadTestResult {
+        private final int clients;
+        private final long sessions;
+        private final long moves;
+        private final long requests;
+        private final long requestNanos;
+        private final long elapsedNanos;
+
+        LoadTestResult(int clients, long sessions, long moves, long requests, long requestNanos, long elapsedNanos) {
+            this.clients = clients;
+            this.sessions = sessions;
+            this.moves = moves;
+            this.requests = requests;
+            this.requestNanos = requestNanos;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        public long getSessions() { return sessions; }
+        public long getMoves() { return moves; }
+        public long getRequests() { return requests; }
+        public long getElapsedNanos() { return elapsedNanos; }
+        public double getSessionsPerSecond() { return sessions / (elapsedNanos / 1e9); }
+        public double getMovesPerSecond() { return moves / (elapsedNanos / 1e9); }
+        public double getMeanRoundTripMicros() { return requests == 0 ? 0.0 : requestNanos / 1e3 / requests; }
+
+        @Override
+        public String toString() {
+            return String.format("클라이언트 %d개: 세션 %,d개, 말 이동 %,d번, %.2f초 --> 초당 세션 %,.0f개, 초당 이동 %,.0f번, 평균 왕복 %.1fµs",
+                    clients, sessions, moves, elapsedNanos / 1e9, getSessionsPerSecond(), getMovesPerSecond(),
+                    getMeanRoundTripMicros());
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package server;
+
+import model.BoardSpec;
+import model.CompactGameState;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * Protocol
+ *
+ * 게임 서버와 클라이언트가 TCP로 주고받는 메시지 형식 (모든 정수는 big-endian)
+ * -- 메시지 = 종류 1바이트 + 내용 (종류마다 길이가 정해져 있고, 문자열만 DataOutput.writeUTF 형식)
+ *
+ * 클라이언트 --> 서버
+ * -- CREATE       판 형태 코드 i32 (BoardSpec.getCode), 플레이어 수 u8, 말 수 u8, 플래그 u8 (HOTSEAT, SEEDED, FIXED_THROWS), [seed i64]
+ * -- JOIN         세션 id i32
+ * -- THROW_RANDOM
+ * -- THROW_FIXED  ThrowResult.ordinal u8 (FIXED_THROWS로 만든 세션에서만, 아니면 ERR_BAD_REQUEST)
+ * -- SELECT       말 번호 u8 (차례인 플레이어의 말)
+ * -- LEAVE
+ *
+ * 서버 --> 클라이언트 (RemoteGameView가 IGameView 호출을 그대로 옮김)
+ * -- JOINED       세션 id i32, 내 플레이어 id u8 (HOTSEAT면 ALL_PLAYERS), 판 형태 코드 i32, 플레이어 수 u8, 말 수 u8, seed i64
+ * -- BOARD        말마다 (칸 코드 u8, 태그 u8), 현재 차례 u8, 도착한 플레이어 수 u8, 도착 순서대로 플레이어 id u8...
+ * -- STATUS       상태 메시지 (UTF)
+ * -- READY        플래그 u8 (THROW_ENABLED, PIECE_SELECTABLE), 현재 차례 u8 --> 요청 하나를 다 처리했다는 표시
+ * -- RANKING      플레이어 수 u8, 순위대로 플레이어 id u8...
+ * -- ERROR        오류 코드 u8
+ * 2인, 말 4개 게임의 BOARD가 20바이트, 말 선택 한 번의 왕복이 보통 40바이트 안쪽
+ */
+public final class Protocol {
+    // 클라이언트 --> 서버
+    public static final int CREATE = 1;
+    public static final int JOIN = 2;
+    public static final int THROW_RANDOM = 3;
+    public static final int THROW_FIXED = 4;
+    public static final int SELECT = 5;
+    public static final int LEAVE = 6;
+
+    // 서버 --> 클라이언트
+    public static final int JOINED = 0x81;
+    public static final int BOARD = 0x82;
+    public static final int STATUS = 0x83;
+    public static final int READY = 0x84;
+    public static final int RANKING = 0x85;
+    public static final int ERROR = 0x86;
+
+    // CREATE 플래그
+    public static final int HOTSEAT = 1;  // 한 연결이 모든 플레이어를 조작
+    public static final int SEEDED = 2;   // seed가 뒤따름
+    public static final int FIXED_THROWS = 4; // 지정 던지기(THROW_FIXED) 허용, 테스트용이라 HOTSEAT 세션에서만 받음
+    // READY 플래그
+    public static final int THROW_ENABLED = 1;
+    public static final int PIECE_SELECTABLE = 2;
+
+    public static final int ALL_PLAYERS = 0xFF;
+
+    // ERROR 코드
+    public static final int ERR_BAD_REQUEST = 1;
+    public static final int ERR_NO_SESSION = 2;
+    public static final int ERR_SESSION_FULL = 3;
+    public static final int ERR_NOT_YOUR_TURN = 4;
+
+    private Protocol() {
+    }
+
+    public static BoardSpec specOf(int code) throws IOException {
+        try {
+            return BoardSpec.ofCode(code);
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Unknown board spec: " + code, e);
+        }
+    }
+
+    /**
+     * BOARD 내용 쓰기 (종류 바이트 제외)
+     */
+    public static void writeBoard(DataOutputStream out, CompactGameState state) throws IOException {
+        for (int p = 0; p < state.getPlayersNum(); p++) {
+            for (int i = 0; i < state.getPiecesNum(); i++) {
+                out.writeByte(state.getCellCode(p, i));
+                out.writeByte(state.getRouteTag(p, i));
+            }
+        }
+        out.writeByte(state.getCurrentPlayer());
+        out.writeByte(state.getFinishedCount());
+        for (int rank = 0; rank < state.getFinishedCount(); rank++) {
+            out.writeByte(state.getFinishedPlayer(rank));
+        }
+    }
+
+    /**
+     * BOARD 내용을 state(같은 설정의 국면)에 읽어 들임
+     */
+    public static void readBoard(DataInputStream in, CompactGameState state) throws IOException {
+        CompactGameState fresh = new CompactGameState(state.getSpec(), state.getCellCount(),
+                state.getPlayersNum(), state.getPiecesNum());
+        for (int p = 0; p < state.getPlayersNum(); p++) {
+            for (int i = 0; i < state.getPiecesNum(); i++) {
+                int code = in.readUnsignedByte();
+                fresh.setPiece(p, i, code, in.readUnsignedByte());
+            }
+        }
+        fresh.setCurrentPlayer(in.readUnsignedByte());
+        fresh.setStarted(true);
+        int finished = in.readUnsignedByte();
+        for (int rank = 0; rank < finished; rank++) {
+            fresh.addFinishedPlayer(in.readUnsignedByte());
+        }
+        state.copyFrom(fresh);
+    }
+}
@@ -0,0 +1,230 @@
+package server;
+
+import model.CompactGameState;
+import model.Game;
+import model.Player;
+import view.IGameView;
+import view.IGameViewListener;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * RemoteGameView
+ *
+ * 창 대신 세션에 접속한 클라이언트들에게 화면 갱신을 보내는 IGameView (메시지 형식은 Protocol 참고)
+ * -- updateBoard/updateStatus/showRankingDialog는 바로 메시지로 보내고, 버튼 상태(던지기/말 선택)는 모아 뒀다가
+ *    요청 하나를 다 처리한 뒤 READY 하나로 보냄 (클라이언트는 READY를 받고 다음 요청을 정함)
+ * -- 보낼 메시지는 한 번만 만들고 모든 연결의 보낼 큐에 넣음 (소켓 쓰기와 flush는 연결의 쓰기 스레드가 함)
+ * -- 서버에는 보여 줄 애니메이션이 없으므로 delayNextTurn은 기다리지 않고 바로 실행
+ * -- GameController 호출은 모두 lock을 잡고 함 (연결마다 스레드가 따로 있으므로), runOnUiThread도 lock을 잡고 실행
+ */
+public class RemoteGameView implements IGameView {
+    private final Game game;
+    private final CompactGameState state;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final List<ClientConnection> connections = new CopyOnWriteArrayList<>();
+
+    // 메시지 하나를 만드는 버퍼 (lock 안에서만 씀)
+    private final ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+    private final DataOutputStream message = new DataOutputStream(bytes);
+
+    private IGameViewListener listener;
+    private boolean throwEnabled;
+    private boolean pieceSelectable;
+    private String lastStatus = "";
+    private List<Player> ranking;
+    private long boardUpdates;
+
+    public RemoteGameView(Game game) {
+        this.game = game;
+        this.state = CompactGameState.of(game);
+    }
+
+    @Override
+    public void setGameViewListener(IGameViewListener listener) {
+        this.listener = listener;
+    }
+
+    @Override
+    public void showWindow() {
+        // 창 없음 (접속한 클라이언트는 JOINED 뒤에 현재 국면을 받음)
+    }
+
+    @Override
+    public void updateBoard() {
+        boardUpdates++;
+        state.captureFrom(game);
+        begin(Protocol.BOARD);
+        try {
+            Protocol.writeBoard(message, state);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // 메모리 버퍼라서 나지 않음
+        }
+        emit(null);
+    }
+
+    @Override
+    public void updateStatus(String message) {
+        lastStatus = message;
+        writeStatus(null);
+    }
+
+    @Override
+    public void delayNextTurn(Runnable action, int delayMillis) {
+        action.run();
+    }
+
+    @Override
+    public void runOnUiThread(Runnable action) {
+        lock.lock();
+        try {
+            action.run();
+            sendReady();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void setPieceSelectable(boolean enabled) {
+        this.pieceSelectable = enabled;
+    }
+
+    @Override
+    public void setThrowEnabled(boolean enabled) {
+        this.throwEnabled = enabled;
+    }
+
+    @Override
+    public void showRankingDialog(List<Player> ranking) {
+        this.ranking = List.copyOf(ranking);
+        throwEnabled = false;
+        pieceSelectable = false;
+        writeRanking(null);
+    }
+
+    // —— 세션에서 쓰는 기능 (lock을 잡은 상태에서 호출) —— //
+
+    ReentrantLock getLock() { return lock; }
+    IGameViewListener getListener() { return listener; }
+
+    void attach(ClientConnection connection) {
+        connections.add(connection);
+    }
+
+    void detach(ClientConnection connection) {
+        connections.remove(connection);
+    }
+
+    boolean hasConnections() {
+        return !connections.isEmpty();
+    }
+
+    /**
+     * 방금 들어온 연결에게 세션 정보와 현재 국면, 상태 메시지, (끝났으면) 순위를 보냄
+     */
+    void sendWelcome(ClientConnection target, int sessionId, int playerId) {
+        begin(Protocol.JOINED);
+        try {
+            message.writeInt(sessionId);
+            message.writeByte(playerId);
+            message.writeInt(game.getBoard().getSpec().getCode());
+            message.writeByte(game.getPlayers().size());
+            message.writeByte(game.getPlayers().get(0).getPieces().size());
+            message.writeLong(game.getSeed());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        emit(target);
+        state.captureFrom(game);
+        begin(Protocol.BOARD);
+        try {
+            Protocol.writeBoard(message, state);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        emit(target);
+        writeStatus(target);
+        if (ranking != null) {
+            writeRanking(target);
+        }
+    }
+
+    void sendError(ClientConnection target, int code) {
+        begin(Protocol.ERROR);
+        bytes.write(code);
+        emit(target);
+    }
+
+    /**
+     * 요청 하나를 다 처리했다는 READY를 모든 연결에 보냄
+     */
+    void sendReady() {
+        writeReady();
+        emit(null);
+    }
+
+    // 한 연결에게만 READY를 보냄
+    void sendReady(ClientConnection target) {
+        writeReady();
+        emit(target);
+    }
+
+    public boolean isThrowEnabled() { return throwEnabled; }
+    public boolean isPieceSelectable() { return pieceSelectable; }
+    public String getLastStatus() { return lastStatus; }
+    public boolean isGameOver() { return ranking != null; }
+
+    // 말이 움직인 횟수 (updateBoard 호출 수)
+    public long getBoardUpdates() { return boardUpdates; }
+
+    // —— 메시지 만들기 —— //
+
+    private void writeReady() {
+        begin(Protocol.READY);
+        bytes.write((throwEnabled ? Protocol.THROW_ENABLED : 0) | (pieceSelectable ? Protocol.PIECE_SELECTABLE : 0));
+        bytes.write(game.getCurrentPlayer().getId());
+    }
+
+    private void writeStatus(ClientConnection target) {
+        begin(Protocol.STATUS);
+        try {
+            message.writeUTF(lastStatus);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        emit(target);
+    }
+
+    private void writeRanking(ClientConnection target) {
+        begin(Protocol.RANKING);
+        bytes.write(ranking.size());
+        for (Player player : ranking) {
+            bytes.write(player.getId());
+        }
+        emit(target);
+    }
+
+    private void begin(int type) {
+        bytes.reset();
+        bytes.write(type);
+    }
+
+    // target이 null이면 모든 연결에 보냄 (큐에 넣기만 하므로 lock 안에서 소켓을 기다리지 않음)
+    private void emit(ClientConnection target) {
+        byte[] data = bytes.toByteArray();
+        if (target != null) {
+            target.send(data);
+            return;
+        }
+        for (ClientConnection connection : connections) {
+            connection.send(data);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package server;
+
+/**
+ * 콘솔에서 게임 서버를 띄우는 진입점 (루프백 주소에만 바인드)
+ * 사용법: ServerMain [포트] [통계 출력 간격(초)]
+ * 예) ServerMain 7777 10
+ */
+public class ServerMain {
+    public static void main(String[] args) throws Exception {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : 7777;
+        int reportSeconds = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+
+        GameServer server = new GameServer(port);
+        server.start();
+        System.out.println("게임 서버 시작: 127.0.0.1:" + server.getPort());
+        while (true) {
+            Thread.sleep(reportSeconds * 1000L);
+            System.out.println(server);
+        }
+    }
+}
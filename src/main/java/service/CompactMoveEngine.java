@@ -0,0 +1,354 @@
+package service;
+
+import model.Board;
+import model.BoardSpec;
+import model.Cell;
+import model.CompactGameState;
+import model.RouteTag;
+import model.ThrowResult;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * CompactMoveEngine
+ *
+ * CompactGameState 위에서 MoveActionService / Game과 같은 규칙으로 말을 옮기는 엔진 (탐색 봇, 대량 플레이아웃용)
+ * -- 전진은 RouteTable 조회, 빽도는 (칸, 태그) --> (직전 칸, 직전 태그) 테이블 조회로 처리하고 객체를 만들지 않음
+ * -- 업기: 같은 플레이어의 ON_BOARD 말이 같은 칸에 있으면 한 그룹으로 함께 움직이고 태그(경로)를 공유함
+ * -- 잡기: 도착 칸의 다른 플레이어 ON_BOARD 말은 모두 NOT_STARTED로 돌아감
+ * 보드 모양별로 한 번만 계산해서 공유하는 불변 객체
+ */
+public final class CompactMoveEngine {
+    private static final Map<BoardSpec, CompactMoveEngine> CACHE = new ConcurrentHashMap<>();
+    private static final int TAG_KINDS = 256; // RouteTag는 1바이트
+
+    private final Board board;
+    private final RouteTable routes;
+    private final int cellCount;
+    private final int startIndex;
+    // (칸 * 256 + 태그) --> 경로상 직전 칸 인덱스 (없으면 -1) / 직전 칸에서의 태그
+    private final int[] prevCell;
+    private final int[] prevTag;
+    private final int[] stepsToStart; // 칸별로 출발점까지 최소 이동 칸 수 (평가 함수용)
+
+    /**
+     * 보드 모양별 엔진 반환 (없으면 이 board로 한 번 계산해서 캐시)
+     */
+    public static CompactMoveEngine forBoard(Board board) {
+        CompactMoveEngine engine = CACHE.get(board.getSpec());
+        return engine != null ? engine : CACHE.computeIfAbsent(board.getSpec(), spec -> new CompactMoveEngine(board));
+    }
+
+    public static CompactMoveEngine forSpec(BoardSpec spec) {
+        CompactMoveEngine engine = CACHE.get(spec);
+        return engine != null ? engine : CACHE.computeIfAbsent(spec, s -> new CompactMoveEngine(new Board(s)));
+    }
+
+    private CompactMoveEngine(Board board) {
+        this.board = board;
+        this.routes = RouteTable.forBoard(board);
+        this.cellCount = board.getCellCount();
+        this.startIndex = board.getStartCell().getIndex();
+
+        // [1] 가능한 모든 길(지름길 꼭짓점 x 중앙에서의 방향)을 출발점부터 한 바퀴 따라가며 직전 칸 기록
+        this.prevCell = new int[cellCount * TAG_KINDS];
+        this.prevTag = new int[cellCount * TAG_KINDS];
+        Arrays.fill(prevCell, -1);
+        int sides = board.getSides();
+        for (int diagonal = 0; diagonal <= sides - 2; diagonal++) {
+            for (int toStart = 0; toStart <= 1; toStart++) {
+                recordRoute(diagonal | (toStart == 1 ? RouteTag.TO_START : 0));
+            }
+        }
+
+        // [2] 출발점까지의 최소 거리 (분기마다 더 짧은 쪽을 고를 수 있다고 보는 낙관적 거리)
+        this.stepsToStart = new int[cellCount];
+        Arrays.fill(stepsToStart, cellCount + 1);
+        stepsToStart[startIndex] = 0;
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (int c = 0; c < cellCount; c++) {
+                if (c == startIndex) continue;
+                Cell cell = board.getCell(c);
+                for (int k = 0; k < cell.getNextCellCount(); k++) {
+                    int via = stepsToStart[cell.getNextCell(k).getIndex()] + 1;
+                    if (via < stepsToStart[c]) {
+                        stepsToStart[c] = via;
+                        changed = true;
+                    }
+                }
+            }
+        }
+    }
+
+    // RouteTag.pathTo와 같은 규칙으로 routeTag가 가리키는 길을 따라가며 (칸, 그 시점의 태그)마다 직전 칸을 기록
+    private void recordRoute(int routeTag) {
+        int diagonal = RouteTag.diagonalOf(routeTag);
+        Cell current = board.getStartCell();
+        int tag = RouteTag.PERIMETER;
+        for (int step = 0; step <= cellCount; step++) {
+            Cell next;
+            if (current.isMiddleVertex() && current.getSideIndex() == diagonal) {
+                next = current.getNextCell(1);
+            } else if (current.isCenter() && RouteTag.isToStart(routeTag)) {
+                next = current.getNextCell(1);
+            } else {
+                next = current.getNextCell(0);
+            }
+            int nextTag = RouteTag.next(tag, current, next);
+            int key = next.getIndex() * TAG_KINDS + nextTag;
+            prevCell[key] = current.getIndex();
+            prevTag[key] = tag;
+            if (next.isStartCell()) {
+                return;
+            }
+            current = next;
+            tag = nextTag;
+        }
+    }
+
+    // —— 조회 —— //
+
+    public Board getBoard() { return board; }
+
+    // 출발점까지의 최소 이동 칸 수
+    public int getStepsToStart(int cellIndex) { return stepsToStart[cellIndex]; }
+
+    /**
+     * 말 하나가 도착하기까지 남은 최소 이동 칸 수 (출발 전이면 한 바퀴 전체, 도착했으면 0)
+     */
+    public int remainingSteps(CompactGameState state, int player, int piece) {
+        int code = state.getCellCode(player, piece);
+        if (code == CompactGameState.FINISHED_CODE) {
+            return 0;
+        }
+        if (code == CompactGameState.NOT_STARTED_CODE) {
+            return fullLapSteps();
+        }
+        return stepsToStart[code - 1] + 1; // 출발점에 닿은 뒤 한 칸 더 가야 도착
+    }
+
+    // 출발 전 말이 도착하기까지의 최소 이동 칸 수
+    public int fullLapSteps() {
+        Cell start = board.getStartCell();
+        int best = Integer.MAX_VALUE;
+        for (int k = 0; k < start.getNextCellCount(); k++) {
+            best = Math.min(best, stepsToStart[start.getNextCell(k).getIndex()] + 1);
+        }
+        return best + 1;
+    }
+
+    /**
+     * Player.hasNoMovablePiece와 같은 판정
+     * -- 모든 말이 출발 전이면 true
+     * -- 빽도인데 보드 위의 말이 모두 '도 --> 빽도'로 출발점에 돌아온 말뿐이면 true
+     */
+    public boolean hasNoMovablePiece(CompactGameState state, int player, ThrowResult throwResult) {
+        int piecesNum = state.getPiecesNum();
+        boolean allNotStarted = true;
+        for (int i = 0; i < piecesNum; i++) {
+            if (state.getCellCode(player, i) != CompactGameState.NOT_STARTED_CODE) {
+                allNotStarted = false;
+                break;
+            }
+        }
+        if (allNotStarted) {
+            return true;
+        }
+        if (throwResult != ThrowResult.BACK_DO) {
+            return false;
+        }
+        for (int i = 0; i < piecesNum; i++) {
+            int code = state.getCellCode(player, i);
+            if (code == CompactGameState.NOT_STARTED_CODE || code == CompactGameState.FINISHED_CODE) continue;
+            if (code - 1 != startIndex || state.getRouteTag(player, i) != RouteTag.REBOUND) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 선택할 수 있는 말 번호를 out에 채우고 개수를 반환 (윷 결과를 보지 않음, 빽도도 모든 말을 후보로 넣음)
+     * -- 같은 칸의 업힌 말, 출발 전인 말들은 결과가 같으므로 대표 하나씩만 넣음
+     */
+    public int legalMoves(CompactGameState state, int player, int[] out) {
+        int piecesNum = state.getPiecesNum();
+        int count = 0;
+        for (int i = 0; i < piecesNum; i++) {
+            int code = state.getCellCode(player, i);
+            if (code == CompactGameState.FINISHED_CODE) continue;
+            boolean duplicate = false;
+            for (int j = 0; j < i; j++) {
+                if (state.getCellCode(player, j) == code) {
+                    duplicate = true;
+                    break;
+                }
+            }
+            if (!duplicate) {
+                out[count++] = i;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * throwResult로 둘 수 있는 서로 다른 수를 out에 채우고 개수를 반환 (Player.legalMoves와 같은 결과)
+     * -- 빽도: 움직일 말이 없으면 0개, 아니면 뒤로 갈 수 있는 말 묶음마다 하나 + 제자리인 말(출발 전, 출발점으로 되돌아온 말) 대표 하나
+     * -- 그 외: legalMoves(state, player, out)와 같음
+     */
+    public int legalMoves(CompactGameState state, int player, ThrowResult throwResult, int[] out) {
+        if (throwResult != ThrowResult.BACK_DO) {
+            return legalMoves(state, player, out);
+        }
+        if (hasNoMovablePiece(state, player, throwResult)) {
+            return 0;
+        }
+        int piecesNum = state.getPiecesNum();
+        int count = 0;
+        boolean stayAdded = false;
+        for (int i = 0; i < piecesNum; i++) {
+            int code = state.getCellCode(player, i);
+            if (code == CompactGameState.FINISHED_CODE) continue;
+            if (staysOnBackDo(state, player, i)) {
+                if (!stayAdded) {
+                    out[count++] = i;
+                    stayAdded = true;
+                }
+                continue;
+            }
+            boolean duplicate = false;
+            for (int j = 0; j < i; j++) {
+                if (state.getCellCode(player, j) == code) {
+                    duplicate = true;
+                    break;
+                }
+            }
+            if (!duplicate) {
+                out[count++] = i;
+            }
+        }
+        return count;
+    }
+
+    // 빽도로 골라도 움직이지 않는 말 (출발 전, '도 --> 빽도'로 출발점에 되돌아온 말)
+    private boolean staysOnBackDo(CompactGameState state, int player, int piece) {
+        int code = state.getCellCode(player, piece);
+        return code == CompactGameState.NOT_STARTED_CODE
+                || code - 1 == startIndex && state.getRouteTag(player, piece) == RouteTag.REBOUND;
+    }
+
+    // —— 이동 —— //
+
+    /**
+     * player의 piece번 말(업힌 말 포함)을 throwResult만큼 옮기고 잡기/업기/도착/순위 기록까지 적용
+     * (차례는 넘기지 않음, 필요하면 advanceTurn 호출)
+     */
+    public void apply(CompactGameState state, int player, int piece, ThrowResult throwResult) {
+        int code = state.getCellCode(player, piece);
+        if (code == CompactGameState.FINISHED_CODE) {
+            throw new IllegalArgumentException("Piece " + piece + " of player " + player + " already finished");
+        }
+        boolean notStarted = code == CompactGameState.NOT_STARTED_CODE;
+        int tag = state.getRouteTag(player, piece);
+        int from = notStarted ? startIndex : code - 1;
+
+        int dest;
+        int newTag;
+        if (throwResult == ThrowResult.BACK_DO) {
+            if (notStarted || tag == RouteTag.REBOUND) {
+                // 출발 전인 말, 이미 출발점으로 되돌아온 말은 그대로
+                dest = startIndex;
+                newTag = tag;
+                if (notStarted) {
+                    return;
+                }
+            } else {
+                int key = from * TAG_KINDS + tag;
+                dest = prevCell[key];
+                // 도(첫 칸)에서 빽도 --> 출발점, 경로는 [출발점]만 남음
+                newTag = dest == startIndex ? RouteTag.REBOUND : prevTag[key];
+            }
+        } else {
+            int prev = notStarted || tag == RouteTag.REBOUND ? -1 : prevCell[from * TAG_KINDS + tag];
+            int entry = routes.entryIndex(from, routes.arrivalOf(from, prev, notStarted), throwResult.getSteps());
+            if (routes.isFinish(entry)) {
+                moveGroup(state, player, piece, code, CompactGameState.FINISHED_CODE, RouteTag.PERIMETER);
+                recordFinish(state, player);
+                return;
+            }
+            dest = routes.destination(entry, from);
+            newTag = notStarted ? RouteTag.PERIMETER : tag;
+            int hopFrom = from;
+            for (int k = 0; k < routes.hopCount(entry); k++) {
+                int hop = routes.hop(entry, k);
+                newTag = RouteTag.next(newTag, board.getCell(hopFrom), board.getCell(hop));
+                hopFrom = hop;
+            }
+        }
+
+        moveGroup(state, player, piece, code, dest + 1, newTag);
+
+        // 잡기: 도착 칸의 다른 플레이어 말은 출발 전으로
+        int playersNum = state.getPlayersNum();
+        int piecesNum = state.getPiecesNum();
+        for (int other = 0; other < playersNum; other++) {
+            if (other == player || !state.isOccupied(other, dest)) continue;
+            for (int j = 0; j < piecesNum; j++) {
+                if (state.getCellCode(other, j) == dest + 1) {
+                    state.setPiece(other, j, CompactGameState.NOT_STARTED_CODE, RouteTag.PERIMETER);
+                }
+            }
+        }
+        // 업기: 도착 칸에 있던 내 말도 움직인 그룹의 경로(태그)를 따름
+        for (int j = 0; j < piecesNum; j++) {
+            if (state.getCellCode(player, j) == dest + 1) {
+                state.setPiece(player, j, dest + 1, newTag);
+            }
+        }
+    }
+
+    /**
+     * Game.advanceTurn과 같이 도착하지 않은 다음 플레이어로 차례를 넘김
+     */
+    public void advanceTurn(CompactGameState state) {
+        if (state.isGameOver()) {
+            return;
+        }
+        int playersNum = state.getPlayersNum();
+        int current = state.getCurrentPlayer();
+        do {
+            current = (current + 1) % playersNum;
+        } while (state.isFinishedPlayer(current));
+        state.setCurrentPlayer(current);
+    }
+
+    // 출발 전인 말은 혼자, 보드 위의 말은 같은 칸의 내 말 전체를 옮김
+    private static void moveGroup(CompactGameState state, int player, int piece, int fromCode, int toCode, int tag) {
+        if (fromCode == CompactGameState.NOT_STARTED_CODE) {
+            state.setPiece(player, piece, toCode, tag);
+            return;
+        }
+        int piecesNum = state.getPiecesNum();
+        for (int j = 0; j < piecesNum; j++) {
+            if (state.getCellCode(player, j) == fromCode) {
+                state.setPiece(player, j, toCode, tag);
+            }
+        }
+    }
+
+    private static void recordFinish(CompactGameState state, int player) {
+        int piecesNum = state.getPiecesNum();
+        for (int j = 0; j < piecesNum; j++) {
+            if (state.getCellCode(player, j) != CompactGameState.FINISHED_CODE) {
+                return;
+            }
+        }
+        if (!state.isFinishedPlayer(player)) {
+            state.addFinishedPlayer(player);
+        }
+    }
+}
@@ -8,11 +8,12 @@ import java.util.List;
 
 public class MoveActionService {
     private final RuleEngine ruleEngine;
-    private final BoardShape boardShape;
+    private final RouteTable routes; // 보드 모양별로 미리 계산된 이동 경로 (생성할 때 한 번 찾아 둠)
+    private final List<Piece> capturedScratch = new ArrayList<>(); // 잡기 처리 중 칸의 말 목록 복사용 (매번 새로 만들지 않음)
 
-    public MoveActionService(RuleEngine ruleEngine, BoardShape boardShape) {
+    public MoveActionService(RuleEngine ruleEngine, Board board) {
         this.ruleEngine = ruleEngine;
-        this.boardShape = boardShape;
+        this.routes = RouteTable.forBoard(board);
     }
 
     // 단일 Piece 이동 메서드
@@ -24,10 +25,13 @@ public class MoveActionService {
             // 이미 그룹 상태면 그룹 전체를 이동
             movePiece(group, throwResult, game);
         } else {
-            // 그룹에 속해있지 않다면
-            PieceGroup singleGroup = new PieceGroup(piece.getOwner()); // 크기 1 그룹을 임시로 만들어 처리
+            // 그룹에 속해있지 않다면 플레이어의 빈 그룹을 빌려 크기 1 그룹으로 처리
+            PieceGroup singleGroup = piece.getOwner().obtainGroup();
             singleGroup.grouping(piece);
             movePiece(singleGroup, throwResult, game);
+            if (singleGroup.size() == 1) {
+                singleGroup.remove(piece); // 업히지 않았으면 그룹을 비워 다음 이동에서 재사용
+            }
         }
     }
 
@@ -41,7 +45,7 @@ public class MoveActionService {
         if (throwResult == ThrowResult.BACK_DO) { // 뒤로 한 칸 이동한 타겟 셀 계산
             target = group.backToPrevious();
         } else {
-            target = moveForward(group, start, steps); // 앞으로 steps 만큼 이동한 타겟 셀 계산
+            target = moveForward(group, start, steps, game.getBoard()); // 앞으로 steps 만큼 이동한 타겟 셀 계산
         }
 
         // 2) 룰 적용
@@ -57,60 +61,37 @@ public class MoveActionService {
 
     /**
      * steps만큼 순방향 이동 후 도착 cell 반환
+     * -- 분기 판단은 RouteTable에 미리 계산되어 있으므로 (칸, 도착 방향, 칸 수)로 한 번 조회만 함
      */
-    private Cell moveForward(PieceGroup group, Cell from, int steps) {
-        Cell current = from;
-        Cell prev = null;
+    private Cell moveForward(PieceGroup group, Cell from, int steps, Board board) {
         List<Cell> groupPath = group.getPath();
-        if(groupPath.size() >= 2) {
-            prev = groupPath.get(groupPath.size() - 2);
+        Cell prev = groupPath.size() >= 2 ? groupPath.get(groupPath.size() - 2) : null;
+        boolean notStarted = group.getPieces().get(0).getState() != PieceState.ON_BOARD;
+        int entry = routes.entryIndex(from.getIndex(), routes.arrivalOf(from, prev, notStarted), steps);
+
+        // 1) 지나가는 칸은 경로에만 기록하고 도착 칸으로 한 번에 이동
+        Cell current = from;
+        int hops = routes.hopCount(entry);
+        if (hops > 0) {
+            group.moveGroupAlong(board, routes, entry);
+            current = board.getCell(routes.destination(entry, from.getIndex()));
+            // 탈출하지 않았으면 ON_BOARD 상태 유지
+            group.setPiecesState(PieceState.ON_BOARD);
         }
 
-        for (int i = 0; i < steps; i++) {
-            List<Cell> nextList = current.getNextCells(); // 현재 셀의 다음 셀 목록
-
-            // 다음으로 이동할 Cell 계산
-            Cell next;
-            // BoardShape이 사각형이면서 현재 셀이 중앙 셀일 때 분기점 예외 처리 (통상적인 윷놀이 규칙대로 돌아가도록)
-            if(boardShape == BoardShape.SQUARE && current.isCenter() && prev.getId().equals("D2_1")){
-                next = nextList.get(1);
-            } else{
-                if (i == 0 && nextList.size() >= 2) {
-                    // 분기점 처리: 첫 이동(i==0)이고 nextList가 2개 이상일 때 지름길(인덱스1) 선택
-                    next = nextList.get(1);
-                } else {
-                    // non-분기점 처리: 우회길(인덱스0) 선택
-                    next = nextList.get(0);
+        // 2) 출발점을 지나 도착하는 경우
+        if (routes.isFinish(entry)) {
+            // FINISHED 처리: 그룹 내 모든 말 상태를 FINISHED로 변경
+            group.setPiecesState(PieceState.FINISHED);
+            group.breakUp();
+
+            // 출발점에 올라간 FINISHED 상태의 말들을 제거 (뒤에서부터 지워서 남은 말의 순서 유지)
+            List<Piece> occupants = current.getOccupants();
+            for (int i = occupants.size() - 1; i >= 0; i--) {
+                if (occupants.get(i).getState() == PieceState.FINISHED) {
+                    current.removePiece(occupants.get(i));
                 }
             }
-
-            // 이동 전 '현재 셀이 출발점(START)'인지 확인
-            if (current.isStartCell() && group.getPieces().get(0).getState() == PieceState.ON_BOARD) {
-                // FINISHED 처리: 그룹 내 모든 말 상태를 FINISHED로 변경
-                group.setPiecesState(PieceState.FINISHED);
-                group.breakUp();
-
-                // 출발점에 올라간 FINISHED 상태의 말들을 제거
-                List<Piece> toRemove = new ArrayList<>();
-                for (Piece occupant : current.getOccupants()) {
-                    if (occupant.getState() == PieceState.FINISHED) {
-                        toRemove.add(occupant);
-                    }
-                }
-                for (Piece p : toRemove) {
-                    current.removePiece(p);
-                }
-                // 탈출했으므로 더 이상 이동할 필요 없음
-                break;
-            }
-
-            // 한 칸 이동
-            group.moveGroupTo(next);
-            prev = current;
-            current = next;
-
-            // 탈출하지 않았으면 ON_BOARD 상태 유지
-            group.setPiecesState(PieceState.ON_BOARD);
         }
         return current;
     }
@@ -121,18 +102,29 @@ public class MoveActionService {
     private void applyRules(PieceGroup movingGroup, Cell cell, Game game) {
         // 말 업기
         if (ruleEngine.applyGrouping(cell)) {
-            PieceGroup group = new PieceGroup(movingGroup.getOwner());
-            for (Piece p : cell.getOccupants()) {
-                group.grouping(p);
+            PieceGroup group = movingGroup.getOwner().obtainGroup();
+            List<Piece> occupants = cell.getOccupants();
+            for (int i = 0; i < occupants.size(); i++) {
+                Piece p = occupants.get(i);
+                // 출발점에 대기 중인(NOT_STARTED) 말이나 다른 플레이어의 말은 업지 않음
+                if (p.getState() == PieceState.ON_BOARD && p.getOwner() == movingGroup.getOwner()) {
+                    group.grouping(p);
+                }
             }
         }
         // 상대 말 잡기
         if (ruleEngine.applyCapture(cell)) {
-            // capture 처리 로직 호출 (추가 구현 필요)
-            List<Piece> occupants = new ArrayList<>(cell.getOccupants());
+            // 잡힌 말은 moveTo로 칸에서 빠지므로 목록을 미리 복사해 두고 순회
+            List<Piece> occupants = capturedScratch;
+            List<Piece> cellOccupants = cell.getOccupants();
+            occupants.clear();
+            for (int i = 0; i < cellOccupants.size(); i++) {
+                occupants.add(cellOccupants.get(i));
+            }
             Cell startCell = game.getBoard().getStartCell();
 
-            for (Piece occupant : occupants) {
+            for (int i = 0; i < occupants.size(); i++) {
+                Piece occupant = occupants.get(i);
                 Player owner = occupant.getOwner();
                 if (!owner.equals(movingGroup.getOwner())) {
                     // 속해 있던 그룹에서 제거
@@ -147,6 +139,7 @@ public class MoveActionService {
                     occupant.moveTo(startCell);
                 }
             }
+            occupants.clear();
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,160 @@
+package service;
+
+import model.Board;
+import model.BoardSpec;
+import model.Cell;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * RouteTable
+ *
+ * 보드 모양별로 (출발 칸, 도착 방향, 이동 칸 수) --> (지나가는 칸들, 도착 여부)를 미리 계산해 둔 불변 테이블
+ * -- 기존 moveForward가 매 칸마다 하던 분기 판단(지름길/우회길, 사각형 중앙 직진 규칙, 출발점 통과)을
+ *    보드 생성 시 한 번만 수행하고, 이동할 때는 배열 조회만 함
+ * -- 칸은 Cell 인덱스로 저장하므로 같은 모양의 모든 Board 인스턴스가 하나의 테이블을 공유함
+ * -- 이동 한 번은 칸 수가 아니라 던진 결과(최대 MAX_STEPS칸)에만 비례하므로 큰 판(BoardSpec.of)에서도 비용이 같음
+ *
+ * 도착 방향(arrival):
+ * -- ENTER: 출발점에서 아직 출발하지 않은 말 (출발점에 있어도 도착 처리하지 않음)
+ * -- DEFAULT: 일반적인 경우
+ * -- STRAIGHT: 사각형 보드에서 D2_1(V2 지름길의 마지막 대각 셀) --> 중앙으로 들어온 경우 (중앙에서 출발점 방향으로 직진)
+ */
+public final class RouteTable {
+    public static final int ENTER = 0;
+    public static final int DEFAULT = 1;
+    public static final int STRAIGHT = 2;
+    private static final int ARRIVAL_KINDS = 3;
+    public static final int MAX_STEPS = 5; // 모
+
+    private static final Map<BoardSpec, RouteTable> CACHE = new ConcurrentHashMap<>();
+
+    private final int cellCount;
+    private final int startIndex;
+    private final int[] straightFrom; // 칸별로 STRAIGHT 도착이 되는 이전 칸 인덱스 (없으면 -1)
+
+    // entry = (cell * ARRIVAL_KINDS + arrival) * MAX_STEPS + (steps - 1)
+    private final int[] hopOffset;
+    private final byte[] hopCount;
+    private final boolean[] finish;
+    private final int[] hopPool;
+
+    /**
+     * 보드 모양별 테이블 반환 (없으면 이 board로 한 번 계산해서 캐시)
+     */
+    public static RouteTable forBoard(Board board) {
+        return CACHE.computeIfAbsent(board.getSpec(), spec -> new RouteTable(board));
+    }
+
+    private RouteTable(Board board) {
+        this.cellCount = board.getCellCount();
+        this.startIndex = board.getStartCell().getIndex();
+
+        // [1] 사각형 중앙 직진 규칙: V2 지름길의 마지막 대각 셀(기본 판은 D2_1)에서 중앙으로 들어오면 출발점 방향(nextCells[1])으로 계속 감
+        this.straightFrom = new int[cellCount];
+        Arrays.fill(straightFrom, -1);
+        if (board.getSpec().isStraightThroughCenter()) {
+            int lastOffset = board.getDiagonalCells() - 1;
+            for (Cell cell : board.getAllCells()) {
+                if (cell.isDiagonal() && cell.getSideIndex() == 2 && cell.getOffset() == lastOffset) {
+                    straightFrom[board.getCenterCell().getIndex()] = cell.getIndex();
+                }
+            }
+        }
+
+        // [2] 모든 (칸, 도착 방향, 칸 수)에 대해 이동 경로 계산
+        int entries = cellCount * ARRIVAL_KINDS * MAX_STEPS;
+        this.hopOffset = new int[entries];
+        this.hopCount = new byte[entries];
+        this.finish = new boolean[entries];
+        List<Integer> pool = new ArrayList<>();
+        for (int c = 0; c < cellCount; c++) {
+            Cell cell = board.getCell(c);
+            for (int arrival = 0; arrival < ARRIVAL_KINDS; arrival++) {
+                for (int steps = 1; steps <= MAX_STEPS; steps++) {
+                    int entry = entryIndex(c, arrival, steps);
+                    hopOffset[entry] = pool.size();
+                    finish[entry] = walk(cell, arrival, steps, pool);
+                    hopCount[entry] = (byte) (pool.size() - hopOffset[entry]);
+                }
+            }
+        }
+        this.hopPool = pool.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * 기존 moveForward와 같은 규칙으로 한 칸씩 이동하면서 지나가는 칸 인덱스를 hops에 추가
+     * @return 출발점을 지나 도착(FINISHED)했는지 여부
+     */
+    private boolean walk(Cell from, int arrival, int steps, List<Integer> hops) {
+        Cell current = from;
+        boolean straight = arrival == STRAIGHT;
+        boolean onBoard = arrival != ENTER;
+        for (int i = 0; i < steps; i++) {
+            // 출발점에 보드 위의 말이 있으면 도착 처리 후 종료
+            if (current.getIndex() == startIndex && onBoard) {
+                return true;
+            }
+            List<Cell> nextList = current.getNextCells();
+            Cell next;
+            if (straight && straightFrom[current.getIndex()] >= 0) {
+                next = nextList.get(1);
+            } else if (i == 0 && nextList.size() >= 2) {
+                next = nextList.get(1); // 첫 이동의 분기점: 지름길
+            } else {
+                next = nextList.get(0); // 그 외: 우회길
+            }
+            hops.add(next.getIndex());
+            straight = straightFrom[next.getIndex()] == current.getIndex();
+            current = next;
+            onBoard = true;
+        }
+        return false;
+    }
+
+    // —— 조회 —— //
+
+    /**
+     * 현재 칸과 직전 칸, 말의 출발 여부로 도착 방향을 계산
+     */
+    public int arrivalOf(Cell current, Cell prev, boolean notStarted) {
+        if (notStarted) {
+            return ENTER;
+        }
+        if (prev != null && straightFrom[current.getIndex()] == prev.getIndex()) {
+            return STRAIGHT;
+        }
+        return DEFAULT;
+    }
+
+    public int entryIndex(int cellIndex, int arrival, int steps) {
+        return (cellIndex * ARRIVAL_KINDS + arrival) * MAX_STEPS + (steps - 1);
+    }
+
+    // 이동 중 지나가는 칸 수 (마지막 칸이 도착 칸)
+    public int hopCount(int entry) { return hopCount[entry]; }
+
+    // k번째로 지나가는 칸의 인덱스
+    public int hop(int entry, int k) { return hopPool[hopOffset[entry] + k]; }
+
+    // 이동 결과 말이 도착(FINISHED)하는지
+    public boolean isFinish(int entry) { return finish[entry]; }
+
+    // 이동 후 말이 놓이는 칸 인덱스 (이동 없이 바로 도착하면 출발 칸)
+    public int destination(int entry, int fromIndex) {
+        int count = hopCount[entry];
+        return count == 0 ? fromIndex : hopPool[hopOffset[entry] + count - 1];
+    }
+
+    // 이전 칸 인덱스가 prevIndex일 때 cellIndex 칸에서의 도착 방향 (CompactGameState 등 인덱스 기반 호출용)
+    public int arrivalOf(int cellIndex, int prevIndex, boolean notStarted) {
+        if (notStarted) {
+            return ENTER;
+        }
+        return straightFrom[cellIndex] >= 0 && straightFrom[cellIndex] == prevIndex ? STRAIGHT : DEFAULT;
+    }
+}
@@ -5,7 +5,6 @@ import model.Piece;
 import model.PieceState;
 import model.Player;
 import java.util.List;
-import java.util.stream.Collectors;
 
 public class RuleEngine{
 
@@ -13,24 +12,25 @@ public class RuleEngine{
     private boolean checkSamePiecesInCell(Cell cell) {//cell위에 있는 말들이 같은 말인지 확인해주는 함수. 이 class내에서만 쓸거임.
         //첫번째 말이랑 비교하기. 첫번째 말이랑 비교해서 모두 같으면 업기인거고..첫번째 말이랑 다른 거 있으면 잡는거고..
         //(서로 다른 말이 있다면, 그 여부만 체크해주는 거. 어떤 말이 어떤 말을 잡을지는 applyCapture에서 결정
-        // 셀 위의 피스들 중 ON_BOARD 상태인 것만 모음
-        List<Piece> onBoardPieces = cell.getOccupants().stream()
-                .filter(p -> p.getState() == PieceState.ON_BOARD)
-                .collect(Collectors.toList());
-
-        if (onBoardPieces.size() < 2) {
-            // ON_BOARD 피스가 2개 미만이면 그룹화 조건 불충분
-            return false;
-        }
-
-        Player owner = onBoardPieces.get(0).getOwner();
-        // 나머지 ON_BOARD 피스들이 모두 동일한 플레이어인지 확인
-        for (int i = 1; i < onBoardPieces.size(); i++) {
-            if (!onBoardPieces.get(i).getOwner().equals(owner)) {
+        // 매 이동마다 호출되므로 ON_BOARD 피스를 따로 모으지 않고 한 번 순회하면서 바로 비교
+        List<Piece> occupants = cell.getOccupants();
+        Player owner = null;
+        int onBoardCount = 0;
+        for (int i = 0; i < occupants.size(); i++) {
+            Piece piece = occupants.get(i);
+            if (piece.getState() != PieceState.ON_BOARD) {
+                continue;
+            }
+            if (owner == null) {
+                owner = piece.getOwner();
+            } else if (!piece.getOwner().equals(owner)) {
+                // 다른 소유자의 피스가 섞여 있으면 그룹화 불가
                 return false;
             }
+            onBoardCount++;
         }
-        return true;
+        // ON_BOARD 피스가 2개 미만이면 그룹화 조건 불충분
+        return onBoardCount >= 2;
     }
 
     public boolean applyGrouping(Cell cell){
@@ -54,23 +54,21 @@ public class RuleEngine{
 //        return occupants.size() > 1 && !checkSamePiecesInCell(cell); //여러 말이 있고, 그 중 서로 다른팀의 말이 있다면.
 //        //잡을 수 있는 상태라는 걸 알려주는 것 뿐. 여기에서 뭐가 뭘 잡을진 다른 class에서 해야할듯
 
-        // 셀 위 ON_BOARD 피스들만 모읍니다.
-        List<Piece> onBoardPieces = cell.getOccupants().stream()
-                .filter(p -> p.getState() == PieceState.ON_BOARD)
-                .collect(Collectors.toList());
-
-        if (onBoardPieces.size() < 2) {
-            // ON_BOARD 피스가 2개 미만이면 캡처 조건 불충분
-            return false;
-        }
-
-        Player firstOwner = onBoardPieces.get(0).getOwner();
-        // ON_BOARD 피스들 사이에 다른 소유자가 섞여 있는지 검사
-        for (int i = 1; i < onBoardPieces.size(); i++) {
-            if (!onBoardPieces.get(i).getOwner().equals(firstOwner)) {
+        // 셀 위 ON_BOARD 피스들 사이에 다른 소유자가 섞여 있는지 검사 (첫 ON_BOARD 피스의 소유자와 비교)
+        // ON_BOARD 피스가 2개 미만이면 서로 다른 소유자가 나올 수 없으므로 자연히 false
+        List<Piece> occupants = cell.getOccupants();
+        Player firstOwner = null;
+        for (int i = 0; i < occupants.size(); i++) {
+            Piece piece = occupants.get(i);
+            if (piece.getState() != PieceState.ON_BOARD) {
+                continue;
+            }
+            if (firstOwner == null) {
+                firstOwner = piece.getOwner();
+            } else if (!piece.getOwner().equals(firstOwner)) {
                 return true;
             }
         }
         return false;
     }
-}
\ No newline at end of file
+}
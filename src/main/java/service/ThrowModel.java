@@ -0,0 +1,262 @@
+package service;
+
+import model.ThrowResult;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * ThrowModel
+ *
+ * 윷 4개의 결과 분포와 그 분포에서 뽑는 방법을 담은 불변 객체
+ * -- 윷가락마다 평평한 면이 위로 오는(뒤집어지는) 확률을 따로 줄 수 있음 (실제 윷은 둥근 면 때문에 1/2이 아님)
+ *    윷 3개 + 빽도 표시 윷 1개, 16가지 경우를 모두 더해서 ThrowResult별 정확한 확률을 미리 계산
+ * -- 뽑기: 별칭(alias) 표를 써서 64비트 난수 한 번으로 결과 하나 (상위 32비트로 칸 선택, 하위 32비트로 칸 안의 두 값 중 선택)
+ *    윷 4개를 따로 던지고 fromSteps로 찾는 것과 같은 분포를, 분기 몇 번으로 얻음
+ * -- 묶음 뽑기: 64비트 난수 하나를 chunkBits 비트씩 잘라 결과 여러 개를 뽑음 (YutThrowService.throwRandom)
+ *    분포가 1/2^k 단위로 딱 떨어지면 k비트(1/2 윷은 4비트 --> 한 번에 16개), 아니면 MAX_CHUNK_BITS비트로 반올림 (오차 2^-21 이하, 한 번에 3개)
+ */
+public final class ThrowModel {
+    private static final ThrowResult[] RESULTS = ThrowResult.values();
+    private static final double SCALE = 0x1p32; // 하위 32비트 난수와 비교하는 문턱값 배율
+    private static final int MAX_CHUNK_BITS = 21;
+    private static final int LOOKUP_BITS = 8; // 조각의 상위 8비트로 결과를 바로 찾는 표
+
+    // 윷 4개 모두 1/2 (YutThrowService의 기본 모델)
+    public static final ThrowModel FAIR = ofSticks(0.5, 0.5, 0.5, 0.5);
+
+    private final double[] stickProbabilities;
+    private final double[] probabilities = new double[RESULTS.length];
+    // 별칭 표: 칸 i에서 하위 32비트 < threshold[i]면 RESULTS[i], 아니면 RESULTS[alias[i]]
+    private final long[] threshold = new long[RESULTS.length];
+    private final int[] alias = new int[RESULTS.length];
+    // 묶음 뽑기: 결과별 누적 개수 (2^chunkBits 중)
+    private final int chunkBits;
+    private final boolean exact;
+    private final int[] cumulativeCounts = new int[RESULTS.length];
+    // 조각 상위 비트 --> 결과, 그 구간 안에서 결과가 바뀌면 null (누적 개수를 직접 비교)
+    private final ThrowResult[] lookup;
+    private final int lookupShift;
+
+    /**
+     * @param p1 첫 번째 윷이 뒤집어질 확률
+     * @param p2 두 번째 윷이 뒤집어질 확률
+     * @param p3 세 번째 윷이 뒤집어질 확률
+     * @param pBackDo 빽도 표시 윷이 뒤집어질 확률
+     */
+    public static ThrowModel ofSticks(double p1, double p2, double p3, double pBackDo) {
+        return new ThrowModel(new double[]{p1, p2, p3, pBackDo});
+    }
+
+    // 윷 4개가 모두 같은 확률 p로 뒤집어짐
+    public static ThrowModel ofUniformSticks(double p) {
+        return ofSticks(p, p, p, p);
+    }
+
+    private ThrowModel(double[] sticks) {
+        for (double p : sticks) {
+            if (!(p >= 0.0 && p <= 1.0)) {
+                throw new IllegalArgumentException("Stick probability must be in [0, 1]: " + p);
+            }
+        }
+        this.stickProbabilities = sticks;
+
+        // [1] 16가지 경우의 확률을 결과별로 합산 (비트 k = k번째 윷이 뒤집어짐, 비트 3 = 빽도 표시 윷)
+        for (int mask = 0; mask < 16; mask++) {
+            double p = 1.0;
+            for (int k = 0; k < 4; k++) {
+                p *= (mask & (1 << k)) != 0 ? sticks[k] : 1.0 - sticks[k];
+            }
+            probabilities[resultOf(mask).ordinal()] += p;
+        }
+
+        buildAliasTable();
+
+        // [2] 묶음 뽑기용: 분포를 정확히 나타내는 가장 작은 비트 수, 없으면 MAX_CHUNK_BITS로 반올림
+        int bits = 0;
+        while (bits < MAX_CHUNK_BITS && !isDyadic(bits)) {
+            bits++;
+        }
+        this.exact = isDyadic(bits);
+        this.chunkBits = Math.max(1, bits);
+        buildChunkCounts();
+        this.lookupShift = Math.max(0, chunkBits - LOOKUP_BITS);
+        this.lookup = new ThrowResult[1 << (chunkBits - lookupShift)];
+        for (int prefix = 0; prefix < lookup.length; prefix++) {
+            ThrowResult first = scanChunk(prefix << lookupShift);
+            ThrowResult last = scanChunk(((prefix + 1) << lookupShift) - 1);
+            lookup[prefix] = first == last ? first : null;
+        }
+    }
+
+    // 모든 확률이 1/2^bits의 정수배인지
+    private boolean isDyadic(int bits) {
+        for (double p : probabilities) {
+            double count = p * (1L << bits);
+            if (Math.abs(count - Math.rint(count)) > 1e-9) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 결과별 개수를 2^chunkBits에 맞춰 반올림 (큰 나머지 순으로 남은 개수 배분)
+    private void buildChunkCounts() {
+        int total = 1 << chunkBits;
+        int[] counts = new int[RESULTS.length];
+        double[] remainders = new double[RESULTS.length];
+        int assigned = 0;
+        for (int i = 0; i < RESULTS.length; i++) {
+            double exactCount = probabilities[i] * total;
+            counts[i] = (int) Math.floor(exactCount + 1e-9);
+            remainders[i] = exactCount - counts[i];
+            assigned += counts[i];
+        }
+        for (; assigned < total; assigned++) {
+            int best = 0;
+            for (int i = 1; i < RESULTS.length; i++) {
+                if (remainders[i] > remainders[best]) best = i;
+            }
+            counts[best]++;
+            remainders[best] = -1.0;
+        }
+        int sum = 0;
+        for (int i = 0; i < RESULTS.length; i++) {
+            sum += counts[i];
+            cumulativeCounts[i] = sum;
+        }
+    }
+
+    private ThrowResult scanChunk(int chunk) {
+        int i = 0;
+        while (chunk >= cumulativeCounts[i]) {
+            i++;
+        }
+        return RESULTS[i];
+    }
+
+    /**
+     * YutThrowService.throwRandom과 같은 규칙: 뒤집어진 윷 수만큼 이동, 0개면 모, 빽도 표시 윷 하나만 뒤집어지면 빽도
+     */
+    static ThrowResult resultOf(int mask) {
+        int sum = Integer.bitCount(mask);
+        if (sum == 0) {
+            return ThrowResult.MO;
+        }
+        if (sum == 1 && (mask & 0b1000) != 0) {
+            return ThrowResult.BACK_DO;
+        }
+        return ThrowResult.fromSteps(sum);
+    }
+
+    // Vose의 별칭 방법: 평균(1/n)보다 작은 칸을 큰 칸의 남는 확률로 채움
+    private void buildAliasTable() {
+        int n = RESULTS.length;
+        double[] scaled = new double[n];
+        int[] small = new int[n];
+        int[] large = new int[n];
+        int smallCount = 0;
+        int largeCount = 0;
+        for (int i = 0; i < n; i++) {
+            scaled[i] = probabilities[i] * n;
+            if (scaled[i] < 1.0) {
+                small[smallCount++] = i;
+            } else {
+                large[largeCount++] = i;
+            }
+        }
+        while (smallCount > 0 && largeCount > 0) {
+            int s = small[--smallCount];
+            int l = large[--largeCount];
+            threshold[s] = toThreshold(scaled[s]);
+            alias[s] = l;
+            scaled[l] = (scaled[l] + scaled[s]) - 1.0;
+            if (scaled[l] < 1.0) {
+                small[smallCount++] = l;
+            } else {
+                large[largeCount++] = l;
+            }
+        }
+        // 남은 칸은 반올림 오차만 있으므로 항상 자기 자신
+        while (largeCount > 0) {
+            int l = large[--largeCount];
+            threshold[l] = toThreshold(1.0);
+            alias[l] = l;
+        }
+        while (smallCount > 0) {
+            int s = small[--smallCount];
+            threshold[s] = toThreshold(1.0);
+            alias[s] = s;
+        }
+    }
+
+    private static long toThreshold(double fraction) {
+        return Math.min((long) SCALE, Math.round(fraction * SCALE));
+    }
+
+    /**
+     * 난수 한 번(nextLong)으로 결과 하나를 뽑음
+     */
+    public ThrowResult sample(RandomGenerator random) {
+        long bits = random.nextLong();
+        int column = (int) (((bits >>> 32) * RESULTS.length) >>> 32); // 상위 32비트 --> [0, n)
+        return (bits & 0xFFFF_FFFFL) < threshold[column] ? RESULTS[column] : RESULTS[alias[column]];
+    }
+
+    /**
+     * 64비트 난수에서 잘라낸 chunkBits 비트 조각 하나(0 ~ 2^chunkBits - 1)를 결과로 바꿈
+     */
+    public ThrowResult fromChunk(int chunk) {
+        ThrowResult result = lookup[chunk >>> lookupShift];
+        return result != null ? result : scanChunk(chunk);
+    }
+
+    // 묶음 뽑기에서 결과 하나에 쓰는 비트 수
+    public int getChunkBits() {
+        return chunkBits;
+    }
+
+    // 64비트 난수 하나로 뽑을 수 있는 결과 수
+    public int getThrowsPerDraw() {
+        return Long.SIZE / chunkBits;
+    }
+
+    // 묶음 뽑기 분포가 getProbability와 정확히 같은지 (아니면 2^-MAX_CHUNK_BITS 이내로 반올림된 것)
+    public boolean isChunkExact() {
+        return exact;
+    }
+
+    // result가 나올 정확한 확률
+    public double getProbability(ThrowResult result) {
+        return probabilities[result.ordinal()];
+    }
+
+    // ThrowResult.ordinal() 순서의 확률 배열 (복사본)
+    public double[] getDistribution() {
+        return probabilities.clone();
+    }
+
+    // 윷가락별 뒤집어질 확률 (0~2: 일반 윷, 3: 빽도 표시 윷)
+    public double getStickProbability(int stick) {
+        return stickProbabilities[stick];
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof ThrowModel other && Arrays.equals(stickProbabilities, other.stickProbabilities);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(stickProbabilities);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("ThrowModel").append(Arrays.toString(stickProbabilities)).append(' ');
+        for (ThrowResult r : RESULTS) {
+            sb.append(r).append('=').append(String.format("%.4f", getProbability(r))).append(' ');
+        }
+        return sb.toString().trim();
+    }
+}
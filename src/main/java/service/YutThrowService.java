@@ -1,32 +1,76 @@
 package service;
 
-import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
 import model.ThrowResult;
 
 /**
  * 윷 던지기 서비스.
- * -- 랜덤 윷 던지기: 네 개의 윷을 랜덤으로 던져 ThrowResult 반환
+ * -- 랜덤 윷 던지기: 게임의 ThrowModel(윷가락별 뒤집어질 확률) 분포에서 ThrowResult 하나를 뽑아 반환
+ * -- 기본 모델은 ThrowModel.FAIR (윷 4개가 각각 1/2 확률로 뒤집힘)
+ * -- 난수: 서비스(= 게임)마다 자기 SplittableRandom을 가짐 --> 스레드끼리 공용 시드를 두고 경쟁하지 않고, 같은 시드면 같은 결과가 같은 순서로 나옴
+ *    64비트 난수 하나를 ThrowModel.getChunkBits() 비트씩 잘라서 여러 번 던지는 데 씀 (1/2 윷이면 16번)
+ * 한 게임(한 스레드)에서만 쓰는 객체이므로 동기화하지 않음
  */
 public class YutThrowService {
-    private static final Random RANDOM = new Random();
+    private final ThrowModel model;
+    private final SplittableRandom random;
+    private final long chunkMask;
+    private long bits;      // 아직 쓰지 않은 조각들
+    private int remaining;  // bits에 남은 조각 수
+
+    public YutThrowService() {
+        this(ThrowModel.FAIR);
+    }
+
+    public YutThrowService(ThrowModel model) {
+        this(model, new SplittableRandom(ThreadLocalRandom.current().nextLong()));
+    }
+
+    // 같은 seed면 같은 순서로 같은 결과를 던짐
+    public YutThrowService(ThrowModel model, long seed) {
+        this(model, new SplittableRandom(seed));
+    }
+
+    public YutThrowService(ThrowModel model, SplittableRandom random) {
+        this.model = model;
+        this.random = random;
+        this.chunkMask = (1L << model.getChunkBits()) - 1;
+    }
+
+    public ThrowModel getModel() {
+        return model;
+    }
 
     /**
-     * 네 개의 윷을 던져 나온 스텝 수 반환
+     * 네 개의 윷을 던져 나온 결과 반환
      * 빽도: -1, 도:1, 개:2, 걸:3, 윷:4, 모:5
      */
     public ThrowResult throwRandom() {
-        // 1: 뒤집어짐, 0: 안 뒤집어짐.
-        int yut1 = RANDOM.nextInt(2);
-        int yut2 = RANDOM.nextInt(2);
-        int yut3 = RANDOM.nextInt(2);
-        int yut_backdo = RANDOM.nextInt(2); // 빽도 표시 가진 윷
-
-        int sum = yut1 + yut2 + yut3 + yut_backdo;
-        int steps = sum;
+        if (remaining == 0) {
+            bits = random.nextLong();
+            remaining = model.getThrowsPerDraw();
+        }
+        int chunk = (int) (bits & chunkMask);
+        bits >>>= model.getChunkBits();
+        remaining--;
+        return model.fromChunk(chunk);
+    }
 
-        if(sum == 0) steps = 5; // 모
-        if(sum == 1 && yut_backdo == 1) steps = -1;
+    /**
+     * 호출한 쪽의 난수 생성기로 던짐 (이 서비스의 난수 흐름은 건드리지 않음)
+     */
+    public ThrowResult throwRandom(RandomGenerator random) {
+        return model.sample(random);
+    }
 
-        return ThrowResult.fromSteps(steps);
+    /**
+     * throwRandom()에서 result가 나올 확률 (모델의 정확한 분포)
+     * -- FAIR 모델이면 16가지 경우 중 빽도 1, 도 3, 개 6, 걸 4, 윷 1, 모 1
+     */
+    public double getProbability(ThrowResult result) {
+        return model.getProbability(result);
     }
-}
\ No newline at end of file
+}
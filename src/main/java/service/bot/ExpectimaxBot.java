@@ -0,0 +1,356 @@
+package service.bot;
+
+import model.CompactGameState;
+import model.ThrowResult;
+import model.Zobrist;
+import service.CompactMoveEngine;
+import service.YutThrowService;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * ExpectimaxBot
+ *
+ * 윷 결과 6가지를 실제 확률을 가진 chance 노드로, 말 선택을 decision 노드로 두고 탐색하는 컴퓨터 플레이어
+ * -- 던지기 모델은 TurnFlow 참고 (이번 턴에 이미 던져 둔 결과는 throwsToApply로 받아 chance 없이 차례대로 적용)
+ * -- 상대 decision 노드는 root 평가값을 최소화하는 쪽을 고른다고 가정 (paranoid, 2인일 때는 일반 expectimax와 같음)
+ * -- 반복 심화: 깊이 1부터 시간 예산 안에 끝난 가장 깊은 탐색의 선택을 사용, 예산을 넘기면 진행 중인 깊이는 버림
+ * -- root 가까이의 chance 노드(남은 깊이가 PARALLEL_DEPTH 이상이면서 root에서 두 단계 이내)는
+ *    결과 6가지를 ForkJoinPool 작업으로 나눠 병렬로 계산
+ *    (작업마다 국면 스택을 따로 두고, 그 아래는 스택의 미리 만든 국면에 복사하면서 할당 없이 탐색)
+ * -- chance 노드의 값은 치환표에 (국면 해시, root)로 저장해서, 던지는 순서만 다르고 같은 배치에 이른 국면은 다시 계산하지 않음
+ *    (같은 탐색의 다른 가지, 병렬 작업끼리, 이전 깊이/이전 수의 탐색 결과를 모두 공유)
+ */
+public class ExpectimaxBot implements GameBot {
+    private static final int PARALLEL_DEPTH = 3;
+    private static final int TIME_CHECK_MASK = 1023; // 노드 1024개마다 시간 확인
+    private static final ThrowResult[] THROWS = ThrowResult.values();
+    private static final int DEFAULT_TABLE_ENTRIES = 1 << 18; // 4MB
+
+    private final double[] probabilities = new double[THROWS.length];
+    private final long timeBudgetNanos;
+    private final ForkJoinPool pool;
+    private int maxDepth = 16;
+    private TranspositionTable table = new TranspositionTable(DEFAULT_TABLE_ENTRIES);
+    private volatile SearchResult lastResult;
+
+    /**
+     * @param throwService    chance 노드의 확률을 가져올 윷 던지기 서비스 (게임에서 쓰는 것과 같은 것)
+     * @param timeBudgetMillis 한 수에 쓸 수 있는 시간, 0 이하면 시간 제한 없음 (setMaxDepth까지 탐색)
+     * @param parallelism     탐색에 쓸 스레드 수
+     */
+    public ExpectimaxBot(YutThrowService throwService, long timeBudgetMillis, int parallelism) {
+        for (ThrowResult t : THROWS) {
+            probabilities[t.ordinal()] = throwService.getProbability(t);
+        }
+        this.timeBudgetNanos = timeBudgetMillis <= 0 ? Long.MAX_VALUE : timeBudgetMillis * 1_000_000L;
+        this.pool = new ForkJoinPool(parallelism);
+    }
+
+    public void setMaxDepth(int maxDepth) {
+        this.maxDepth = maxDepth;
+    }
+
+    // 다른 봇과 치환표를 공유하거나 크기를 바꿀 때 사용, null이면 치환표 없이 탐색
+    public void setTranspositionTable(TranspositionTable table) {
+        this.table = table;
+    }
+
+    public SearchResult getLastResult() {
+        return lastResult;
+    }
+
+    // 탐색 스레드 풀을 멈춤 (이후에는 search를 부르지 않음)
+    @Override
+    public void close() {
+        pool.shutdown();
+    }
+
+    @Override
+    public String getLastSearchSummary() {
+        SearchResult result = lastResult;
+        return result == null ? "" : String.format("깊이 %d, %,d 노드 (%,.0f 노드/초)",
+                result.getDepth(), result.getNodes(), result.getNodesPerSecond());
+    }
+
+    @Override
+    public int choosePiece(CompactGameState state, List<ThrowResult> throwsToApply) {
+        return search(state, throwsToApply).getPieceIndex();
+    }
+
+    /**
+     * 시간 예산 안에서 반복 심화 탐색
+     */
+    public SearchResult search(CompactGameState state, List<ThrowResult> throwsToApply) {
+        long startNanos = System.nanoTime();
+        CompactMoveEngine engine = CompactMoveEngine.forSpec(state.getSpec());
+        ThrowResult[] known = throwsToApply.toArray(new ThrowResult[0]);
+        int root = state.getCurrentPlayer();
+
+        int[] moves = new int[state.getPiecesNum()];
+        int count = engine.legalMoves(state, root, known[0], moves);
+        if (count <= 1) {
+            SearchResult result = new SearchResult(count == 0 ? -1 : moves[0], count, 0.0, 0, 0, 0, System.nanoTime() - startNanos);
+            lastResult = result;
+            return result;
+        }
+
+        LongAdder nodes = new LongAdder();
+        LongAdder tableHits = new LongAdder();
+        if (table != null) {
+            table.newSearch();
+        }
+        int bestPiece = moves[0];
+        double bestValue = 0.0;
+        int completedDepth = 0;
+        for (int depth = 1; depth <= maxDepth; depth++) {
+            // 깊이 1은 시간과 관계없이 끝까지 계산해서 항상 답이 있게 함
+            long deadline = depth == 1 || timeBudgetNanos == Long.MAX_VALUE ? Long.MAX_VALUE : startNanos + timeBudgetNanos;
+            int parallelDepth = Math.max(PARALLEL_DEPTH, depth - 2);
+            SearchContext context = new SearchContext(engine, table, known, root, deadline, parallelDepth, nodes, tableHits);
+
+            List<RootTask> tasks = new ArrayList<>(count);
+            for (int m = 0; m < count; m++) {
+                tasks.add(new RootTask(context, state, moves[m], depth));
+            }
+            pool.invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(tasks)));
+            if (context.aborted) {
+                break;
+            }
+            bestPiece = tasks.get(0).piece;
+            bestValue = tasks.get(0).getRawResult();
+            for (RootTask task : tasks) {
+                if (task.getRawResult() > bestValue) {
+                    bestValue = task.getRawResult();
+                    bestPiece = task.piece;
+                }
+            }
+            completedDepth = depth;
+            if (context.exhausted) {
+                break; // 모든 가지가 게임 끝/순위 확정까지 닿아 더 깊게 봐도 같음
+            }
+        }
+
+        SearchResult result = new SearchResult(bestPiece, count, bestValue, completedDepth, nodes.sum(), tableHits.sum(),
+                System.nanoTime() - startNanos);
+        lastResult = result;
+        return result;
+    }
+
+    // —— 탐색 —— //
+
+    /**
+     * 한 번의 깊이별 탐색에 공통인 값과 중단 플래그
+     */
+    private static final class SearchContext {
+        final CompactMoveEngine engine;
+        final TranspositionTable table; // 없으면 null
+        final ThrowResult[] known;
+        final int root;
+        final long rootKey; // 치환표 키에 XOR (평가 기준 플레이어 구분)
+        final long deadline;
+        final int parallelDepth; // 남은 깊이가 이 이상인 chance 노드만 병렬로 나눔
+        final LongAdder nodes;
+        final LongAdder tableHits;
+        volatile boolean aborted;
+        volatile boolean exhausted = true; // 깊이 제한으로 평가 함수를 쓴 노드가 하나도 없으면 true로 남음
+
+        SearchContext(CompactMoveEngine engine, TranspositionTable table, ThrowResult[] known, int root, long deadline,
+                      int parallelDepth, LongAdder nodes, LongAdder tableHits) {
+            this.engine = engine;
+            this.table = table;
+            this.known = known;
+            this.root = root;
+            this.rootKey = Zobrist.perspectiveKey(root);
+            this.deadline = deadline;
+            this.parallelDepth = parallelDepth;
+            this.nodes = nodes;
+            this.tableHits = tableHits;
+        }
+    }
+
+    /**
+     * 작업(스레드) 하나가 쓰는 탐색기: 깊이별 국면/말 목록 버퍼를 미리 만들어 두고 재사용
+     */
+    private final class Searcher {
+        private final SearchContext context;
+        private final CompactGameState[] stack;
+        private final int[][] moveBuffers;
+        private long nodes;
+        private long tableHits;
+
+        Searcher(SearchContext context, CompactGameState template, int depth) {
+            this.context = context;
+            this.stack = new CompactGameState[depth + 2];
+            this.moveBuffers = new int[depth + 2][template.getPiecesNum()];
+            for (int level = 0; level < stack.length; level++) {
+                stack[level] = template.copy();
+            }
+        }
+
+        // 이 탐색기로 센 노드 수, 치환표 적중 수를 공용 카운터로 넘김
+        void flushNodes() {
+            context.nodes.add(nodes);
+            context.tableHits.add(tableHits);
+            nodes = 0;
+            tableHits = 0;
+        }
+
+        /**
+         * state의 현재 플레이어가 둘 차례인 노드의 값
+         * @param knownIndex 이미 던져 둔 결과 중 다음에 적용할 인덱스 (다 썼으면 known.length)
+         */
+        double value(CompactGameState state, int depth, int knownIndex, int level) {
+            if ((++nodes & TIME_CHECK_MASK) == 0 && System.nanoTime() > context.deadline) {
+                context.aborted = true;
+            }
+            if (context.aborted) {
+                return 0.0;
+            }
+            int root = context.root;
+            if (Heuristic.isDecided(state, root)) {
+                return Heuristic.rankValue(state, root);
+            }
+            if (depth == 0) {
+                if (context.exhausted) {
+                    context.exhausted = false;
+                }
+                return Heuristic.evaluate(context.engine, state, root);
+            }
+            if (knownIndex < context.known.length) {
+                return decision(state, context.known[knownIndex], depth, knownIndex + 1, level);
+            }
+
+            // chance 노드: 치환표에 같은 국면을 같은 깊이 이상으로 계산한 값이 있으면 그대로 사용
+            TranspositionTable table = context.table;
+            long key = 0L;
+            if (table != null) {
+                key = state.getZobristHash() ^ context.rootKey;
+                long entry = table.probe(key);
+                if (entry != TranspositionTable.MISS && TranspositionTable.depthOf(entry) >= depth) {
+                    tableHits++;
+                    if (context.exhausted) {
+                        context.exhausted = false; // 저장된 값이 평가 함수를 썼는지 모르므로 탐색을 일찍 끝내지 않음
+                    }
+                    return TranspositionTable.valueOf(entry);
+                }
+            }
+            double expected;
+            if (depth >= context.parallelDepth) {
+                expected = parallelChance(state, depth);
+            } else {
+                expected = 0.0;
+                for (ThrowResult t : THROWS) {
+                    expected += probabilities[t.ordinal()] * decision(state, t, depth, knownIndex, level);
+                }
+            }
+            if (table != null && !context.aborted) {
+                table.store(key, expected, depth);
+            }
+            return expected;
+        }
+
+        /**
+         * 결과 t를 적용할 말을 고르는 노드: root면 최대, 상대면 최소
+         */
+        double decision(CompactGameState state, ThrowResult t, int depth, int nextKnown, int level) {
+            CompactMoveEngine engine = context.engine;
+            int player = state.getCurrentPlayer();
+            CompactGameState child = stack[level + 1];
+            int knownCount = context.known.length;
+
+            // 빽도인데 움직일 말이 없으면 차례만 넘어감
+            if (t == ThrowResult.BACK_DO && engine.hasNoMovablePiece(state, player, t)) {
+                child.copyFrom(state);
+                engine.advanceTurn(child);
+                return value(child, depth - 1, knownCount, level + 1);
+            }
+
+            int[] moves = moveBuffers[level];
+            int count = engine.legalMoves(state, player, t, moves);
+            boolean maximize = player == context.root;
+            double best = maximize ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY;
+            for (int m = 0; m < count; m++) {
+                child.copyFrom(state);
+                int next = TurnFlow.applyAndPass(engine, child, player, moves[m], t, nextKnown, knownCount);
+                double v = value(child, depth - 1, next, level + 1);
+                best = maximize ? Math.max(best, v) : Math.min(best, v);
+            }
+            return best;
+        }
+
+        // 결과 6가지를 작업으로 나눠 병렬 계산 (작업마다 국면 복사본과 탐색기를 따로 가짐)
+        private double parallelChance(CompactGameState state, int depth) {
+            List<ChanceTask> tasks = new ArrayList<>(THROWS.length);
+            for (ThrowResult t : THROWS) {
+                tasks.add(new ChanceTask(context, state, t, depth));
+            }
+            ForkJoinTask.invokeAll(tasks);
+            double expected = 0.0;
+            for (ChanceTask task : tasks) {
+                expected += probabilities[task.throwResult.ordinal()] * task.join();
+            }
+            return expected;
+        }
+    }
+
+    /**
+     * root에서 말 하나를 골랐을 때의 값
+     */
+    @SuppressWarnings("serial")
+    private final class RootTask extends RecursiveTask<Double> {
+        final SearchContext context;
+        final CompactGameState state;
+        final int piece;
+        final int depth;
+
+        RootTask(SearchContext context, CompactGameState state, int piece, int depth) {
+            this.context = context;
+            this.state = state;
+            this.piece = piece;
+            this.depth = depth;
+        }
+
+        @Override
+        protected Double compute() {
+            Searcher searcher = new Searcher(context, state, depth);
+            CompactGameState child = searcher.stack[0];
+            int knownCount = context.known.length;
+            int next = TurnFlow.applyAndPass(context.engine, child, context.root, piece, context.known[0], 1, knownCount);
+            double v = searcher.value(child, depth - 1, next, 0);
+            searcher.flushNodes();
+            return v;
+        }
+    }
+
+    /**
+     * chance 노드에서 결과 하나(throwResult)가 나왔을 때의 값
+     */
+    @SuppressWarnings("serial")
+    private final class ChanceTask extends RecursiveTask<Double> {
+        final SearchContext context;
+        final CompactGameState state;
+        final ThrowResult throwResult;
+        final int depth;
+
+        ChanceTask(SearchContext context, CompactGameState state, ThrowResult throwResult, int depth) {
+            this.context = context;
+            this.state = state;
+            this.throwResult = throwResult;
+            this.depth = depth;
+        }
+
+        @Override
+        protected Double compute() {
+            Searcher searcher = new Searcher(context, state, depth);
+            double v = searcher.decision(searcher.stack[0], throwResult, depth, context.known.length, 0);
+            searcher.flushNodes();
+            return v;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package service.bot;
+
+import model.CompactGameState;
+import model.ThrowResult;
+import service.simulation.PiecePolicy;
+
+import java.util.List;
+
+/**
+ * GameBot
+ *
+ * -- 컴퓨터 플레이어: 사람이 말을 클릭하는 대신(GameController.onPieceClicked) 움직일 말을 골라줌
+ * -- UI 스레드를 막지 않도록 Game 객체 대신 압축 국면(CompactGameState)을 받아 별도 스레드에서 탐색할 수 있게 함
+ * -- 탐색용 스레드 풀처럼 따로 정리할 자원이 있는 봇은 close에서 놓아 줌
+ */
+public interface GameBot extends AutoCloseable {
+
+    /**
+     * @param state          현재 국면 (state.getCurrentPlayer()가 말을 고를 플레이어), 구현체는 이 객체를 바꾸지 않음
+     * @param throwsToApply  이번 턴에 아직 적용하지 않은 윷 결과들 (첫 번째가 지금 적용할 결과)
+     * @return 움직일 말 번호 (Player.getPieces() 인덱스), 움직일 말이 없으면 -1
+     */
+    int choosePiece(CompactGameState state, List<ThrowResult> throwsToApply);
+
+    // 마지막 탐색에 대한 한 줄 요약 (상태 표시줄, 로그용)
+    String getLastSearchSummary();
+
+    // 더 이상 이 봇으로 탐색하지 않을 때 호출 (기본은 정리할 것이 없음)
+    @Override
+    default void close() {
+    }
+
+    /**
+     * 시뮬레이션 엔진에서 쓸 수 있도록 PiecePolicy로 감쌈 (지금 적용할 결과 하나만 알고 있는 것으로 탐색)
+     */
+    static PiecePolicy asPolicy(GameBot bot) {
+        return (game, player, throwResult, random) -> {
+            int index = bot.choosePiece(CompactGameState.of(game), List.of(throwResult));
+            return index < 0 ? null : player.getPieces().get(index);
+        };
+    }
+}
@@ -0,0 +1,63 @@
+package service.bot;
+
+import model.CompactGameState;
+import service.CompactMoveEngine;
+
+/**
+ * Heuristic
+ *
+ * -- 탐색을 끝까지 하지 못한 국면의 평가 함수 (root 플레이어 기준, 클수록 유리)
+ * -- 진행도 = 말마다 (출발 전 말이 도착까지 가야 하는 칸 수 - 남은 칸 수)의 합
+ * -- 평가값 = (내 진행도 - 상대 평균 진행도) / 최대 진행도  --> [-1, 1]
+ *    이미 도착한 상대가 있으면 순위가 밀리므로 감점, root가 도착했거나 순위가 확정되면 순위값(±2 범위)을 반환
+ */
+final class Heuristic {
+    static final double BEST_RANK_VALUE = 2.0;
+
+    private Heuristic() {
+    }
+
+    // root의 순위가 확정되었는지 (root가 도착했거나, root만 남음)
+    static boolean isDecided(CompactGameState state, int root) {
+        return state.isFinishedPlayer(root) || state.getFinishedCount() >= state.getPlayersNum() - 1;
+    }
+
+    // 확정된 순위의 값: 1등 +2 ... 꼴찌 -2
+    static double rankValue(CompactGameState state, int root) {
+        int playersNum = state.getPlayersNum();
+        int rank = playersNum - 1; // 혼자 남았으면 꼴찌
+        for (int r = 0; r < state.getFinishedCount(); r++) {
+            if (state.getFinishedPlayer(r) == root) {
+                rank = r;
+                break;
+            }
+        }
+        return BEST_RANK_VALUE - 2 * BEST_RANK_VALUE * rank / (playersNum - 1);
+    }
+
+    static double evaluate(CompactMoveEngine engine, CompactGameState state, int root) {
+        if (isDecided(state, root)) {
+            return rankValue(state, root);
+        }
+        int playersNum = state.getPlayersNum();
+        int piecesNum = state.getPiecesNum();
+        int lap = engine.fullLapSteps();
+        double mine = 0;
+        double others = 0;
+        for (int p = 0; p < playersNum; p++) {
+            int progress = 0;
+            for (int i = 0; i < piecesNum; i++) {
+                progress += lap - engine.remainingSteps(state, p, i);
+            }
+            if (p == root) {
+                mine = progress;
+            } else {
+                others += progress;
+            }
+        }
+        double max = (double) lap * piecesNum;
+        double value = (mine - others / (playersNum - 1)) / max;
+        // 먼저 도착한 상대 한 명마다 한 순위씩 밀림
+        return value - state.getFinishedCount() * (BEST_RANK_VALUE / (playersNum - 1));
+    }
+}
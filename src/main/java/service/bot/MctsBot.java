@@ -0,0 +1,447 @@
+package service.bot;
+
+import model.CompactGameState;
+import model.ThrowResult;
+import service.CompactMoveEngine;
+import service.YutThrowService;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * MctsBot
+ *
+ * 말 수/플레이어 수가 많아 ExpectimaxBot이 충분히 깊이 보지 못하는 판(HEXAGON, 4인, 5말 등)을 위한 몬테카를로 트리 탐색 플레이어
+ * -- root 병렬화: 스레드마다 독립된 트리를 같은 국면에서 키우고, 끝나면 root의 말별 방문 수를 합쳐서 가장 많이 방문한 말을 고름
+ * -- 트리: decision 노드(던진 결과가 정해진 국면, 자식 = 고를 수 있는 말)와 chance 노드(말을 옮긴 뒤, 자식 = 다음 윷 결과 6가지)가 번갈아 나옴
+ *    decision 노드에서는 UCB1로 고르고, chance 노드에서는 실제 확률대로 결과를 뽑음
+ * -- 보상: 플레이아웃이 끝났을 때 플레이어별 순위를 [0, 1]로 바꾼 값 (1등 1, 꼴찌 0), 각 chance 노드는 말을 옮긴 플레이어의 보상을 누적
+ * -- 플레이아웃: CompactMoveEngine 위에서 무작위 말 선택으로 순위가 정해질 때까지 진행 (할당 없음)
+ * -- 던지기 모델과 이번 턴에 이미 던져 둔 결과 처리는 ExpectimaxBot과 같음 (TurnFlow)
+ * -- 노드는 배열(구조체 배열 대신 필드별 배열)에 저장해서 노드당 NODE_BYTES 바이트, 트리 하나당 최대 maxTreeNodes개
+ */
+public class MctsBot implements GameBot {
+    static final int NODE_BYTES = 4 + 4 + 8 + 1 + 1 + 1; // firstChild, visits, rewardSum, childCount, action, mover
+    private static final ThrowResult[] THROWS = ThrowResult.values();
+    private static final double EXPLORATION = 0.7;
+    private static final int TIME_CHECK_MASK = 15; // 플레이아웃 16번마다 시간 확인
+    private static final int MAX_PLAYOUT_PLIES = 4096; // 빽도가 반복되는 등 끝나지 않는 플레이아웃 방지
+    private static final int INITIAL_CAPACITY = 1 << 12;
+
+    private final double[] cumulative = new double[THROWS.length]; // 윷 결과 누적 확률 (chance 노드, 플레이아웃에서 뽑기용)
+    private final long timeBudgetNanos;
+    private final int parallelism;
+    private final ForkJoinPool pool;
+    private long seed = System.nanoTime();
+    private long playoutLimit = Long.MAX_VALUE; // 트리 하나당 플레이아웃 상한 (테스트, 벤치마크용)
+    private int maxTreeNodes = 1 << 20;
+    private volatile MctsResult lastResult;
+
+    /**
+     * @param throwService    chance 노드와 플레이아웃의 확률을 가져올 윷 던지기 서비스 (게임에서 쓰는 것과 같은 것)
+     * @param timeBudgetMillis 한 수에 쓸 수 있는 시간, 0 이하면 시간 제한 없음 (setPlayoutLimit으로 끝을 정해야 함)
+     * @param parallelism     독립 트리 수 (= 탐색에 쓸 스레드 수)
+     */
+    public MctsBot(YutThrowService throwService, long timeBudgetMillis, int parallelism) {
+        double sum = 0.0;
+        for (ThrowResult t : THROWS) {
+            sum += throwService.getProbability(t);
+            cumulative[t.ordinal()] = sum;
+        }
+        cumulative[THROWS.length - 1] = 1.0; // 반올림 오차 보정
+        this.timeBudgetNanos = timeBudgetMillis <= 0 ? Long.MAX_VALUE : timeBudgetMillis * 1_000_000L;
+        this.parallelism = parallelism;
+        this.pool = new ForkJoinPool(parallelism);
+    }
+
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    public void setPlayoutLimit(long playoutLimit) {
+        this.playoutLimit = playoutLimit;
+    }
+
+    public void setMaxTreeNodes(int maxTreeNodes) {
+        this.maxTreeNodes = maxTreeNodes;
+    }
+
+    public MctsResult getLastResult() {
+        return lastResult;
+    }
+
+    // 탐색 스레드 풀을 멈춤 (이후에는 search를 부르지 않음)
+    @Override
+    public void close() {
+        pool.shutdown();
+    }
+
+    @Override
+    public String getLastSearchSummary() {
+        MctsResult result = lastResult;
+        return result == null ? "" : String.format("플레이아웃 %,d회 (%,.0f회/초), 트리 %d개 %,d 노드 (%.1f MB)",
+                result.getPlayouts(), result.getPlayoutsPerSecond(), result.getTrees(), result.getTreeNodes(),
+                result.getTreeBytes() / (1024.0 * 1024.0));
+    }
+
+    @Override
+    public int choosePiece(CompactGameState state, List<ThrowResult> throwsToApply) {
+        return search(state, throwsToApply).getPieceIndex();
+    }
+
+    /**
+     * 시간 예산(또는 플레이아웃 상한)까지 트리를 키운 뒤 root 방문 수를 합쳐서 말을 고름
+     */
+    public MctsResult search(CompactGameState state, List<ThrowResult> throwsToApply) {
+        long startNanos = System.nanoTime();
+        CompactMoveEngine engine = CompactMoveEngine.forSpec(state.getSpec());
+        ThrowResult[] known = throwsToApply.toArray(new ThrowResult[0]);
+        int piecesNum = state.getPiecesNum();
+
+        int[] moves = new int[piecesNum];
+        int count = engine.legalMoves(state, state.getCurrentPlayer(), known[0], moves);
+        if (count <= 1) {
+            MctsResult result = new MctsResult(count == 0 ? -1 : moves[0], count, 0.0, 0, 0, 0, 0, System.nanoTime() - startNanos);
+            lastResult = result;
+            return result;
+        }
+
+        long deadline = timeBudgetNanos == Long.MAX_VALUE ? Long.MAX_VALUE : startNanos + timeBudgetNanos;
+        SplittableRandom master = new SplittableRandom(seed);
+        List<TreeTask> tasks = new ArrayList<>(parallelism);
+        for (int i = 0; i < parallelism; i++) {
+            Tree tree = new Tree(engine, state, known, cumulative, master.split(), maxTreeNodes);
+            tasks.add(new TreeTask(tree, deadline, playoutLimit));
+        }
+        pool.invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(tasks)));
+
+        // root 병합: 트리마다 같은 말의 방문 수/보상을 더함
+        long[] visits = new long[piecesNum];
+        double[] rewards = new double[piecesNum];
+        long playouts = 0;
+        long nodes = 0;
+        long bytes = 0;
+        for (TreeTask task : tasks) {
+            Tree tree = task.tree;
+            tree.addRootStats(visits, rewards);
+            playouts += tree.playouts;
+            nodes += tree.size;
+            bytes += tree.memoryBytes();
+        }
+        int bestPiece = moves[0];
+        for (int m = 1; m < count; m++) {
+            if (visits[moves[m]] > visits[bestPiece]) {
+                bestPiece = moves[m];
+            }
+        }
+        double value = visits[bestPiece] == 0 ? 0.0 : rewards[bestPiece] / visits[bestPiece];
+
+        MctsResult result = new MctsResult(bestPiece, count, value, parallelism, playouts, nodes, bytes,
+                System.nanoTime() - startNanos);
+        lastResult = result;
+        return result;
+    }
+
+    /**
+     * 트리 하나를 마감 시각까지 키우는 작업
+     */
+    @SuppressWarnings("serial")
+    private static final class TreeTask extends RecursiveAction {
+        final Tree tree;
+        final long deadline;
+        final long limit;
+
+        TreeTask(Tree tree, long deadline, long limit) {
+            this.tree = tree;
+            this.deadline = deadline;
+            this.limit = limit;
+        }
+
+        @Override
+        protected void compute() {
+            // 최소 한 번은 돌려서 root가 항상 펼쳐지게 함
+            long iterations = 0;
+            do {
+                tree.iterate();
+                iterations++;
+            } while (iterations < limit && ((iterations & TIME_CHECK_MASK) != 0 || System.nanoTime() < deadline));
+        }
+    }
+
+    /**
+     * 스레드 하나가 쓰는 트리와 플레이아웃용 버퍼
+     * -- 노드 0은 root decision 노드 (action = 지금 적용할 윷 결과)
+     * -- decision 노드의 자식은 chance 노드 (action = 말 번호, 차례가 그냥 넘어가면 -1, mover = 말을 옮긴 플레이어)
+     * -- chance 노드의 자식은 decision 노드 (action = 윷 결과 ordinal, mover = -1)
+     */
+    private static final class Tree {
+        private final CompactMoveEngine engine;
+        private final CompactGameState rootState;
+        private final ThrowResult[] known;
+        private final double[] cumulative;
+        private final SplittableRandom random;
+        private final int maxNodes;
+
+        private final CompactGameState state;
+        private final int[] moves;
+        private final double[] rewards; // 플레이어별 이번 반복의 보상
+        private int[] path = new int[64];
+
+        private int[] firstChild;
+        private int[] visits;
+        private double[] rewardSum;
+        private byte[] childCount;
+        private byte[] action;
+        private byte[] mover;
+        private int size;
+        private long playouts;
+
+        Tree(CompactMoveEngine engine, CompactGameState rootState, ThrowResult[] known, double[] cumulative,
+             SplittableRandom random, int maxNodes) {
+            this.engine = engine;
+            this.rootState = rootState;
+            this.known = known;
+            this.cumulative = cumulative;
+            this.random = random;
+            this.maxNodes = maxNodes;
+            this.state = rootState.copy();
+            this.moves = new int[rootState.getPiecesNum()];
+            this.rewards = new double[rootState.getPlayersNum()];
+
+            int capacity = Math.min(INITIAL_CAPACITY, maxNodes);
+            firstChild = new int[capacity];
+            visits = new int[capacity];
+            rewardSum = new double[capacity];
+            childCount = new byte[capacity];
+            action = new byte[capacity];
+            mover = new byte[capacity];
+            int root = allocate(1);
+            action[root] = (byte) known[0].ordinal();
+        }
+
+        long memoryBytes() {
+            return (long) firstChild.length * NODE_BYTES;
+        }
+
+        void addRootStats(long[] pieceVisits, double[] pieceRewards) {
+            int first = firstChild[0];
+            if (first < 0) {
+                return;
+            }
+            for (int c = first; c < first + childCount[0]; c++) {
+                if (action[c] >= 0) {
+                    pieceVisits[action[c]] += visits[c];
+                    pieceRewards[action[c]] += rewardSum[c];
+                }
+            }
+        }
+
+        /**
+         * 선택 --> 확장 --> 플레이아웃 --> 역전파 한 번
+         */
+        void iterate() {
+            CompactGameState s = state;
+            s.copyFrom(rootState);
+            int knownCount = known.length;
+            int next = 1; // root의 윷 결과는 known[0]
+            int node = 0;
+            int length = 0;
+            path[length++] = node;
+
+            while (true) {
+                // decision 노드
+                if (isDecided(s)) {
+                    scoreRanks(s);
+                    break;
+                }
+                ThrowResult t = THROWS[action[node]];
+                if (firstChild[node] < 0 && !expandDecision(node, s, t)) {
+                    playout(s, t, next);
+                    break;
+                }
+                int player = s.getCurrentPlayer();
+                int child = select(node);
+                length = push(length, child);
+                int piece = action[child];
+                if (piece < 0) {
+                    engine.advanceTurn(s);
+                    next = knownCount;
+                } else {
+                    next = TurnFlow.applyAndPass(engine, s, player, piece, t, next, knownCount);
+                }
+                if (visits[child] == 0) {
+                    playout(s, null, next);
+                    break;
+                }
+
+                // chance 노드
+                if (isDecided(s)) {
+                    scoreRanks(s);
+                    break;
+                }
+                if (firstChild[child] < 0 && !expandChance(child, next)) {
+                    playout(s, null, next);
+                    break;
+                }
+                node = childCount[child] == 1 ? firstChild[child] : firstChild[child] + sampleThrow();
+                length = push(length, node);
+                if (next < knownCount) {
+                    next++; // 던져 둔 결과 하나를 씀
+                }
+            }
+
+            for (int i = 0; i < length; i++) {
+                int n = path[i];
+                visits[n]++;
+                if (mover[n] >= 0) {
+                    rewardSum[n] += rewards[mover[n]];
+                }
+            }
+            playouts++;
+        }
+
+        private int push(int length, int node) {
+            if (length == path.length) {
+                path = Arrays.copyOf(path, length * 2);
+            }
+            path[length] = node;
+            return length + 1;
+        }
+
+        // 방문하지 않은 자식이 있으면 먼저, 아니면 UCB1 최대
+        private int select(int node) {
+            int first = firstChild[node];
+            int end = first + childCount[node];
+            double logParent = Math.log(visits[node]);
+            int best = first;
+            double bestScore = Double.NEGATIVE_INFINITY;
+            for (int c = first; c < end; c++) {
+                if (visits[c] == 0) {
+                    return c;
+                }
+                double score = rewardSum[c] / visits[c] + EXPLORATION * Math.sqrt(logParent / visits[c]);
+                if (score > bestScore) {
+                    bestScore = score;
+                    best = c;
+                }
+            }
+            return best;
+        }
+
+        // 자식 = 고를 수 있는 말 (빽도인데 움직일 말이 없으면 차례만 넘기는 자식 하나)
+        private boolean expandDecision(int node, CompactGameState s, ThrowResult t) {
+            int player = s.getCurrentPlayer();
+            int count = engine.legalMoves(s, player, t, moves);
+            int children = Math.max(count, 1);
+            int first = allocate(children);
+            if (first < 0) {
+                return false;
+            }
+            for (int i = 0; i < children; i++) {
+                action[first + i] = count == 0 ? -1 : (byte) moves[i];
+                mover[first + i] = (byte) player;
+            }
+            firstChild[node] = first;
+            childCount[node] = (byte) children;
+            return true;
+        }
+
+        // 자식 = 다음 윷 결과 (이번 턴에 던져 둔 결과가 남아 있으면 그것 하나)
+        private boolean expandChance(int node, int next) {
+            boolean pending = next < known.length;
+            int children = pending ? 1 : THROWS.length;
+            int first = allocate(children);
+            if (first < 0) {
+                return false;
+            }
+            for (int i = 0; i < children; i++) {
+                action[first + i] = (byte) (pending ? known[next].ordinal() : i);
+            }
+            firstChild[node] = first;
+            childCount[node] = (byte) children;
+            return true;
+        }
+
+        // 연속한 노드 n개를 잡고 첫 인덱스를 반환, 상한을 넘으면 -1 (그 뒤로는 트리를 키우지 않고 플레이아웃만)
+        private int allocate(int n) {
+            if (size + n > maxNodes) {
+                return -1;
+            }
+            if (size + n > firstChild.length) {
+                int capacity = (int) Math.min(maxNodes, Math.max(size + n, 2L * firstChild.length));
+                firstChild = Arrays.copyOf(firstChild, capacity);
+                visits = Arrays.copyOf(visits, capacity);
+                rewardSum = Arrays.copyOf(rewardSum, capacity);
+                childCount = Arrays.copyOf(childCount, capacity);
+                action = Arrays.copyOf(action, capacity);
+                mover = Arrays.copyOf(mover, capacity);
+            }
+            int first = size;
+            for (int i = first; i < first + n; i++) {
+                firstChild[i] = -1;
+                mover[i] = -1;
+            }
+            size += n;
+            return first;
+        }
+
+        private int sampleThrow() {
+            double r = random.nextDouble();
+            int i = 0;
+            while (r >= cumulative[i]) {
+                i++;
+            }
+            return i;
+        }
+
+        /**
+         * 무작위 말 선택으로 순위가 정해질 때까지 진행하고 rewards를 채움
+         * @param first 먼저 적용할 윷 결과 (펼치지 못한 decision 노드에서 시작할 때), 없으면 null
+         */
+        private void playout(CompactGameState s, ThrowResult first, int next) {
+            int knownCount = known.length;
+            ThrowResult pending = first;
+            for (int ply = 0; ply < MAX_PLAYOUT_PLIES && !isDecided(s); ply++) {
+                int player = s.getCurrentPlayer();
+                ThrowResult t;
+                if (pending != null) {
+                    t = pending;
+                    pending = null;
+                } else if (next < knownCount) {
+                    t = known[next++];
+                } else {
+                    t = THROWS[sampleThrow()];
+                }
+                int count = engine.legalMoves(s, player, t, moves);
+                if (count == 0) {
+                    engine.advanceTurn(s);
+                    next = knownCount;
+                    continue;
+                }
+                next = TurnFlow.applyAndPass(engine, s, player, moves[random.nextInt(count)], t, next, knownCount);
+            }
+            scoreRanks(s);
+        }
+
+        // 한 명만 남으면 순위가 모두 정해짐
+        private static boolean isDecided(CompactGameState s) {
+            return s.getFinishedCount() >= s.getPlayersNum() - 1;
+        }
+
+        // 순위 r --> 1 - r / (n - 1), 아직 도착하지 않은 플레이어는 남은 순위의 평균
+        private void scoreRanks(CompactGameState s) {
+            int playersNum = s.getPlayersNum();
+            int finished = s.getFinishedCount();
+            double unfinished = 1.0 - (finished + playersNum - 1) / 2.0 / (playersNum - 1);
+            Arrays.fill(rewards, unfinished);
+            for (int r = 0; r < finished; r++) {
+                rewards[s.getFinishedPlayer(r)] = 1.0 - (double) r / (playersNum - 1);
+            }
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package service.bot;
+
+/**
+ * MctsResult
+ *
+ * -- MctsBot 한 번의 탐색 결과: 고른 말, root 후보 수, 그 말의 평균 보상(0~1), 트리 수, 전체 플레이아웃 수, 트리 노드 수/메모리, 걸린 시간
+ */
+public class MctsResult {
+    private final int pieceIndex;
+    private final int candidates;
+    private final double value;
+    private final int trees;
+    private final long playouts;
+    private final long treeNodes;
+    private final long treeBytes;
+    private final long elapsedNanos;
+
+    MctsResult(int pieceIndex, int candidates, double value, int trees, long playouts, long treeNodes, long treeBytes, long elapsedNanos) {
+        this.pieceIndex = pieceIndex;
+        this.candidates = candidates;
+        this.value = value;
+        this.trees = trees;
+        this.playouts = playouts;
+        this.treeNodes = treeNodes;
+        this.treeBytes = treeBytes;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public int getPieceIndex() { return pieceIndex; }
+    // 이번 윷 결과로 비교한 서로 다른 root 수 (움직이지 않는 말들은 하나로 셈)
+    public int getCandidates() { return candidates; }
+    public double getValue() { return value; }
+    public int getTrees() { return trees; }
+    public long getPlayouts() { return playouts; }
+    public long getTreeNodes() { return treeNodes; }
+    public long getTreeBytes() { return treeBytes; }
+    public long getElapsedNanos() { return elapsedNanos; }
+
+    // 초당 플레이아웃 수 (모든 트리 합계, 하드웨어 산정용)
+    public double getPlayoutsPerSecond() {
+        return elapsedNanos == 0 ? 0.0 : playouts * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("piece=%d candidates=%d value=%.3f trees=%d playouts=%d (%.0f playouts/s) nodes=%d (%.1f KB, %.1f ms)",
+                pieceIndex, candidates, value, trees, playouts, getPlayoutsPerSecond(), treeNodes, treeBytes / 1024.0,
+                elapsedNanos / 1_000_000.0);
+    }
+}
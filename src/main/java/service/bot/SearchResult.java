@@ -0,0 +1,46 @@
+package service.bot;
+
+/**
+ * SearchResult
+ *
+ * -- ExpectimaxBot 한 번의 탐색 결과: 고른 말, root 후보 수, 평가값, 끝까지 탐색한 깊이, 방문 노드 수, 치환표 적중 수, 걸린 시간
+ */
+public class SearchResult {
+    private final int pieceIndex;
+    private final int candidates;
+    private final double value;
+    private final int depth;
+    private final long nodes;
+    private final long tableHits;
+    private final long elapsedNanos;
+
+    SearchResult(int pieceIndex, int candidates, double value, int depth, long nodes, long tableHits, long elapsedNanos) {
+        this.pieceIndex = pieceIndex;
+        this.candidates = candidates;
+        this.value = value;
+        this.depth = depth;
+        this.nodes = nodes;
+        this.tableHits = tableHits;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public int getPieceIndex() { return pieceIndex; }
+    // 이번 윷 결과로 비교한 서로 다른 root 수 (움직이지 않는 말들은 하나로 셈)
+    public int getCandidates() { return candidates; }
+    public double getValue() { return value; }
+    public int getDepth() { return depth; }
+    public long getNodes() { return nodes; }
+    public long getTableHits() { return tableHits; }
+    public long getElapsedNanos() { return elapsedNanos; }
+
+    // 초당 방문 노드 수 (하드웨어 산정용)
+    public double getNodesPerSecond() {
+        return elapsedNanos == 0 ? 0.0 : nodes * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("piece=%d candidates=%d value=%.3f depth=%d nodes=%d tableHits=%d (%.0f nodes/s, %.1f ms)",
+                pieceIndex, candidates, value, depth, nodes, tableHits, getNodesPerSecond(), elapsedNanos / 1_000_000.0);
+    }
+}
@@ -0,0 +1,52 @@
+package service.bot;
+
+import model.CompactGameState;
+import model.ThrowResult;
+import service.tablebase.Tablebase;
+
+import java.util.List;
+
+/**
+ * TablebaseBot
+ *
+ * 엔드게임 표(Tablebase)가 있는 국면은 표에서 승률이 가장 높은 말을 바로 고르고, 아니면 다른 봇에게 맡기는 컴퓨터 플레이어
+ * -- 표 조회는 O(1)이라 탐색 시간이 거의 들지 않음
+ * -- 표의 승률은 TurnFlow 모델(던질 때마다 바로 말을 옮김) 기준이라, 결과를 모두 던진 뒤 고르는 실제 게임에서는 근사값
+ */
+public class TablebaseBot implements GameBot {
+    private final Tablebase tablebase;
+    private final GameBot fallback;
+    private volatile String lastSummary = "";
+
+    /**
+     * @param fallback 표에 없는 국면(3인 이상, 말 수가 다름 등)에서 쓸 봇
+     */
+    public TablebaseBot(Tablebase tablebase, GameBot fallback) {
+        this.tablebase = tablebase;
+        this.fallback = fallback;
+    }
+
+    @Override
+    public int choosePiece(CompactGameState state, List<ThrowResult> throwsToApply) {
+        if (!tablebase.covers(state)) {
+            int piece = fallback.choosePiece(state, throwsToApply);
+            lastSummary = fallback.getLastSearchSummary();
+            return piece;
+        }
+        int piece = tablebase.bestPiece(state, throwsToApply);
+        lastSummary = piece < 0 ? "엔드게임 표: 움직일 말 없음"
+                : String.format("엔드게임 표: 승률 %.1f%%", 100 * tablebase.moveValue(state, piece, throwsToApply));
+        return piece;
+    }
+
+    @Override
+    public String getLastSearchSummary() {
+        return lastSummary;
+    }
+
+    // fallback 봇도 함께 닫음 (표는 연 쪽에서 닫음)
+    @Override
+    public void close() {
+        fallback.close();
+    }
+}
@@ -0,0 +1,106 @@
+package service.bot;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * TranspositionTable
+ *
+ * 이미 평가한 국면(Zobrist 해시)의 값을 저장해 두는 크기 고정, 잠금 없는 치환표
+ * -- 버킷 하나 = 항목 2개, 항목 하나 = long 2개 (키 XOR 데이터, 데이터)
+ *    여러 스레드가 잠금 없이 동시에 쓰다가 두 long이 서로 다른 쓰기에서 섞이면 키 검사에서 걸러지므로 잘못된 값을 읽지 않음
+ * -- 데이터: 하위 32비트 = 값(float), 다음 8비트 = 남은 탐색 깊이, 다음 8비트 = 세대, 최상위 비트 = 사용 중 표시
+ * -- 교체 정책: 첫 항목은 깊이 우선 (같은 키, 더 깊거나 같은 깊이, 이전 탐색 세대면 덮어씀), 아니면 두 번째 항목을 항상 덮어씀
+ *    얕은 값이 계속 들어와도 비싸게 구한 깊은 값이 남고, 탐색이 바뀌면 예전 값부터 밀려남
+ */
+public final class TranspositionTable {
+    public static final long MISS = 0L; // 사용 중 표시가 없으므로 저장된 데이터와 겹치지 않음
+
+    private static final int LONGS_PER_ENTRY = 2;
+    private static final int ENTRIES_PER_BUCKET = 2;
+    private static final long USED_BIT = 1L << 63;
+
+    private final AtomicLongArray slots;
+    private final int bucketMask;
+    private int generation;
+
+    /**
+     * @param entries 최대 항목 수 (2의 거듭제곱으로 올림), 항목당 16바이트
+     */
+    public TranspositionTable(int entries) {
+        int buckets = Integer.highestOneBit(Math.max(ENTRIES_PER_BUCKET, entries) * 2 - 1) / ENTRIES_PER_BUCKET;
+        this.slots = new AtomicLongArray(buckets * ENTRIES_PER_BUCKET * LONGS_PER_ENTRY);
+        this.bucketMask = buckets - 1;
+    }
+
+    public int getCapacity() {
+        return slots.length() / LONGS_PER_ENTRY;
+    }
+
+    public long getMemoryBytes() {
+        return (long) slots.length() * Long.BYTES;
+    }
+
+    /**
+     * 새 탐색을 시작할 때 호출: 이전 탐색의 항목이 먼저 교체되게 함
+     */
+    public void newSearch() {
+        generation = (generation + 1) & 0xFF;
+    }
+
+    /**
+     * @return 저장된 데이터 (valueOf/depthOf로 꺼냄), 없으면 MISS
+     */
+    public long probe(long key) {
+        int base = bucketBase(key);
+        for (int e = 0; e < ENTRIES_PER_BUCKET; e++) {
+            int index = base + e * LONGS_PER_ENTRY;
+            long data = slots.getOpaque(index + 1);
+            if (data != MISS && (slots.getOpaque(index) ^ data) == key) {
+                return data;
+            }
+        }
+        return MISS;
+    }
+
+    public void store(long key, double value, int depth) {
+        int gen = generation;
+        long data = USED_BIT | ((long) gen << 40) | ((long) Math.min(depth, 0xFF) << 32)
+                | (Float.floatToRawIntBits((float) value) & 0xFFFF_FFFFL);
+        int base = bucketBase(key);
+
+        long preferred = slots.getOpaque(base + 1);
+        boolean replacePreferred = preferred == MISS
+                || (slots.getOpaque(base) ^ preferred) == key
+                || depthOf(preferred) <= depth
+                || generationOf(preferred) != gen;
+        int index = replacePreferred ? base : base + LONGS_PER_ENTRY;
+        slots.setOpaque(index, key ^ data);
+        slots.setOpaque(index + 1, data);
+    }
+
+    /**
+     * 모든 항목 삭제 (다른 스레드가 탐색 중이 아닐 때만)
+     */
+    public void clear() {
+        for (int i = 0; i < slots.length(); i++) {
+            slots.setOpaque(i, 0L);
+        }
+    }
+
+    public static double valueOf(long data) {
+        return Float.intBitsToFloat((int) data);
+    }
+
+    public static int depthOf(long data) {
+        return (int) (data >>> 32) & 0xFF;
+    }
+
+    private static int generationOf(long data) {
+        return (int) (data >>> 40) & 0xFF;
+    }
+
+    // 해시 상위 비트로 버킷 선택 (하위 비트는 키 검사에 그대로 쓰임)
+    private int bucketBase(long key) {
+        return ((int) (key >>> 32) & bucketMask) * ENTRIES_PER_BUCKET * LONGS_PER_ENTRY;
+    }
+}
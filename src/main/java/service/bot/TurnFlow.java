@@ -0,0 +1,37 @@
+package service.bot;
+
+import model.CompactGameState;
+import model.ThrowResult;
+import service.CompactMoveEngine;
+
+/**
+ * TurnFlow
+ *
+ * -- 탐색 봇들이 공유하는 턴 진행 규칙 (GameController.handleThrow / applyPieceChoice를 압축 국면으로 옮긴 것)
+ * -- 던지기 모델: 한 번 던질 때마다 바로 말을 옮기고, 윷/모면 같은 플레이어가 한 번 더 던지는 것으로 근사
+ */
+final class TurnFlow {
+
+    private TurnFlow() {
+    }
+
+    /**
+     * child에 말 이동을 적용하고 차례를 처리한 뒤 다음에 적용할 known 인덱스를 반환
+     * -- 도착해서 끝났으면 남은 결과는 버리고 다음 플레이어로
+     * -- 이번 턴에 던져 둔 결과가 남아 있으면 같은 플레이어가 계속
+     * -- 윷/모면 같은 플레이어가 한 번 더 던짐, 그 외에는 다음 플레이어로
+     */
+    static int applyAndPass(CompactMoveEngine engine, CompactGameState child, int player, int piece,
+                            ThrowResult t, int nextKnown, int knownCount) {
+        engine.apply(child, player, piece, t);
+        if (child.isFinishedPlayer(player)) {
+            engine.advanceTurn(child);
+            return knownCount;
+        }
+        if (nextKnown < knownCount || t.isExtraTurn()) {
+            return nextKnown;
+        }
+        engine.advanceTurn(child);
+        return knownCount;
+    }
+}
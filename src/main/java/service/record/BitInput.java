@@ -0,0 +1,61 @@
+package service.record;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * BitInput
+ *
+ * BitOutput으로 쓴 비트열을 같은 순서로 읽는 입력
+ */
+final class BitInput {
+    private final InputStream in;
+    private long buffer;
+    private int available;
+
+    BitInput(InputStream in) {
+        this.in = in;
+    }
+
+    /**
+     * bits비트(0~32)를 읽음, 스트림이 중간에 끝나면 EOFException
+     */
+    long read(int bits) throws IOException {
+        while (available < bits) {
+            int b = in.read();
+            if (b < 0) {
+                throw new EOFException("Truncated game record");
+            }
+            buffer = (buffer << Byte.SIZE) | b;
+            available += Byte.SIZE;
+        }
+        available -= bits;
+        return (buffer >>> available) & ((1L << bits) - 1);
+    }
+
+    long readLong() throws IOException {
+        return (read(32) << 32) | read(32);
+    }
+
+    // 바이트 경계까지 남은 비트를 버림
+    void align() {
+        available -= available % Byte.SIZE;
+    }
+
+    /**
+     * 바이트 경계에서 스트림이 끝났는지 (다음 게임이 없는지)
+     */
+    boolean atEnd() throws IOException {
+        if (available >= Byte.SIZE) {
+            return false;
+        }
+        int b = in.read();
+        if (b < 0) {
+            return true;
+        }
+        buffer = (buffer << Byte.SIZE) | b;
+        available += Byte.SIZE;
+        return false;
+    }
+}
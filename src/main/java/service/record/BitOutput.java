@@ -0,0 +1,49 @@
+package service.record;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * BitOutput
+ *
+ * 값을 상위 비트부터 비트 단위로 이어 붙여 OutputStream에 쓰는 출력 (가득 찬 바이트만 내보냄)
+ */
+final class BitOutput {
+    private final OutputStream out;
+    private long buffer;     // 아직 내보내지 않은 비트 (하위 pending비트)
+    private int pending;
+    private long bitsWritten;
+
+    BitOutput(OutputStream out) {
+        this.out = out;
+    }
+
+    /**
+     * value의 하위 bits비트(0~32)를 씀
+     */
+    void write(long value, int bits) throws IOException {
+        buffer = (buffer << bits) | (value & ((1L << bits) - 1));
+        pending += bits;
+        bitsWritten += bits;
+        while (pending >= Byte.SIZE) {
+            pending -= Byte.SIZE;
+            out.write((int) (buffer >>> pending));
+        }
+    }
+
+    void writeLong(long value) throws IOException {
+        write(value >>> 32, 32);
+        write(value, 32);
+    }
+
+    // 남은 비트를 0으로 채워 바이트 경계에 맞춤
+    void align() throws IOException {
+        if (pending > 0) {
+            write(0, Byte.SIZE - pending);
+        }
+    }
+
+    long getBitsWritten() {
+        return bitsWritten;
+    }
+}
@@ -0,0 +1,85 @@
+package service.record;
+
+import model.BoardSpec;
+import model.ThrowResult;
+
+import java.util.Arrays;
+
+/**
+ * GameRecord
+ *
+ * 게임 한 판의 기록: 헤더(보드 모양, 플레이어 수, 말 수, seed)와 일어난 순서대로의 이벤트
+ * -- 이벤트는 int 하나: 윷 결과(0~5, ThrowResult.ordinal) 또는 말 선택(MOVE_BASE + 말 번호)
+ * -- 말 선택은 항상 그 시점에 차례인 플레이어의 말 번호 (Player.getPieces() 인덱스), 차례는 규칙으로 다시 계산함
+ *    (빽도에 움직일 말이 없어서 넘어간 차례는 말 선택 없이 윷 결과만 남음)
+ */
+public final class GameRecord {
+    public static final int MOVE_BASE = 8;
+    private static final ThrowResult[] THROWS = ThrowResult.values();
+
+    private final BoardSpec spec;
+    private final int playersNum;
+    private final int piecesNum;
+    private final long seed;
+    private final int[] events;
+
+    public GameRecord(BoardSpec spec, int playersNum, int piecesNum, long seed, int[] events) {
+        this.spec = spec;
+        this.playersNum = playersNum;
+        this.piecesNum = piecesNum;
+        this.seed = seed;
+        this.events = events.clone();
+    }
+
+    public static int throwEvent(ThrowResult result) {
+        return result.ordinal();
+    }
+
+    public static int moveEvent(int pieceIndex) {
+        return MOVE_BASE + pieceIndex;
+    }
+
+    public static boolean isMove(int event) {
+        return event >= MOVE_BASE;
+    }
+
+    public static ThrowResult throwOf(int event) {
+        return THROWS[event];
+    }
+
+    public static int pieceOf(int event) {
+        return event - MOVE_BASE;
+    }
+
+    public BoardSpec getSpec() { return spec; }
+    public int getPlayersNum() { return playersNum; }
+    public int getPiecesNum() { return piecesNum; }
+    public long getSeed() { return seed; }
+    public int getEventCount() { return events.length; }
+    public int getEvent(int i) { return events[i]; }
+
+    public int[] getEvents() {
+        return events.clone();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof GameRecord other && spec == other.spec && playersNum == other.playersNum
+                && piecesNum == other.piecesNum && seed == other.seed && Arrays.equals(events, other.events);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(events) * 31 + Long.hashCode(seed);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(String.format("GameRecord[%s, %d인, 말 %d개, seed %d]",
+                spec, playersNum, piecesNum, seed));
+        for (int event : events) {
+            sb.append(' ').append(isMove(event) ? "#" + pieceOf(event) : throwOf(event).name());
+        }
+        return sb.toString();
+    }
+}
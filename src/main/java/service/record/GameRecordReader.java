@@ -0,0 +1,89 @@
+package service.record;
+
+import model.BoardSpec;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+/**
+ * GameRecordReader
+ *
+ * GameRecordWriter가 쓴 스트림에서 게임 기록을 한 판씩 읽는 reader (형식은 GameRecordWriter 참고)
+ * -- 한 번에 게임 하나만 메모리에 올리므로 수백만 판짜리 파일도 차례대로 훑을 수 있음
+ */
+public final class GameRecordReader implements Closeable {
+    private final InputStream stream;
+    private final BitInput in;
+    private int[] events = new int[256];
+
+    public GameRecordReader(InputStream stream) throws IOException {
+        this.stream = stream;
+        this.in = new BitInput(stream);
+        if (in.read(32) != GameRecordWriter.MAGIC) {
+            throw new IOException("Not a game record stream");
+        }
+        long version = in.read(8);
+        if (version != GameRecordWriter.VERSION) {
+            throw new IOException("Unsupported game record version: " + version);
+        }
+    }
+
+    /**
+     * @return 다음 게임 기록, 스트림이 끝났으면 null
+     */
+    public GameRecord next() throws IOException {
+        if (in.atEnd()) {
+            return null;
+        }
+        BoardSpec spec = readSpec();
+        int playersNum = (int) in.read(GameRecordWriter.HEADER_FIELD_BITS) + 1;
+        int piecesNum = (int) in.read(GameRecordWriter.HEADER_FIELD_BITS) + 1;
+        long seed = in.readLong();
+        int pieceBits = GameRecordWriter.pieceBits(piecesNum);
+
+        int count = 0;
+        while (true) {
+            int code = (int) in.read(GameRecordWriter.CODE_BITS);
+            if (code == GameRecordWriter.END) {
+                break;
+            }
+            if (count == events.length) {
+                events = Arrays.copyOf(events, count * 2);
+            }
+            if (code == GameRecordWriter.MOVE) {
+                int piece = (int) in.read(pieceBits);
+                if (piece >= piecesNum) {
+                    throw new IOException("Piece index out of range: " + piece);
+                }
+                events[count++] = GameRecord.moveEvent(piece);
+            } else {
+                events[count++] = code;
+            }
+        }
+        in.align();
+        return new GameRecord(spec, playersNum, piecesNum, seed, Arrays.copyOf(events, count));
+    }
+
+    private BoardSpec readSpec() throws IOException {
+        int sides = (int) in.read(GameRecordWriter.HEADER_FIELD_BITS);
+        int cellsPerEdge = BoardSpec.DEFAULT_CELLS_PER_EDGE;
+        int diagonalCells = BoardSpec.DEFAULT_DIAGONAL_CELLS;
+        if (sides == GameRecordWriter.EXTENDED_SHAPE) {
+            sides = (int) in.read(GameRecordWriter.HEADER_FIELD_BITS);
+            cellsPerEdge = (int) in.read(GameRecordWriter.SHAPE_CELLS_BITS);
+            diagonalCells = (int) in.read(GameRecordWriter.SHAPE_CELLS_BITS);
+        }
+        try {
+            return BoardSpec.of(sides, cellsPerEdge, diagonalCells);
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Unknown board spec: " + sides + "x" + cellsPerEdge + "x" + diagonalCells, e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        stream.close();
+    }
+}
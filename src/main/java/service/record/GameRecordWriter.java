@@ -0,0 +1,144 @@
+package service.record;
+
+import model.BoardSpec;
+import model.Game;
+import model.ThrowResult;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * GameRecordWriter
+ *
+ * 게임 기록을 비트 단위로 압축해서 스트림에 이어 쓰는 writer (읽기는 GameRecordReader)
+ * -- 파일 헤더: 매직 "YREC" 32비트 + 버전 8비트
+ * -- 게임 헤더: 꼭짓점 수 4비트, 플레이어 수-1 4비트, 말 수-1 4비트, seed 64비트
+ *    기본 판이 아니면(BoardSpec.of) 꼭짓점 수 자리에 0을 쓰고 꼭짓점 수 4비트, 일반 셀 수 6비트, 대각 셀 수 6비트가 이어짐
+ *    (기본 판의 기록은 예전과 같은 비트)
+ * -- 이벤트: 3비트 코드 0~5 = 윷 결과, MOVE = 말 선택(뒤에 말 번호 pieceBits비트), END = 게임 끝
+ *    pieceBits = 말 번호를 담는 최소 비트 수 (말 4개면 2비트) --> 말 선택 하나가 5비트
+ * -- 게임마다 바이트 경계에 맞춰 끝나므로 게임 단위로 이어 붙이거나 잘라낼 수 있음
+ * 2인, 말 4개 게임 한 판이 무작위로 두면 평균 73바이트 정도라 백만 판이 100MB 안쪽
+ * 한 게임씩 차례대로 쓰는 스트리밍 API (beginGame --> writeThrow/writeMove --> endGame)
+ */
+public final class GameRecordWriter implements Closeable, Flushable {
+    static final int MAGIC = 0x5952_4543; // "YREC"
+    static final int VERSION = 1;
+    static final int CODE_BITS = 3;
+    static final int MOVE = 6;
+    static final int END = 7;
+    static final int HEADER_FIELD_BITS = 4;
+    static final int EXTENDED_SHAPE = 0; // 꼭짓점 수 자리의 0 = 판 설정이 따라옴
+    static final int SHAPE_CELLS_BITS = 6; // 전체 셀이 BoardSpec.MAX_CELLS 이하라 일반/대각 셀 수는 61 이하
+
+    private final OutputStream stream;
+    private final BitOutput out;
+    private int pieceBits = -1; // 게임 기록 중이 아니면 -1
+    private int piecesNum;
+    private long gamesWritten;
+
+    public GameRecordWriter(OutputStream stream) throws IOException {
+        this.stream = stream;
+        this.out = new BitOutput(stream);
+        out.write(MAGIC, 32);
+        out.write(VERSION, 8);
+    }
+
+    public void beginGame(Game game) throws IOException {
+        beginGame(game.getBoard().getSpec(), game.getPlayers().size(),
+                game.getPlayers().get(0).getPieces().size(), game.getSeed());
+    }
+
+    public void beginGame(BoardSpec spec, int playersNum, int piecesNum, long seed) throws IOException {
+        if (pieceBits >= 0) {
+            throw new IllegalStateException("Previous game not ended");
+        }
+        checkField(spec.getVertexCount(), 0);
+        checkField(playersNum, 1);
+        checkField(piecesNum, 1);
+        if (spec.isStandard()) {
+            out.write(spec.getVertexCount(), HEADER_FIELD_BITS);
+        } else {
+            out.write(EXTENDED_SHAPE, HEADER_FIELD_BITS);
+            out.write(spec.getVertexCount(), HEADER_FIELD_BITS);
+            out.write(spec.getCellsPerEdge(), SHAPE_CELLS_BITS);
+            out.write(spec.getDiagonalCells(), SHAPE_CELLS_BITS);
+        }
+        out.write(playersNum - 1, HEADER_FIELD_BITS);
+        out.write(piecesNum - 1, HEADER_FIELD_BITS);
+        out.writeLong(seed);
+        this.piecesNum = piecesNum;
+        this.pieceBits = pieceBits(piecesNum);
+    }
+
+    public void writeThrow(ThrowResult result) throws IOException {
+        checkInGame();
+        out.write(result.ordinal(), CODE_BITS);
+    }
+
+    public void writeMove(int pieceIndex) throws IOException {
+        checkInGame();
+        if (pieceIndex < 0 || pieceIndex >= piecesNum) {
+            throw new IllegalArgumentException("Piece index out of range: " + pieceIndex);
+        }
+        out.write(MOVE, CODE_BITS);
+        out.write(pieceIndex, pieceBits);
+    }
+
+    public void endGame() throws IOException {
+        checkInGame();
+        out.write(END, CODE_BITS);
+        out.align();
+        pieceBits = -1;
+        gamesWritten++;
+    }
+
+    /**
+     * 기록 하나를 통째로 씀
+     */
+    public void write(GameRecord record) throws IOException {
+        beginGame(record.getSpec(), record.getPlayersNum(), record.getPiecesNum(), record.getSeed());
+        for (int i = 0; i < record.getEventCount(); i++) {
+            int event = record.getEvent(i);
+            if (GameRecord.isMove(event)) {
+                writeMove(GameRecord.pieceOf(event));
+            } else {
+                writeThrow(GameRecord.throwOf(event));
+            }
+        }
+        endGame();
+    }
+
+    public long getGamesWritten() { return gamesWritten; }
+
+    // 파일 헤더를 포함해서 지금까지 쓴 비트 수
+    public long getBitsWritten() { return out.getBitsWritten(); }
+
+    @Override
+    public void flush() throws IOException {
+        stream.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        stream.close();
+    }
+
+    static int pieceBits(int piecesNum) {
+        return Integer.SIZE - Integer.numberOfLeadingZeros(piecesNum - 1);
+    }
+
+    private static void checkField(int value, int offset) {
+        if (value - offset < 0 || value - offset >= 1 << HEADER_FIELD_BITS) {
+            throw new IllegalArgumentException("Header field out of range: " + value);
+        }
+    }
+
+    private void checkInGame() {
+        if (pieceBits < 0) {
+            throw new IllegalStateException("beginGame() first");
+        }
+    }
+}
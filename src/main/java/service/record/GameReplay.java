@@ -0,0 +1,242 @@
+package service.record;
+
+import model.CompactGameState;
+import model.Game;
+import model.ThrowResult;
+import service.CompactMoveEngine;
+import service.ThrowModel;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * GameReplay
+ *
+ * 게임 기록(GameRecord)을 원하는 위치로 바로 옮겨 가며 볼 수 있게 하는 재생기
+ * -- 위치 = 적용한 이벤트 수 (0 = 시작 국면, getEventCount() = 마지막 국면)
+ * -- 이벤트는 GameController와 같은 순서로 압축 국면(CompactGameState)에 적용
+ *    (윷/모면 결과를 모으고, 모은 결과를 말 선택마다 차례대로 적용, 첫 결과가 빽도인데 움직일 말이 없으면 차례를 넘김)
+ * -- 키프레임: 처음 한 번 끝까지 적용하면서 keyframeInterval 이벤트마다 국면과 모아 둔 결과를 복사해 둠
+ *    seek는 가장 가까운 앞쪽 키프레임에서 시작하므로 게임 길이와 관계없이 최대 keyframeInterval개만 다시 적용
+ *    한 칸 뒤로 가기도 같은 방식 (직전 키프레임 + 몇 개 적용)
+ */
+public final class GameReplay {
+    public static final int DEFAULT_KEYFRAME_INTERVAL = 32;
+    private static final ThrowResult[] THROWS = ThrowResult.values();
+
+    private final GameRecord record;
+    private final CompactMoveEngine engine;
+    private final int keyframeInterval;
+    private final Frame[] keyframes;
+    private final int[] actors;      // 이벤트 --> 그 이벤트를 만든 플레이어
+    private final int[] turnStarts;  // 턴 --> 그 턴의 첫 이벤트 위치
+
+    // 현재 위치의 국면과 이번 턴에 모아 둔 결과
+    private final CompactGameState state;
+    private int[] pending = new int[8];
+    private int pendingCount;
+    private int pendingIndex; // 다음에 적용할 결과
+    private int position;
+
+    public GameReplay(GameRecord record) {
+        this(record, DEFAULT_KEYFRAME_INTERVAL);
+    }
+
+    /**
+     * 기록을 끝까지 한 번 적용해서 키프레임을 만듦 (규칙에 맞지 않는 기록이면 IllegalArgumentException)
+     */
+    public GameReplay(GameRecord record, int keyframeInterval) {
+        if (keyframeInterval < 1) {
+            throw new IllegalArgumentException("Keyframe interval must be positive: " + keyframeInterval);
+        }
+        this.record = record;
+        this.engine = CompactMoveEngine.forSpec(record.getSpec());
+        this.keyframeInterval = keyframeInterval;
+        this.state = new CompactGameState(record.getSpec(), engine.getBoard().getCellCount(),
+                record.getPlayersNum(), record.getPiecesNum());
+        state.setStarted(true);
+
+        int events = record.getEventCount();
+        this.keyframes = new Frame[events / keyframeInterval + 1];
+        this.actors = new int[events];
+        int[] starts = new int[events + 1];
+        int turns = 0;
+        for (int i = 0; i < events; i++) {
+            if (i % keyframeInterval == 0) {
+                keyframes[i / keyframeInterval] = new Frame(this);
+            }
+            if (pendingCount == 0) {
+                starts[turns++] = i;
+            }
+            actors[i] = state.getCurrentPlayer();
+            apply(record.getEvent(i), i);
+        }
+        if (events % keyframeInterval == 0) {
+            keyframes[events / keyframeInterval] = new Frame(this);
+        }
+        this.turnStarts = Arrays.copyOf(starts, turns);
+        this.position = events;
+    }
+
+    // —— 이동 —— //
+
+    /**
+     * position개의 이벤트를 적용한 국면으로 이동
+     */
+    public void seek(int position) {
+        if (position < 0 || position > record.getEventCount()) {
+            throw new IndexOutOfBoundsException("Replay position " + position + " of " + record.getEventCount());
+        }
+        int keyframe = position / keyframeInterval;
+        if (position < this.position || keyframe * keyframeInterval > this.position) {
+            keyframes[keyframe].restore(this);
+            this.position = keyframe * keyframeInterval;
+        }
+        while (this.position < position) {
+            apply(record.getEvent(this.position), this.position);
+            this.position++;
+        }
+    }
+
+    // turn번째 턴을 시작하기 직전(윷을 던지기 전)으로 이동
+    public void seekTurn(int turn) {
+        seek(turnStarts[turn]);
+    }
+
+    public boolean stepForward() {
+        if (position == record.getEventCount()) {
+            return false;
+        }
+        seek(position + 1);
+        return true;
+    }
+
+    public boolean stepBackward() {
+        if (position == 0) {
+            return false;
+        }
+        seek(position - 1);
+        return true;
+    }
+
+    // —— 조회 —— //
+
+    public GameRecord getRecord() { return record; }
+    public int getPosition() { return position; }
+    public int getEventCount() { return record.getEventCount(); }
+    public boolean isAtEnd() { return position == record.getEventCount(); }
+    public int getTurnCount() { return turnStarts.length; }
+    public int getTurnStart(int turn) { return turnStarts[turn]; }
+    public int getKeyframeInterval() { return keyframeInterval; }
+    public int getKeyframeCount() { return keyframes.length; }
+
+    // 이벤트를 만든 플레이어 (던진 사람, 말을 고른 사람)
+    public int getActor(int event) { return actors[event]; }
+
+    /**
+     * position이 속한 턴 번호 (position이 턴의 첫 이벤트면 그 턴)
+     */
+    public int getTurnAt(int position) {
+        int found = Arrays.binarySearch(turnStarts, position);
+        return found >= 0 ? found : Math.max(0, -found - 2);
+    }
+
+    /**
+     * 현재 국면 (읽기 전용, 다음 이동에서 바뀜)
+     */
+    public CompactGameState getState() {
+        return state;
+    }
+
+    // 이번 턴에 던져 두고 아직 적용하지 않은 결과들
+    public List<ThrowResult> getPendingThrows() {
+        List<ThrowResult> result = new ArrayList<>();
+        for (int i = pendingIndex; i < pendingCount; i++) {
+            result.add(THROWS[pending[i]]);
+        }
+        return result;
+    }
+
+    /**
+     * 현재 국면을 같은 설정의 Game에 적용 (화면 표시용)
+     */
+    public void restoreTo(Game game) {
+        state.restoreTo(game);
+    }
+
+    /**
+     * 기록과 같은 설정(보드, 인원, 말 수, seed)의 시작된 Game을 만들고 현재 국면을 적용
+     */
+    public Game newGame(String[] playerNames) {
+        Game game = new Game(record.getPlayersNum(), playerNames, record.getPiecesNum(), record.getSpec(),
+                ThrowModel.FAIR, record.getSeed());
+        game.startGame();
+        restoreTo(game);
+        return game;
+    }
+
+    // —— 이벤트 적용 (GameController.handleThrow / applyPieceChoice와 같은 흐름) —— //
+
+    private void apply(int event, int index) {
+        int player = state.getCurrentPlayer();
+        boolean choosing = pendingCount > 0 && !THROWS[pending[pendingCount - 1]].isExtraTurn();
+        if (!GameRecord.isMove(event)) {
+            if (choosing || state.isGameOver()) {
+                throw corrupt(index, "throw while choosing pieces");
+            }
+            if (pendingCount == pending.length) {
+                pending = Arrays.copyOf(pending, pendingCount * 2);
+            }
+            pending[pendingCount++] = event;
+            ThrowResult t = THROWS[event];
+            if (!t.isExtraTurn() && pendingCount == 1 && t == ThrowResult.BACK_DO
+                    && engine.hasNoMovablePiece(state, player, t)) {
+                endTurn(); // 움직일 말이 없어서 넘어감
+            }
+            return;
+        }
+        int piece = GameRecord.pieceOf(event);
+        if (!choosing || piece >= record.getPiecesNum()
+                || state.getCellCode(player, piece) == CompactGameState.FINISHED_CODE) {
+            throw corrupt(index, "unexpected move of piece " + piece);
+        }
+        engine.apply(state, player, piece, THROWS[pending[pendingIndex++]]);
+        if (state.isFinishedPlayer(player) || pendingIndex == pendingCount) {
+            endTurn(); // 다 도착했으면 남은 결과는 버림
+        }
+    }
+
+    private void endTurn() {
+        pendingCount = 0;
+        pendingIndex = 0;
+        engine.advanceTurn(state);
+    }
+
+    private static IllegalArgumentException corrupt(int index, String reason) {
+        return new IllegalArgumentException("Invalid game record at event " + index + ": " + reason);
+    }
+
+    // 키프레임: 국면과 이번 턴에 모아 둔 결과의 복사본
+    private static final class Frame {
+        private final CompactGameState state;
+        private final int[] pending;
+        private final int pendingIndex;
+
+        Frame(GameReplay replay) {
+            this.state = replay.state.copy();
+            this.pending = Arrays.copyOf(replay.pending, replay.pendingCount);
+            this.pendingIndex = replay.pendingIndex;
+        }
+
+        void restore(GameReplay replay) {
+            replay.state.copyFrom(state);
+            if (replay.pending.length < pending.length) {
+                replay.pending = Arrays.copyOf(pending, pending.length);
+            }
+            System.arraycopy(pending, 0, replay.pending, 0, pending.length);
+            replay.pendingCount = pending.length;
+            replay.pendingIndex = pendingIndex;
+        }
+    }
+}
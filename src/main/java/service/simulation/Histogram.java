@@ -0,0 +1,126 @@
+package service.simulation;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Histogram
+ *
+ * 0 이상의 정수 값(게임 길이, 잡은 횟수 등)의 분포를 모으는 히스토그램
+ * -- 0~63은 값마다 한 칸, 그 위는 2의 거듭제곱 구간마다 32칸 (구간 폭이 값의 1/32 이하 --> 백분위 오차 약 3% 이내)
+ *    칸 수가 값 범위와 관계없이 고정이라 합치기(merge)는 칸끼리 더하기만 하면 됨
+ * -- 쓰는 스레드는 하나(작업 스레드 하나가 자기 히스토그램만 씀)라고 보고 CAS 없이 lazySet으로 기록
+ *    다른 스레드는 실행 중에도 copy/merge로 읽을 수 있음 (칸마다 값은 정확하고, 칸 사이에는 최대 몇 건 차이)
+ */
+public final class Histogram {
+    private static final int LINEAR = 64;        // 값마다 한 칸인 구간 [0, 64)
+    private static final int SUB_BITS = 5;       // 2의 거듭제곱 구간 하나를 2^5 = 32칸으로 나눔
+    private static final int SUB_COUNT = 1 << SUB_BITS;
+    private static final int FIRST_EXPONENT = 6; // 64 = 2^6
+    static final int BUCKETS = LINEAR + (63 - FIRST_EXPONENT) * SUB_COUNT;
+
+    // 칸별 개수 뒤에 합계 3개 (개수, 합, 최댓값)
+    private static final int TOTAL_COUNT = BUCKETS;
+    private static final int TOTAL_SUM = BUCKETS + 1;
+    private static final int TOTAL_MAX = BUCKETS + 2;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS + 3);
+
+    /**
+     * 값 하나 기록 (이 히스토그램을 쓰는 스레드에서만 호출)
+     */
+    public void record(long value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("Negative value: " + value);
+        }
+        int bucket = bucketOf(value);
+        counts.lazySet(bucket, counts.get(bucket) + 1);
+        counts.lazySet(TOTAL_SUM, counts.get(TOTAL_SUM) + value);
+        if (value > counts.get(TOTAL_MAX)) {
+            counts.lazySet(TOTAL_MAX, value);
+        }
+        counts.lazySet(TOTAL_COUNT, counts.get(TOTAL_COUNT) + 1);
+    }
+
+    /**
+     * other의 값을 모두 이 히스토그램에 더함 (이 히스토그램에 다른 스레드가 쓰고 있지 않을 때만)
+     * @return this
+     */
+    public Histogram merge(Histogram other) {
+        for (int i = 0; i < BUCKETS; i++) {
+            long n = other.counts.get(i);
+            if (n != 0) {
+                counts.lazySet(i, counts.get(i) + n);
+            }
+        }
+        counts.lazySet(TOTAL_SUM, counts.get(TOTAL_SUM) + other.counts.get(TOTAL_SUM));
+        counts.lazySet(TOTAL_MAX, Math.max(counts.get(TOTAL_MAX), other.counts.get(TOTAL_MAX)));
+        counts.lazySet(TOTAL_COUNT, counts.get(TOTAL_COUNT) + other.counts.get(TOTAL_COUNT));
+        return this;
+    }
+
+    public Histogram copy() {
+        return new Histogram().merge(this);
+    }
+
+    public long getCount() { return counts.get(TOTAL_COUNT); }
+    public long getSum() { return counts.get(TOTAL_SUM); }
+    public long getMax() { return counts.get(TOTAL_MAX); }
+
+    public double getMean() {
+        long n = getCount();
+        return n == 0 ? 0.0 : (double) getSum() / n;
+    }
+
+    /**
+     * 값이 value인 기록 수 (value가 64 이상이면 value가 속한 칸 전체의 개수)
+     */
+    public long getBucketCount(long value) {
+        return counts.get(bucketOf(value));
+    }
+
+    /**
+     * percentile(0~100) 백분위 값: 그 순위가 속한 칸의 가장 큰 값 (최댓값을 넘지 않음), 기록이 없으면 0
+     */
+    public long getPercentile(double percentile) {
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            total += counts.get(i);
+        }
+        long rank = Math.max(1, (long) Math.ceil(total * percentile / 100.0));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                return Math.min(upperBoundOf(i), getMax());
+            }
+        }
+        return 0;
+    }
+
+    static int bucketOf(long value) {
+        if (value < LINEAR) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BITS;
+        return LINEAR + (exponent - FIRST_EXPONENT) * SUB_COUNT + (int) ((value >>> shift) - SUB_COUNT);
+    }
+
+    // 칸 bucket에 들어가는 가장 큰 값
+    static long upperBoundOf(int bucket) {
+        if (bucket < LINEAR) {
+            return bucket;
+        }
+        int exponent = FIRST_EXPONENT + (bucket - LINEAR) / SUB_COUNT;
+        int sub = (bucket - LINEAR) % SUB_COUNT;
+        int shift = exponent - SUB_BITS;
+        long upper = ((long) (SUB_COUNT + sub + 1) << shift) - 1;
+        return upper < 0 ? Long.MAX_VALUE : upper;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("n=%d, mean=%.2f, p50=%d, p90=%d, p99=%d, max=%d",
+                getCount(), getMean(), getPercentile(50), getPercentile(90), getPercentile(99), getMax());
+    }
+}
@@ -0,0 +1,26 @@
+package service.simulation;
+
+import model.Game;
+import model.Piece;
+import model.Player;
+import model.ThrowResult;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * PiecePolicy
+ *
+ * -- UI 없이 게임을 돌릴 때 GameController.onPieceClicked 대신 "어떤 말을 움직일지" 결정하는 전략
+ * -- 구현체는 여러 게임/스레드에서 공유되므로 내부 상태를 갖지 않도록 작성함 (난수는 random 인자로만 사용)
+ */
+public interface PiecePolicy {
+
+    /**
+     * @param game        현재 게임
+     * @param player      현재 차례인 플레이어
+     * @param throwResult 이번에 적용할 윷 결과
+     * @param random      게임마다 주어지는 난수 생성기
+     * @return 이동할 말 (FINISHED 상태가 아닌 player의 말), 움직일 말이 없으면 null
+     */
+    Piece selectPiece(Game game, Player player, ThrowResult throwResult, RandomGenerator random);
+}
@@ -0,0 +1,111 @@
+package service.simulation;
+
+import model.CompactGameState;
+import model.Piece;
+import model.PieceState;
+import model.Player;
+import service.CompactMoveEngine;
+
+import java.util.List;
+
+/**
+ * 기본 제공 PiecePolicy 모음
+ * -- FIRST: Player.selectPiece()와 같이 아직 도착하지 않은 첫 번째 말 선택
+ * -- RANDOM: 아직 도착하지 않은 말 중 무작위 선택
+ * -- FURTHEST_FIRST: 보드 위에서 가장 많이 이동한 말(경로가 가장 긴 말)을 우선 선택
+ * -- GREEDY_CAPTURE: 말마다 이동을 미리 두어 보고 상대 말을 가장 많이 잡는 말 선택, 잡을 수 없으면 FURTHEST_FIRST
+ */
+public final class Policies {
+
+    public static final PiecePolicy FIRST = (game, player, throwResult, random) -> player.selectPiece();
+
+    public static final PiecePolicy RANDOM = (game, player, throwResult, random) -> {
+        List<Piece> pieces = player.getPieces();
+        int movable = countMovable(player);
+        if (movable == 0) {
+            return null;
+        }
+        // movable개 중 k번째 말 선택 (리스트를 새로 만들지 않고 한 번 더 순회)
+        int k = random.nextInt(movable);
+        for (Piece piece : pieces) {
+            if (piece.getState() != PieceState.FINISHED && k-- == 0) {
+                return piece;
+            }
+        }
+        return null;
+    };
+
+    public static final PiecePolicy FURTHEST_FIRST = (game, player, throwResult, random) -> {
+        Piece best = null;
+        int bestProgress = -1;
+        for (Piece piece : player.getPieces()) {
+            if (piece.getState() == PieceState.FINISHED) continue;
+            int progress = piece.getState() == PieceState.ON_BOARD ? piece.getPathLength() : 0;
+            if (progress > bestProgress) {
+                best = piece;
+                bestProgress = progress;
+            }
+        }
+        return best;
+    };
+
+    public static final PiecePolicy GREEDY_CAPTURE = (game, player, throwResult, random) -> {
+        // 압축 국면에서 말마다 이동해 보고 판 위 상대 말이 가장 많이 줄어드는 말을 고름
+        CompactGameState state = CompactGameState.of(game);
+        CompactGameState next = state.copy();
+        CompactMoveEngine engine = CompactMoveEngine.forBoard(game.getBoard());
+        int seat = player.getId();
+        int opponentsBefore = countOpponentsOnBoard(state, seat);
+        int[] moves = new int[state.getPiecesNum()];
+        int count = player.legalMoves(throwResult, moves);
+        Piece best = null;
+        int bestCaptured = 0;
+        for (int k = 0; k < count; k++) {
+            next.copyFrom(state);
+            engine.apply(next, seat, moves[k], throwResult);
+            int captured = opponentsBefore - countOpponentsOnBoard(next, seat);
+            if (captured > bestCaptured) {
+                best = player.getPieces().get(moves[k]);
+                bestCaptured = captured;
+            }
+        }
+        return best != null ? best : FURTHEST_FIRST.selectPiece(game, player, throwResult, random);
+    };
+
+    private Policies() {
+    }
+
+    /**
+     * 이름으로 기본 정책을 찾음 (SimulationMain 인자 처리용)
+     */
+    public static PiecePolicy byName(String name) {
+        return switch (name.toLowerCase()) {
+            case "first" -> FIRST;
+            case "random" -> RANDOM;
+            case "furthest" -> FURTHEST_FIRST;
+            case "greedy" -> GREEDY_CAPTURE;
+            default -> throw new IllegalArgumentException("Unknown policy: " + name);
+        };
+    }
+
+    private static int countOpponentsOnBoard(CompactGameState state, int seat) {
+        int count = 0;
+        for (int p = 0; p < state.getPlayersNum(); p++) {
+            if (p == seat) continue;
+            for (int i = 0; i < state.getPiecesNum(); i++) {
+                if (state.getPieceState(p, i) == PieceState.ON_BOARD) count++;
+            }
+        }
+        return count;
+    }
+
+    private static int countMovable(Player player) {
+        int count = 0;
+        for (Piece piece : player.getPieces()) {
+            if (piece.getState() != PieceState.FINISHED) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
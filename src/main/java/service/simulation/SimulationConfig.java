@@ -0,0 +1,79 @@
+package service.simulation;
+
+import model.BoardSpec;
+import service.ThrowModel;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * SimulationConfig
+ *
+ * -- 한 번의 시뮬레이션 실행 설정 (보드 모양, 플레이어 수, 말 수, 게임 수, 병렬도, 좌석별 정책, 윷 모델, seed)
+ * -- seed를 지정하지 않으면 무작위 (SimulationReport에 찍히므로 같은 결과를 다시 낼 수 있음)
+ * -- 좌석별 정책을 따로 지정하지 않으면 모든 좌석이 Policies.RANDOM 사용
+ */
+public class SimulationConfig {
+    private final BoardSpec boardSpec;
+    private final int playersNum;
+    private final int piecesNum;
+    private final long games;
+
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+    private int maxTurns = 10_000; // 무한 루프 방지용 (빽도 반복 등), 초과하면 중단된 게임으로 집계
+    private final PiecePolicy[] seatPolicies;
+    private ThrowModel throwModel = ThrowModel.FAIR;
+    private long seed = ThreadLocalRandom.current().nextLong();
+
+    public SimulationConfig(BoardSpec boardSpec, int playersNum, int piecesNum, long games) {
+        if (playersNum < 2 || playersNum > 4) {
+            throw new IllegalArgumentException("playersNum must be 2..4: " + playersNum);
+        }
+        if (piecesNum < 2 || piecesNum > 5) {
+            throw new IllegalArgumentException("piecesNum must be 2..5: " + piecesNum);
+        }
+        this.boardSpec = boardSpec;
+        this.playersNum = playersNum;
+        this.piecesNum = piecesNum;
+        this.games = games;
+        this.seatPolicies = new PiecePolicy[playersNum];
+        Arrays.fill(seatPolicies, Policies.RANDOM);
+    }
+
+    // --- Getter --- //
+    public BoardSpec getBoardSpec() { return boardSpec; }
+    public int getPlayersNum() { return playersNum; }
+    public int getPiecesNum() { return piecesNum; }
+    public long getGames() { return games; }
+    public int getParallelism() { return parallelism; }
+    public int getMaxTurns() { return maxTurns; }
+    public PiecePolicy getSeatPolicy(int seat) { return seatPolicies[seat]; }
+    public ThrowModel getThrowModel() { return throwModel; }
+    public long getSeed() { return seed; }
+
+    // --- Setter --- //
+    public SimulationConfig setParallelism(int parallelism) {
+        this.parallelism = Math.max(1, parallelism);
+        return this;
+    }
+    public SimulationConfig setMaxTurns(int maxTurns) {
+        this.maxTurns = maxTurns;
+        return this;
+    }
+    public SimulationConfig setSeatPolicy(int seat, PiecePolicy policy) {
+        this.seatPolicies[seat] = policy;
+        return this;
+    }
+    public SimulationConfig setAllPolicies(PiecePolicy policy) {
+        Arrays.fill(seatPolicies, policy);
+        return this;
+    }
+    public SimulationConfig setThrowModel(ThrowModel throwModel) {
+        this.throwModel = throwModel;
+        return this;
+    }
+    public SimulationConfig setSeed(long seed) {
+        this.seed = seed;
+        return this;
+    }
+}
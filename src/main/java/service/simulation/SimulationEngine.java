@@ -0,0 +1,208 @@
+package service.simulation;
+
+import model.Game;
+import model.Piece;
+import model.PieceState;
+import model.Player;
+import model.ThrowResult;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.random.RandomGenerator;
+
+/**
+ * SimulationEngine
+ *
+ * -- View/Controller 없이 model/service 계층만으로 게임을 처음부터 끝까지 진행함
+ * -- GameController의 턴 흐름(추가 던지기 모으기 --> 던진 순서대로 말 선택/이동 --> 다음 턴)을 그대로 따름
+ * -- 게임 구간을 ForkJoinPool(work-stealing)에 RecursiveTask로 나누어 모든 코어에서 실행
+ * -- g번째 게임의 seed는 (설정 seed, g)로만 정해지므로 스레드 수, 작업 분할과 관계없이 같은 seed면 같은 결과
+ * -- SimulationStats를 주면 작업 스레드마다 Recorder 하나로 이동(잡기/업기)과 게임 결과를 기록 (실행 중에도 읽을 수 있음)
+ */
+public class SimulationEngine {
+    // 더 이상 쪼개지 않고 한 작업에서 연속으로 돌릴 게임 수
+    private static final int BATCH_SIZE = 256;
+    private static final String[] PLAYER_NAMES = {"P1", "P2", "P3", "P4"};
+
+    private final SimulationConfig config;
+    private final ThreadLocal<SimulationStats.Recorder> recorders; // 통계를 모으지 않으면 null
+
+    public SimulationEngine(SimulationConfig config) {
+        this(config, null);
+    }
+
+    public SimulationEngine(SimulationConfig config, SimulationStats stats) {
+        this.config = config;
+        this.recorders = stats == null ? null : ThreadLocal.withInitial(
+                () -> stats.recorder(config.getBoardSpec(), config.getPlayersNum(), config.getPiecesNum()));
+    }
+
+    /**
+     * 설정된 게임 수만큼 병렬로 실행하고 결과를 집계해서 반환
+     */
+    public SimulationReport run() {
+        ForkJoinPool pool = new ForkJoinPool(config.getParallelism());
+        try {
+            long startNanos = System.nanoTime();
+            SimulationTally tally = pool.invoke(new SimulationTask(0, config.getGames()));
+            long elapsed = System.nanoTime() - startNanos;
+            return new SimulationReport(config, tally, elapsed);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * master seed의 gameIndex번째 게임 seed (SplitMix64: 이웃한 번호끼리도 상관없는 값)
+     */
+    public static long gameSeed(long masterSeed, long gameIndex) {
+        long z = masterSeed + (gameIndex + 1) * 0x9E37_79B9_7F4A_7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58_476D_1CE4_E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D0_49BB_1331_11EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * 게임 한 판을 끝까지 진행
+     * @return 진행한 턴 수 (maxTurns를 넘겨 중단되면 -1)
+     */
+    public static int playGame(Game game, PiecePolicy[] seatPolicies, RandomGenerator random, int maxTurns) {
+        return playGame(game, seatPolicies, random, maxTurns, null);
+    }
+
+    /**
+     * 게임 한 판을 끝까지 진행하면서 이동마다 recorder.onMove 호출 (게임 결과는 호출한 쪽에서 기록)
+     * @param recorder 통계를 모으지 않으면 null
+     */
+    public static int playGame(Game game, PiecePolicy[] seatPolicies, RandomGenerator random, int maxTurns,
+                               SimulationStats.Recorder recorder) {
+        game.startGame();
+        int turns = 0;
+        while (!game.isGameOver()) {
+            if (turns++ >= maxTurns) {
+                return -1;
+            }
+            playOneTurn(game, seatPolicies[game.getCurrentPlayer().getId()], random, recorder);
+            if (game.isGameOver()) {
+                break;
+            }
+            game.advanceTurn();
+        }
+        return turns;
+    }
+
+    // GameController의 onRandomThrowClicked --> onPieceClicked --> nextTurn 흐름을 UI 없이 재현
+    private static void playOneTurn(Game game, PiecePolicy policy, RandomGenerator random,
+                                    SimulationStats.Recorder recorder) {
+        Player player = game.getCurrentPlayer();
+
+        // 1) 윷/모가 나오는 동안 계속 던져서 결과를 모아둠
+        List<ThrowResult> results = new ArrayList<>(4);
+        ThrowResult result;
+        do {
+            result = game.getThrowService().throwRandom();
+            results.add(result);
+        } while (result.isExtraTurn());
+
+        // 2) 첫 결과가 빽도인데 움직일 말이 없으면 바로 턴 종료
+        if (results.size() == 1 && result == ThrowResult.BACK_DO && player.hasNoMovablePiece(result)) {
+            return;
+        }
+
+        // 3) 모아둔 결과를 던진 순서대로 적용
+        for (ThrowResult tr : results) {
+            Piece selected = policy.selectPiece(game, player, tr, random);
+            if (selected == null) {
+                return;
+            }
+            if (recorder == null) {
+                game.playTurn(player, tr, selected);
+            } else {
+                int opponentsBefore = countOpponentsOnBoard(game, player);
+                int groupBefore = groupSize(selected);
+                game.playTurn(player, tr, selected);
+                recorder.onMove(opponentsBefore - countOpponentsOnBoard(game, player), groupSize(selected) > groupBefore);
+            }
+            if (player.checkAllPiecesFinished()) {
+                // 남은 결과는 의미가 없으므로 버림 (GameController와 동일)
+                return;
+            }
+        }
+    }
+
+    // 판 위에 있는 상대 말 수 (내 이동 전후로 줄어든 만큼이 잡은 말)
+    private static int countOpponentsOnBoard(Game game, Player player) {
+        int count = 0;
+        for (Player other : game.getPlayers()) {
+            if (other == player) continue;
+            for (Piece piece : other.getPieces()) {
+                if (piece.getState() == PieceState.ON_BOARD) count++;
+            }
+        }
+        return count;
+    }
+
+    // 말이 속한 묶음의 크기 (이동 후 커졌으면 업은 것)
+    private static int groupSize(Piece piece) {
+        return piece.getGroup() == null ? 1 : piece.getGroup().size();
+    }
+
+    /**
+     * [from, to) 구간의 게임을 실행하는 작업, BATCH_SIZE보다 크면 반으로 나눠 fork
+     */
+    @SuppressWarnings("serial")
+    private class SimulationTask extends RecursiveTask<SimulationTally> {
+        private final long from;
+        private final long to;
+
+        SimulationTask(long from, long to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected SimulationTally compute() {
+            if (to - from <= BATCH_SIZE) {
+                return runBatch();
+            }
+            long mid = (from + to) >>> 1;
+            SimulationTask left = new SimulationTask(from, mid);
+            SimulationTask right = new SimulationTask(mid, to);
+            left.fork();
+            SimulationTally rightTally = right.compute();
+            return left.join().merge(rightTally);
+        }
+
+        private SimulationTally runBatch() {
+            int playersNum = config.getPlayersNum();
+            SimulationTally tally = new SimulationTally(playersNum);
+            PiecePolicy[] policies = new PiecePolicy[playersNum];
+            for (int seat = 0; seat < playersNum; seat++) {
+                policies[seat] = config.getSeatPolicy(seat);
+            }
+            String[] names = Arrays.copyOf(PLAYER_NAMES, playersNum);
+            SimulationStats.Recorder recorder = recorders == null ? null : recorders.get();
+
+            for (long g = from; g < to; g++) {
+                Game game = new Game(playersNum, names, config.getPiecesNum(), config.getBoardSpec(),
+                        config.getThrowModel(), gameSeed(config.getSeed(), g));
+                RandomGenerator random = game.splitRandom();
+                int turns = playGame(game, policies, random, config.getMaxTurns(), recorder);
+                if (turns < 0) {
+                    tally.abortedGames++;
+                    if (recorder != null) recorder.onGameAborted();
+                    continue;
+                }
+                int winner = game.getRanking().get(0).getId();
+                tally.completedGames++;
+                tally.totalTurns += turns;
+                tally.winsBySeat[winner]++;
+                if (recorder != null) recorder.onGameEnd(winner, turns);
+            }
+            return tally;
+        }
+    }
+}
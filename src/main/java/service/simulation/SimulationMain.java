@@ -0,0 +1,64 @@
+package service.simulation;
+
+import model.BoardShape;
+import model.BoardSpec;
+import service.ThrowModel;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 콘솔에서 시뮬레이션을 실행하는 진입점
+ * 사용법: SimulationMain [보드모양] [플레이어 수] [말 수] [게임 수] [스레드 수] [정책] [윷이 뒤집어질 확률] [seed]
+ * 예) SimulationMain SQUARE 2 4 1000000 8 random 0.6 42
+ * 실행 중에는 5초마다 진행한 게임 수와 지금까지의 좌석별 승률을 출력하고, 끝나면 분포(턴, 잡기, 업기)까지 출력
+ */
+public class SimulationMain {
+    public static void main(String[] args) {
+        BoardSpec spec = args.length > 0 ? BoardSpec.parse(args[0]) : BoardShape.SQUARE.getSpec();
+        int players = args.length > 1 ? Integer.parseInt(args[1]) : 2;
+        int pieces = args.length > 2 ? Integer.parseInt(args[2]) : 4;
+        long games = args.length > 3 ? Long.parseLong(args[3]) : 100_000;
+
+        SimulationConfig config = new SimulationConfig(spec, players, pieces, games);
+        if (args.length > 4) {
+            config.setParallelism(Integer.parseInt(args[4]));
+        }
+        if (args.length > 5) {
+            config.setAllPolicies(Policies.byName(args[5]));
+        }
+        if (args.length > 6) {
+            config.setThrowModel(ThrowModel.ofUniformSticks(Double.parseDouble(args[6])));
+        }
+        if (args.length > 7) {
+            config.setSeed(Long.parseLong(args[7]));
+        }
+
+        SimulationStats stats = new SimulationStats();
+        ScheduledExecutorService progress = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "simulation-progress");
+            thread.setDaemon(true);
+            return thread;
+        });
+        progress.scheduleAtFixedRate(() -> printProgress(stats, games), 5, 5, TimeUnit.SECONDS);
+        try {
+            SimulationReport report = new SimulationEngine(config, stats).run();
+            System.out.println(report);
+            System.out.print(stats);
+        } finally {
+            progress.shutdownNow();
+        }
+    }
+
+    private static void printProgress(SimulationStats stats, long games) {
+        for (SimulationStats.Snapshot snapshot : stats.snapshot()) {
+            StringBuilder sb = new StringBuilder(String.format("%,d / %,d games, win rate",
+                    snapshot.getCompletedGames() + snapshot.getAbortedGames(), games));
+            for (int seat = 0; seat < snapshot.getPlayersNum(); seat++) {
+                sb.append(String.format(" %.4f", snapshot.getWinRate(seat)));
+            }
+            System.out.println(sb);
+        }
+    }
+}
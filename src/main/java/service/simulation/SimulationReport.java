@@ -0,0 +1,60 @@
+package service.simulation;
+
+/**
+ * SimulationReport
+ *
+ * -- 시뮬레이션 실행 결과: 완료/중단된 게임 수, 좌석별 1등 횟수, 평균 턴 수, 처리량(games/second)
+ */
+public class SimulationReport {
+    private final SimulationConfig config;
+    private final long completedGames;
+    private final long abortedGames;
+    private final long totalTurns;
+    private final long[] winsBySeat;
+    private final long elapsedNanos;
+
+    SimulationReport(SimulationConfig config, SimulationTally tally, long elapsedNanos) {
+        this.config = config;
+        this.completedGames = tally.completedGames;
+        this.abortedGames = tally.abortedGames;
+        this.totalTurns = tally.totalTurns;
+        this.winsBySeat = tally.winsBySeat.clone();
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public long getCompletedGames() { return completedGames; }
+    public long getAbortedGames() { return abortedGames; }
+    public long getTotalTurns() { return totalTurns; }
+    public long getWins(int seat) { return winsBySeat[seat]; }
+    public long getElapsedNanos() { return elapsedNanos; }
+
+    // 좌석별 승률 (1등으로 모든 말을 내보낸 비율)
+    public double getWinRate(int seat) {
+        return completedGames == 0 ? 0.0 : (double) winsBySeat[seat] / completedGames;
+    }
+
+    public double getAverageTurns() {
+        return completedGames == 0 ? 0.0 : (double) totalTurns / completedGames;
+    }
+
+    public double getGamesPerSecond() {
+        long games = completedGames + abortedGames;
+        return elapsedNanos == 0 ? 0.0 : games * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("[%s, %d players, %d pieces, %d threads, seed %d]%n",
+                config.getBoardSpec(), config.getPlayersNum(), config.getPiecesNum(), config.getParallelism(),
+                config.getSeed()));
+        sb.append(String.format("games: %d (aborted %d), avg turns: %.2f%n",
+                completedGames, abortedGames, getAverageTurns()));
+        for (int seat = 0; seat < winsBySeat.length; seat++) {
+            sb.append(String.format("  seat %d win rate: %.4f%n", seat, getWinRate(seat)));
+        }
+        sb.append(String.format("elapsed: %.3f s, throughput: %.0f games/s",
+                elapsedNanos / 1e9, getGamesPerSecond()));
+        return sb.toString();
+    }
+}
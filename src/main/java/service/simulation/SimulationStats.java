@@ -0,0 +1,269 @@
+package service.simulation;
+
+import model.BoardSpec;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * SimulationStats
+ *
+ * 수백만 판 시뮬레이션의 통계를 실행 중에도 읽을 수 있게 모으는 집계기
+ * -- (보드 모양, 플레이어 수, 말 수)마다 따로 모음: 좌석별 1등 횟수, 완료/중단 게임, 턴/이동/잡기/업기 합계
+ *    게임 길이(턴), 한 판의 잡기 수, 한 판의 업기 수는 분포(Histogram)로 모음
+ * -- 작업 스레드마다 recorder()로 Recorder 하나를 받아서 씀
+ *    이동 이벤트는 Recorder 안의 일반 필드에만 더하고, 게임이 끝날 때 한 번 LongAdder(스레드별로 나뉜 카운터)와
+ *    그 스레드 전용 히스토그램으로 옮기므로 스레드가 많아도 서로 기다리지 않음
+ * -- snapshot()은 LongAdder 합계와 모든 Recorder의 히스토그램을 합친 복사본 (실행 중에도 언제든 호출 가능)
+ */
+public final class SimulationStats {
+    private final Map<Key, Segment> segments = new ConcurrentHashMap<>();
+
+    /**
+     * (모양, 플레이어 수, 말 수) 게임을 기록할 Recorder (한 스레드에서만 쓸 것)
+     */
+    public Recorder recorder(BoardSpec spec, int playersNum, int piecesNum) {
+        Key key = new Key(spec, playersNum, piecesNum);
+        Segment segment = segments.computeIfAbsent(key, Segment::new);
+        Recorder recorder = new Recorder(segment);
+        segment.recorders.add(recorder);
+        return recorder;
+    }
+
+    /**
+     * 지금까지 모은 통계 (모양 코드, 플레이어 수, 말 수 순)
+     */
+    public List<Snapshot> snapshot() {
+        List<Snapshot> snapshots = new ArrayList<>();
+        for (Segment segment : segments.values()) {
+            snapshots.add(segment.snapshot());
+        }
+        snapshots.sort(Comparator.comparingInt((Snapshot s) -> s.getSpec().getCode())
+                .thenComparingInt(Snapshot::getPlayersNum)
+                .thenComparingInt(Snapshot::getPiecesNum));
+        return snapshots;
+    }
+
+    /**
+     * 설정 하나의 통계 (아직 기록이 없으면 null)
+     */
+    public Snapshot snapshot(BoardSpec spec, int playersNum, int piecesNum) {
+        Segment segment = segments.get(new Key(spec, playersNum, piecesNum));
+        return segment == null ? null : segment.snapshot();
+    }
+
+    // 모든 설정의 끝난 게임 수 (완료 + 중단)
+    public long getGames() {
+        long games = 0;
+        for (Segment segment : segments.values()) {
+            games += segment.completedGames.sum() + segment.abortedGames.sum();
+        }
+        return games;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        for (Snapshot snapshot : snapshot()) {
+            sb.append(snapshot).append(System.lineSeparator());
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 작업 스레드 하나가 쓰는 기록기
+     * -- onMove: 수마다 호출 (필드 더하기만 함)
+     * -- onGameEnd/onGameAborted: 판마다 한 번, 이번 판의 값을 공유 카운터와 히스토그램으로 옮기고 초기화
+     */
+    public static final class Recorder {
+        private final Segment segment;
+        private final Histogram gameLength = new Histogram();
+        private final Histogram capturesPerGame = new Histogram();
+        private final Histogram groupingsPerGame = new Histogram();
+
+        // 이번 판에서 센 값
+        private long moves;
+        private long captures;
+        private long groupings;
+
+        private Recorder(Segment segment) {
+            this.segment = segment;
+        }
+
+        /**
+         * 말 이동 하나
+         * @param captured 이번 이동으로 잡은 상대 말 수
+         * @param grouped 이번 이동으로 내 말을 업었으면 true
+         */
+        public void onMove(int captured, boolean grouped) {
+            moves++;
+            if (captured > 0) {
+                captures += captured;
+            }
+            if (grouped) {
+                groupings++;
+            }
+        }
+
+        /**
+         * 게임이 끝남
+         * @param winnerSeat 1등 좌석
+         * @param turns 진행한 턴 수
+         */
+        public void onGameEnd(int winnerSeat, int turns) {
+            segment.completedGames.increment();
+            segment.winsBySeat[winnerSeat].increment();
+            segment.turns.add(turns);
+            segment.moves.add(moves);
+            segment.captures.add(captures);
+            segment.groupings.add(groupings);
+            gameLength.record(turns);
+            capturesPerGame.record(captures);
+            groupingsPerGame.record(groupings);
+            resetGame();
+        }
+
+        // maxTurns를 넘겨 중단된 게임 (분포에는 넣지 않음)
+        public void onGameAborted() {
+            segment.abortedGames.increment();
+            resetGame();
+        }
+
+        private void resetGame() {
+            moves = 0;
+            captures = 0;
+            groupings = 0;
+        }
+    }
+
+    /**
+     * 설정 하나의 통계 복사본 (만든 뒤에는 바뀌지 않음)
+     */
+    public static final class Snapshot {
+        private final BoardSpec spec;
+        private final int playersNum;
+        private final int piecesNum;
+        private final long completedGames;
+        private final long abortedGames;
+        private final long[] winsBySeat;
+        private final long turns;
+        private final long moves;
+        private final long captures;
+        private final long groupings;
+        private final Histogram gameLength;
+        private final Histogram capturesPerGame;
+        private final Histogram groupingsPerGame;
+
+        private Snapshot(Segment segment) {
+            Key key = segment.key;
+            this.spec = key.spec;
+            this.playersNum = key.playersNum;
+            this.piecesNum = key.piecesNum;
+            this.winsBySeat = new long[playersNum];
+            for (int seat = 0; seat < playersNum; seat++) {
+                winsBySeat[seat] = segment.winsBySeat[seat].sum();
+            }
+            this.completedGames = segment.completedGames.sum();
+            this.abortedGames = segment.abortedGames.sum();
+            this.turns = segment.turns.sum();
+            this.moves = segment.moves.sum();
+            this.captures = segment.captures.sum();
+            this.groupings = segment.groupings.sum();
+            this.gameLength = new Histogram();
+            this.capturesPerGame = new Histogram();
+            this.groupingsPerGame = new Histogram();
+            for (Recorder recorder : segment.recorders) {
+                gameLength.merge(recorder.gameLength);
+                capturesPerGame.merge(recorder.capturesPerGame);
+                groupingsPerGame.merge(recorder.groupingsPerGame);
+            }
+        }
+
+        public BoardSpec getSpec() { return spec; }
+        public int getPlayersNum() { return playersNum; }
+        public int getPiecesNum() { return piecesNum; }
+        public long getCompletedGames() { return completedGames; }
+        public long getAbortedGames() { return abortedGames; }
+        public long getWins(int seat) { return winsBySeat[seat]; }
+        public long getTotalTurns() { return turns; }
+        public long getTotalMoves() { return moves; }
+        public long getTotalCaptures() { return captures; }
+        public long getTotalGroupings() { return groupings; }
+        public Histogram getGameLength() { return gameLength; }
+        public Histogram getCapturesPerGame() { return capturesPerGame; }
+        public Histogram getGroupingsPerGame() { return groupingsPerGame; }
+
+        // 좌석별 승률 (1등 횟수 / 완료된 게임 수)
+        public double getWinRate(int seat) {
+            return completedGames == 0 ? 0.0 : (double) winsBySeat[seat] / completedGames;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder();
+            sb.append(String.format("[%s, %d players, %d pieces] games: %d (aborted %d)%n",
+                    spec, playersNum, piecesNum, completedGames, abortedGames));
+            for (int seat = 0; seat < playersNum; seat++) {
+                sb.append(String.format("  seat %d win rate: %.4f%n", seat, getWinRate(seat)));
+            }
+            sb.append("  turns: ").append(gameLength).append(System.lineSeparator());
+            sb.append("  captures: ").append(capturesPerGame).append(System.lineSeparator());
+            sb.append("  groupings: ").append(groupingsPerGame);
+            return sb.toString();
+        }
+    }
+
+    // 설정 하나의 공유 카운터와 그 설정을 기록하는 Recorder 목록
+    private static final class Segment {
+        private final Key key;
+        private final LongAdder completedGames = new LongAdder();
+        private final LongAdder abortedGames = new LongAdder();
+        private final LongAdder turns = new LongAdder();
+        private final LongAdder moves = new LongAdder();
+        private final LongAdder captures = new LongAdder();
+        private final LongAdder groupings = new LongAdder();
+        private final LongAdder[] winsBySeat;
+        private final List<Recorder> recorders = new CopyOnWriteArrayList<>();
+
+        Segment(Key key) {
+            this.key = key;
+            this.winsBySeat = new LongAdder[key.playersNum];
+            for (int seat = 0; seat < winsBySeat.length; seat++) {
+                winsBySeat[seat] = new LongAdder();
+            }
+        }
+
+        Snapshot snapshot() {
+            return new Snapshot(this);
+        }
+    }
+
+    private static final class Key {
+        private final BoardSpec spec;
+        private final int playersNum;
+        private final int piecesNum;
+
+        Key(BoardSpec spec, int playersNum, int piecesNum) {
+            this.spec = spec;
+            this.playersNum = playersNum;
+            this.piecesNum = piecesNum;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Key other && other.spec == spec
+                    && other.playersNum == playersNum && other.piecesNum == piecesNum;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(spec, playersNum, piecesNum);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package service.simulation;
+
+/**
+ * 작업 단위(RecursiveTask)마다 따로 쌓는 집계값
+ * -- 스레드 간 공유하지 않고, fork/join 결과를 합칠 때만 merge함
+ */
+class SimulationTally {
+    long completedGames;
+    long abortedGames;
+    long totalTurns;
+    final long[] winsBySeat;
+
+    SimulationTally(int playersNum) {
+        this.winsBySeat = new long[playersNum];
+    }
+
+    SimulationTally merge(SimulationTally other) {
+        completedGames += other.completedGames;
+        abortedGames += other.abortedGames;
+        totalTurns += other.totalTurns;
+        for (int i = 0; i < winsBySeat.length; i++) {
+            winsBySeat[i] += other.winsBySeat[i];
+        }
+        return this;
+    }
+}
@@ -0,0 +1,207 @@
+package service.simulation;
+
+import model.BoardSpec;
+import model.Game;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Tournament
+ *
+ * -- 참가자 모든 쌍 x 보드 모양마다 2인전 대진을 만들고, 모든 대진을 ForkJoinPool에서 동시에 진행하는 리그전
+ * -- 대진 안에서는 게임을 batchGames씩 나눠 진행: 한 묶음을 다시 작은 작업으로 쪼개 여러 코어에서 두고,
+ *    묶음이 끝날 때마다 조기 종료 여부를 판단 (판단은 끝난 묶음의 결과로만 하므로 스레드 수와 관계없이 같은 결과)
+ *    단, 참가자가 국면과 seed만으로 수를 정할 때 (시간 예산으로 탐색하는 봇은 기계 부하에 따라 수가 달라짐)
+ * -- 2k번째와 2k+1번째 게임은 seed가 같고 자리만 바꿈 (같은 윷 결과를 양쪽이 한 번씩 선공으로 받음)
+ *    같은 보드 모양의 모든 대진은 같은 seed 열을 쓰므로 대진 사이의 비교도 같은 윷 운 위에서 이루어짐
+ * -- 봇 정책(TournamentEntrant)은 작업 스레드마다 하나씩 만들어 쓰고, 리그전이 끝나면 만든 봇을 모두 닫음
+ */
+public class Tournament {
+    // 더 이상 쪼개지 않고 한 작업에서 연속으로 둘 게임 수 (짝수)
+    private static final int CHUNK_GAMES = 16;
+    private static final String[] PLAYER_NAMES = {"P1", "P2"};
+
+    private final TournamentConfig config;
+    private final List<ThreadLocal<PiecePolicy>> policies = new ArrayList<>();
+
+    public Tournament(TournamentConfig config) {
+        this.config = config;
+        for (TournamentEntrant entrant : config.getEntrants()) {
+            policies.add(ThreadLocal.withInitial(entrant::newPolicy));
+        }
+    }
+
+    /**
+     * 모든 대진을 진행하고 결과를 모아서 반환
+     */
+    public TournamentReport run() {
+        List<PairingTask> pairings = new ArrayList<>();
+        List<BoardSpec> specs = config.getSpecs();
+        int entrants = config.getEntrants().size();
+        for (int s = 0; s < specs.size(); s++) {
+            long specSeed = SimulationEngine.gameSeed(config.getSeed(), s);
+            for (int a = 0; a < entrants; a++) {
+                for (int b = a + 1; b < entrants; b++) {
+                    pairings.add(new PairingTask(specs.get(s), specSeed, a, b));
+                }
+            }
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(config.getParallelism());
+        try {
+            long startNanos = System.nanoTime();
+            pool.invoke(new RoundRobinTask(pairings));
+            long elapsed = System.nanoTime() - startNanos;
+
+            List<TournamentReport.PairingResult> results = new ArrayList<>(pairings.size());
+            for (PairingTask pairing : pairings) {
+                results.add(pairing.join());
+            }
+            return new TournamentReport(config, results, elapsed);
+        } finally {
+            pool.shutdown();
+            for (TournamentEntrant entrant : config.getEntrants()) {
+                entrant.closeBots();
+            }
+        }
+    }
+
+    // 대진별 집계 (작업마다 따로 쌓고 합칠 때만 merge)
+    private static final class Tally {
+        int games;
+        int firstWins;   // 대진의 첫 번째 참가자(a) 승
+        int secondWins;  // 두 번째 참가자(b) 승
+        int draws;       // maxTurns를 넘겨 중단된 게임 (0.5승씩)
+        int firstSeatWins;
+
+        Tally merge(Tally other) {
+            games += other.games;
+            firstWins += other.firstWins;
+            secondWins += other.secondWins;
+            draws += other.draws;
+            firstSeatWins += other.firstSeatWins;
+            return this;
+        }
+    }
+
+    @SuppressWarnings("serial")
+    private static final class RoundRobinTask extends RecursiveAction {
+        private final List<PairingTask> pairings;
+
+        RoundRobinTask(List<PairingTask> pairings) {
+            this.pairings = pairings;
+        }
+
+        @Override
+        protected void compute() {
+            ForkJoinTask.invokeAll(pairings);
+        }
+    }
+
+    /**
+     * 대진 하나 (보드 모양 하나에서 참가자 a, b): 묶음 단위로 진행하며 결과가 정해지면 멈춤
+     */
+    @SuppressWarnings("serial")
+    private class PairingTask extends RecursiveTask<TournamentReport.PairingResult> {
+        private final BoardSpec spec;
+        private final long specSeed;
+        private final int first;
+        private final int second;
+
+        PairingTask(BoardSpec spec, long specSeed, int first, int second) {
+            this.spec = spec;
+            this.specSeed = specSeed;
+            this.first = first;
+            this.second = second;
+        }
+
+        @Override
+        protected TournamentReport.PairingResult compute() {
+            Tally tally = new Tally();
+            boolean stoppedEarly = false;
+            while (tally.games < config.getMaxGames()) {
+                int to = Math.min(tally.games + config.getBatchGames(), config.getMaxGames());
+                tally.merge(new BatchTask(this, tally.games, to).invoke());
+                if (config.isEarlyStop() && tally.games >= config.getMinGames() && tally.games < config.getMaxGames()
+                        && TournamentReport.isDecided(score(tally), tally.games, config.getStopZ())) {
+                    stoppedEarly = true;
+                    break;
+                }
+            }
+            return new TournamentReport.PairingResult(spec, first, second,
+                    config.getEntrants().get(first).getName(), config.getEntrants().get(second).getName(),
+                    tally.games, tally.firstWins, tally.secondWins, tally.draws, tally.firstSeatWins,
+                    stoppedEarly, config.getConfidenceZ());
+        }
+    }
+
+    // 첫 번째 참가자의 점수 (승 1, 중단 0.5)
+    private static double score(Tally tally) {
+        return (tally.firstWins + 0.5 * tally.draws) / tally.games;
+    }
+
+    /**
+     * 대진 하나의 [from, to) 게임 (from, to는 짝수), CHUNK_GAMES보다 크면 반으로 나눠 fork
+     */
+    @SuppressWarnings("serial")
+    private class BatchTask extends RecursiveTask<Tally> {
+        private final PairingTask pairing;
+        private final int from;
+        private final int to;
+
+        BatchTask(PairingTask pairing, int from, int to) {
+            this.pairing = pairing;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Tally compute() {
+            if (to - from <= CHUNK_GAMES) {
+                return runChunk();
+            }
+            int mid = ((from + to) >>> 1) & ~1;
+            BatchTask left = new BatchTask(pairing, from, mid);
+            BatchTask right = new BatchTask(pairing, mid, to);
+            left.fork();
+            Tally rightTally = right.compute();
+            return left.join().merge(rightTally);
+        }
+
+        private Tally runChunk() {
+            Tally tally = new Tally();
+            PiecePolicy firstPolicy = policies.get(pairing.first).get();
+            PiecePolicy secondPolicy = policies.get(pairing.second).get();
+            PiecePolicy[] firstSeated = {firstPolicy, secondPolicy};
+            PiecePolicy[] secondSeated = {secondPolicy, firstPolicy};
+
+            for (int g = from; g < to; g++) {
+                boolean firstOnSeat0 = (g & 1) == 0;
+                Game game = new Game(2, PLAYER_NAMES, config.getPiecesNum(), pairing.spec,
+                        config.getThrowModel(), SimulationEngine.gameSeed(pairing.specSeed, g >>> 1));
+                int turns = SimulationEngine.playGame(game, firstOnSeat0 ? firstSeated : secondSeated,
+                        game.splitRandom(), config.getMaxTurns());
+                tally.games++;
+                if (turns < 0) {
+                    tally.draws++;
+                    continue;
+                }
+                int winnerSeat = game.getRanking().get(0).getId();
+                if (winnerSeat == 0) {
+                    tally.firstSeatWins++;
+                }
+                if ((winnerSeat == 0) == firstOnSeat0) {
+                    tally.firstWins++;
+                } else {
+                    tally.secondWins++;
+                }
+            }
+            return tally;
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package service.simulation;
+
+import model.BoardSpec;
+import service.ThrowModel;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * TournamentConfig
+ *
+ * -- 리그전 설정: 참가자, 보드 모양들, 말 수, 대진(참가자 두 명 x 보드 모양)마다 최대/최소 게임 수, 조기 종료 기준, 병렬도, seed
+ * -- 게임은 2인전, 같은 seed로 자리를 바꿔 두 판씩 둠 (선공 유리함과 윷 운을 두 참가자가 똑같이 나눠 가짐)
+ * -- 조기 종료: minGames 이후 batchGames마다 승률 구간(stopZ)이 0.5를 벗어나면 그 대진을 멈춤
+ *    여러 번 들여다보는 만큼 우연히 멈출 확률이 커지므로 stopZ는 보고용 confidenceZ보다 크게 둠
+ */
+public class TournamentConfig {
+    private final List<TournamentEntrant> entrants;
+    private final List<BoardSpec> specs;
+
+    private int piecesNum = 4;
+    private int maxGames = 10_000;
+    private int minGames = 400;
+    private int batchGames = 200;
+    private boolean earlyStop = true;
+    private double confidenceZ = 1.96; // 95% 신뢰구간
+    private double stopZ = 3.0;
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+    private int maxTurns = 10_000;
+    private ThrowModel throwModel = ThrowModel.FAIR;
+    private long seed = ThreadLocalRandom.current().nextLong();
+
+    public TournamentConfig(List<TournamentEntrant> entrants, List<BoardSpec> specs) {
+        if (entrants.size() < 2) {
+            throw new IllegalArgumentException("At least 2 entrants required: " + entrants.size());
+        }
+        if (specs.isEmpty()) {
+            throw new IllegalArgumentException("No board specs");
+        }
+        this.entrants = List.copyOf(entrants);
+        this.specs = List.copyOf(specs);
+    }
+
+    // --- Getter --- //
+    public List<TournamentEntrant> getEntrants() { return entrants; }
+    public List<BoardSpec> getSpecs() { return specs; }
+    public int getPiecesNum() { return piecesNum; }
+    public int getMaxGames() { return maxGames; }
+    public int getMinGames() { return minGames; }
+    public int getBatchGames() { return batchGames; }
+    public boolean isEarlyStop() { return earlyStop; }
+    public double getConfidenceZ() { return confidenceZ; }
+    public double getStopZ() { return stopZ; }
+    public int getParallelism() { return parallelism; }
+    public int getMaxTurns() { return maxTurns; }
+    public ThrowModel getThrowModel() { return throwModel; }
+    public long getSeed() { return seed; }
+
+    // --- Setter --- //
+    public TournamentConfig setPiecesNum(int piecesNum) {
+        if (piecesNum < 2 || piecesNum > 5) {
+            throw new IllegalArgumentException("piecesNum must be 2..5: " + piecesNum);
+        }
+        this.piecesNum = piecesNum;
+        return this;
+    }
+    // 대진 하나(보드 모양 하나)의 최대 게임 수 (자리를 바꾼 두 판이 한 쌍이므로 짝수로 올림)
+    public TournamentConfig setMaxGames(int maxGames) {
+        this.maxGames = Math.max(2, maxGames + (maxGames & 1));
+        return this;
+    }
+    public TournamentConfig setMinGames(int minGames) {
+        this.minGames = Math.max(0, minGames);
+        return this;
+    }
+    public TournamentConfig setBatchGames(int batchGames) {
+        this.batchGames = Math.max(2, batchGames + (batchGames & 1));
+        return this;
+    }
+    public TournamentConfig setEarlyStop(boolean earlyStop) {
+        this.earlyStop = earlyStop;
+        return this;
+    }
+    public TournamentConfig setConfidenceZ(double confidenceZ) {
+        this.confidenceZ = confidenceZ;
+        return this;
+    }
+    public TournamentConfig setStopZ(double stopZ) {
+        this.stopZ = stopZ;
+        return this;
+    }
+    public TournamentConfig setParallelism(int parallelism) {
+        this.parallelism = Math.max(1, parallelism);
+        return this;
+    }
+    public TournamentConfig setMaxTurns(int maxTurns) {
+        this.maxTurns = maxTurns;
+        return this;
+    }
+    public TournamentConfig setThrowModel(ThrowModel throwModel) {
+        this.throwModel = throwModel;
+        return this;
+    }
+    public TournamentConfig setSeed(long seed) {
+        this.seed = seed;
+        return this;
+    }
+}
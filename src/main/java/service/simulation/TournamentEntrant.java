@@ -0,0 +1,66 @@
+package service.simulation;
+
+import service.bot.GameBot;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Supplier;
+
+/**
+ * TournamentEntrant
+ *
+ * -- 토너먼트 참가자: 이름 + 말 선택 정책을 만드는 방법
+ * -- 정책은 작업 스레드마다 한 번 만들어 그 스레드의 게임에서 계속 씀
+ *    (Policies처럼 상태가 없는 정책은 of(name, policy)로 하나를 같이 쓰고,
+ *     MctsBot처럼 내부 상태가 있는 봇은 ofBot(name, () -> new ...)로 봇을 만드는 방법을 줌)
+ * -- ofBot으로 만든 봇은 리그전이 끝나면 Tournament가 모두 close (봇마다 가진 탐색 스레드 풀 정리)
+ */
+public final class TournamentEntrant {
+    private final String name;
+    private final Supplier<PiecePolicy> factory;
+    private final Queue<GameBot> bots; // 만들어 둔 봇 (closeBots에서 닫음)
+
+    public TournamentEntrant(String name, Supplier<PiecePolicy> factory) {
+        this(name, factory, new ConcurrentLinkedQueue<>());
+    }
+
+    private TournamentEntrant(String name, Supplier<PiecePolicy> factory, Queue<GameBot> bots) {
+        this.name = name;
+        this.factory = factory;
+        this.bots = bots;
+    }
+
+    public static TournamentEntrant of(String name, PiecePolicy policy) {
+        return new TournamentEntrant(name, () -> policy);
+    }
+
+    /**
+     * 작업 스레드마다 botFactory로 봇을 하나씩 만들어 GameBot.asPolicy로 둠
+     */
+    public static TournamentEntrant ofBot(String name, Supplier<? extends GameBot> botFactory) {
+        Queue<GameBot> bots = new ConcurrentLinkedQueue<>();
+        return new TournamentEntrant(name, () -> {
+            GameBot bot = botFactory.get();
+            bots.add(bot);
+            return GameBot.asPolicy(bot);
+        }, bots);
+    }
+
+    public String getName() { return name; }
+
+    public PiecePolicy newPolicy() {
+        return factory.get();
+    }
+
+    // 지금까지 만든 봇을 모두 닫음 (Tournament.run이 끝날 때 호출)
+    void closeBots() {
+        for (GameBot bot; (bot = bots.poll()) != null; ) {
+            bot.close();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
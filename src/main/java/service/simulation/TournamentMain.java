@@ -0,0 +1,73 @@
+package service.simulation;
+
+import model.BoardSpec;
+import service.ThrowModel;
+import service.YutThrowService;
+import service.bot.ExpectimaxBot;
+import service.bot.MctsBot;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 콘솔에서 리그전을 실행하는 진입점
+ * 사용법: TournamentMain [참가자들] [보드모양들] [말 수] [대진당 최대 게임 수] [스레드 수] [seed]
+ * 예) TournamentMain random,furthest,greedy,mcts SQUARE,HEXAGON,8x6x3 4 10000 8 42
+ * 참가자: first, random, furthest, greedy (Policies), mcts (플레이아웃 2000회), expectimax (깊이 2)
+ * -- 봇은 시간 제한 없이 플레이아웃 수/깊이로만 탐색하고 치환표처럼 이전 수에서 이어지는 상태를 쓰지 않으므로,
+ *    같은 seed면 스레드 수나 기계 부하와 관계없이 같은 결과
+ */
+public class TournamentMain {
+    private static final long NO_TIME_LIMIT = 0;
+    private static final int MCTS_PLAYOUTS = 2000;
+    private static final int EXPECTIMAX_DEPTH = 2;
+
+    public static void main(String[] args) {
+        String[] names = (args.length > 0 ? args[0] : "random,furthest,greedy").split(",");
+        String[] shapeNames = (args.length > 1 ? args[1] : "SQUARE").split(",");
+
+        List<BoardSpec> specs = new ArrayList<>();
+        for (String name : shapeNames) {
+            specs.add(BoardSpec.parse(name));
+        }
+        long seed = args.length > 5 ? Long.parseLong(args[5]) : ThreadLocalRandom.current().nextLong();
+        List<TournamentEntrant> entrants = new ArrayList<>();
+        for (String name : names) {
+            entrants.add(entrant(name.trim(), ThrowModel.FAIR, seed));
+        }
+
+        TournamentConfig config = new TournamentConfig(entrants, specs).setSeed(seed);
+        if (args.length > 2) {
+            config.setPiecesNum(Integer.parseInt(args[2]));
+        }
+        if (args.length > 3) {
+            config.setMaxGames(Integer.parseInt(args[3]));
+        }
+        if (args.length > 4) {
+            config.setParallelism(Integer.parseInt(args[4]));
+        }
+
+        System.out.println(new Tournament(config).run());
+    }
+
+    // 봇은 내부 상태(탐색 트리)가 있으므로 작업 스레드마다 새로 만듦
+    private static TournamentEntrant entrant(String name, ThrowModel throwModel, long seed) {
+        return switch (name.toLowerCase()) {
+            case "mcts" -> TournamentEntrant.ofBot(name, () -> {
+                MctsBot bot = new MctsBot(new YutThrowService(throwModel), NO_TIME_LIMIT, 1);
+                bot.setPlayoutLimit(MCTS_PLAYOUTS);
+                bot.setSeed(seed);
+                return bot;
+            });
+            case "expectimax" -> TournamentEntrant.ofBot(name, () -> {
+                ExpectimaxBot bot = new ExpectimaxBot(new YutThrowService(throwModel), NO_TIME_LIMIT, 1);
+                bot.setMaxDepth(EXPECTIMAX_DEPTH);
+                // 치환표는 스레드가 앞서 둔 게임의 값을 다음 수로 넘기므로 쓰지 않음 (깊이 2에서는 이득도 작음)
+                bot.setTranspositionTable(null);
+                return bot;
+            });
+            default -> TournamentEntrant.of(name, Policies.byName(name));
+        };
+    }
+}
@@ -0,0 +1,241 @@
+package service.simulation;
+
+import model.BoardSpec;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * TournamentReport
+ *
+ * -- 대진별 결과: 게임 수, 승/패/중단, 점수(승 1, 중단 0.5)와 Wilson 신뢰구간, Elo 차이와 그 구간, 선공 승률, 조기 종료 여부
+ * -- 참가자별 Elo: 모든 대진 결과에 Bradley-Terry 모델을 맞춘 값 (평균 0)
+ *    대진마다 한 판을 비긴 것으로 더해서 전승/전패인 참가자도 유한한 값이 나오게 함
+ */
+public class TournamentReport {
+    private static final int MAX_ITERATIONS = 10_000;
+    private static final double TOLERANCE = 1e-10;
+
+    private final TournamentConfig config;
+    private final List<PairingResult> pairings;
+    private final double[] elo;
+    private final long elapsedNanos;
+
+    TournamentReport(TournamentConfig config, List<PairingResult> pairings, long elapsedNanos) {
+        this.config = config;
+        this.pairings = List.copyOf(pairings);
+        this.elo = eloRatings(config.getEntrants().size(), pairings);
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public List<PairingResult> getPairings() { return pairings; }
+    public long getElapsedNanos() { return elapsedNanos; }
+
+    /**
+     * 보드 모양 shape에서 두 참가자의 대진 (참가자 순서는 상관없음, 없으면 null)
+     */
+    public PairingResult getPairing(BoardSpec spec, String first, String second) {
+        for (PairingResult pairing : pairings) {
+            if (pairing.spec == spec && (pairing.firstName.equals(first) && pairing.secondName.equals(second)
+                    || pairing.firstName.equals(second) && pairing.secondName.equals(first))) {
+                return pairing;
+            }
+        }
+        return null;
+    }
+
+    // 모든 보드 모양의 결과로 맞춘 Elo (참가자 순서는 TournamentConfig.getEntrants()와 같음)
+    public double getElo(int entrant) {
+        return elo[entrant];
+    }
+
+    // 보드 모양 하나의 결과로만 맞춘 Elo
+    public double getElo(BoardSpec spec, int entrant) {
+        List<PairingResult> ofSpec = new ArrayList<>();
+        for (PairingResult pairing : pairings) {
+            if (pairing.spec == spec) ofSpec.add(pairing);
+        }
+        return eloRatings(config.getEntrants().size(), ofSpec)[entrant];
+    }
+
+    public long getTotalGames() {
+        long games = 0;
+        for (PairingResult pairing : pairings) {
+            games += pairing.games;
+        }
+        return games;
+    }
+
+    public double getGamesPerSecond() {
+        return elapsedNanos == 0 ? 0.0 : getTotalGames() * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("[%d entrants, %d pieces, up to %d games per pairing, %d threads, seed %d]%n",
+                config.getEntrants().size(), config.getPiecesNum(), config.getMaxGames(), config.getParallelism(),
+                config.getSeed()));
+        for (BoardSpec spec : config.getSpecs()) {
+            sb.append(spec).append(System.lineSeparator());
+            for (PairingResult pairing : pairings) {
+                if (pairing.spec == spec) {
+                    sb.append("  ").append(pairing).append(System.lineSeparator());
+                }
+            }
+        }
+        Integer[] order = new Integer[elo.length];
+        for (int i = 0; i < order.length; i++) order[i] = i;
+        Arrays.sort(order, Comparator.comparingDouble((Integer i) -> -elo[i]));
+        sb.append("Elo").append(System.lineSeparator());
+        for (int i : order) {
+            sb.append(String.format("  %-12s %+7.1f%n", config.getEntrants().get(i).getName(), elo[i]));
+        }
+        sb.append(String.format("games: %d, elapsed: %.3f s, throughput: %.0f games/s",
+                getTotalGames(), elapsedNanos / 1e9, getGamesPerSecond()));
+        return sb.toString();
+    }
+
+    /**
+     * 점수 score(0~1)를 games판에서 얻었을 때의 Wilson 구간 [low, high]
+     */
+    static double[] wilson(double score, long games, double z) {
+        if (games == 0) {
+            return new double[]{0.0, 1.0};
+        }
+        double z2n = z * z / games;
+        double center = (score + z2n / 2) / (1 + z2n);
+        double half = z * Math.sqrt(score * (1 - score) / games + z2n / (4.0 * games)) / (1 + z2n);
+        return new double[]{Math.max(0.0, center - half), Math.min(1.0, center + half)};
+    }
+
+    // 구간이 0.5를 포함하지 않으면 어느 쪽이 강한지 정해진 것으로 봄
+    static boolean isDecided(double score, long games, double z) {
+        double[] interval = wilson(score, games, z);
+        return interval[0] > 0.5 || interval[1] < 0.5;
+    }
+
+    // 점수(기대 승률) --> Elo 차이
+    static double eloDifference(double score) {
+        if (score <= 0.0) return Double.NEGATIVE_INFINITY;
+        if (score >= 1.0) return Double.POSITIVE_INFINITY;
+        return 400.0 * Math.log10(score / (1.0 - score));
+    }
+
+    /**
+     * Bradley-Terry 모델의 최대우도 강도 (MM 반복, Hunter 2004) --> Elo (평균 0)
+     */
+    static double[] eloRatings(int entrants, List<PairingResult> results) {
+        double[][] score = new double[entrants][entrants];
+        double[][] games = new double[entrants][entrants];
+        for (PairingResult r : results) {
+            score[r.first][r.second] += r.firstWins + 0.5 * r.draws + 0.5;
+            score[r.second][r.first] += r.secondWins + 0.5 * r.draws + 0.5;
+            games[r.first][r.second] += r.games + 1;
+            games[r.second][r.first] += r.games + 1;
+        }
+
+        double[] strength = new double[entrants];
+        Arrays.fill(strength, 1.0);
+        for (int iteration = 0; iteration < MAX_ITERATIONS; iteration++) {
+            double maxChange = 0.0;
+            for (int i = 0; i < entrants; i++) {
+                double wins = 0.0;
+                double denominator = 0.0;
+                for (int j = 0; j < entrants; j++) {
+                    if (games[i][j] == 0) continue;
+                    wins += score[i][j];
+                    denominator += games[i][j] / (strength[i] + strength[j]);
+                }
+                if (denominator == 0) continue;
+                double next = wins / denominator;
+                maxChange = Math.max(maxChange, Math.abs(next - strength[i]) / strength[i]);
+                strength[i] = next;
+            }
+            // 기하평균을 1로 맞춤 (Elo 평균 0)
+            double logMean = 0.0;
+            for (double s : strength) logMean += Math.log(s);
+            logMean /= entrants;
+            for (int i = 0; i < entrants; i++) strength[i] /= Math.exp(logMean);
+            if (maxChange < TOLERANCE) break;
+        }
+
+        double[] ratings = new double[entrants];
+        for (int i = 0; i < entrants; i++) {
+            ratings[i] = 400.0 * Math.log10(strength[i]);
+        }
+        return ratings;
+    }
+
+    /**
+     * 대진 하나의 결과 (점수, 구간, Elo 차이는 모두 첫 번째 참가자 기준)
+     */
+    public static final class PairingResult {
+        private final BoardSpec spec;
+        private final int first;
+        private final int second;
+        private final String firstName;
+        private final String secondName;
+        private final int games;
+        private final int firstWins;
+        private final int secondWins;
+        private final int draws;
+        private final int firstSeatWins;
+        private final boolean stoppedEarly;
+        private final double z;
+
+        PairingResult(BoardSpec spec, int first, int second, String firstName, String secondName,
+                      int games, int firstWins, int secondWins, int draws, int firstSeatWins,
+                      boolean stoppedEarly, double z) {
+            this.spec = spec;
+            this.first = first;
+            this.second = second;
+            this.firstName = firstName;
+            this.secondName = secondName;
+            this.games = games;
+            this.firstWins = firstWins;
+            this.secondWins = secondWins;
+            this.draws = draws;
+            this.firstSeatWins = firstSeatWins;
+            this.stoppedEarly = stoppedEarly;
+            this.z = z;
+        }
+
+        public BoardSpec getSpec() { return spec; }
+        public String getFirstName() { return firstName; }
+        public String getSecondName() { return secondName; }
+        public int getGames() { return games; }
+        public int getFirstWins() { return firstWins; }
+        public int getSecondWins() { return secondWins; }
+        public int getDraws() { return draws; }
+        public boolean isStoppedEarly() { return stoppedEarly; }
+
+        // 첫 번째 참가자의 점수 (승 1, 중단 0.5)
+        public double getScore() {
+            return games == 0 ? 0.5 : (firstWins + 0.5 * draws) / games;
+        }
+
+        public double getScoreLow() { return wilson(getScore(), games, z)[0]; }
+        public double getScoreHigh() { return wilson(getScore(), games, z)[1]; }
+
+        public double getEloDiff() { return eloDifference(getScore()); }
+        public double getEloDiffLow() { return eloDifference(getScoreLow()); }
+        public double getEloDiffHigh() { return eloDifference(getScoreHigh()); }
+
+        // 누가 두든 선공(좌석 0)이 이긴 비율 (보드 모양의 선공 유리함)
+        public double getFirstSeatWinRate() {
+            return games == 0 ? 0.0 : (double) firstSeatWins / games;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s vs %s: %d games (%d-%d-%d), score %.3f [%.3f, %.3f], Elo %+.0f [%+.0f, %+.0f], "
+                            + "first seat %.3f%s",
+                    firstName, secondName, games, firstWins, secondWins, draws,
+                    getScore(), getScoreLow(), getScoreHigh(), getEloDiff(), getEloDiffLow(), getEloDiffHigh(),
+                    getFirstSeatWinRate(), stoppedEarly ? " (stopped early)" : "");
+        }
+    }
+}
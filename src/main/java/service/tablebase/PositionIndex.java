@@ -0,0 +1,282 @@
+package service.tablebase;
+
+import model.BoardSpec;
+import model.CompactGameState;
+import model.RouteTag;
+import model.ThrowResult;
+import service.CompactMoveEngine;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+
+/**
+ * PositionIndex
+ *
+ * 2인 엔드게임 국면을 배열 인덱스로 바꾸는 번호 체계 (TablebaseGenerator가 만들고, 같은 표가 파일 헤더에 저장됨)
+ * -- 말 상태: 말 하나가 가질 수 있는 (칸 코드, 태그)를 출발 전부터 모든 결과로 따라가며 모음 (0 = 출발 전, 마지막 = 도착)
+ * -- 플레이어 배치: 말 상태 번호를 오름차순으로 정렬한 튜플 (말 번호는 바꿔도 같은 국면이므로)
+ *    같은 칸의 말은 태그가 같아야 하고(업기), 모두 도착한 배치는 게임이 끝난 것이므로 번호를 주지 않음
+ * -- 국면 번호 = (차례인 플레이어의 배치 번호) * 배치 수 + (상대 배치 번호)
+ * -- 말을 옮긴 결과는 내 배치와 도착 칸만으로, 잡힌 결과는 상대 배치와 그 칸만으로 정해지므로
+ *    (배치, 결과, 말) --> (옮긴 뒤 배치, 도착 칸), (배치, 칸) --> (잡힌 뒤 배치)를 미리 표로 만들어 둠
+ */
+final class PositionIndex {
+    static final int NONE = -1;
+    static final int WIN = -2;        // 옮긴 뒤 모든 말이 도착
+    static final int NOT_STARTED = 0; // 말 상태 번호
+    private static final ThrowResult[] THROWS = ThrowResult.values();
+    private static final int KEYS = 1 << 16; // 칸 코드 | 태그 << 8
+
+    final BoardSpec spec;
+    final int piecesNum;
+    final int stateCount;
+    final int finished;                 // 도착 말 상태 번호
+    final int[] stateKeys;              // 말 상태 --> 칸 코드 | 태그 << 8
+    final int[] stateByKey = new int[KEYS];
+    final int[] cellOf;                 // 말 상태 --> 칸 인덱스 (출발 전/도착이면 -1)
+    final boolean[] backDoMovable;      // 빽도로 움직일 수 있는 보드 위 말 (출발점으로 되돌아온 말 제외)
+    final int[] next;                   // 말 상태 * 6 + 결과 --> 혼자 움직였을 때의 말 상태
+
+    final int[] rankByTuple;            // 정렬된 튜플(stateCount진법) --> 배치 번호 (없으면 NONE)
+    final int rankCount;
+    final int[] tuples;                 // 배치 번호 * piecesNum + k --> k번째 말 상태
+    final long[] cellMasks;             // 배치 번호 --> 말이 있는 칸 비트
+
+    final int cellCount;
+    final int[] moveRanks;              // (배치 * 6 + 결과) * piecesNum + k --> k번째 말을 옮긴 뒤 배치 (NONE: 같은 선택이 앞에 있음, WIN)
+    final int[] moveCells;              // 같은 위치 --> 도착 칸 (잡기 없음이면 cellCount)
+    final int[] captureRanks;           // 배치 * (cellCount + 1) + 칸 --> 그 칸의 말이 잡힌 뒤 배치
+    final boolean[] cannotBackDo;       // 배치 --> 빽도로 움직일 말이 없음 (CompactMoveEngine.hasNoMovablePiece)
+
+    private PositionIndex(BoardSpec spec, int piecesNum, int[] stateKeys, int[] next) {
+        CompactMoveEngine engine = CompactMoveEngine.forSpec(spec);
+        int cellCount = engine.getBoard().getCellCount();
+        int startIndex = engine.getBoard().getStartCell().getIndex();
+        if (cellCount > Long.SIZE) {
+            throw new IllegalArgumentException("Too many cells for tablebase: " + cellCount);
+        }
+        this.spec = spec;
+        this.piecesNum = piecesNum;
+        this.cellCount = cellCount;
+        this.stateCount = stateKeys.length;
+        this.finished = stateCount - 1;
+        this.stateKeys = stateKeys;
+        this.next = next;
+        Arrays.fill(stateByKey, NONE);
+        this.cellOf = new int[stateCount];
+        this.backDoMovable = new boolean[stateCount];
+        for (int s = 0; s < stateCount; s++) {
+            int code = stateKeys[s] & 0xFF;
+            stateByKey[stateKeys[s]] = s;
+            boolean onBoard = code != CompactGameState.NOT_STARTED_CODE && code != CompactGameState.FINISHED_CODE;
+            cellOf[s] = onBoard ? code - 1 : -1;
+            backDoMovable[s] = onBoard && (code - 1 != startIndex || (stateKeys[s] >>> 8) != RouteTag.REBOUND);
+        }
+
+        // 정렬된 튜플을 사전 순으로 훑으며 올바른 배치에만 번호를 줌
+        long tupleSpace = 1;
+        for (int k = 0; k < piecesNum; k++) {
+            tupleSpace *= stateCount;
+        }
+        if (tupleSpace > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Too many pieces for tablebase: " + piecesNum);
+        }
+        this.rankByTuple = new int[(int) tupleSpace];
+        Arrays.fill(rankByTuple, NONE);
+        int[] tuple = new int[piecesNum];
+        int count = 0;
+        int[] collected = new int[16 * piecesNum];
+        long[] masks = new long[16];
+        do {
+            if (isValid(tuple)) {
+                if (count == masks.length) {
+                    masks = Arrays.copyOf(masks, count * 2);
+                    collected = Arrays.copyOf(collected, count * 2 * piecesNum);
+                }
+                rankByTuple[pack(tuple)] = count;
+                System.arraycopy(tuple, 0, collected, count * piecesNum, piecesNum);
+                long mask = 0L;
+                for (int s : tuple) {
+                    if (cellOf[s] >= 0) mask |= 1L << cellOf[s];
+                }
+                masks[count++] = mask;
+            }
+        } while (nextSortedTuple(tuple));
+        this.rankCount = count;
+        this.tuples = Arrays.copyOf(collected, count * piecesNum);
+        this.cellMasks = Arrays.copyOf(masks, count);
+
+        this.moveRanks = new int[count * THROWS.length * piecesNum];
+        this.moveCells = new int[moveRanks.length];
+        this.captureRanks = new int[count * (cellCount + 1)];
+        this.cannotBackDo = new boolean[count];
+        int[] work = new int[piecesNum];
+        for (int r = 0; r < count; r++) {
+            boolean movable = false;
+            for (int k = 0; k < piecesNum; k++) {
+                movable |= backDoMovable[tuples[r * piecesNum + k]];
+            }
+            cannotBackDo[r] = !movable;
+            for (int t = 0; t < THROWS.length; t++) {
+                for (int k = 0; k < piecesNum; k++) {
+                    int at = (r * THROWS.length + t) * piecesNum + k;
+                    int from = tuples[r * piecesNum + k];
+                    if (from == finished || (k > 0 && from == tuples[r * piecesNum + k - 1])) {
+                        moveRanks[at] = NONE;
+                        moveCells[at] = cellCount;
+                    } else {
+                        moveRanks[at] = applyMove(r, k, next[from * THROWS.length + t], work);
+                        int cell = cellOf[next[from * THROWS.length + t]];
+                        moveCells[at] = cell >= 0 ? cell : cellCount;
+                    }
+                }
+            }
+            for (int cell = 0; cell <= cellCount; cell++) {
+                System.arraycopy(tuples, r * piecesNum, work, 0, piecesNum);
+                for (int k = 0; k < piecesNum; k++) {
+                    if (cellOf[work[k]] == cell) work[k] = NOT_STARTED;
+                }
+                sort(work);
+                captureRanks[r * (cellCount + 1) + cell] = rankByTuple[pack(work)];
+            }
+        }
+    }
+
+    /**
+     * CompactMoveEngine.apply와 같은 규칙으로 배치 r의 k번째 말을 to 상태로 옮긴 뒤의 배치 (모두 도착하면 WIN)
+     * -- 출발 전 말은 혼자, 보드 위의 말은 같은 칸의 말이 함께 움직이고, 도착 칸에 있던 내 말은 같은 태그로 업힘
+     */
+    private int applyMove(int r, int k, int to, int[] work) {
+        System.arraycopy(tuples, r * piecesNum, work, 0, piecesNum);
+        int from = work[k];
+        if (from == NOT_STARTED) {
+            work[k] = to;
+        } else {
+            for (int j = 0; j < piecesNum; j++) {
+                if (work[j] == from) work[j] = to;
+            }
+        }
+        int cell = cellOf[to];
+        boolean allFinished = true;
+        for (int j = 0; j < piecesNum; j++) {
+            if (cell >= 0 && cellOf[work[j]] == cell) work[j] = to;
+            if (work[j] != finished) allFinished = false;
+        }
+        if (allFinished) {
+            return WIN;
+        }
+        sort(work);
+        return rankByTuple[pack(work)];
+    }
+
+    /**
+     * 보드 모양의 말 상태와 상태 전이를 CompactMoveEngine으로 구해서 번호 체계를 만듦
+     */
+    static PositionIndex build(BoardSpec spec, int piecesNum) {
+        CompactMoveEngine engine = CompactMoveEngine.forSpec(spec);
+        int cellCount = engine.getBoard().getCellCount();
+
+        // [1] 출발 전 말 하나에서 시작해 모든 결과를 적용하며 도달하는 (칸 코드, 태그)를 모음
+        boolean[] seen = new boolean[KEYS];
+        Deque<Integer> queue = new ArrayDeque<>();
+        seen[CompactGameState.NOT_STARTED_CODE] = true;
+        queue.add(CompactGameState.NOT_STARTED_CODE);
+        while (!queue.isEmpty()) {
+            int key = queue.poll();
+            for (ThrowResult t : THROWS) {
+                int to = moveSingle(engine, spec, cellCount, key, t);
+                if (!seen[to]) {
+                    seen[to] = true;
+                    queue.add(to);
+                }
+            }
+        }
+        // 칸 코드, 태그 순으로 정렬 --> 출발 전(코드 0)이 처음, 도착(코드 0xFF)이 마지막
+        int[] byCode = new int[KEYS];
+        int stateCount = 0;
+        for (int code = 0; code < 256; code++) {
+            for (int tag = 0; tag < 256; tag++) {
+                if (seen[code | tag << 8]) byCode[stateCount++] = code | tag << 8;
+            }
+        }
+        int[] stateKeys = Arrays.copyOf(byCode, stateCount);
+
+        // [2] 말 하나의 전이표
+        int[] index = new int[KEYS];
+        for (int s = 0; s < stateCount; s++) {
+            index[stateKeys[s]] = s;
+        }
+        int[] next = new int[stateCount * THROWS.length];
+        for (int s = 0; s < stateCount; s++) {
+            for (ThrowResult t : THROWS) {
+                next[s * THROWS.length + t.ordinal()] = index[moveSingle(engine, spec, cellCount, stateKeys[s], t)];
+            }
+        }
+        return new PositionIndex(spec, piecesNum, stateKeys, next);
+    }
+
+    private static int moveSingle(CompactMoveEngine engine, BoardSpec spec, int cellCount, int key, ThrowResult t) {
+        if ((key & 0xFF) == CompactGameState.FINISHED_CODE) {
+            return key;
+        }
+        CompactGameState state = new CompactGameState(spec, cellCount, 2, 1);
+        state.setPiece(0, 0, key & 0xFF, key >>> 8);
+        engine.apply(state, 0, 0, t);
+        return state.getCellCode(0, 0) | state.getRouteTag(0, 0) << 8;
+    }
+
+    // 같은 칸의 말은 같은 상태여야 하고, 모두 도착한 배치는 제외
+    private boolean isValid(int[] tuple) {
+        boolean allFinished = true;
+        for (int k = 0; k < tuple.length; k++) {
+            if (tuple[k] != finished) allFinished = false;
+            if (k > 0 && tuple[k] != tuple[k - 1] && cellOf[tuple[k]] >= 0 && cellOf[tuple[k]] == cellOf[tuple[k - 1]]) {
+                return false;
+            }
+        }
+        return !allFinished;
+    }
+
+    // 오름차순 튜플을 사전 순으로 다음 것으로 바꿈 (마지막이면 false)
+    private boolean nextSortedTuple(int[] tuple) {
+        int k = tuple.length - 1;
+        while (k >= 0 && tuple[k] == stateCount - 1) {
+            k--;
+        }
+        if (k < 0) {
+            return false;
+        }
+        tuple[k]++;
+        for (int j = k + 1; j < tuple.length; j++) {
+            tuple[j] = tuple[k];
+        }
+        return true;
+    }
+
+    // 정렬된 튜플 --> rankByTuple 인덱스
+    int pack(int[] sorted) {
+        int packed = 0;
+        for (int s : sorted) {
+            packed = packed * stateCount + s;
+        }
+        return packed;
+    }
+
+    // 말 수가 적으므로 삽입 정렬
+    static void sort(int[] tuple) {
+        for (int i = 1; i < tuple.length; i++) {
+            int v = tuple[i];
+            int j = i - 1;
+            while (j >= 0 && tuple[j] > v) {
+                tuple[j + 1] = tuple[j];
+                j--;
+            }
+            tuple[j + 1] = v;
+        }
+    }
+
+    long positionCount() {
+        return (long) rankCount * rankCount;
+    }
+}
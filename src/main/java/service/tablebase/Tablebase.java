@@ -0,0 +1,194 @@
+package service.tablebase;
+
+import model.BoardSpec;
+import model.CompactGameState;
+import model.ThrowResult;
+import service.CompactMoveEngine;
+import service.ThrowModel;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Tablebase
+ *
+ * TablebaseGenerator가 쓴 엔드게임 표를 메모리 매핑으로 열어서 국면의 승률을 찾는 읽기 전용 객체
+ * -- 값은 TurnFlow 던지기 모델(한 번 던질 때마다 바로 말을 옮김)에서의 정확한 승률
+ *    실제 게임은 윷/모로 얻은 결과를 모두 던진 뒤에 말을 고르므로, 한 턴에 여러 번 던지는 국면에서는 근사값
+ *    (이미 던져 둔 결과들은 moveValue/bestPiece가 순서대로 반영하지만, 이후 턴은 TurnFlow 모델로 계산한 값)
+ * -- 값 배열은 힙에 올리지 않고 매핑된 파일에서 바로 읽음 (말 3개 표는 수백 MB), 힙에는 번호 체계(PositionIndex)만 둠
+ * -- 조회: 두 플레이어의 말 상태 번호를 정렬 --> 배치 번호 두 개 --> 파일 위치 하나, O(1)
+ * -- 버퍼의 절대 위치 읽기만 쓰므로 여러 스레드(봇, UI)가 동시에 조회해도 됨
+ */
+public final class Tablebase implements AutoCloseable {
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final PositionIndex index;
+    private final ThrowModel throwModel;
+    private final CompactMoveEngine engine;
+    private final int valuesOffset;
+
+    private Tablebase(FileChannel channel, MappedByteBuffer buffer, PositionIndex index,
+                      ThrowModel throwModel, int valuesOffset) {
+        this.channel = channel;
+        this.buffer = buffer;
+        this.index = index;
+        this.throwModel = throwModel;
+        this.engine = CompactMoveEngine.forSpec(index.spec);
+        this.valuesOffset = valuesOffset;
+    }
+
+    /**
+     * 파일을 읽기 전용으로 매핑하고 헤더가 이 규칙(보드 모양의 말 상태 표)과 맞는지 확인
+     */
+    public static Tablebase open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Tablebase file too large: " + size);
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            if (size < TablebaseGenerator.HEADER_BYTES || buffer.getLong(0) != TablebaseGenerator.MAGIC
+                    || buffer.getInt(8) != TablebaseGenerator.VERSION) {
+                throw new IOException("Not a tablebase file: " + path);
+            }
+            BoardSpec spec = specOf(buffer.getInt(12));
+            int piecesNum = buffer.getInt(16);
+            int stateCount = buffer.getInt(20);
+            int rankCount = buffer.getInt(24);
+            if (piecesNum < 1 || piecesNum > TablebaseGenerator.MAX_PIECES) {
+                throw new IOException("Invalid pieces count " + piecesNum + ": " + path);
+            }
+            ThrowModel model = ThrowModel.ofSticks(buffer.getDouble(32), buffer.getDouble(40),
+                    buffer.getDouble(48), buffer.getDouble(56));
+
+            PositionIndex index = PositionIndex.build(spec, piecesNum);
+            boolean matches = index.stateCount == stateCount && index.rankCount == rankCount;
+            for (int s = 0; matches && s < stateCount; s++) {
+                matches = buffer.getInt(TablebaseGenerator.HEADER_BYTES + s * Integer.BYTES) == index.stateKeys[s];
+            }
+            int valuesOffset = TablebaseGenerator.HEADER_BYTES + stateCount * Integer.BYTES;
+            if (!matches || size != valuesOffset + index.positionCount() * Float.BYTES) {
+                throw new IOException("Tablebase does not match board rules of " + spec + ": " + path);
+            }
+            return new Tablebase(channel, buffer, index, model, valuesOffset);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private static BoardSpec specOf(int code) throws IOException {
+        try {
+            return BoardSpec.ofCode(code);
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Unknown board spec: " + code, e);
+        }
+    }
+
+    public BoardSpec getSpec() { return index.spec; }
+    public int getPiecesNum() { return index.piecesNum; }
+    public long getPositionCount() { return index.positionCount(); }
+
+    // 표를 만들 때 쓴 던지기 확률 (다른 모델의 게임에서는 근사값)
+    public ThrowModel getThrowModel() { return throwModel; }
+
+    /**
+     * 이 표로 값을 찾을 수 있는 국면인지 (같은 보드, 2인, 같은 말 수, 아직 아무도 도착하지 않음)
+     */
+    public boolean covers(CompactGameState state) {
+        return state.getSpec() == index.spec && state.getPlayersNum() == 2
+                && state.getPiecesNum() == index.piecesNum && state.getFinishedCount() == 0;
+    }
+
+    /**
+     * 차례인 플레이어(state.getCurrentPlayer())가 지금 윷을 던질 때 양쪽이 최선을 다하면 이길 확률
+     */
+    public double winProbability(CompactGameState state) {
+        int player = state.getCurrentPlayer();
+        return valueOf(state, player);
+    }
+
+    /**
+     * 이번 턴에 던져 둔 결과들(throwsToApply)의 첫 번째를 piece번 말에 적용했을 때 차례인 플레이어가 이길 확률
+     * -- 남은 결과는 같은 플레이어가 가장 좋은 말에 차례대로 적용한다고 봄 (TurnFlow와 같은 순서)
+     */
+    public double moveValue(CompactGameState state, int piece, List<ThrowResult> throwsToApply) {
+        return moveValue(state, state.getCurrentPlayer(), piece, throwsToApply, 0);
+    }
+
+    /**
+     * @return 이길 확률이 가장 높은 말 번호, 빽도인데 움직일 말이 없으면 -1
+     */
+    public int bestPiece(CompactGameState state, List<ThrowResult> throwsToApply) {
+        int player = state.getCurrentPlayer();
+        ThrowResult first = throwsToApply.get(0);
+        if (first == ThrowResult.BACK_DO && engine.hasNoMovablePiece(state, player, first)) {
+            return -1;
+        }
+        int[] moves = new int[state.getPiecesNum()];
+        int count = engine.legalMoves(state, player, first, moves);
+        int best = -1;
+        double bestValue = -1.0;
+        for (int k = 0; k < count; k++) {
+            double value = moveValue(state, player, moves[k], throwsToApply, 0);
+            if (value > bestValue) {
+                bestValue = value;
+                best = moves[k];
+            }
+        }
+        return best;
+    }
+
+    private double moveValue(CompactGameState state, int player, int piece, List<ThrowResult> throwsToApply, int next) {
+        ThrowResult t = throwsToApply.get(next);
+        CompactGameState child = state.copy();
+        engine.apply(child, player, piece, t);
+        if (child.isFinishedPlayer(player)) {
+            return 1.0;
+        }
+        if (next + 1 < throwsToApply.size()) {
+            ThrowResult following = throwsToApply.get(next + 1);
+            if (following == ThrowResult.BACK_DO && engine.hasNoMovablePiece(child, player, following)) {
+                return 1.0 - valueOf(child, 1 - player);
+            }
+            int[] moves = new int[child.getPiecesNum()];
+            int count = engine.legalMoves(child, player, following, moves);
+            double best = 0.0;
+            for (int k = 0; k < count; k++) {
+                best = Math.max(best, moveValue(child, player, moves[k], throwsToApply, next + 1));
+            }
+            return best;
+        }
+        return t.isExtraTurn() ? valueOf(child, player) : 1.0 - valueOf(child, 1 - player);
+    }
+
+    // mover가 던질 차례일 때의 값 (파일 조회)
+    private double valueOf(CompactGameState state, int mover) {
+        long position = (long) rankOf(state, mover) * index.rankCount + rankOf(state, 1 - mover);
+        return buffer.getFloat((int) (valuesOffset + position * Float.BYTES));
+    }
+
+    private int rankOf(CompactGameState state, int player) {
+        int[] tuple = new int[index.piecesNum];
+        for (int i = 0; i < tuple.length; i++) {
+            int s = index.stateByKey[state.getCellCode(player, i) | state.getRouteTag(player, i) << 8];
+            if (s == PositionIndex.NONE) {
+                throw new IllegalArgumentException("Piece state not in tablebase: " + state);
+            }
+            tuple[i] = s;
+        }
+        PositionIndex.sort(tuple);
+        return index.rankByTuple[index.pack(tuple)];
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,218 @@
+package service.tablebase;
+
+import model.BoardSpec;
+import model.ThrowResult;
+import service.ThrowModel;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * TablebaseGenerator
+ *
+ * 2인, 말 1~3개의 모든 국면에서 최선을 다했을 때의 승률을 구해서 파일로 쓰는 생성기 (읽기는 Tablebase)
+ * -- 국면 번호는 PositionIndex 참고, 값 = 차례인 플레이어가 지금 윷을 던지기 직전일 때 이길 확률
+ * -- 던지기 모델은 탐색 봇과 같음 (service.bot.TurnFlow): 한 번 던질 때마다 바로 말을 옮기고 윷/모면 한 번 더 던짐
+ *    V(s) = Σ_t p(t) * max_말 { 도착으로 끝남: 1, 윷/모: V(s'), 그 외: 1 - V(s'의 상대 차례) }
+ *    빽도인데 움직일 말이 없으면 그대로 상대 차례
+ * -- 잡기, 빽도 때문에 국면 그래프에 순환이 있으므로 한 번의 역순 계산으로 끝나지 않음
+ *    --> 모든 국면을 값이 거의 안 바뀔 때까지 반복해서 다시 계산 (Gauss-Seidel, 갱신한 값을 같은 회차에서 바로 씀)
+ *    한 회차는 차례인 플레이어의 배치 범위로 나눠 ForkJoinPool에서 병렬로 계산
+ * -- 두 플레이어의 말이 같은 칸에 있는 국면은 나올 수 없으므로 계산하지 않고 NaN으로 둠
+ */
+public class TablebaseGenerator {
+    static final long MAGIC = 0x5955_5454_4241_5345L; // "YUTTBASE"
+    static final int VERSION = 1;
+    static final int MAX_PIECES = 3; // 말 4개부터는 국면 수가 수십억 개
+    static final int HEADER_BYTES = 64; // 매직, 버전, 판 형태 코드(BoardSpec.getCode, 기본 판은 꼭짓점 수), 말 수, 말 상태 수, 배치 수, 반복 횟수, 윷가락 확률 4개
+    private static final ThrowResult[] THROWS = ThrowResult.values();
+    private static final int SPLIT_RANKS = 8; // 작업 하나가 맡는 최소 배치 수
+    private static final int WRITE_CHUNK = 1 << 20;
+
+    private final PositionIndex index;
+    private final ThrowModel throwModel;
+    private final double[] probabilities;
+    private final boolean[] extraTurn = new boolean[THROWS.length];
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+    private double tolerance = 1e-6;
+    private int maxSweeps = 10_000;
+
+    private float[] values;
+    private int sweeps;
+    private double lastDelta;
+    private long elapsedNanos;
+
+    public TablebaseGenerator(BoardSpec spec, int piecesNum, ThrowModel throwModel) {
+        if (piecesNum < 1 || piecesNum > MAX_PIECES) {
+            throw new IllegalArgumentException("Tablebase supports 1 to 3 pieces: " + piecesNum);
+        }
+        this.index = PositionIndex.build(spec, piecesNum);
+        this.throwModel = throwModel;
+        this.probabilities = throwModel.getDistribution();
+        for (ThrowResult t : THROWS) {
+            extraTurn[t.ordinal()] = t.isExtraTurn();
+        }
+    }
+
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    // 한 회차에서 바뀐 값이 모두 tolerance 미만이면 멈춤
+    public void setTolerance(double tolerance) {
+        this.tolerance = tolerance;
+    }
+
+    public void setMaxSweeps(int maxSweeps) {
+        this.maxSweeps = maxSweeps;
+    }
+
+    /**
+     * 값이 수렴할 때까지 반복 계산
+     */
+    public void solve() {
+        long begin = System.nanoTime();
+        int ranks = index.rankCount;
+        values = new float[ranks * ranks];
+        for (int m = 0; m < ranks; m++) {
+            for (int o = 0; o < ranks; o++) {
+                values[m * ranks + o] = isPossible(m, o) ? 0.5f : Float.NaN;
+            }
+        }
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            sweeps = 0;
+            do {
+                lastDelta = pool.invoke(new SweepTask(0, ranks));
+                sweeps++;
+            } while (lastDelta >= tolerance && sweeps < maxSweeps);
+        } finally {
+            pool.shutdown();
+        }
+        elapsedNanos = System.nanoTime() - begin;
+    }
+
+    /**
+     * 헤더, 말 상태 표, 값 배열(float, 국면 번호 순)을 파일로 씀
+     */
+    public void write(Path path) throws IOException {
+        if (values == null) {
+            throw new IllegalStateException("solve() first");
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES + index.stateCount * Integer.BYTES);
+            header.putLong(MAGIC).putInt(VERSION)
+                    .putInt(index.spec.getCode()).putInt(index.piecesNum)
+                    .putInt(index.stateCount).putInt(index.rankCount).putInt(sweeps);
+            for (int k = 0; k < 4; k++) {
+                header.putDouble(throwModel.getStickProbability(k));
+            }
+            for (int key : index.stateKeys) {
+                header.putInt(key);
+            }
+            header.flip();
+            while (header.hasRemaining()) {
+                channel.write(header);
+            }
+
+            ByteBuffer chunk = ByteBuffer.allocate(WRITE_CHUNK * Float.BYTES);
+            for (int from = 0; from < values.length; from += WRITE_CHUNK) {
+                chunk.clear();
+                chunk.asFloatBuffer().put(values, from, Math.min(WRITE_CHUNK, values.length - from));
+                chunk.limit(Math.min(WRITE_CHUNK, values.length - from) * Float.BYTES);
+                while (chunk.hasRemaining()) {
+                    channel.write(chunk);
+                }
+            }
+        }
+    }
+
+    public long getPositionCount() { return index.positionCount(); }
+    public int getSweeps() { return sweeps; }
+    public double getLastDelta() { return lastDelta; }
+    public long getElapsedNanos() { return elapsedNanos; }
+
+    @Override
+    public String toString() {
+        return String.format("%s, 말 %d개: 국면 %,d개, %d회 반복 (마지막 변화 %.2e), %.1f초",
+                index.spec, index.piecesNum, getPositionCount(), sweeps, lastDelta, elapsedNanos / 1e9);
+    }
+
+    // 두 플레이어의 말이 같은 칸에 있으면 불가능한 국면
+    private boolean isPossible(int moverRank, int opponentRank) {
+        return (index.cellMasks[moverRank] & index.cellMasks[opponentRank]) == 0;
+    }
+
+    /**
+     * 차례인 플레이어의 배치 [from, to) 범위의 국면을 한 번씩 다시 계산하고 가장 큰 변화량을 반환
+     */
+    @SuppressWarnings("serial")
+    private final class SweepTask extends RecursiveTask<Double> {
+        private final int from;
+        private final int to;
+
+        SweepTask(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Double compute() {
+            if (to - from > SPLIT_RANKS) {
+                int mid = (from + to) >>> 1;
+                SweepTask right = new SweepTask(mid, to);
+                right.fork();
+                double left = new SweepTask(from, mid).compute();
+                return Math.max(left, right.join());
+            }
+            int ranks = index.rankCount;
+            double maxDelta = 0.0;
+            for (int m = from; m < to; m++) {
+                for (int o = 0; o < ranks; o++) {
+                    if (!isPossible(m, o)) continue;
+                    float value = (float) evaluate(m, o);
+                    int position = m * ranks + o;
+                    maxDelta = Math.max(maxDelta, Math.abs(value - values[position]));
+                    values[position] = value;
+                }
+            }
+            return maxDelta;
+        }
+
+        private double evaluate(int m, int o) {
+            int n = index.piecesNum;
+            int ranks = index.rankCount;
+            int captureBase = o * (index.cellCount + 1);
+            double expected = 0.0;
+            for (int t = 0; t < THROWS.length; t++) {
+                double p = probabilities[t];
+                if (p == 0.0) continue;
+                double best;
+                if (t == ThrowResult.BACK_DO.ordinal() && index.cannotBackDo[m]) {
+                    best = 1.0 - values[o * ranks + m];
+                } else {
+                    best = 0.0;
+                    int base = (m * THROWS.length + t) * n;
+                    for (int k = 0; k < n; k++) {
+                        int moved = index.moveRanks[base + k];
+                        if (moved == PositionIndex.NONE) continue;
+                        if (moved == PositionIndex.WIN) {
+                            best = 1.0;
+                            break;
+                        }
+                        int rest = index.captureRanks[captureBase + index.moveCells[base + k]];
+                        best = Math.max(best, extraTurn[t] ? values[moved * ranks + rest] : 1.0 - values[rest * ranks + moved]);
+                    }
+                }
+                expected += p * best;
+            }
+            return expected;
+        }
+    }
+}
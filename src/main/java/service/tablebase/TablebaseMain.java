@@ -0,0 +1,30 @@
+package service.tablebase;
+
+import model.BoardShape;
+import model.BoardSpec;
+import service.ThrowModel;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * 콘솔에서 엔드게임 표를 만드는 진입점
+ * 사용법: TablebaseMain [파일] [보드모양] [말 수] [스레드 수] [윷이 뒤집어질 확률]
+ * 예) TablebaseMain square-3.ytb SQUARE 3 16
+ */
+public class TablebaseMain {
+    public static void main(String[] args) throws IOException {
+        Path path = Path.of(args.length > 0 ? args[0] : "square-2.ytb");
+        BoardSpec spec = args.length > 1 ? BoardSpec.parse(args[1]) : BoardShape.SQUARE.getSpec();
+        int pieces = args.length > 2 ? Integer.parseInt(args[2]) : 2;
+        ThrowModel model = args.length > 4 ? ThrowModel.ofUniformSticks(Double.parseDouble(args[4])) : ThrowModel.FAIR;
+
+        TablebaseGenerator generator = new TablebaseGenerator(spec, pieces, model);
+        if (args.length > 3) {
+            generator.setParallelism(Integer.parseInt(args[3]));
+        }
+        generator.solve();
+        generator.write(path);
+        System.out.println(generator + " --> " + path);
+    }
+}
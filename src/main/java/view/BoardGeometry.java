@@ -0,0 +1,146 @@
+package view;
+
+import model.Board;
+import model.BoardSpec;
+import model.Cell;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * BoardGeometry
+ *
+ * 보드 모양과 그림 크기(정사각형 한 변)가 같으면 셀 좌표는 항상 같으므로, (모양, 크기)마다 한 번만 계산해서 모든 렌더러가 같이 씀
+ * (Swing/JavaFX 보드 패널, BufferedImage에 그리는 화면 밖 렌더러 등 UI 툴킷과 무관)
+ * -- 꼭짓점: 화면 아래(출발점 V0)부터 반시계 방향으로 정다각형, 일반 셀: 꼭짓점 사이를 균등 분할, 대각선 셀: 꼭짓점과 중앙 사이
+ *    (셀 종류별 좌표 계산은 만들 때 한 번뿐, 그릴 때는 셀 번호로 배열에서 바로 읽음)
+ * -- 반지름, off-board 자리도 크기에 비례 (520 기준: 판 반지름 180, off-board 자리는 중앙에서 가로/세로 220)
+ * -- 만든 뒤에는 바뀌지 않으므로 여러 스레드에서 같이 써도 됨
+ */
+public final class BoardGeometry {
+    public static final double DEFAULT_SIZE = 520.0;
+    private static final double RADIUS_RATIO = 180.0 / DEFAULT_SIZE;
+    private static final double OFFBOARD_RATIO = 220.0 / DEFAULT_SIZE;
+
+    private static final Map<Key, BoardGeometry> CACHE = new ConcurrentHashMap<>();
+
+    private final BoardSpec spec;
+    private final double size;
+    private final double center;
+    private final double radius;
+    private final double offBoardRadius;
+    private final double[] xs; // 셀 번호(Cell.getIndex) --> 좌표
+    private final double[] ys;
+
+    /**
+     * 모양, 크기별 좌표 (없으면 한 번 계산해서 캐시)
+     */
+    public static BoardGeometry of(BoardSpec spec, double size) {
+        if (!(size > 0)) {
+            throw new IllegalArgumentException("Invalid board size: " + size);
+        }
+        Key key = new Key(spec, size);
+        BoardGeometry geometry = CACHE.get(key);
+        return geometry != null ? geometry : CACHE.computeIfAbsent(key, k -> new BoardGeometry(new Board(spec), size));
+    }
+
+    public static BoardGeometry of(BoardSpec spec) {
+        return of(spec, DEFAULT_SIZE);
+    }
+
+    private BoardGeometry(Board board, double size) {
+        this.spec = board.getSpec();
+        this.size = size;
+        this.center = size / 2.0;
+        this.radius = size * RADIUS_RATIO;
+        this.offBoardRadius = size * OFFBOARD_RATIO;
+
+        int sides = spec.getVertexCount();
+        int cellsPerEdge = board.getCellsPerEdge();
+        int diagonalCells = board.getDiagonalCells();
+
+        // [1] 꼭짓점 좌표
+        double[] vertexX = new double[sides];
+        double[] vertexY = new double[sides];
+        for (int i = 0; i < sides; i++) {
+            double theta = Math.PI / 2.0 - 2.0 * Math.PI * i / sides;
+            vertexX[i] = center + radius * Math.cos(theta);
+            vertexY[i] = center + radius * Math.sin(theta);
+        }
+
+        // [2] 셀마다 종류(꼭짓점/일반/대각/중앙)와 변 번호, 변 안 위치로 좌표 계산
+        this.xs = new double[board.getCellCount()];
+        this.ys = new double[board.getCellCount()];
+        for (Cell cell : board.getAllCells()) {
+            int index = cell.getIndex();
+            int vi = cell.getSideIndex();
+            if (cell.isVertex()) {
+                xs[index] = vertexX[vi];
+                ys[index] = vertexY[vi];
+            } else if (cell.isEdge()) {
+                int to = (vi + 1) % sides;
+                double t = (cell.getOffset() + 1) / (double) (cellsPerEdge + 1);
+                xs[index] = vertexX[vi] * (1 - t) + vertexX[to] * t;
+                ys[index] = vertexY[vi] * (1 - t) + vertexY[to] * t;
+            } else if (cell.isDiagonal()) {
+                // 꼭짓점에서 k번째 대각 셀까지의 비율 (대각 셀 2개면 0.4, 0.7)
+                // D0_j, Dn-1_j : 중앙 --> 꼭짓점 방향, V1~Vn-2: 꼭짓점 --> 중앙 방향
+                int dj = cell.getOffset();
+                int k = (vi == 0 || vi == sides - 1) ? diagonalCells - 1 - dj : dj;
+                double t = 0.1 + 0.9 * (k + 1) / (diagonalCells + 1);
+                xs[index] = vertexX[vi] * (1 - t) + center * t;
+                ys[index] = vertexY[vi] * (1 - t) + center * t;
+            } else if (cell.isCenter()) {
+                xs[index] = center;
+                ys[index] = center;
+            } else {
+                throw new IllegalStateException("Unknown cell type: " + cell.getId());
+            }
+        }
+    }
+
+    public BoardSpec getSpec() { return spec; }
+    public double getSize() { return size; }
+    public double getCenter() { return center; }
+    public double getRadius() { return radius; }
+    public int getCellCount() { return xs.length; }
+
+    public double getX(int cellIndex) { return xs[cellIndex]; }
+    public double getY(int cellIndex) { return ys[cellIndex]; }
+
+    /**
+     * 플레이어 인덱스와 전체 플레이어 수에 따라 Off-board 말들을 놓을 자리의 중심
+     * -- 2명: 제2, 4 사분면
+     * -- 3명: 제2, 1, 4 사분면
+     * -- 4명: 제2, 1, 4, 3 사분면
+     * -- 그 외: 중앙
+     */
+    public double getOffBoardX(int idx, int players) {
+        return switch (quadrant(idx, players)) {
+            case 1, 4 -> center + offBoardRadius;
+            case 2, 3 -> center - offBoardRadius;
+            default -> center;
+        };
+    }
+
+    public double getOffBoardY(int idx, int players) {
+        return switch (quadrant(idx, players)) {
+            case 1, 2 -> center - offBoardRadius;
+            case 3, 4 -> center + offBoardRadius;
+            default -> center;
+        };
+    }
+
+    // 화면 기준 사분면 (1: 오른쪽 위, 2: 왼쪽 위, 3: 왼쪽 아래, 4: 오른쪽 아래, 0: 중앙)
+    private static int quadrant(int idx, int players) {
+        return switch (players) {
+            case 2 -> idx == 0 ? 2 : 4;
+            case 3 -> idx == 0 ? 2 : idx == 1 ? 1 : 4;
+            case 4 -> idx == 0 ? 2 : idx == 1 ? 1 : idx == 2 ? 4 : 3;
+            default -> 0;
+        };
+    }
+
+    private record Key(BoardSpec spec, double size) {
+    }
+}
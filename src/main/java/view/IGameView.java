@@ -24,6 +24,11 @@ public interface IGameView {
     // 상태 메시지 보이도록 다음 턴으로 넘기기 전에 시간 추가
     void delayNextTurn(Runnable action, int delayMillis);
 
+    // 다른 스레드(컴퓨터 플레이어 탐색 등)에서 끝난 작업의 결과를 UI 스레드에서 실행하도록 요청 (UI 스레드가 없는 View는 바로 실행)
+    default void runOnUiThread(Runnable action) {
+        action.run();
+    }
+
     // 말 선택 기능을 활성화/비활성화 함 (ExtraTurn이 false일 때는 말 선택이 불가능하도록)
     void setPieceSelectable(boolean enabled);
 
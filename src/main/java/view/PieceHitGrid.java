@@ -0,0 +1,121 @@
+package view;
+
+import model.Piece;
+
+import java.util.Arrays;
+
+/**
+ * PieceHitGrid
+ *
+ * 보드 패널(Swing, JavaFX)이 말을 그리면서 채우고 클릭 좌표로 말을 찾는 균일 격자 색인 (UI 툴킷과 무관)
+ * -- 화면을 cellSize 크기의 격자로 나누고, 말의 클릭 범위(사각형)가 걸치는 격자 칸마다 말 번호를 연결 리스트로 둠
+ *    클릭 하나는 격자 칸 하나의 리스트만 보므로 말 수와 관계없이 O(1) (칸 하나에 걸치는 말은 몇 개뿐)
+ * -- 겹쳐 그린 말은 나중에 그린 말이 위에 보임 --> 리스트 앞에 넣어서 나중에 넣은 말을 먼저 찾음
+ *    (HashMap 순회처럼 순서가 바뀌지 않으므로 같은 칸에 말이 많이 겹쳐도 항상 보이는 말이 잡힘)
+ * -- 배열은 다시 쓰고 모자랄 때만 늘리므로 clear() 후 다시 채워도 새로 할당하지 않음
+ * -- UI 스레드 하나에서만 쓴다고 봄 (그리기와 클릭 처리)
+ */
+public final class PieceHitGrid {
+    private static final int NONE = -1;
+
+    private final double cellSize;
+    private final int columns;
+    private final int rows;
+    private final int[] heads; // 격자 칸 --> 첫 연결 노드
+
+    // 말 (넣은 순서 = 그린 순서)
+    private Piece[] pieces = new Piece[16];
+    private double[] bounds = new double[16 * 4]; // minX, minY, maxX, maxY
+    private int size;
+
+    // 연결 노드: 말 번호, 같은 격자 칸의 다음 노드
+    private int[] nodePiece = new int[64];
+    private int[] nodeNext = new int[64];
+    private int nodeCount;
+
+    /**
+     * (0, 0) ~ (width, height) 범위를 cellSize 격자로 나눔 (범위 밖 좌표는 가장자리 칸에 넣음)
+     */
+    public PieceHitGrid(double width, double height, double cellSize) {
+        if (width <= 0 || height <= 0 || cellSize <= 0) {
+            throw new IllegalArgumentException("Invalid grid " + width + "x" + height + " / " + cellSize);
+        }
+        this.cellSize = cellSize;
+        this.columns = (int) Math.ceil(width / cellSize);
+        this.rows = (int) Math.ceil(height / cellSize);
+        this.heads = new int[columns * rows];
+        Arrays.fill(heads, NONE);
+    }
+
+    public void clear() {
+        Arrays.fill(heads, NONE);
+        Arrays.fill(pieces, 0, size, null);
+        size = 0;
+        nodeCount = 0;
+    }
+
+    /**
+     * 말 piece의 클릭 범위 (x, y, width, height)를 추가 (나중에 추가한 말이 위)
+     * 같은 말을 다시 추가하면 두 범위 모두에서 찾아짐
+     */
+    public void add(Piece piece, double x, double y, double width, double height) {
+        if (size == pieces.length) {
+            pieces = Arrays.copyOf(pieces, size * 2);
+            bounds = Arrays.copyOf(bounds, size * 2 * 4);
+        }
+        int id = size++;
+        pieces[id] = piece;
+        bounds[id * 4] = x;
+        bounds[id * 4 + 1] = y;
+        bounds[id * 4 + 2] = x + width;
+        bounds[id * 4 + 3] = y + height;
+
+        int fromColumn = column(x);
+        int toColumn = column(x + width);
+        int fromRow = row(y);
+        int toRow = row(y + height);
+        for (int r = fromRow; r <= toRow; r++) {
+            for (int c = fromColumn; c <= toColumn; c++) {
+                if (nodeCount == nodePiece.length) {
+                    nodePiece = Arrays.copyOf(nodePiece, nodeCount * 2);
+                    nodeNext = Arrays.copyOf(nodeNext, nodeCount * 2);
+                }
+                int slot = r * columns + c;
+                nodePiece[nodeCount] = id;
+                nodeNext[nodeCount] = heads[slot];
+                heads[slot] = nodeCount++;
+            }
+        }
+    }
+
+    /**
+     * (x, y)를 클릭 범위에 포함하는 말 중 가장 나중에 추가한(맨 위에 그린) 말, 없으면 null
+     * 범위 판정은 java.awt.Rectangle.contains와 같음 (왼쪽/위 경계 포함, 오른쪽/아래 경계 제외)
+     */
+    public Piece pieceAt(double x, double y) {
+        if (size == 0) {
+            return null;
+        }
+        for (int node = heads[row(y) * columns + column(x)]; node != NONE; node = nodeNext[node]) {
+            int id = nodePiece[node];
+            int b = id * 4;
+            if (x >= bounds[b] && y >= bounds[b + 1] && x < bounds[b + 2] && y < bounds[b + 3]) {
+                return pieces[id];
+            }
+        }
+        return null;
+    }
+
+    // 추가한 클릭 범위 수
+    public int size() { return size; }
+
+    public double getCellSize() { return cellSize; }
+
+    private int column(double x) {
+        return Math.max(0, Math.min(columns - 1, (int) Math.floor(x / cellSize)));
+    }
+
+    private int row(double y) {
+        return Math.max(0, Math.min(rows - 1, (int) Math.floor(y / cellSize)));
+    }
+}
@@ -0,0 +1,258 @@
+package view.headless;
+
+import model.Player;
+import view.IGameView;
+import view.IGameViewListener;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * HeadlessGameView
+ *
+ * 창 없이 GameController를 돌리는 IGameView (테스트, 벤치마크, 서버 없는 자동 진행용)
+ * -- Swing/JavaFX 클래스를 전혀 쓰지 않으므로 UI 툴킷을 올리지 않고 컨트롤러만 실행
+ * -- 호출 기록: 상태 메시지(recording이 true일 때만 목록으로 남김), 판 갱신 횟수, 버튼 상태, 순위
+ * -- delayNextTurn 처리 방식
+ *    IMMEDIATE: 기다리지 않고 바로 실행
+ *    VIRTUAL_CLOCK: 가상 시계의 (현재 시각 + delay)에 예약만 해 두고, advanceBy/runUntilIdle을 부른 스레드에서 시각 순으로 실행
+ *      (같은 시각이면 예약한 순서), runOnUiThread도 현재 시각의 작업으로 예약
+ *      --> 다른 스레드(봇 탐색)에서 돌아온 결과도 테스트 스레드에서 정해진 순서로 실행됨, awaitTask로 도착을 기다림
+ */
+public class HeadlessGameView implements IGameView {
+
+    public enum DelayMode { IMMEDIATE, VIRTUAL_CLOCK }
+
+    private final DelayMode delayMode;
+    private final boolean recording;
+
+    private IGameViewListener listener;
+    private boolean windowShown;
+    private final List<String> statusLog = new ArrayList<>();
+    private String lastStatus = "";
+    private long statusUpdates;
+    private long boardUpdates;
+    private boolean pieceSelectable;
+    private boolean throwEnabled;
+    private List<Player> ranking;
+
+    // 가상 시계 (VIRTUAL_CLOCK), runOnUiThread는 다른 스레드에서 오므로 lock으로 보호
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition posted = lock.newCondition();
+    private final PriorityQueue<Task> tasks = new PriorityQueue<>();
+    private long now;
+    private long taskSerial;
+
+    // 호출을 모두 기록하고 지연 없이 실행
+    public HeadlessGameView() {
+        this(DelayMode.IMMEDIATE, true);
+    }
+
+    /**
+     * @param recording false면 상태 메시지 목록을 남기지 않음 (벤치마크에서 기록 비용을 빼기 위해)
+     */
+    public HeadlessGameView(DelayMode delayMode, boolean recording) {
+        this.delayMode = delayMode;
+        this.recording = recording;
+    }
+
+    // —— IGameView —— //
+
+    @Override
+    public void setGameViewListener(IGameViewListener listener) {
+        this.listener = listener;
+    }
+
+    @Override
+    public void showWindow() {
+        windowShown = true;
+    }
+
+    @Override
+    public void updateBoard() {
+        boardUpdates++;
+    }
+
+    @Override
+    public void updateStatus(String message) {
+        lastStatus = message;
+        statusUpdates++;
+        if (recording) {
+            statusLog.add(message);
+        }
+    }
+
+    @Override
+    public void delayNextTurn(Runnable action, int delayMillis) {
+        if (delayMode == DelayMode.IMMEDIATE) {
+            action.run();
+        } else {
+            schedule(action, delayMillis);
+        }
+    }
+
+    @Override
+    public void runOnUiThread(Runnable action) {
+        if (delayMode == DelayMode.IMMEDIATE) {
+            action.run();
+        } else {
+            schedule(action, 0);
+        }
+    }
+
+    @Override
+    public void setPieceSelectable(boolean enabled) {
+        this.pieceSelectable = enabled;
+    }
+
+    @Override
+    public void setThrowEnabled(boolean enabled) {
+        this.throwEnabled = enabled;
+    }
+
+    @Override
+    public void showRankingDialog(List<Player> ranking) {
+        this.ranking = List.copyOf(ranking);
+    }
+
+    // —— 가상 시계 —— //
+
+    // 가상 시계의 현재 시각 (ms, 0에서 시작)
+    public long currentTimeMillis() {
+        lock.lock();
+        try {
+            return now;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getPendingTasks() {
+        lock.lock();
+        try {
+            return tasks.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 시계를 millis만큼 앞으로 옮기면서 그 사이에 예정된 작업을 시각 순으로 실행 (실행 중에 예약된 작업 포함)
+     * @return 실행한 작업 수
+     */
+    public int advanceBy(long millis) {
+        long target = currentTimeMillis() + millis;
+        int executed = 0;
+        Task task;
+        while ((task = pollDue(target)) != null) {
+            task.action.run();
+            executed++;
+        }
+        lock.lock();
+        try {
+            now = Math.max(now, target);
+        } finally {
+            lock.unlock();
+        }
+        return executed;
+    }
+
+    /**
+     * 예약된 작업이 없을 때까지 다음 작업의 시각으로 시계를 건너뛰며 실행
+     * @return 실행한 작업 수
+     */
+    public int runUntilIdle() {
+        int executed = 0;
+        Task task;
+        while ((task = pollDue(Long.MAX_VALUE)) != null) {
+            task.action.run();
+            executed++;
+        }
+        return executed;
+    }
+
+    /**
+     * 예약된 작업이 생길 때까지 기다림 (다른 스레드에서 runOnUiThread로 돌아올 결과용)
+     * @return 제한 시간 안에 작업이 있으면 true
+     */
+    public boolean awaitTask(long timeoutMillis) throws InterruptedException {
+        long remaining = TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        lock.lock();
+        try {
+            while (tasks.isEmpty()) {
+                if (remaining <= 0) return false;
+                remaining = posted.awaitNanos(remaining);
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void schedule(Runnable action, long delayMillis) {
+        lock.lock();
+        try {
+            tasks.add(new Task(now + Math.max(0, delayMillis), taskSerial++, action));
+            posted.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // target 시각까지 예정된 첫 작업을 꺼내고 시계를 그 시각으로 옮김
+    private Task pollDue(long target) {
+        lock.lock();
+        try {
+            Task next = tasks.peek();
+            if (next == null || next.dueMillis > target) return null;
+            now = Math.max(now, next.dueMillis);
+            return tasks.poll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // —— 기록 조회 —— //
+
+    public DelayMode getDelayMode() { return delayMode; }
+    public IGameViewListener getListener() { return listener; }
+    public boolean isWindowShown() { return windowShown; }
+    public String getLastStatus() { return lastStatus; }
+    public long getStatusUpdates() { return statusUpdates; }
+    public long getBoardUpdates() { return boardUpdates; }
+    public boolean isPieceSelectable() { return pieceSelectable; }
+    public boolean isThrowEnabled() { return throwEnabled; }
+
+    // recording이 false면 빈 목록
+    public List<String> getStatusLog() {
+        return Collections.unmodifiableList(statusLog);
+    }
+
+    // 순위 팝업 내용 (게임이 끝나기 전에는 null)
+    public List<Player> getRanking() {
+        return ranking;
+    }
+
+    private static final class Task implements Comparable<Task> {
+        final long dueMillis;
+        final long serial;
+        final Runnable action;
+
+        Task(long dueMillis, long serial, Runnable action) {
+            this.dueMillis = dueMillis;
+            this.serial = serial;
+            this.action = action;
+        }
+
+        @Override
+        public int compareTo(Task other) {
+            int byTime = Long.compare(dueMillis, other.dueMillis);
+            return byTime != 0 ? byTime : Long.compare(serial, other.serial);
+        }
+    }
+}
@@ -14,57 +14,98 @@ import model.Game;
 import model.Piece;
 import model.PieceState;
 import model.Player;
+import view.BoardGeometry;
 import view.IGameViewListener;
+import view.PieceHitGrid;
 
-import java.util.HashMap;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-import java.util.function.Function;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * GameBoardPanel
  *
- * - Canvas 위에 “보드판(라인+셀)”과 “칸 위 Occupant(말)”을 그립니다.
+ * - Canvas 두 장을 겹쳐서 그립니다.
+ *   아래(boardCanvas): 바뀌지 않는 “보드판(라인+셀)”과 플레이어 이름 → 처음 한 번만 그림
+ *   위(pieceCanvas): “칸 위 Occupant(말)”과 off-board 말 → 바뀐 부분만 다시 그림
+ * - 말 레이어는 칸마다, 플레이어의 off-board 자리마다 “슬롯” 하나로 나눠서
+ *   지난번에 그린 모습(말 수 + 주인 순서)과 다를 때만 그 슬롯의 예전/새 범위를 지우고 다시 그립니다.
+ *   (빨리 감는 리플레이, 봇끼리 두는 게임처럼 updateBoard()가 몰려 와도 한 수에 몇 칸만 그림)
+ * - 말의 클릭 범위는 슬롯을 계산하면서 균일 격자(PieceHitGrid)에 넣고, 클릭 좌표가 속한 격자 칸만 확인합니다.
+ * - UI 스레드가 아닌 곳에서 updateBoard()가 여러 번 와도 아직 처리되지 않은 runLater가 있으면 하나로 합칩니다.
  * - 사용자가 말(Piece)을 클릭하면 등록된 IGameViewListener.onPieceClicked(piece)를 호출합니다.
- * - JavaFXGameView 에서 이 패널을 중앙에 배치하고,
- *   updateBoard() 호출 시 drawBoard()만 실행하면 전체 보드가 갱신됩니다.
  */
 public class GameBoardPanel extends Pane {
 
     private final Game game;
     private final Board board;
-    private Canvas canvas;
+    private final Canvas boardCanvas;
+    private final Canvas pieceCanvas;
     private IGameViewListener listener;
 
-    // Piece → 화면상의 클릭 범위(Rectangle2D) 매핑
-    private final Map<Piece, Rectangle2D> pieceBounds = new HashMap<>();
+    // 말의 클릭 범위 격자 색인 (슬롯 순서 = 그리는 순서로 넣으므로 겹치면 위에 그린 말이 잡힘)
+    private final PieceHitGrid hitGrid = new PieceHitGrid(CANVAS_SIZE, CANVAS_SIZE, PIECE_RADIUS * 2);
+
+    // 셀 번호(Cell.getIndex) → 화면 좌표, 플레이어 → off-board 자리 중심 (보드 모양별로 공유하는 BoardGeometry에서 가져옴)
+    private final Point2D[] cellPoints;
+    private final Point2D[] quadPoints;
+
+    // 슬롯(0 ~ 셀 수-1: 칸, 그 뒤: 플레이어별 off-board 자리)마다 지난번에 그린 모습과 범위(null = 빈 슬롯)
+    private final long[] drawnSignatures;
+    private final Rectangle2D[] drawnExtents;
+    private final long[] signatures;
+    private final Rectangle2D[] extents;
+
+    // UI 스레드 밖에서 온 updateBoard()를 하나로 합치기 위한 표시
+    private final AtomicBoolean redrawPending = new AtomicBoolean();
+
+    // 갱신 통계
+    private int boardLayerDraws;
+    private long pieceLayerUpdates;
+    private final AtomicLong coalescedUpdates = new AtomicLong();
+    private int lastDirtySlots;
+    private int lastRedrawnSlots;
+    private long redrawnSlotsTotal;
 
     // ─── 상수 (보드 크기·위치 계산용) ───────────────────────────────────────────
     private static final double CANVAS_SIZE = 520.0;
-    private static final double CENTER = CANVAS_SIZE / 2.0;
-    private static final double RADIUS = 180.0;
     private static final double NODE_SIZE = 32.0;
     private static final double PIECE_RADIUS = 10.0;
-    private static final double OFFBOARD_RADIUS = RADIUS + 40.0;
     private static final double OFFBOARD_PIECE_RADIUS = 10.0;
     private static final double OFFBOARD_GAP = 4.0;
     private static final double OVERLAP_GAP = 12.0;
+    private static final double STROKE_MARGIN = 1.0; // 테두리 선이 말 범위 밖으로 나가는 만큼
     // ────────────────────────────────────────────────────────────────────────────
 
     public GameBoardPanel(Board board, Game game) {
         this.game = game;
         this.board = game.getBoard();
+        BoardGeometry geometry = BoardGeometry.of(this.board.getSpec(), CANVAS_SIZE);
+        this.cellPoints = new Point2D[geometry.getCellCount()];
+        for (int i = 0; i < cellPoints.length; i++) {
+            cellPoints[i] = new Point2D(geometry.getX(i), geometry.getY(i));
+        }
+        int nPlayers = game.getPlayers().size();
+        this.quadPoints = new Point2D[nPlayers];
+        for (int idx = 0; idx < nPlayers; idx++) {
+            quadPoints[idx] = new Point2D(geometry.getOffBoardX(idx, nPlayers), geometry.getOffBoardY(idx, nPlayers));
+        }
+        int slots = cellPoints.length + nPlayers;
+        this.drawnSignatures = new long[slots];
+        this.drawnExtents = new Rectangle2D[slots];
+        this.signatures = new long[slots];
+        this.extents = new Rectangle2D[slots];
 
-        // 1) Canvas 생성
-        canvas = new Canvas(CANVAS_SIZE, CANVAS_SIZE);
-        getChildren().add(canvas);
+        // 1) Canvas 두 장 생성 (말 레이어가 위, 클릭도 말 레이어가 받음)
+        boardCanvas = new Canvas(CANVAS_SIZE, CANVAS_SIZE);
+        pieceCanvas = new Canvas(CANVAS_SIZE, CANVAS_SIZE);
+        getChildren().addAll(boardCanvas, pieceCanvas);
 
         // 2) 마우스 클릭 핸들러: 클릭한 좌표에 말이 있으면 listener.onPieceClicked(piece) 호출
-        canvas.addEventHandler(MouseEvent.MOUSE_CLICKED, e -> {
+        pieceCanvas.addEventHandler(MouseEvent.MOUSE_CLICKED, e -> {
             if (listener == null) return;
-            double x = e.getX();
-            double y = e.getY();
-            Piece clicked = getPieceAt(x, y);
+            Piece clicked = getPieceAt(e.getX(), e.getY());
             if (clicked != null) {
                 listener.onPieceClicked(clicked);
             }
@@ -88,92 +129,79 @@ public class GameBoardPanel extends Pane {
     }
 
     /**
-     * 전체 보드(라인+셀+말+off-board 말)를 다시 그립니다.
-     * JavaFX UI 스레드에서 호출되어야 하므로, 외부에서 updateBoard()를 통해 호출하세요.
+     * 두 레이어(라인+셀+이름, 말+off-board 말)를 모두 처음부터 다시 그립니다.
+     * JavaFX UI 스레드에서 호출되어야 합니다. 말이 움직였을 때는 updateBoard()를 쓰세요.
      */
     public void drawBoard() {
-        if (canvas == null) return;
+        drawBoardLayer();
 
-        GraphicsContext gc = canvas.getGraphicsContext2D();
+        collectSlots();
+        GraphicsContext gc = pieceCanvas.getGraphicsContext2D();
         gc.clearRect(0, 0, CANVAS_SIZE, CANVAS_SIZE);
-        pieceBounds.clear();
-
-        int sides = board.getShape().getVertexCount();
-        int cellsPerEdge = board.getCellsPerEdge();
-
-        // [1] 꼭짓점 좌표 계산
-        Point2D[] vertexPoints = new Point2D[sides];
-        for (int i = 0; i < sides; i++) {
-            double theta = Math.PI / 2.0 - 2.0 * Math.PI * i / sides;
-            double x = CENTER + RADIUS * Math.cos(theta);
-            double y = CENTER + RADIUS * Math.sin(theta);
-            vertexPoints[i] = new Point2D(x, y);
+        for (int slot = 0; slot < signatures.length; slot++) {
+            drawSlot(gc, slot);
         }
+        lastDirtySlots = signatures.length;
+        lastRedrawnSlots = signatures.length;
+        redrawnSlotsTotal += signatures.length;
+        pieceLayerUpdates++;
+        System.arraycopy(signatures, 0, drawnSignatures, 0, signatures.length);
+        System.arraycopy(extents, 0, drawnExtents, 0, extents.length);
+    }
 
-        // [2] edge cell 좌표 계산
-        Point2D[][] edgePoints = new Point2D[sides][cellsPerEdge];
-        for (int i = 0; i < sides; i++) {
-            Point2D from = vertexPoints[i];
-            Point2D to = vertexPoints[(i + 1) % sides];
-            for (int j = 0; j < cellsPerEdge; j++) {
-                double t = (j + 1) / (double) (cellsPerEdge + 1);
-                double ex = from.getX() * (1 - t) + to.getX() * t;
-                double ey = from.getY() * (1 - t) + to.getY() * t;
-                edgePoints[i][j] = new Point2D(ex, ey);
-            }
+    /**
+     * 말 레이어에서 모습이 바뀐 슬롯만 다시 그립니다.
+     * JavaFX UI 스레드가 아닌 곳에서 호출 시, 내부적으로 Platform.runLater를 통해 호출하며
+     * 이미 예약된 갱신이 있으면 새로 예약하지 않습니다 (그 갱신이 그때의 최신 상태를 그림).
+     */
+    public void updateBoard() {
+        if (Platform.isFxApplicationThread()) {
+            redrawDirtySlots();
+        } else if (redrawPending.compareAndSet(false, true)) {
+            Platform.runLater(() -> {
+                redrawPending.set(false);
+                redrawDirtySlots();
+            });
+        } else {
+            coalescedUpdates.incrementAndGet();
         }
+    }
 
-        // [3] 중앙 좌표
-        Point2D centerPoint = new Point2D(CENTER, CENTER);
+    // ─── 갱신 통계 ─────────────────────────────────────────────────────────────
+    // 보드 레이어를 그린 횟수 (drawBoard()를 부를 때만 늘어남)
+    public int getBoardLayerDraws() { return boardLayerDraws; }
+    // 말 레이어를 갱신한 횟수
+    public long getPieceLayerUpdates() { return pieceLayerUpdates; }
+    // 예약된 갱신에 합쳐져서 따로 그리지 않은 updateBoard() 수
+    public long getCoalescedUpdates() { return coalescedUpdates.get(); }
+    // 마지막 갱신에서 모습이 바뀐 슬롯 수
+    public int getLastDirtySlots() { return lastDirtySlots; }
+    // 마지막 갱신에서 다시 그린 슬롯 수 (바뀐 슬롯과 범위가 겹치는 이웃 포함)
+    public int getLastRedrawnSlots() { return lastRedrawnSlots; }
+    public long getRedrawnSlotsTotal() { return redrawnSlotsTotal; }
+    public int getSlotCount() { return signatures.length; }
 
-        // [4] getPosition: cellId → 화면 좌표 매핑 함수
-        Function<String, Point2D> getPosition = id -> {
-            if (id.startsWith("V")) {
-                int idx = Integer.parseInt(id.substring(1));
-                return vertexPoints[idx];
-            }
-            if (id.startsWith("E")) {
-                String[] parts = id.substring(1).split("_");
-                int vi = Integer.parseInt(parts[0]);
-                int ej = Integer.parseInt(parts[1]);
-                return edgePoints[vi][ej];
-            }
-            if (id.equals("C")) {
-                return centerPoint;
-            }
-            if (id.startsWith("D")) {
-                String[] parts = id.substring(1).split("_");
-                int vi = Integer.parseInt(parts[0]);
-                int dj = Integer.parseInt(parts[1]);
-                Point2D v = vertexPoints[vi];
-                double t;
-                if (vi == 0 || vi == sides - 1) {
-                    t = (dj == 0) ? 0.7 : 0.4;
-                } else {
-                    t = (dj == 0) ? 0.4 : 0.7;
-                }
-                double x = v.getX() * (1 - t) + centerPoint.getX() * t;
-                double y = v.getY() * (1 - t) + centerPoint.getY() * t;
-                return new Point2D(x, y);
-            }
-            return new Point2D(0, 0);
-        };
+    // ───────────────────────────────────────────────────────────────────────────
+    // 보드 레이어: 셀 간 연결선, 셀, 플레이어 이름
+    private void drawBoardLayer() {
+        GraphicsContext gc = boardCanvas.getGraphicsContext2D();
+        gc.clearRect(0, 0, CANVAS_SIZE, CANVAS_SIZE);
 
-        // [5] 셀 간 연결선 그리기
+        // [1] 셀 간 연결선 그리기
         gc.setStroke(Color.LIGHTGRAY);
         for (Cell cell : board.getAllCells()) {
-            Point2D from = getPosition.apply(cell.getId());
+            Point2D from = cellPoints[cell.getIndex()];
             for (Cell next : cell.getNextCells()) {
-                Point2D to = getPosition.apply(next.getId());
+                Point2D to = cellPoints[next.getIndex()];
                 gc.strokeLine(from.getX(), from.getY(), to.getX(), to.getY());
             }
         }
 
-        // [6] 셀 테두리·색 채우기
+        // [2] 셀 테두리·색 채우기
         for (Cell cell : board.getAllCells()) {
-            Point2D p = getPosition.apply(cell.getId());
+            Point2D p = cellPoints[cell.getIndex()];
             double cx = p.getX(), cy = p.getY();
-            if (cell.getId().startsWith("V") || cell.getId().equals("C")) {
+            if (cell.isVertex() || cell.isCenter()) {
                 // 꼭짓점(C 또는 V) 셀: 이중 테두리 + 빨강 채워 넣기
                 gc.setStroke(Color.BLACK);
                 gc.setLineWidth(1.0);
@@ -200,160 +228,174 @@ public class GameBoardPanel extends Pane {
             }
         }
 
-        // [7] Cell 위 Occupant(말) 그리기 + 클릭 범위 저장 (한 줄 가운데 정렬)
-        for (Cell cell : board.getAllCells()) {
-            Point2D cellCenter = getPosition.apply(cell.getId());
-            List<Piece> occupants = cell.getOccupants();
-            if (occupants.isEmpty()) continue;
-
-            int count = occupants.size();
-            for (int i = 0; i < count; i++) {
-                Piece piece = occupants.get(i);
-
-                // 출발점 셀 위에서 아직 시작하지 않은 말은 건너뜀
-                if (cell.isStartCell() && piece.getState() == PieceState.NOT_STARTED) {
-                    continue;
-                }
-                if (piece.getState() != PieceState.ON_BOARD) continue;
-
-                // count개의 피스를 일렬로 그리기(가운데 정렬)
-                double baseOffset = (2 * PIECE_RADIUS - OVERLAP_GAP);
-                double offsetX_double = (i - (count - 1) / 2.0) * baseOffset;
-                double px = cellCenter.getX() + offsetX_double;
-                double py = cellCenter.getY(); // y는 중앙
-
-                // 플레이어별 색 결정
-                javafx.scene.paint.Color pieceColor = getColorForPlayer(piece.getOwner());
-                gc.setFill(pieceColor);
-                gc.fillOval(px - PIECE_RADIUS, py - PIECE_RADIUS,
-                        PIECE_RADIUS * 2, PIECE_RADIUS * 2);
-                gc.setStroke(Color.BLACK);
-                gc.strokeOval(px - PIECE_RADIUS, py - PIECE_RADIUS,
-                        PIECE_RADIUS * 2, PIECE_RADIUS * 2);
-
-                // 클릭 범위 저장
-                Rectangle2D bounds = new Rectangle2D(
-                        px - PIECE_RADIUS, py - PIECE_RADIUS,
-                        PIECE_RADIUS * 2, PIECE_RADIUS * 2
-                );
-                pieceBounds.put(piece, bounds);
-            }
-        }
-
-        // [8] Off-board 말 그리기 (각 플레이어별 사분면 위치)
+        // [3] 플레이어 이름 (off-board 자리 위)
         List<Player> players = game.getPlayers();
-        int nPlayers = players.size();
-        for (int idx = 0; idx < nPlayers; idx++) {
-            Player player = players.get(idx);
-            Point2D quadCenter = computeQuadrantPoint(idx, nPlayers);
-
-            // 플레이어 이름
-            String playerName = player.getName();
+        for (int idx = 0; idx < players.size(); idx++) {
+            String playerName = players.get(idx).getName();
+            Point2D quadCenter = quadPoints[idx];
             gc.setFill(Color.BLACK);
             gc.fillText(playerName,
                     quadCenter.getX() - playerName.length() * 3,
                     quadCenter.getY() - OFFBOARD_PIECE_RADIUS * 2 - OFFBOARD_GAP);
+        }
+        boardLayerDraws++;
+    }
 
-            // Off-board(아직 시작 안 했거나 잡혀서 돌아온) 말 표시
-            // 2) Off‐board(아직 시작 안 했거나 잡힌) 말들을 수집
-            List<Piece> offboardPieces = player.getPieces().stream()
-                    .filter(p -> p.getState() == PieceState.NOT_STARTED)
-                    .toList();
-
-            int count = offboardPieces.size();
-            if (count == 0) continue;
-
-            // 3) 한 줄로 가운데 정렬할 때 사용할 간격 계산
-            double baseOffsetOff = (2 * OFFBOARD_PIECE_RADIUS - OVERLAP_GAP);
+    // ───────────────────────────────────────────────────────────────────────────
+    // 말 레이어: 바뀐 슬롯의 예전/새 범위를 지우고, 그 범위에 걸치는 슬롯을 잘라서 다시 그림
+    void redrawDirtySlots() {
+        collectSlots();
+
+        List<Rectangle2D> dirty = new ArrayList<>();
+        for (int slot = 0; slot < signatures.length; slot++) {
+            if (signatures[slot] == drawnSignatures[slot]) continue;
+            Rectangle2D region = union(drawnExtents[slot], extents[slot]);
+            if (region != null) dirty.add(region);
+        }
 
-            for (int i = 0; i < count; i++) {
-                Piece piece = offboardPieces.get(i);
-
-                // 3‐1) 한 줄로 가운데 정렬: (i - (count-1)/2) * baseOffsetOff
-                double offsetX_double = (i - (count - 1) / 2.0) * baseOffsetOff;
-                double px = quadCenter.getX() + offsetX_double;
-                double py = quadCenter.getY(); // 수직(centerY)는 그대로 유지
-
-                // 3‐2) 말 색상 결정
-                javafx.scene.paint.Color pc = getColorForPlayer(player);
-                gc.setFill(pc);
-                gc.fillOval(
-                        px - OFFBOARD_PIECE_RADIUS,
-                        py - OFFBOARD_PIECE_RADIUS,
-                        OFFBOARD_PIECE_RADIUS * 2,
-                        OFFBOARD_PIECE_RADIUS * 2
-                );
-                gc.setStroke(Color.BLACK);
-                gc.strokeOval(
-                        px - OFFBOARD_PIECE_RADIUS,
-                        py - OFFBOARD_PIECE_RADIUS,
-                        OFFBOARD_PIECE_RADIUS * 2,
-                        OFFBOARD_PIECE_RADIUS * 2
-                );
-
-                // 3‐3) 클릭 영역 저장
-                Rectangle2D bounds = new Rectangle2D(
-                        px - OFFBOARD_PIECE_RADIUS,
-                        py - OFFBOARD_PIECE_RADIUS,
-                        OFFBOARD_PIECE_RADIUS * 2,
-                        OFFBOARD_PIECE_RADIUS * 2
-                );
-                pieceBounds.put(piece, bounds);
+        GraphicsContext gc = pieceCanvas.getGraphicsContext2D();
+        int redrawn = 0;
+        for (Rectangle2D region : dirty) {
+            gc.clearRect(region.getMinX(), region.getMinY(), region.getWidth(), region.getHeight());
+            gc.save();
+            gc.beginPath();
+            gc.rect(region.getMinX(), region.getMinY(), region.getWidth(), region.getHeight());
+            gc.clip();
+            for (int slot = 0; slot < signatures.length; slot++) {
+                if (extents[slot] != null && extents[slot].intersects(region)) {
+                    drawSlot(gc, slot);
+                    redrawn++;
+                }
             }
+            gc.restore();
         }
+
+        lastDirtySlots = dirty.size();
+        lastRedrawnSlots = redrawn;
+        redrawnSlotsTotal += redrawn;
+        pieceLayerUpdates++;
+        System.arraycopy(signatures, 0, drawnSignatures, 0, signatures.length);
+        System.arraycopy(extents, 0, drawnExtents, 0, extents.length);
     }
 
     /**
-     * JavaFX UI 스레드가 아닌 곳에서 호출 시, 내부적으로 Platform.runLater를 통해
-     * drawBoard()를 호출합니다.
+     * 지금 게임 상태로 슬롯마다 모습(signatures)과 범위(extents)를 계산하고 클릭 범위를 다시 만듭니다.
+     * 모습 = 보이는 말 수(아래 8비트) + 말마다 주인 색 번호 2비트 (칸 하나에 말은 최대 20개라 long에 들어감)
      */
-    public void updateBoard() {
-        if (Platform.isFxApplicationThread()) {
-            drawBoard();
-        } else {
-            Platform.runLater(this::drawBoard);
+    private void collectSlots() {
+        hitGrid.clear();
+        double baseOffset = 2 * PIECE_RADIUS - OVERLAP_GAP;
+
+        // [1] Cell 위 Occupant(말): 한 줄 가운데 정렬
+        for (int index = 0; index < cellPoints.length; index++) {
+            Cell cell = board.getCell(index);
+            List<Piece> occupants = cell.getOccupants();
+            int count = 0;
+            long colors = 0;
+            for (Piece piece : occupants) {
+                // 출발점 셀 위에서 아직 시작하지 않은 말은 건너뜀
+                if (piece.getState() != PieceState.ON_BOARD) continue;
+                colors |= (long) (piece.getOwner().getId() & 3) << (2 * count);
+                count++;
+            }
+            signatures[index] = count == 0 ? 0 : count | colors << 8;
+            extents[index] = extentOf(cellPoints[index], count, PIECE_RADIUS);
+
+            int i = 0;
+            for (Piece piece : occupants) {
+                if (piece.getState() != PieceState.ON_BOARD) continue;
+                double px = cellPoints[index].getX() + (i - (count - 1) / 2.0) * baseOffset;
+                double py = cellPoints[index].getY();
+                hitGrid.add(piece, px - PIECE_RADIUS, py - PIECE_RADIUS, PIECE_RADIUS * 2, PIECE_RADIUS * 2);
+                i++;
+            }
         }
-    }
 
-    // ───────────────────────────────────────────────────────────────────────────
-    // 화면상의 (x,y) 좌표에 해당하는 Piece가 있으면 반환, 없으면 null
-    private Piece getPieceAt(double x, double y) {
-        for (Map.Entry<Piece, Rectangle2D> entry : pieceBounds.entrySet()) {
-            if (entry.getValue().contains(x, y)) {
-                return entry.getKey();
+        // [2] Off-board(아직 시작 안 했거나 잡혀서 돌아온) 말: 플레이어 자리마다 한 줄 가운데 정렬
+        double baseOffsetOff = 2 * OFFBOARD_PIECE_RADIUS - OVERLAP_GAP;
+        List<Player> players = game.getPlayers();
+        for (int idx = 0; idx < players.size(); idx++) {
+            int slot = cellPoints.length + idx;
+            Point2D quadCenter = quadPoints[idx];
+            int count = 0;
+            for (Piece piece : players.get(idx).getPieces()) {
+                if (piece.getState() == PieceState.NOT_STARTED) count++;
+            }
+            signatures[slot] = count;
+            extents[slot] = extentOf(quadCenter, count, OFFBOARD_PIECE_RADIUS);
+
+            int i = 0;
+            for (Piece piece : players.get(idx).getPieces()) {
+                if (piece.getState() != PieceState.NOT_STARTED) continue;
+                double px = quadCenter.getX() + (i - (count - 1) / 2.0) * baseOffsetOff;
+                double py = quadCenter.getY();
+                hitGrid.add(piece, px - OFFBOARD_PIECE_RADIUS, py - OFFBOARD_PIECE_RADIUS,
+                        OFFBOARD_PIECE_RADIUS * 2, OFFBOARD_PIECE_RADIUS * 2);
+                i++;
             }
         }
-        return null;
     }
 
-    // ───────────────────────────────────────────────────────────────────────────
-    // 플레이어별 사분면 중심 좌표 계산
-    private Point2D computeQuadrantPoint(int idx, int nPlayers) {
-        double qx = CENTER, qy = CENTER;
-        switch (nPlayers) {
-            case 2 -> {
-                if (idx == 0) { qx = CENTER - OFFBOARD_RADIUS; qy = CENTER - OFFBOARD_RADIUS; }
-                else          { qx = CENTER + OFFBOARD_RADIUS; qy = CENTER + OFFBOARD_RADIUS; }
-            }
-            case 3 -> {
-                if (idx == 0)       { qx = CENTER - OFFBOARD_RADIUS; qy = CENTER - OFFBOARD_RADIUS; }
-                else if (idx == 1)  { qx = CENTER + OFFBOARD_RADIUS; qy = CENTER - OFFBOARD_RADIUS; }
-                else                { qx = CENTER + OFFBOARD_RADIUS; qy = CENTER + OFFBOARD_RADIUS; }
+    // 한 슬롯의 말을 그림 (collectSlots()가 계산한 지금 상태)
+    private void drawSlot(GraphicsContext gc, int slot) {
+        if (slot < cellPoints.length) {
+            Point2D cellCenter = cellPoints[slot];
+            List<Piece> occupants = board.getCell(slot).getOccupants();
+            int count = (int) (signatures[slot] & 0xFF);
+            double baseOffset = 2 * PIECE_RADIUS - OVERLAP_GAP;
+            int i = 0;
+            for (Piece piece : occupants) {
+                if (piece.getState() != PieceState.ON_BOARD) continue;
+                double px = cellCenter.getX() + (i - (count - 1) / 2.0) * baseOffset;
+                drawPiece(gc, px, cellCenter.getY(), PIECE_RADIUS, getColorForPlayer(piece.getOwner()));
+                i++;
             }
-            case 4 -> {
-                if (idx == 0)       { qx = CENTER - OFFBOARD_RADIUS; qy = CENTER - OFFBOARD_RADIUS; }
-                else if (idx == 1)  { qx = CENTER + OFFBOARD_RADIUS; qy = CENTER - OFFBOARD_RADIUS; }
-                else if (idx == 2)  { qx = CENTER + OFFBOARD_RADIUS; qy = CENTER + OFFBOARD_RADIUS; }
-                else                { qx = CENTER - OFFBOARD_RADIUS; qy = CENTER + OFFBOARD_RADIUS; }
+        } else {
+            int idx = slot - cellPoints.length;
+            Point2D quadCenter = quadPoints[idx];
+            int count = (int) signatures[slot];
+            double baseOffsetOff = 2 * OFFBOARD_PIECE_RADIUS - OVERLAP_GAP;
+            Color pc = getColorForPlayer(game.getPlayers().get(idx));
+            for (int i = 0; i < count; i++) {
+                double px = quadCenter.getX() + (i - (count - 1) / 2.0) * baseOffsetOff;
+                drawPiece(gc, px, quadCenter.getY(), OFFBOARD_PIECE_RADIUS, pc);
             }
-            default -> { /* 1명 혹은 5명 이상은 중앙 표시 */ }
         }
-        return new Point2D(qx, qy);
+    }
+
+    private static void drawPiece(GraphicsContext gc, double px, double py, double radius, Color color) {
+        gc.setFill(color);
+        gc.fillOval(px - radius, py - radius, radius * 2, radius * 2);
+        gc.setStroke(Color.BLACK);
+        gc.strokeOval(px - radius, py - radius, radius * 2, radius * 2);
+    }
+
+    // count개의 말을 center 기준 한 줄로 그렸을 때 차지하는 범위 (테두리 선 포함)
+    private static Rectangle2D extentOf(Point2D center, int count, double radius) {
+        if (count == 0) return null;
+        double half = (count - 1) / 2.0 * (2 * radius - OVERLAP_GAP) + radius + STROKE_MARGIN;
+        double halfHeight = radius + STROKE_MARGIN;
+        return new Rectangle2D(center.getX() - half, center.getY() - halfHeight, 2 * half, 2 * halfHeight);
+    }
+
+    private static Rectangle2D union(Rectangle2D a, Rectangle2D b) {
+        if (a == null) return b;
+        if (b == null) return a;
+        double minX = Math.min(a.getMinX(), b.getMinX());
+        double minY = Math.min(a.getMinY(), b.getMinY());
+        return new Rectangle2D(minX, minY,
+                Math.max(a.getMaxX(), b.getMaxX()) - minX, Math.max(a.getMaxY(), b.getMaxY()) - minY);
+    }
+
+    // ───────────────────────────────────────────────────────────────────────────
+    // 화면상의 (x,y) 좌표에 해당하는 Piece가 있으면 반환 (겹치면 맨 위의 말), 없으면 null
+    Piece getPieceAt(double x, double y) {
+        return hitGrid.pieceAt(x, y);
     }
 
     // ───────────────────────────────────────────────────────────────────────────
     // 플레이어별 색상 결정 (0→파랑, 1→초록, 2→주황, 3→자홍, 그 외→검정)
-    private javafx.scene.paint.Color getColorForPlayer(Player player) {
+    private static Color getColorForPlayer(Player player) {
         int idx = player.getId();
         return switch (idx % 4) {
             case 0 -> Color.BLUE;
@@ -363,4 +405,4 @@ public class GameBoardPanel extends Pane {
             default -> Color.BLACK;
         };
     }
-}
\ No newline at end of file
+}
@@ -209,6 +209,11 @@ public class JavaFXGameView implements IGameView {
         pause.play();
     }
 
+    @Override
+    public void runOnUiThread(Runnable action) {
+        Platform.runLater(action);
+    }
+
 
     @Override
     public void setPieceSelectable(boolean enabled) {
@@ -1,134 +1,162 @@
 package view.swing;
 
 import model.*;
+import view.BoardGeometry;
+import view.PieceHitGrid;
 
 import javax.swing.*;
 import java.awt.*;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
 import java.util.List;
-import java.util.HashMap;
-import java.util.Map;
 
 import static model.PieceState.NOT_STARTED;
 
 /**
  * GameBoardPanel
  * : 보드, 셀, 현재 위치의 피스를 그림
+ * -- 셀 좌표는 보드 모양별로 한 번 계산된 BoardGeometry에서 생성자가 한 번만 가져옴 (셀 번호 --> 좌표)
+ * -- 연결선, 셀, 플레이어 이름(정적 레이어)은 BufferedImage에 한 번 그려 두고 repaint마다 이미지를 복사한 뒤 말만 그림
+ *    패널 크기나 화면 배율(HiDPI, 모니터 이동)이 바뀌면 다시 그림
+ * -- 말의 클릭 범위는 그리면서 균일 격자(PieceHitGrid)에 넣어 두고 클릭 좌표가 속한 격자 칸만 확인
+ * -- paint 시간을 재서 getPaintStats로 보여줌 (setStaticLayerCached(false)면 예전처럼 매번 전부 그림, 비교용)
  */
 public class GameBoardPanel extends JPanel {
     private final Board board;
     private final Game game;      // 게임 정보 (플레이어, 말 상태 정보 필요)
 
-    // 보드 기본 사이즈, 중앙 좌표, 보드 반지름
+    // 보드 기본 사이즈 (셀, off-board 자리 좌표는 BoardGeometry가 이 크기로 계산)
     private static final int PANEL_SIZE = 520;
-    private static final int CENTER = PANEL_SIZE / 2;
-    private static final int RADIUS = 180;
 
     // 셀 크기
     private static final int NODE_SIZE = 32;
 
     // 피스 관련 상수
     private static final int PIECE_RADIUS = 10;             // On-board 피스 반지름
-    private static final int OFFBOARD_RADIUS = RADIUS + 40; // Off-board 배치 기준 반경
     private static final int OFFBOARD_PIECE_RADIUS = 10;    // Off-board 피스 반지름
     private static final int OVERLAP_GAP = 12;             // 피스 간 겹침 픽셀 수
 
-    // 클릭 시 피스 찾기용: Piece --> 화면상의 Rectangle
-    private final Map<Piece, Rectangle> pieceBounds = new HashMap<>();
+    // 클릭 시 피스 찾기용: 말을 그리면서 클릭 범위를 격자 색인에 넣음 (나중에 그린 말이 위)
+    private final PieceHitGrid hitGrid = new PieceHitGrid(PANEL_SIZE, PANEL_SIZE, PIECE_RADIUS * 2);
+
+    // 셀 번호(Cell.getIndex) --> 화면 좌표, 플레이어 --> off-board 자리 중심 (BoardGeometry를 정수 좌표로 한 번 변환)
+    private final Point[] cellPoints;
+    private final Point[] offBoardPoints;
+
+    // 정적 레이어 캐시 (만든 때의 패널 크기, 화면 배율)
+    private boolean staticLayerCached = true;
+    private BufferedImage staticLayer;
+    private int layerWidth;
+    private int layerHeight;
+    private double layerScaleX;
+    private double layerScaleY;
+    private int staticLayerBuilds;
+
+    // paint 시간 측정
+    private long paintCount;
+    private long paintNanosTotal;
+    private long lastPaintNanos;
 
     public GameBoardPanel(Board board, Game game) {
         this.board = board;
         this.game = game;
+        BoardGeometry geometry = BoardGeometry.of(board.getSpec(), PANEL_SIZE);
+        this.cellPoints = new Point[geometry.getCellCount()];
+        for (int i = 0; i < cellPoints.length; i++) {
+            cellPoints[i] = new Point((int) Math.round(geometry.getX(i)), (int) Math.round(geometry.getY(i)));
+        }
+        int numPlayers = game.getPlayers().size();
+        this.offBoardPoints = new Point[numPlayers];
+        for (int idx = 0; idx < numPlayers; idx++) {
+            offBoardPoints[idx] = new Point((int) Math.round(geometry.getOffBoardX(idx, numPlayers)),
+                    (int) Math.round(geometry.getOffBoardY(idx, numPlayers)));
+        }
         setPreferredSize(new Dimension(PANEL_SIZE, PANEL_SIZE));
         setBackground(Color.WHITE);
     }
 
     @Override
     protected void paintComponent(Graphics g) {
+        long begin = System.nanoTime();
         super.paintComponent(g);
 
-        // 새로 그릴 때마다 이전 피스 Bounds 초기화
-        pieceBounds.clear();
-
-        int sides = board.getShape().getVertexCount();
-        int cellsPerEdge = board.getCellsPerEdge();
+        // 새로 그릴 때마다 이전 클릭 범위 초기화
+        hitGrid.clear();
 
-        // --- 1) 꼭짓점 좌표 계산 --- //
-        Point[] vertexPoints = new Point[sides];
-        for (int i = 0; i < sides; i++) {
-            double theta = Math.PI / 2 - 2 * Math.PI * i / sides; // 12시부터 반시계
-            int x = (int) (CENTER + RADIUS * Math.cos(theta));
-            int y = (int) (CENTER + RADIUS * Math.sin(theta));
-            vertexPoints[i] = new Point(x, y);
-        }
-
-        // --- 2) edge 셀 좌표 계산 --- //
-        Point[][] edgePoints = new Point[sides][cellsPerEdge];
-        for (int i = 0; i < sides; i++) {
-            Point from = vertexPoints[i];
-            Point to = vertexPoints[(i + 1) % sides];
-            for (int j = 0; j < cellsPerEdge; j++) {
-                double t = (double) (j + 1) / (cellsPerEdge + 1);
-                int ex = (int) (from.x * (1 - t) + to.x * t);
-                int ey = (int) (from.y * (1 - t) + to.y * t);
-                edgePoints[i][j] = new Point(ex, ey);
+        Graphics2D g2 = (Graphics2D) g;
+        if (staticLayerCached) {
+            BufferedImage layer = staticLayer(g2);
+            if (layer != null) {
+                g2.drawImage(layer, 0, 0, getWidth(), getHeight(), null);
             }
+        } else {
+            paintStaticLayer(g2);
         }
+        paintPieces(g2);
 
-        // --- 3) 중앙 셀 좌표 --- //
-        Point centerPoint = new Point(CENTER, CENTER);
+        lastPaintNanos = System.nanoTime() - begin;
+        paintNanosTotal += lastPaintNanos;
+        paintCount++;
+    }
 
-        // --- 4) 대각선 셀 좌표 계산 함수 --- //
-        java.util.function.Function<String, Point> getPosition = (id) -> {
-            if (id.startsWith("V")) {
-                int idx = Integer.parseInt(id.substring(1));
-                return vertexPoints[idx];
-            }
-            if (id.startsWith("E")) {
-                String[] parts = id.substring(1).split("_");
-                int vi = Integer.parseInt(parts[0]);
-                int ej = Integer.parseInt(parts[1]);
-                return edgePoints[vi][ej];
-            }
-            if (id.equals("C")) {
-                return centerPoint;
-            }
-            if (id.startsWith("D")) {
-                String[] parts = id.substring(1).split("_");
-                int vi = Integer.parseInt(parts[0]);
-                int dj = Integer.parseInt(parts[1]);
-                Point v = vertexPoints[vi];
-                double t;
-                if (vi == 0 || vi == sides - 1) {
-                    // D0_0, D0_1, Dn-1_0, Dn-1_1 : 중앙 --> 꼭짓점 방향
-                    t = (dj == 0) ? 0.7 : 0.4;
-                    int x = (int) (v.x * (1 - t) + centerPoint.x * t);
-                    int y = (int) (v.y * (1 - t) + centerPoint.y * t);
-                    return new Point(x, y);
-                } else {
-                    // V1~Vn-2: 꼭짓점 --> 중앙 방향
-                    t = (dj == 0) ? 0.4 : 0.7;
-                    int x = (int) (v.x * (1 - t) + centerPoint.x * t);
-                    int y = (int) (v.y * (1 - t) + centerPoint.y * t);
-                    return new Point(x, y);
-                }
+    /**
+     * 지금 크기와 화면 배율에 맞는 정적 레이어 (바뀌었으면 다시 그림)
+     * -- 이미지는 장치 픽셀 크기로 만들고 논리 크기로 그리므로 HiDPI에서도 1:1로 복사됨
+     */
+    private BufferedImage staticLayer(Graphics2D g) {
+        int width = getWidth();
+        int height = getHeight();
+        if (width <= 0 || height <= 0) {
+            return null;
+        }
+        AffineTransform transform = g.getTransform();
+        double scaleX = transform.getScaleX();
+        double scaleY = transform.getScaleY();
+        if (staticLayer == null || width != layerWidth || height != layerHeight
+                || scaleX != layerScaleX || scaleY != layerScaleY) {
+            int pixelWidth = (int) Math.ceil(width * scaleX);
+            int pixelHeight = (int) Math.ceil(height * scaleY);
+            GraphicsConfiguration config = getGraphicsConfiguration();
+            BufferedImage image = config != null
+                    ? config.createCompatibleImage(pixelWidth, pixelHeight, Transparency.OPAQUE)
+                    : new BufferedImage(pixelWidth, pixelHeight, BufferedImage.TYPE_INT_RGB);
+            Graphics2D ig = image.createGraphics();
+            try {
+                ig.setRenderingHints(g.getRenderingHints());
+                ig.setFont(g.getFont());
+                ig.scale(scaleX, scaleY);
+                ig.setColor(getBackground());
+                ig.fillRect(0, 0, width, height);
+                paintStaticLayer(ig);
+            } finally {
+                ig.dispose();
             }
-            return new Point(0, 0); // 예외 처리용
-        };
+            staticLayer = image;
+            layerWidth = width;
+            layerHeight = height;
+            layerScaleX = scaleX;
+            layerScaleY = scaleY;
+            staticLayerBuilds++;
+        }
+        return staticLayer;
+    }
 
-        // --- 5) 모든 셀 연결선 그리기 --- //
+    // 연결선, 셀, 플레이어 이름 (말 위치와 관계없는 부분)
+    private void paintStaticLayer(Graphics2D g) {
+        // --- 1) 모든 셀 연결선 그리기 --- //
         g.setColor(Color.LIGHT_GRAY);
         for (Cell cell : board.getAllCells()) {
-            Point from = getPosition.apply(cell.getId());
+            Point from = cellPoints[cell.getIndex()];
             for (Cell next : cell.getNextCells()) {
-                Point to = getPosition.apply(next.getId());
+                Point to = cellPoints[next.getIndex()];
                 g.drawLine(from.x, from.y, to.x, to.y);
             }
         }
 
-        // --- 6) 모든 셀 테두리 및 배경 그리기 --- //
+        // --- 2) 모든 셀 테두리 및 배경 그리기 --- //
         for (Cell cell : board.getAllCells()) {
-            Point p = getPosition.apply(cell.getId());
-            if (cell.getId().startsWith("V") || cell.getId().equals("C")) {
+            Point p = cellPoints[cell.getIndex()];
+            if (cell.isVertex() || cell.isCenter()) {
                 // 특수 셀: 이중 테두리, 빨강 채우기
                 g.setColor(Color.BLACK);
                 g.drawOval(p.x - NODE_SIZE / 2 - 5, p.y - NODE_SIZE / 2 - 5, NODE_SIZE + 10, NODE_SIZE + 10);
@@ -150,11 +178,27 @@ public class GameBoardPanel extends JPanel {
             }
         }
 
-        // --- 7) On-board 말 그리기 --- //
+        // --- 3) 플레이어 이름 그리기 (Off-board 말 위쪽) --- //
+        List<Player> players = game.getPlayers();
+        FontMetrics fm = g.getFontMetrics();
+        for (int idx = 0; idx < players.size(); idx++) {
+            Point quadCenter = offBoardPoints[idx];
+            String playerName = players.get(idx).getName();
+            int nameWidth = fm.stringWidth(playerName);
+            int nameX = quadCenter.x - nameWidth / 2;
+            int nameY = quadCenter.y - OFFBOARD_PIECE_RADIUS * 2 - 2;
+            g.setColor(Color.BLACK);
+            g.drawString(playerName, nameX, nameY);
+        }
+    }
+
+    // 말 그리기 (repaint마다)
+    private void paintPieces(Graphics2D g) {
+        // --- 1) On-board 말 그리기 --- //
         for (Cell cell : board.getAllCells()) {
-            Point cellCenter = getPosition.apply(cell.getId());
             List<Piece> occupants = cell.getOccupants();
             if (occupants.isEmpty()) continue;
+            Point cellCenter = cellPoints[cell.getIndex()];
 
             // 셀 위에 있는 피스 개수
             int count = occupants.size();
@@ -179,27 +223,17 @@ public class GameBoardPanel extends JPanel {
                 g.drawOval(px - PIECE_RADIUS, py - PIECE_RADIUS, PIECE_RADIUS * 2, PIECE_RADIUS * 2);
 
                 // 클릭 범위 저장
-                Rectangle bounds = new Rectangle(px - PIECE_RADIUS, py - PIECE_RADIUS, PIECE_RADIUS * 2, PIECE_RADIUS * 2);
-                pieceBounds.put(piece, bounds);
+                hitGrid.add(piece, px - PIECE_RADIUS, py - PIECE_RADIUS, PIECE_RADIUS * 2, PIECE_RADIUS * 2);
             }
         }
 
-        // --- 8) Off-board 말 그리기 --- //
+        // --- 2) Off-board 말 그리기 --- //
         List<Player> players = game.getPlayers();
         int numPlayers = players.size();
 
         for (int idx = 0; idx < numPlayers; idx++) {
             Player player = players.get(idx);
-            Point quadCenter = computeQuadrantPoint(idx, numPlayers);
-
-            // 플레이어 이름 그리기(Off-board 말 위쪽)
-            String playerName = player.getName();
-            FontMetrics fm = g.getFontMetrics();
-            int nameWidth = fm.stringWidth(playerName);
-            int nameX = quadCenter.x - nameWidth / 2;
-            int nameY = quadCenter.y - OFFBOARD_PIECE_RADIUS * 2 - 2;
-            g.setColor(Color.BLACK);
-            g.drawString(playerName, nameX, nameY);
+            Point quadCenter = offBoardPoints[idx];
 
             // Off-board 상태(Not Started)인 말들 가져오기
             List<Piece> pieces = player.getPieces();
@@ -231,81 +265,53 @@ public class GameBoardPanel extends JPanel {
                         OFFBOARD_PIECE_RADIUS * 2, OFFBOARD_PIECE_RADIUS * 2);
 
                 // 클릭 범위 저장
-                Rectangle bounds = new Rectangle(
-                        px - OFFBOARD_PIECE_RADIUS, py - OFFBOARD_PIECE_RADIUS,
+                hitGrid.add(piece, px - OFFBOARD_PIECE_RADIUS, py - OFFBOARD_PIECE_RADIUS,
                         OFFBOARD_PIECE_RADIUS * 2, OFFBOARD_PIECE_RADIUS * 2);
-                pieceBounds.put(piece, bounds);
 
                 drawnIndex++;
             }
         }
     }
 
+    // —— 정적 레이어 캐시 / paint 시간 —— //
+
     /**
-     * 클릭된 좌표 p에 해당하는 Piece 반환함
-     * -- p가 어느 말의 Bounding Box 안에 들어오면 그 Piece를 반환
-     * -- 없으면 null
+     * false면 캐시 없이 매번 전부 그림 (paint 시간 비교용)
      */
-    public Piece getPieceAtPoint(Point p) {
-        for (Map.Entry<Piece, Rectangle> entry : pieceBounds.entrySet()) {
-            if (entry.getValue().contains(p)) {
-                return entry.getKey();
-            }
-        }
-        return null;
+    public void setStaticLayerCached(boolean cached) {
+        this.staticLayerCached = cached;
+        this.staticLayer = null;
+        repaint();
+    }
+
+    public boolean isStaticLayerCached() { return staticLayerCached; }
+
+    // 정적 레이어를 그린 횟수 (크기/배율이 바뀔 때만 늘어야 함)
+    public int getStaticLayerBuilds() { return staticLayerBuilds; }
+
+    public long getPaintCount() { return paintCount; }
+    public long getLastPaintNanos() { return lastPaintNanos; }
+    public double getMeanPaintNanos() { return paintCount == 0 ? 0.0 : (double) paintNanosTotal / paintCount; }
+
+    public void resetPaintStats() {
+        paintCount = 0;
+        paintNanosTotal = 0;
+        lastPaintNanos = 0;
+    }
+
+    public String getPaintStats() {
+        return String.format("paint %d회, 평균 %.1fµs (마지막 %.1fµs), 정적 레이어 %s, %d번 그림",
+                paintCount, getMeanPaintNanos() / 1e3, lastPaintNanos / 1e3,
+                staticLayerCached ? "캐시" : "매번 그림", staticLayerBuilds);
     }
 
     /**
-     * 플레이어 인덱스와 전체 플레이어 수에 따라 Off-board 말들을 놓을 위치를 반환함
-     * -- 2명: 제2, 4 사분면
-     * -- 3명: 제1, 2, 4사분면
-     * -- 4명: 제1, 2, 3, 4사분면
+     * 클릭된 좌표 p에 해당하는 Piece 반환함
+     * -- p가 어느 말의 Bounding Box 안에 들어오면 그 Piece를 반환 (여러 말이 겹치면 맨 위에 그린 말)
+     * -- 없으면 null
      */
-    private Point computeQuadrantPoint(int idx, int numPlayers) {
-        int qx = 0, qy = 0;
-        switch (numPlayers) {
-            case 2:
-                if (idx == 0) {
-                    qx = CENTER - OFFBOARD_RADIUS;
-                    qy = CENTER - OFFBOARD_RADIUS;
-                } else {
-                    qx = CENTER + OFFBOARD_RADIUS;
-                    qy = CENTER + OFFBOARD_RADIUS;
-                }
-                break;
-            case 3:
-                if (idx == 0) {
-                    qx = CENTER - OFFBOARD_RADIUS;
-                    qy = CENTER - OFFBOARD_RADIUS;
-                } else if (idx == 1) {
-                    qx = CENTER + OFFBOARD_RADIUS;
-                    qy = CENTER - OFFBOARD_RADIUS;
-                } else {
-                    qx = CENTER + OFFBOARD_RADIUS;
-                    qy = CENTER + OFFBOARD_RADIUS;
-                }
-                break;
-            case 4:
-                if (idx == 0) {
-                    qx = CENTER - OFFBOARD_RADIUS;
-                    qy = CENTER - OFFBOARD_RADIUS;
-                } else if (idx == 1) {
-                    qx = CENTER + OFFBOARD_RADIUS;
-                    qy = CENTER - OFFBOARD_RADIUS;
-                } else if (idx == 2) {
-                    qx = CENTER + OFFBOARD_RADIUS;
-                    qy = CENTER + OFFBOARD_RADIUS;
-                } else {
-                    qx = CENTER - OFFBOARD_RADIUS;
-                    qy = CENTER + OFFBOARD_RADIUS;
-                }
-                break;
-            default:
-                qx = CENTER;
-                qy = CENTER;
-                break;
-        }
-        return new Point(qx, qy);
+    public Piece getPieceAtPoint(Point p) {
+        return hitGrid.pieceAt(p.x, p.y);
     }
 
     /**
@@ -28,6 +28,9 @@ public class SwingGameView extends JPanel implements IGameView {
 
     private final GameBoardPanel boardPanel;
 
+    // -Dyut.paintStats=true: 판을 갱신할 때마다 보드 paint 시간을 콘솔에 출력
+    private static final boolean PAINT_STATS = Boolean.getBoolean("yut.paintStats");
+
     private final JButton randomThrowButton;
     private final JButton fixedThrowButton;
 
@@ -127,6 +130,9 @@ public class SwingGameView extends JPanel implements IGameView {
     @Override
     public void updateBoard() {
         boardPanel.repaint();
+        if (PAINT_STATS) {
+            System.out.println(boardPanel.getPaintStats()); // 직전 paint까지의 통계
+        }
     }
 
     @Override
@@ -143,6 +149,11 @@ public class SwingGameView extends JPanel implements IGameView {
         timer.start();
     }
 
+    @Override
+    public void runOnUiThread(Runnable action) {
+        SwingUtilities.invokeLater(action);
+    }
+
     @Override
     public void showRankingDialog(List<Player> ranking) {
         // “최종 등수”를 문자열로 만들기
@@ -0,0 +1,130 @@
+package controller;
+
+import model.BoardShape;
+import model.Game;
+import model.Piece;
+import model.PieceState;
+import model.Player;
+import model.ThrowResult;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import service.ThrowModel;
+import service.record.GameRecord;
+import service.record.GameRecordReader;
+import service.record.GameRecordWriter;
+import view.headless.HeadlessGameView;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * GameControllerRecordTest
+ *
+ * - setRecordWriter 뒤의 던지기/말 선택이 순서대로 기록되고, 게임이 끝나면 기록 하나가 닫혀야 함
+ * - 빽도로 넘어간 차례는 윷 결과만 남음
+ * - -Dyut.record가 디렉터리면 그 안에 게임 하나의 기록 파일을 만들고, 게임이 끝나면 닫음
+ */
+class GameControllerRecordTest {
+
+    @Test
+    void testControllerRecordsWholeGame() throws IOException {
+        Game game = new Game(2, new String[]{"A", "B"}, 1, BoardShape.SQUARE.getSpec(), ThrowModel.FAIR, 99L);
+        HeadlessGameView view = new HeadlessGameView();
+        GameController controller = new GameController(game, view);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        GameRecordWriter writer = new GameRecordWriter(bytes);
+        controller.setRecordWriter(writer);
+
+        List<Integer> expected = new ArrayList<>();
+        while (!game.isGameOver()) {
+            Player player = game.getCurrentPlayer();
+            if (player.getId() == 1 && !game.getPlayers().get(0).checkAllPiecesFinished()) {
+                // B는 A가 도착할 때까지 빽도로 차례를 넘김 (움직일 말이 없으므로 말 선택 없이 기록)
+                controller.onFixedThrowClicked(ThrowResult.BACK_DO);
+                expected.add(GameRecord.throwEvent(ThrowResult.BACK_DO));
+                continue;
+            }
+            controller.onFixedThrowClicked(ThrowResult.YUT); // 한 번 더 던짐
+            controller.onFixedThrowClicked(ThrowResult.GAE);
+            expected.add(GameRecord.throwEvent(ThrowResult.YUT));
+            expected.add(GameRecord.throwEvent(ThrowResult.GAE));
+            for (int k = 0; k < 2 && game.getCurrentPlayer() == player && !game.isGameOver(); k++) {
+                controller.onPieceClicked(player.getPieces().get(0));
+                expected.add(GameRecord.moveEvent(0));
+                if (player.checkAllPiecesFinished()) break;
+            }
+        }
+        assertNotNull(view.getRanking());
+        assertEquals(1, writer.getGamesWritten());
+
+        GameRecordReader reader = new GameRecordReader(new ByteArrayInputStream(bytes.toByteArray()));
+        GameRecord record = reader.next();
+        assertEquals(new GameRecord(BoardShape.SQUARE.getSpec(), 2, 1, 99L,
+                expected.stream().mapToInt(Integer::intValue).toArray()), record);
+        assertNull(reader.next());
+    }
+
+    @Test
+    void testRecordFromProperty(@TempDir Path dir) throws IOException {
+        String previous = System.setProperty("yut.record", dir.toString());
+        try {
+            Game game = new Game(2, new String[]{"A", "B"}, 2, BoardShape.HEXAGON.getSpec(), ThrowModel.FAIR, 12L);
+            HeadlessGameView view = new HeadlessGameView();
+            GameController controller = new GameController(game, view);
+            controller.openRecordFromProperty();
+
+            int throwsMade = 0;
+            int moves = 0;
+            while (view.getRanking() == null) {
+                if (view.isThrowEnabled()) {
+                    controller.onRandomThrowClicked();
+                    throwsMade++;
+                } else {
+                    controller.onPieceClicked(firstUnfinished(game.getCurrentPlayer()));
+                    moves++;
+                }
+            }
+
+            List<Path> files;
+            try (Stream<Path> listing = Files.list(dir)) {
+                files = listing.toList();
+            }
+            assertEquals(1, files.size(), files.toString());
+            try (InputStream in = Files.newInputStream(files.get(0));
+                 GameRecordReader reader = new GameRecordReader(in)) {
+                GameRecord record = reader.next();
+                assertEquals(BoardShape.HEXAGON.getSpec(), record.getSpec());
+                assertEquals(12L, record.getSeed());
+                assertEquals(throwsMade + moves, record.getEventCount());
+                int recordedMoves = 0;
+                for (int event : record.getEvents()) {
+                    if (GameRecord.isMove(event)) recordedMoves++;
+                }
+                assertEquals(moves, recordedMoves);
+                assertNull(reader.next());
+            }
+        } finally {
+            if (previous == null) {
+                System.clearProperty("yut.record");
+            } else {
+                System.setProperty("yut.record", previous);
+            }
+        }
+    }
+
+    private static Piece firstUnfinished(Player player) {
+        for (Piece piece : player.getPieces()) {
+            if (piece.getState() != PieceState.FINISHED) return piece;
+        }
+        throw new AssertionError("움직일 말이 없음");
+    }
+}
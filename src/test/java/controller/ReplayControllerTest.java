@@ -0,0 +1,62 @@
+package controller;
+
+import model.CompactGameState;
+import model.Game;
+import model.ThrowResult;
+import org.junit.jupiter.api.Test;
+import service.record.GameRecord;
+import service.record.GameReplay;
+import view.headless.HeadlessGameView;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ReplayControllerTest
+ *
+ * - play로 끝까지 재생하면 마지막 국면이 화면에 나와야 함
+ * - 뒤로/특정 턴으로 이동하면 화면의 Game도 그 국면이 되어야 함
+ */
+class ReplayControllerTest {
+
+    @Test
+    void testPlaysToEndAndSeeks() {
+        // A: 윷 --> 개로 두 번 (도착 전까지), B: 빽도로 넘김
+        List<Integer> events = new ArrayList<>();
+        for (int turn = 0; turn < 3; turn++) {
+            events.add(GameRecord.throwEvent(ThrowResult.YUT));
+            events.add(GameRecord.throwEvent(ThrowResult.GAE));
+            events.add(GameRecord.moveEvent(0));
+            events.add(GameRecord.moveEvent(0));
+            events.add(GameRecord.throwEvent(ThrowResult.BACK_DO));
+        }
+        GameRecord record = new GameRecord(model.BoardShape.SQUARE.getSpec(), 2, 1, 1L,
+                events.stream().mapToInt(Integer::intValue).toArray());
+        GameReplay replay = new GameReplay(record, 4);
+        int end = replay.getEventCount();
+        CompactGameState last = replay.getState().copy();
+        replay.seek(0);
+
+        Game game = replay.newGame(new String[]{"A", "B"});
+        HeadlessGameView view = new HeadlessGameView();
+        ReplayController controller = ReplayController.open(replay, game, view);
+        assertTrue(view.getStatusLog().get(0).contains("기록 재생 시작"));
+
+        controller.play(1000);
+        assertFalse(controller.isPlaying());
+        assertEquals(end, replay.getPosition());
+        assertEquals(last, CompactGameState.of(game));
+        assertEquals(end + 1, view.getBoardUpdates());
+        assertTrue(view.getLastStatus().startsWith("[턴 "));
+
+        controller.seekTurn(2);
+        assertEquals(replay.getTurnStart(2), replay.getPosition());
+        assertEquals(replay.getState(), CompactGameState.of(game));
+        controller.stepBackward();
+        assertEquals(replay.getTurnStart(2) - 1, replay.getPosition());
+        view.getListener().onRandomThrowClicked(); // 한 칸 앞으로
+        assertEquals(replay.getTurnStart(2), replay.getPosition());
+    }
+}
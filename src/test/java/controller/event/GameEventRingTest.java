@@ -0,0 +1,270 @@
+package controller.event;
+
+import controller.GameController;
+import model.BoardShape;
+import model.CompactGameState;
+import model.Game;
+import model.Piece;
+import model.PieceState;
+import model.Player;
+import org.junit.jupiter.api.Test;
+import service.ThrowModel;
+import service.record.GameRecordWriter;
+import view.headless.HeadlessGameView;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * GameEventRingTest
+ *
+ * - 소비자마다 모든 이벤트를 발행 순서대로 한 번씩 받고, 작은 링에서 느린 소비자가 있으면 생산자가 기다림
+ * - tryClaim은 가장 느린 소비자가 한 바퀴 뒤처져 있으면 null
+ * - 예외를 던진 소비자는 링에서 빠지므로 생산자가 계속 발행할 수 있음
+ * - 컨트롤러가 발행한 이벤트로 쓴 기록은 컨트롤러가 직접 쓴 기록과 같고, MOVE의 도착 칸은 실제 국면과 같음
+ * - 멈춘 소비자가 있어도 컨트롤러는 기다리지 않고, 링에 자리가 없는 이벤트는 버리고 셈
+ * - -Dyut.eventStats=true면 컨트롤러가 만든 EventMetrics가 게임이 끝날 때까지의 이벤트를 셈
+ */
+class GameEventRingTest {
+
+    @Test
+    void testEveryConsumerSeesAllEventsInOrder() {
+        GameEventRing ring = new GameEventRing(8);
+        int total = 20_000;
+        List<OrderCheck> checks = new ArrayList<>();
+        List<EventProcessor> processors = new ArrayList<>();
+        for (int c = 0; c < 3; c++) {
+            OrderCheck check = new OrderCheck(c == 2); // 하나는 느린 소비자
+            checks.add(check);
+            processors.add(new EventProcessor(ring, check, "consumer-" + c, 1 + c * 3));
+        }
+        processors.forEach(EventProcessor::start);
+        for (int i = 0; i < total; i++) {
+            ring.claim().reset(GameEvent.Type.MOVE, i % 4).piece(i);
+            ring.publish();
+        }
+        for (EventProcessor processor : processors) {
+            processor.close();
+        }
+        for (OrderCheck check : checks) {
+            assertEquals(total, check.seen);
+            assertNull(check.error, check.error);
+        }
+        assertEquals(total - 1, ring.getCursor());
+        assertTrue(ring.getBackpressureWaits() > 0);
+        assertEquals(0, ring.getSubscriberCount());
+        assertTrue(processors.get(2).getSubscriber().getBatches() < total);
+    }
+
+    @Test
+    void testTryClaimWhenFull() {
+        GameEventRing ring = new GameEventRing(4);
+        EventSubscriber subscriber = ring.subscribe();
+        for (int i = 0; i < 4; i++) {
+            assertNotNull(ring.tryClaim());
+            ring.publish();
+        }
+        assertNull(ring.tryClaim());
+        assertEquals(4, subscriber.getLag());
+
+        List<Boolean> ends = new ArrayList<>();
+        assertEquals(3, subscriber.poll((event, endOfBatch) -> ends.add(endOfBatch), 3));
+        assertEquals(List.of(false, false, true), ends);
+        assertNotNull(ring.tryClaim());
+        ring.publish();
+        assertThrows(IllegalStateException.class, ring::publish);
+        assertThrows(IllegalArgumentException.class, () -> new GameEventRing(6));
+    }
+
+    @Test
+    void testFailingConsumerDoesNotBlockProducer() {
+        GameEventRing ring = new GameEventRing(4);
+        OrderCheck healthy = new OrderCheck(false);
+        EventProcessor good = new EventProcessor(ring, healthy, "healthy").start();
+        EventProcessor bad = new EventProcessor(ring, (event, endOfBatch) -> {
+            if (event.getSequence() == 2) {
+                throw new IllegalStateException("handler failure");
+            }
+        }, "failing").start();
+
+        int total = 1000; // 링 크기의 몇 배: 빠지지 않은 소비자가 있으면 claim이 멈춤
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            for (int i = 0; i < total; i++) {
+                ring.claim().reset(GameEvent.Type.MOVE, i % 4).piece(i);
+                ring.publish();
+            }
+        });
+        good.close();
+        bad.close();
+
+        assertInstanceOf(IllegalStateException.class, bad.getFailure());
+        assertNull(good.getFailure());
+        assertEquals(total, healthy.seen);
+        assertNull(healthy.error, healthy.error);
+        assertEquals(0, ring.getSubscriberCount());
+    }
+
+    @Test
+    void testControllerEvents() throws IOException {
+        Game game = new Game(3, new String[]{"A", "B", "C"}, 3, BoardShape.PENTAGON.getSpec(), ThrowModel.FAIR, 17L);
+        HeadlessGameView view = new HeadlessGameView();
+        GameController controller = new GameController(game, view);
+
+        ByteArrayOutputStream direct = new ByteArrayOutputStream();
+        GameRecordWriter directWriter = new GameRecordWriter(direct);
+        controller.setRecordWriter(directWriter);
+
+        GameEventRing ring = new GameEventRing(1024); // 이 게임의 이벤트가 모두 들어가는 크기 (버리는 이벤트 없음)
+        EventSubscriber inline = ring.subscribe();
+        ByteArrayOutputStream viaRing = new ByteArrayOutputStream();
+        GameRecordWriter ringWriter = new GameRecordWriter(viaRing);
+        ringWriter.beginGame(game);
+        EventMetrics metrics = new EventMetrics();
+        EventProcessor recorder = new EventProcessor(ring, new RecordEventHandler(ringWriter), "recorder").start();
+        EventProcessor counter = new EventProcessor(ring, metrics, "metrics").start();
+        controller.setEventRing(ring);
+
+        SplittableRandom random = new SplittableRandom(4);
+        int throwsMade = 0;
+        int moves = 0;
+        List<String> problems = new ArrayList<>();
+        while (view.getRanking() == null) {
+            if (view.isThrowEnabled()) {
+                controller.onRandomThrowClicked();
+                throwsMade++;
+            } else {
+                controller.onPieceClicked(randomPiece(game.getCurrentPlayer(), random));
+                moves++;
+            }
+            CompactGameState state = CompactGameState.of(game);
+            inline.poll((event, end) -> {
+                if (event.getType() == GameEvent.Type.MOVE
+                        && state.getCellCode(event.getPlayer(), event.getPiece()) != event.getToCode()) {
+                    problems.add(event.toString());
+                }
+                if (event.getType() == GameEvent.Type.TURN_CHANGE && event.getPlayer() != state.getCurrentPlayer()) {
+                    problems.add(event.toString());
+                }
+            }, 64);
+        }
+        recorder.close();
+        counter.close();
+
+        assertEquals(List.of(), problems);
+        assertEquals(0, controller.getDroppedEvents());
+        assertArrayEquals(direct.toByteArray(), viaRing.toByteArray());
+        assertEquals(throwsMade, metrics.getCount(GameEvent.Type.THROW));
+        assertEquals(moves, metrics.getCount(GameEvent.Type.MOVE));
+        assertEquals(1, metrics.getCount(GameEvent.Type.GAME_OVER));
+        assertTrue(metrics.getCount(GameEvent.Type.FINISH) >= 3);
+        assertTrue(metrics.getCount(GameEvent.Type.TURN_CHANGE) > 0);
+        assertTrue(metrics.getLatencyPercentileNanos(50) > 0);
+    }
+
+    @Test
+    void testStalledConsumerDoesNotBlockController() {
+        Game game = new Game(2, new String[]{"A", "B"}, 2, BoardShape.SQUARE.getSpec(), ThrowModel.FAIR, 5L);
+        HeadlessGameView view = new HeadlessGameView();
+        GameController controller = new GameController(game, view);
+        GameEventRing ring = new GameEventRing(4);
+        CountDownLatch release = new CountDownLatch(1);
+        EventProcessor stalled = new EventProcessor(ring, (event, endOfBatch) -> {
+            try {
+                release.await(); // 게임이 끝날 때까지 첫 이벤트에서 멈춤
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, "stalled").start();
+        controller.setEventRing(ring);
+
+        int[] actions = new int[2];
+        assertTimeoutPreemptively(Duration.ofSeconds(10),
+                () -> actions[0] = playRandomGame(game, view, controller, new SplittableRandom(2)));
+        release.countDown();
+        stalled.close();
+
+        assertEquals(3, ring.getCursor(), "멈춘 소비자가 첫 묶음을 끝내지 못했으므로 링 한 바퀴만 발행됨");
+        assertTrue(controller.getDroppedEvents() >= actions[0] - 4, "던지기/이동마다 이벤트가 하나 이상 버려져야 함");
+    }
+
+    @Test
+    void testEventStatsFromProperty() {
+        String previous = System.setProperty("yut.eventStats", "true");
+        try {
+            Game game = new Game(2, new String[]{"A", "B"}, 2, BoardShape.SQUARE.getSpec(), ThrowModel.FAIR, 9L);
+            HeadlessGameView view = new HeadlessGameView();
+            GameController controller = new GameController(game, view);
+            controller.attachEventStatsFromProperty();
+            assertNotNull(controller.getEventMetrics());
+
+            playRandomGame(game, view, controller, new SplittableRandom(6));
+            EventMetrics metrics = controller.getEventMetrics();
+            assertEquals(0, controller.getDroppedEvents());
+            assertEquals(1, metrics.getCount(GameEvent.Type.GAME_OVER));
+            assertTrue(metrics.getCount(GameEvent.Type.MOVE) >= 4); // 말 두 개씩 모두 도착
+            assertTrue(metrics.getCount(GameEvent.Type.THROW) >= metrics.getCount(GameEvent.Type.MOVE));
+        } finally {
+            if (previous == null) {
+                System.clearProperty("yut.eventStats");
+            } else {
+                System.setProperty("yut.eventStats", previous);
+            }
+        }
+    }
+
+    // 무작위로 던지고 고르며 게임 끝까지 진행 --> 던지기와 말 선택 횟수의 합
+    private static int playRandomGame(Game game, HeadlessGameView view, GameController controller, SplittableRandom random) {
+        int actions = 0;
+        while (view.getRanking() == null) {
+            if (view.isThrowEnabled()) {
+                controller.onRandomThrowClicked();
+            } else {
+                controller.onPieceClicked(randomPiece(game.getCurrentPlayer(), random));
+            }
+            actions++;
+        }
+        return actions;
+    }
+
+    private static Piece randomPiece(Player player, SplittableRandom random) {
+        List<Piece> movable = new ArrayList<>();
+        for (Piece piece : player.getPieces()) {
+            if (piece.getState() != PieceState.FINISHED) movable.add(piece);
+        }
+        return movable.get(random.nextInt(movable.size()));
+    }
+
+    // 번호와 내용이 순서대로 오는지 확인하는 소비자
+    private static final class OrderCheck implements GameEventHandler {
+        private final boolean slow;
+        int seen;
+        String error;
+
+        OrderCheck(boolean slow) {
+            this.slow = slow;
+        }
+
+        @Override
+        public void onEvent(GameEvent event, boolean endOfBatch) {
+            if (error == null && (event.getSequence() != seen || event.getPiece() != seen
+                    || event.getPlayer() != seen % 4 || event.getThrowResult() != null)) {
+                error = "expected #" + seen + " but got " + event;
+            }
+            seen++;
+            if (slow && seen % 2000 == 0) {
+                try {
+                    Thread.sleep(1); // 그동안 생산자는 링이 차서 기다림
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+    }
+}
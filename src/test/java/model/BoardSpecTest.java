@@ -0,0 +1,85 @@
+package model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * BoardSpecTest
+ *
+ * 설정으로 만드는 판 검증
+ * - 같은 설정은 같은 객체 (BoardShape.getSpec()도 같은 객체)
+ * - 코드, 이름으로 다시 찾으면 같은 객체 (기본 판의 코드는 꼭짓점 수 그대로)
+ * - Board가 만든 셀 수와 연결이 설정과 맞아야 함
+ */
+class BoardSpecTest {
+
+    @Test
+    void testCanonicalInstances() {
+        assertSame(BoardShape.SQUARE.getSpec(), BoardSpec.of(4));
+        assertSame(BoardShape.HEXAGON.getSpec(), BoardSpec.of(6, 4, 2));
+        assertSame(BoardSpec.of(8, 6, 3), BoardSpec.of(8, 6, 3));
+        assertNotSame(BoardSpec.of(8, 6, 3), BoardSpec.of(8, 6, 2));
+        for (BoardShape shape : BoardShape.values()) {
+            assertEquals(shape.getVertexCount(), shape.getSpec().getVertexCount());
+            assertTrue(shape.getSpec().isStandard());
+            assertEquals(shape.name(), shape.getSpec().toString());
+        }
+    }
+
+    @Test
+    void testCodeAndNameRoundTrip() {
+        assertEquals(4, BoardShape.SQUARE.getSpec().getCode());
+        assertEquals(6, BoardShape.HEXAGON.getSpec().getCode());
+        for (BoardSpec spec : new BoardSpec[]{BoardShape.PENTAGON.getSpec(), BoardSpec.of(7), BoardSpec.of(4, 1, 1),
+                BoardSpec.of(12, 12, 6), BoardSpec.of(10, 3, 5)}) {
+            assertSame(spec, BoardSpec.ofCode(spec.getCode()));
+            assertSame(spec, BoardSpec.parse(spec.toString()));
+        }
+        assertSame(BoardShape.SQUARE.getSpec(), BoardSpec.parse("square"));
+        assertSame(BoardSpec.of(8, 6, 3), BoardSpec.parse("8x6x3"));
+        assertThrows(IllegalArgumentException.class, () -> BoardSpec.parse("OCTAGON"));
+        assertThrows(IllegalArgumentException.class, () -> BoardSpec.parse("8x6"));
+        assertThrows(IllegalArgumentException.class, () -> BoardSpec.ofCode(0));
+        assertThrows(IllegalArgumentException.class, () -> BoardSpec.ofCode(4 | 1 << 24));
+    }
+
+    @Test
+    void testLimits() {
+        assertThrows(IllegalArgumentException.class, () -> BoardSpec.of(3));
+        assertThrows(IllegalArgumentException.class, () -> BoardSpec.of(13));
+        assertThrows(IllegalArgumentException.class, () -> BoardSpec.of(6, 0, 2));
+        assertThrows(IllegalArgumentException.class, () -> BoardSpec.of(6, 4, 0));
+        // 12 * (12 + 1) + 1 + 12 * 7 = 241 --> 가능, 12 * (13 + 1) + 1 + 12 * 7 = 253 --> 가능, 대각 8개면 265 --> 불가
+        assertEquals(241, BoardSpec.of(12, 12, 7).getCellCount());
+        assertEquals(253, BoardSpec.of(12, 13, 7).getCellCount());
+        assertThrows(IllegalArgumentException.class, () -> BoardSpec.of(12, 13, 8));
+    }
+
+    @Test
+    void testBoardMatchesSpec() {
+        assertSame(BoardShape.PENTAGON.getSpec(), new Board(BoardShape.PENTAGON).getSpec());
+        for (BoardSpec spec : new BoardSpec[]{BoardShape.SQUARE.getSpec(), BoardSpec.of(5, 2, 1), BoardSpec.of(9, 7, 4)}) {
+            Board board = new Board(spec);
+            int sides = spec.getVertexCount();
+            assertEquals(spec.getCellCount(), board.getCellCount(), spec.toString());
+            assertEquals(spec.getCellsPerEdge(), board.getCellsPerEdge());
+            assertEquals(spec.getDiagonalCells(), board.getDiagonalCells());
+
+            // 둘레: V0 --> E0_0 ... --> V1 ... 한 바퀴
+            Cell cell = board.getStartCell();
+            for (int i = 0; i < sides * (spec.getCellsPerEdge() + 1); i++) {
+                cell = cell.getNextCells().get(0);
+            }
+            assertSame(board.getStartCell(), cell, spec.toString());
+
+            // V1의 지름길: 대각 셀을 모두 지나 중앙
+            cell = board.getCellById("V1").getNextCells().get(1);
+            for (int j = 0; j < spec.getDiagonalCells(); j++) {
+                assertEquals("D1_" + j, cell.getId());
+                cell = cell.getNextCells().get(0);
+            }
+            assertSame(board.getCenterCell(), cell);
+        }
+    }
+}
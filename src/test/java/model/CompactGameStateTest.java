@@ -0,0 +1,142 @@
+package model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CompactGameStateTest
+ *
+ * Game <--> CompactGameState 변환을 검증하는 테스트
+ * - 압축 --> 복원 --> 압축 결과가 같아야 함
+ * - 복원한 게임에 같은 수를 이어서 두면 원래 게임과 같은 국면이 나와야 함 (빽도 경로 포함)
+ * - Zobrist 해시는 두는 순서, 말 번호와 관계없이 배치가 같으면 같아야 함
+ */
+class CompactGameStateTest {
+
+    private static final String[] NAMES = {"A", "B", "C", "D"};
+    private static final ThrowResult[] THROWS = ThrowResult.values();
+
+    @Test
+    void testRoundTripDuringRandomGames() {
+        for (BoardShape shape : BoardShape.values()) {
+            Random random = new Random(shape.ordinal());
+            for (int g = 0; g < 30; g++) {
+                Game game = new Game(3, NAMES, 3, shape);
+                game.startGame();
+                for (int move = 0; move < 120 && !game.isGameOver(); move++) {
+                    playRandomMove(game, random.nextInt(THROWS.length), random.nextInt(3));
+
+                    CompactGameState state = CompactGameState.of(game);
+                    Game restored = state.toGame(NAMES);
+                    assertEquals(state, CompactGameState.of(restored), "복원한 게임을 다시 압축하면 같은 값이어야 한다.");
+                }
+            }
+        }
+    }
+
+    @Test
+    void testRestoredGameContinuesIdentically() {
+        for (BoardShape shape : BoardShape.values()) {
+            Random random = new Random(100 + shape.ordinal());
+            for (int g = 0; g < 30; g++) {
+                Game game = new Game(2, NAMES, 2, shape);
+                game.startGame();
+                List<int[]> moves = new ArrayList<>();
+                for (int i = 0; i < 200; i++) {
+                    moves.add(new int[]{random.nextInt(THROWS.length), random.nextInt(2)});
+                }
+
+                int split = 20 + random.nextInt(40);
+                for (int i = 0; i < split && !game.isGameOver(); i++) {
+                    playRandomMove(game, moves.get(i)[0], moves.get(i)[1]);
+                }
+                Game restored = CompactGameState.of(game).toGame(NAMES);
+
+                // 같은 수를 양쪽에 이어서 둠
+                for (int i = split; i < moves.size() && !game.isGameOver(); i++) {
+                    playRandomMove(game, moves.get(i)[0], moves.get(i)[1]);
+                    playRandomMove(restored, moves.get(i)[0], moves.get(i)[1]);
+                    assertEquals(CompactGameState.of(game), CompactGameState.of(restored),
+                            shape + " 게임 " + g + "의 " + i + "번째 수에서 국면이 달라졌다.");
+                }
+            }
+        }
+    }
+
+    @Test
+    void testOccupancyMask() {
+        Game game = new Game(2, NAMES, 2, BoardShape.SQUARE);
+        game.startGame();
+        Piece piece = game.getPlayers().get(0).getPieces().get(0);
+        game.playTurn(game.getPlayers().get(0), ThrowResult.GAE, piece);
+
+        CompactGameState state = CompactGameState.of(game);
+        int index = piece.getPosition().getIndex();
+        assertTrue(state.isOccupied(0, index));
+        assertFalse(state.isOccupied(1, index));
+        assertEquals(PieceState.ON_BOARD, state.getPieceState(0, 0));
+        assertEquals(PieceState.NOT_STARTED, state.getPieceState(0, 1));
+
+        // 복사본은 원본과 같고, 수정해도 원본에 영향이 없어야 함
+        CompactGameState copy = state.copy();
+        assertEquals(state, copy);
+        copy.setPiece(0, 0, CompactGameState.FINISHED_CODE, RouteTag.PERIMETER);
+        assertFalse(copy.isOccupied(0, index));
+        assertTrue(state.isOccupied(0, index));
+    }
+
+    @Test
+    void testZobristHashIgnoresMoveOrderAndPieceNumbers() {
+        // 개 --> 걸 순서와 걸 --> 개 순서로 같은 칸(5칸째)에 도착
+        Game first = new Game(2, NAMES, 2, BoardShape.SQUARE);
+        first.startGame();
+        Player a = first.getPlayers().get(0);
+        first.playTurn(a, ThrowResult.GAE, a.getPieces().get(0));
+        first.playTurn(a, ThrowResult.GEOL, a.getPieces().get(0));
+
+        Game second = new Game(2, NAMES, 2, BoardShape.SQUARE);
+        second.startGame();
+        Player b = second.getPlayers().get(0);
+        second.playTurn(b, ThrowResult.GEOL, b.getPieces().get(1)); // 다른 번호의 말
+        second.playTurn(b, ThrowResult.GAE, b.getPieces().get(1));
+
+        CompactGameState one = CompactGameState.of(first);
+        CompactGameState other = CompactGameState.of(second);
+        assertNotEquals(one, other, "말 번호가 다르므로 압축 값은 다름");
+        assertEquals(one.getZobristHash(), other.getZobristHash());
+
+        // 차례, 위치, 도착 순서가 바뀌면 해시도 바뀜
+        CompactGameState changed = one.copy();
+        changed.setCurrentPlayer(1);
+        assertNotEquals(one.getZobristHash(), changed.getZobristHash());
+        changed.setCurrentPlayer(0);
+        assertEquals(one.getZobristHash(), changed.getZobristHash());
+        changed.addFinishedPlayer(1);
+        assertNotEquals(one.getZobristHash(), changed.getZobristHash());
+
+        // 같은 칸에 두 개가 업혀 있으면 하나만 있을 때와 다름 (키를 XOR로 합치면 서로 지워짐)
+        CompactGameState grouped = one.copy();
+        grouped.setPiece(0, 1, one.getCellCode(0, 0), one.getRouteTag(0, 0));
+        assertNotEquals(one.getZobristHash(), grouped.getZobristHash());
+    }
+
+    // 현재 플레이어의 (아직 도착하지 않은) 말 하나를 골라 throwIndex 결과로 이동한 뒤 턴을 넘김
+    private static void playRandomMove(Game game, int throwIndex, int pieceChoice) {
+        Player player = game.getCurrentPlayer();
+        List<Piece> movable = new ArrayList<>();
+        for (Piece p : player.getPieces()) {
+            if (p.getState() != PieceState.FINISHED) movable.add(p);
+        }
+        if (!movable.isEmpty()) {
+            game.playTurn(player, THROWS[throwIndex], movable.get(pieceChoice % movable.size()));
+        }
+        if (!game.isGameOver()) {
+            game.advanceTurn();
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * GameTest
+ *
+ * Game.playTurn으로 둔 수의 규칙 적용을 검증하는 테스트
+ * - 출발점에 도착한 말은 잡혀서 출발점에 대기 중인(NOT_STARTED) 말을 업지 않음 (내 말이든 상대 말이든)
+ * - 그 말이 나가도 대기 중인 말은 그대로 남고, 순위도 바뀌지 않음
+ */
+class GameTest {
+
+    private static final String[] NAMES = {"A", "B"};
+
+    @Test
+    void testMoveEndingOnStartCellDoesNotGroupWaitingPieces() {
+        Game game = new Game(2, NAMES, 3, BoardShape.SQUARE);
+        game.startGame();
+        Player playerA = game.getPlayers().get(0);
+        Player playerB = game.getPlayers().get(1);
+        Piece first = playerA.getPieces().get(0);
+        Piece second = playerA.getPieces().get(1);
+        Piece waiting = playerA.getPieces().get(2);
+        Cell startCell = game.getBoard().getStartCell();
+
+        // 잡힌 말은 출발점 칸으로 돌아가 NOT_STARTED 상태로 대기함 (내 말 waiting, 상대 말 captured)
+        Piece captured = playerB.getPieces().get(0);
+        game.playTurn(playerA, ThrowResult.DO, first);
+        game.playTurn(playerA, ThrowResult.BACK_DO, first);   // first: 출발점 (ON_BOARD)
+        game.playTurn(playerA, ThrowResult.DO, waiting);
+        game.playTurn(playerB, ThrowResult.DO, captured);     // waiting을 잡음
+        game.playTurn(playerA, ThrowResult.DO, second);       // captured를 잡음
+        assertSame(startCell, waiting.getCurrentCell());
+        assertSame(startCell, captured.getCurrentCell());
+
+        // second가 빽도로 출발점에 도착하면 first와만 업혀야 함
+        game.playTurn(playerA, ThrowResult.BACK_DO, second);
+        assertSame(startCell, second.getCurrentCell());
+        PieceGroup group = second.getGroup();
+        assertNotNull(group);
+        assertSame(group, first.getGroup());
+        assertEquals(2, group.size(), "출발점에 올라온 두 말만 업혀야 한다.");
+
+        assertEquals(PieceState.NOT_STARTED, waiting.getState());
+        assertNotSame(group, waiting.getGroup(), "대기 중인 내 말을 업으면 안 된다.");
+        for (Piece piece : playerB.getPieces()) {
+            assertEquals(PieceState.NOT_STARTED, piece.getState());
+            assertNotSame(group, piece.getGroup(), "대기 중인 상대 말을 업으면 안 된다.");
+        }
+
+        // 업힌 말이 나가도 대기 중인 말은 그대로 남음
+        game.playTurn(playerA, ThrowResult.DO, second);
+        assertEquals(PieceState.FINISHED, first.getState());
+        assertEquals(PieceState.FINISHED, second.getState());
+        assertEquals(PieceState.NOT_STARTED, waiting.getState());
+        for (Piece piece : playerB.getPieces()) {
+            assertEquals(PieceState.NOT_STARTED, piece.getState());
+        }
+        assertTrue(game.getFinishedPlayers().isEmpty());
+
+        // 남은 플레이어 사이에서 차례가 정상적으로 넘어감
+        game.advanceTurn();
+        assertSame(playerB, game.getCurrentPlayer());
+        game.advanceTurn();
+        assertSame(playerA, game.getCurrentPlayer());
+    }
+}
@@ -0,0 +1,268 @@
+package server;
+
+import model.BoardShape;
+import model.CompactGameState;
+import model.ThrowResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * GameServerTest
+ *
+ * - HOTSEAT 세션 하나를 루프백으로 끝까지 두면 모든 플레이어의 순위가 오고 말이 모두 도착해 있어야 함
+ * - 두 연결이 한 세션의 자리를 나눠 앉으면, 차례가 아닌 쪽의 요청은 거절되고 상대의 수는 양쪽 모두 받음
+ * - 잘못된 요청(없는 세션, 지금 할 수 없는 동작)은 ERROR 뒤에 READY
+ * - 지정 던지기는 FIXED_THROWS로 만든 HOTSEAT 세션에서만 받음
+ * - 부하 테스트 클라이언트가 센 세션/이동 수가 서버 통계와 같아야 함
+ * - 메시지를 읽지 않는 클라이언트에게 보내도 보내는 쪽은 기다리지 않고, 보낼 큐가 넘치면 그 연결을 끊음
+ */
+class GameServerTest {
+    private GameServer server;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = new GameServer(0);
+        server.start();
+    }
+
+    @AfterEach
+    void stopServer() throws IOException {
+        server.close();
+    }
+
+    @Test
+    void testHotseatGameToEnd() throws IOException {
+        SplittableRandom random = new SplittableRandom(3);
+        try (GameClient client = GameClient.connect(server.getPort())) {
+            client.create(BoardShape.SQUARE.getSpec(), 3, 2, true, 99L);
+            assertEquals(0, client.awaitReady());
+            assertEquals(Protocol.ALL_PLAYERS, client.getPlayerId());
+            assertEquals(99L, client.getSeed());
+            assertTrue(client.isThrowEnabled());
+
+            int[] choices = new int[2];
+            while (!client.isGameOver()) {
+                if (client.isThrowEnabled()) {
+                    client.throwRandom();
+                } else {
+                    int count = client.getEngine().legalMoves(client.getState(), client.getCurrentPlayer(), choices);
+                    client.select(choices[random.nextInt(count)]);
+                }
+                assertEquals(0, client.awaitReady());
+            }
+
+            int[] ranking = client.getRanking();
+            assertEquals(3, ranking.length);
+            int[] sorted = ranking.clone();
+            Arrays.sort(sorted);
+            assertArrayEquals(new int[]{0, 1, 2}, sorted);
+            CompactGameState state = client.getState();
+            assertTrue(state.isGameOver());
+            for (int p = 0; p < 3; p++) {
+                for (int i = 0; i < 2; i++) {
+                    assertEquals(CompactGameState.FINISHED_CODE, state.getCellCode(p, i));
+                }
+            }
+            assertFalse(client.isThrowEnabled());
+            assertFalse(client.isPieceSelectable());
+
+            client.throwRandom(); // 끝난 게임
+            assertEquals(Protocol.ERR_BAD_REQUEST, client.awaitReady());
+        }
+    }
+
+    @Test
+    void testTwoConnectionsShareSession() throws IOException {
+        try (GameClient a = GameClient.connect(server.getPort());
+             GameClient b = GameClient.connect(server.getPort())) {
+            a.create(BoardShape.PENTAGON.getSpec(), 2, 2, false, 7L);
+            a.awaitReady();
+            assertEquals(0, a.getPlayerId());
+            b.join(a.getSessionId());
+            b.awaitReady();
+            assertEquals(1, b.getPlayerId());
+            assertEquals(7L, b.getSeed());
+
+            GameClient third = GameClient.connect(server.getPort());
+            third.join(a.getSessionId());
+            assertEquals(Protocol.ERR_SESSION_FULL, third.awaitReady());
+            third.close();
+
+            b.throwRandom(); // a의 차례
+            assertEquals(Protocol.ERR_NOT_YOUR_TURN, b.awaitReady());
+
+            SplittableRandom random = new SplittableRandom(5);
+            int[] choices = new int[2];
+            int requests = 0;
+            while (!a.isGameOver()) {
+                GameClient actor = a.isMyTurn() ? a : b;
+                GameClient other = actor == a ? b : a;
+                assertFalse(other.isMyTurn());
+                if (actor.isThrowEnabled()) {
+                    actor.throwRandom();
+                } else {
+                    int count = actor.getEngine().legalMoves(actor.getState(), actor.getCurrentPlayer(), choices);
+                    actor.select(choices[random.nextInt(count)]);
+                }
+                assertEquals(0, actor.awaitReady());
+                assertEquals(0, other.awaitReady());
+                assertEquals(actor.getState(), other.getState());
+                assertEquals(actor.getStatus(), other.getStatus());
+                requests++;
+            }
+            assertTrue(b.isGameOver());
+            assertArrayEquals(a.getRanking(), b.getRanking());
+            assertTrue(requests > 10);
+        }
+    }
+
+    @Test
+    void testRejectsInvalidRequests() throws IOException {
+        try (GameClient client = GameClient.connect(server.getPort())) {
+            client.join(12345);
+            assertEquals(Protocol.ERR_NO_SESSION, client.awaitReady());
+            client.select(0);
+            assertEquals(Protocol.ERR_NO_SESSION, client.awaitReady());
+            client.create(BoardShape.SQUARE.getSpec(), 9, 4, true, null);
+            assertEquals(Protocol.ERR_BAD_REQUEST, client.awaitReady());
+
+            client.create(BoardShape.HEXAGON.getSpec(), 2, 4, true, null);
+            assertEquals(0, client.awaitReady());
+            client.select(0); // 던지기 전
+            assertEquals(Protocol.ERR_BAD_REQUEST, client.awaitReady());
+            assertTrue(client.isThrowEnabled());
+            client.leave();
+            client.join(1);
+            assertEquals(Protocol.ERR_NO_SESSION, client.awaitReady()); // 모두 떠난 세션은 사라짐
+        }
+    }
+
+    @Test
+    void testRejectsFixedThrowsWithoutFlag() throws IOException {
+        try (GameClient a = GameClient.connect(server.getPort());
+             GameClient b = GameClient.connect(server.getPort())) {
+            // 자리에 앉은 원격 플레이어는 윷 결과를 고를 수 없음
+            a.create(BoardShape.SQUARE.getSpec(), 2, 2, false, 1L);
+            a.awaitReady();
+            b.join(a.getSessionId());
+            b.awaitReady();
+            a.throwFixed(ThrowResult.MO);
+            assertEquals(Protocol.ERR_BAD_REQUEST, a.awaitReady());
+            assertTrue(a.isThrowEnabled(), "거절된 요청으로 차례가 진행되면 안 된다.");
+            assertEquals(0, b.awaitReady());
+            a.throwRandom();
+            assertEquals(0, a.awaitReady());
+            a.leave();
+            b.leave();
+
+            // HOTSEAT이어도 플래그 없이 만든 세션은 거절
+            a.create(BoardShape.SQUARE.getSpec(), 2, 2, true, 1L);
+            assertEquals(0, a.awaitReady());
+            a.throwFixed(ThrowResult.YUT);
+            assertEquals(Protocol.ERR_BAD_REQUEST, a.awaitReady());
+            a.leave();
+
+            // 여러 연결이 나눠 앉는 세션에는 플래그를 줄 수 없음
+            a.create(BoardShape.SQUARE.getSpec(), 2, 2, false, true, 1L);
+            assertEquals(Protocol.ERR_BAD_REQUEST, a.awaitReady());
+
+            // FIXED_THROWS로 만든 HOTSEAT 세션에서는 지정 던지기를 받음
+            a.create(BoardShape.SQUARE.getSpec(), 2, 2, true, true, 1L);
+            assertEquals(0, a.awaitReady());
+            a.throwFixed(ThrowResult.GAE);
+            assertEquals(0, a.awaitReady());
+            assertTrue(a.isPieceSelectable());
+            assertTrue(a.getStatus().contains("GAE"), a.getStatus());
+        }
+    }
+
+    @Test
+    void testLoadTestMatchesServerCounters() throws Exception {
+        LoadTestMain.LoadTestResult result = LoadTestMain.run(server.getPort(), 16, 3, BoardShape.SQUARE.getSpec(), 2, 4, 1L);
+        assertEquals(48, result.getSessions());
+        assertTrue(result.getMoves() > 48 * 8, result.toString()); // 말 4개를 모두 보내려면 적어도 8번
+
+        server.close();
+        assertEquals(48, server.getSessionsCreated());
+        assertEquals(48, server.getSessionsFinished());
+        assertEquals(result.getMoves(), server.getMoves());
+        assertEquals(result.getRequests(), server.getRequests());
+        assertEquals(0, server.getActiveSessions());
+    }
+
+    @Test
+    void testStalledClientIsDroppedWithoutBlockingSender() throws IOException {
+        StalledSocket socket = new StalledSocket();
+        ClientConnection connection = new ClientConnection(server, socket);
+        byte[] message = new byte[16 * 1024]; // 출력 버퍼보다 커서 쓰기 스레드가 첫 메시지에서 멈춤
+        message[0] = (byte) Protocol.READY;
+
+        // 쓰기 스레드는 첫 쓰기에서 멈춰 있지만 send는 큐에 넣고 바로 돌아와야 함
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            for (int i = 0; i <= ClientConnection.MAX_QUEUED_MESSAGES + 1; i++) {
+                connection.send(message);
+            }
+        });
+        assertTrue(connection.isBroken());
+        assertTrue(socket.isClosed());
+        assertEquals(1, server.getConnectionsDropped());
+    }
+
+    /**
+     * 보낸 바이트를 상대가 읽지 않는 소켓: 출력 스트림의 쓰기가 소켓을 닫을 때까지 멈춤
+     */
+    private static final class StalledSocket extends Socket {
+        private final CountDownLatch closed = new CountDownLatch(1);
+
+        @Override
+        public InputStream getInputStream() {
+            return InputStream.nullInputStream();
+        }
+
+        @Override
+        public OutputStream getOutputStream() {
+            return new OutputStream() {
+                @Override
+                public void write(int b) throws IOException {
+                    write(new byte[]{(byte) b}, 0, 1);
+                }
+
+                @Override
+                public void write(byte[] b, int off, int len) throws IOException {
+                    try {
+                        closed.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    throw new IOException("closed");
+                }
+            };
+        }
+
+        @Override
+        public void setTcpNoDelay(boolean on) {
+        }
+
+        @Override
+        public void close() {
+            closed.countDown();
+        }
+
+        @Override
+        public boolean isClosed() {
+            return closed.getCount() == 0;
+        }
+    }
+}
@@ -0,0 +1,220 @@
+package service;
+
+import model.BoardShape;
+import model.BoardSpec;
+import model.CompactGameState;
+import model.Game;
+import model.Piece;
+import model.PieceState;
+import model.Player;
+import model.ThrowResult;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CompactMoveEngineTest
+ *
+ * CompactMoveEngine이 Game(MoveActionService)과 같은 국면을 만드는지 무작위 게임으로 검증
+ * - 매 수마다 Game을 압축한 값과 엔진으로 옮긴 압축 국면이 같아야 함 (잡기, 업기, 빽도, 도착, 순위 포함)
+ */
+class CompactMoveEngineTest {
+
+    private static final String[] NAMES = {"A", "B", "C", "D"};
+    private static final ThrowResult[] THROWS = ThrowResult.values();
+
+    @Test
+    void testEngineMatchesGameOnRandomGames() {
+        for (BoardShape shape : BoardShape.values()) {
+            BoardSpec spec = shape.getSpec();
+            CompactMoveEngine engine = CompactMoveEngine.forSpec(spec);
+            for (int players = 2; players <= 4; players++) {
+                SplittableRandom random = new SplittableRandom(shape.ordinal() * 10 + players);
+                for (int g = 0; g < 20; g++) {
+                    int piecesNum = 2 + random.nextInt(4);
+                    Game game = new Game(players, NAMES, piecesNum, spec);
+                    game.startGame();
+                    CompactGameState state = CompactGameState.of(game);
+
+                    for (int move = 0; move < 2000 && !game.isGameOver(); move++) {
+                        Player player = game.getCurrentPlayer();
+                        int seat = player.getId();
+                        assertEquals(seat, state.getCurrentPlayer());
+                        ThrowResult result = THROWS[random.nextInt(THROWS.length)];
+
+                        boolean noMovable = player.hasNoMovablePiece(result);
+                        assertEquals(noMovable, engine.hasNoMovablePiece(state, seat, result),
+                                spec + " " + state + " " + result);
+
+                        Piece selected = pickPiece(player.getPieces(), random.nextInt(piecesNum));
+                        if (!(result == ThrowResult.BACK_DO && noMovable)) {
+                            game.playTurn(player, result, selected);
+                            engine.apply(state, seat, selected.getId(), result);
+                        }
+                        if (!game.isGameOver() && (player.checkAllPiecesFinished() || !result.isExtraTurn())) {
+                            game.advanceTurn();
+                            engine.advanceTurn(state);
+                        }
+                        assertEquals(CompactGameState.of(game), state,
+                                spec + " 게임 " + g + "의 " + move + "번째 수(" + result + ")에서 국면이 달라졌다.");
+                        assertEquals(CompactGameState.of(game).getZobristHash(), state.getZobristHash(),
+                                "이동/잡기/업기로 갱신한 해시가 처음부터 계산한 해시와 달라졌다.");
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void testEngineMatchesGameOnParametricBoards() {
+        BoardSpec[] specs = {BoardSpec.of(4, 6, 3), BoardSpec.of(9, 3, 2), BoardSpec.of(12, 12, 6)};
+        for (BoardSpec spec : specs) {
+            CompactMoveEngine engine = CompactMoveEngine.forSpec(spec);
+            SplittableRandom random = new SplittableRandom(spec.getCode());
+            for (int g = 0; g < 5; g++) {
+                Game game = new Game(4, NAMES, 4, spec);
+                game.startGame();
+                CompactGameState state = CompactGameState.of(game);
+
+                for (int move = 0; move < 5000 && !game.isGameOver(); move++) {
+                    Player player = game.getCurrentPlayer();
+                    int seat = player.getId();
+                    ThrowResult result = THROWS[random.nextInt(THROWS.length)];
+                    boolean noMovable = player.hasNoMovablePiece(result);
+                    assertEquals(noMovable, engine.hasNoMovablePiece(state, seat, result));
+
+                    Piece selected = pickPiece(player.getPieces(), random.nextInt(4));
+                    if (!(result == ThrowResult.BACK_DO && noMovable)) {
+                        game.playTurn(player, result, selected);
+                        engine.apply(state, seat, selected.getId(), result);
+                    }
+                    if (!game.isGameOver() && (player.checkAllPiecesFinished() || !result.isExtraTurn())) {
+                        game.advanceTurn();
+                        engine.advanceTurn(state);
+                    }
+                    assertEquals(CompactGameState.of(game), state, spec + " 게임 " + g + "의 " + move + "번째 수");
+                }
+            }
+        }
+    }
+
+    @Test
+    void testLegalMovesCollapseGroupsAndWaitingPieces() {
+        Game game = new Game(2, NAMES, 4, BoardShape.SQUARE);
+        game.startGame();
+        Player player = game.getPlayers().get(0);
+        List<Piece> pieces = player.getPieces();
+        game.playTurn(player, ThrowResult.GAE, pieces.get(0));
+        game.playTurn(player, ThrowResult.GAE, pieces.get(1)); // 0번 말 위에 업힘
+
+        CompactMoveEngine engine = CompactMoveEngine.forBoard(game.getBoard());
+        int[] moves = new int[4];
+        int count = engine.legalMoves(CompactGameState.of(game), 0, moves);
+        assertEquals(2, count, "업힌 말 묶음 하나 + 출발 전 말 대표 하나");
+        assertEquals(0, moves[0]);
+        assertEquals(2, moves[1]);
+    }
+
+    @Test
+    void testThrowAwareLegalMovesMatchPlayerAndCoverEveryPiece() {
+        SplittableRandom random = new SplittableRandom(17);
+        int[] playerMoves = new int[5];
+        int[] engineMoves = new int[5];
+        for (BoardShape shape : BoardShape.values()) {
+            BoardSpec spec = shape.getSpec();
+            CompactMoveEngine engine = CompactMoveEngine.forSpec(spec);
+            for (int g = 0; g < 10; g++) {
+                Game game = new Game(3, NAMES, 5, spec);
+                game.startGame();
+                for (int move = 0; move < 2000 && !game.isGameOver(); move++) {
+                    Player player = game.getCurrentPlayer();
+                    int seat = player.getId();
+                    CompactGameState state = CompactGameState.of(game);
+                    for (ThrowResult t : THROWS) {
+                        int count = player.legalMoves(t, playerMoves);
+                        assertEquals(count, engine.legalMoves(state, seat, t, engineMoves), spec + " " + state + " " + t);
+                        for (int k = 0; k < count; k++) {
+                            assertEquals(playerMoves[k], engineMoves[k], spec + " " + state + " " + t);
+                        }
+                        assertEquals(count == 0, t == ThrowResult.BACK_DO && player.hasNoMovablePiece(t)
+                                || player.checkAllPiecesFinished());
+                        assertMovesCoverEveryPiece(engine, state, seat, t, engineMoves, count);
+                    }
+
+                    ThrowResult result = THROWS[random.nextInt(THROWS.length)];
+                    int count = player.legalMoves(result, playerMoves);
+                    if (count > 0) {
+                        game.playTurn(player, result, player.getPieces().get(playerMoves[random.nextInt(count)]));
+                    }
+                    if (!game.isGameOver() && (player.checkAllPiecesFinished() || !result.isExtraTurn())) {
+                        game.advanceTurn();
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void testBackDoLegalMovesKeepOneStayingChoice() {
+        Game game = new Game(2, NAMES, 4, BoardShape.SQUARE);
+        game.startGame();
+        Player player = game.getPlayers().get(0);
+        List<Piece> pieces = player.getPieces();
+        int[] moves = new int[4];
+
+        assertEquals(0, player.legalMoves(ThrowResult.BACK_DO, moves), "모든 말이 출발 전이면 빽도로 둘 수 있는 수가 없음");
+        assertEquals(1, player.legalMoves(ThrowResult.DO, moves));
+
+        game.playTurn(player, ThrowResult.DO, pieces.get(1));
+        game.playTurn(player, ThrowResult.BACK_DO, pieces.get(1)); // 출발점으로 되돌아옴 (경로 [출발점])
+        assertEquals(0, player.legalMoves(ThrowResult.BACK_DO, moves), "되돌아온 말과 출발 전 말뿐");
+
+        game.playTurn(player, ThrowResult.GAE, pieces.get(2));
+        assertEquals(2, player.legalMoves(ThrowResult.BACK_DO, moves));
+        assertEquals(0, moves[0], "제자리인 말(출발 전 0번, 되돌아온 1번, 출발 전 3번)의 대표");
+        assertEquals(2, moves[1]);
+        assertEquals(3, player.legalMoves(ThrowResult.DO, moves), "출발 전, 되돌아온 말, 개 위치의 말");
+    }
+
+    // 도착하지 않은 모든 말에 대해, 그 말을 골랐을 때의 국면이 목록의 어떤 수와 같아야 함 (목록의 수끼리는 모두 달라야 함)
+    private static void assertMovesCoverEveryPiece(CompactMoveEngine engine, CompactGameState state, int seat,
+                                                   ThrowResult t, int[] moves, int count) {
+        CompactGameState[] results = new CompactGameState[count];
+        for (int k = 0; k < count; k++) {
+            results[k] = state.copy();
+            engine.apply(results[k], seat, moves[k], t);
+            for (int m = 0; m < k; m++) {
+                assertNotEquals(results[m], results[k], state + " " + t);
+            }
+        }
+        if (count == 0) return;
+        for (int piece = 0; piece < state.getPiecesNum(); piece++) {
+            if (state.getCellCode(seat, piece) == CompactGameState.FINISHED_CODE) continue;
+            CompactGameState result = state.copy();
+            engine.apply(result, seat, piece, t);
+            boolean covered = false;
+            for (int k = 0; k < count && !covered; k++) {
+                covered = sameLayout(result, results[k]);
+            }
+            assertTrue(covered, state + " " + t + ": " + piece + "번 말의 수가 목록에 없다.");
+        }
+    }
+
+    // 말 번호만 다르고 배치가 같은지 (Zobrist 해시는 말 번호와 관계없이 배치로 정해짐)
+    private static boolean sameLayout(CompactGameState a, CompactGameState b) {
+        return a.getZobristHash() == b.getZobristHash();
+    }
+
+    private static Piece pickPiece(List<Piece> pieces, int index) {
+        for (int k = 0; k < pieces.size(); k++) {
+            Piece piece = pieces.get((index + k) % pieces.size());
+            if (piece.getState() != PieceState.FINISHED) {
+                return piece;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,165 @@
+package service;
+
+import model.BoardShape;
+import model.CompactGameState;
+import model.Game;
+import model.Piece;
+import model.PieceState;
+import model.Player;
+import model.ThrowResult;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * MoveAllocationTest
+ *
+ * 말 이동 경로(Game.playTurn --> MoveActionService.movePiece --> 규칙 적용)가 정상 상태에서 객체를 할당하지 않는지 검증
+ * - 같은 수순을 한 번 두어 리스트 용량/그룹 객체를 미리 늘려 둔 뒤, 처음 국면으로 되돌려 같은 수순을 다시 두면서 할당량을 잰다
+ * - 할당량은 스레드별 누적 할당 바이트(com.sun.management.ThreadMXBean)로 측정
+ * - 수 생성(Player.legalMoves)도 매 국면에서 할당하지 않아야 함
+ */
+class MoveAllocationTest {
+
+    private static final String[] NAMES = {"A", "B", "C", "D"};
+    private static final ThrowResult[] THROWS = ThrowResult.values();
+    private static final int SCRIPT_LENGTH = 3000;
+
+    @Test
+    void testSteadyStateMovesDoNotAllocate() {
+        com.sun.management.ThreadMXBean threads = allocationCounter();
+        for (BoardShape shape : BoardShape.values()) {
+            Game game = new Game(4, NAMES, 5, shape);
+            game.startGame();
+            CompactGameState initial = CompactGameState.of(game);
+            int[] script = newScript(shape.ordinal());
+
+            playScript(game, script, null); // 준비: 같은 수순으로 필요한 용량을 모두 확보
+            initial.restoreTo(game);
+            long[] allocated = new long[1];
+            int moves = playScript(game, script, (before) -> allocated[0] += threads.getCurrentThreadAllocatedBytes() - before);
+
+            assertTrue(moves > 100, "측정한 이동 수가 너무 적다: " + moves);
+            assertEquals(0, allocated[0], shape + ": " + moves + "번 이동하는 동안 " + allocated[0] + "바이트를 할당했다.");
+        }
+    }
+
+    @Test
+    void testLegalMoveGenerationDoesNotAllocate() {
+        com.sun.management.ThreadMXBean threads = allocationCounter();
+        Game game = new Game(4, NAMES, 5, BoardShape.SQUARE);
+        game.startGame();
+        int[] script = newScript(99);
+        int[] moves = new int[5];
+        long allocated = 0;
+        long generated = 0;
+
+        for (int i = 0; i < SCRIPT_LENGTH && !game.isGameOver(); i++) {
+            Player player = game.getCurrentPlayer();
+            long before = threads.getCurrentThreadAllocatedBytes();
+            for (ThrowResult t : THROWS) {
+                generated += player.legalMoves(t, moves);
+            }
+            allocated += threads.getCurrentThreadAllocatedBytes() - before;
+
+            ThrowResult result = THROWS[script[2 * i]];
+            int count = player.legalMoves(result, moves);
+            if (count > 0) {
+                game.playTurn(player, result, player.getPieces().get(moves[script[2 * i + 1] % count]));
+            }
+            if (!game.isGameOver() && (player.checkAllPiecesFinished() || !result.isExtraTurn())) {
+                game.advanceTurn();
+            }
+        }
+        assertTrue(generated > 1000, "생성한 수가 너무 적다: " + generated);
+        assertEquals(0, allocated, "수 " + generated + "개를 만드는 동안 " + allocated + "바이트를 할당했다.");
+    }
+
+    @Test
+    void testSinglePieceDoesNotKeepBorrowedGroup() {
+        Game game = new Game(2, NAMES, 2, BoardShape.SQUARE);
+        game.startGame();
+        Player player = game.getPlayers().get(0);
+        Piece first = player.getPieces().get(0);
+        Piece second = player.getPieces().get(1);
+
+        game.playTurn(player, ThrowResult.GAE, first);
+        game.playTurn(player, ThrowResult.DO, second);
+        assertNull(first.getGroup(), "혼자 움직인 말은 빌린 그룹을 돌려줘야 한다.");
+        assertNull(second.getGroup(), "혼자 움직인 말은 빌린 그룹을 돌려줘야 한다.");
+
+        // 같은 칸에서 만나면 업힘
+        game.playTurn(player, ThrowResult.DO, second);
+        assertNotNull(first.getGroup());
+        assertSame(first.getGroup(), second.getGroup());
+        assertEquals(2, first.getGroup().size());
+    }
+
+    private interface MoveMeter {
+        void record(long allocatedBefore);
+    }
+
+    private static com.sun.management.ThreadMXBean allocationCounter() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        assumeTrue(bean instanceof com.sun.management.ThreadMXBean, "스레드별 할당량 측정을 지원하지 않는 JVM");
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+        assumeTrue(threads.isThreadAllocatedMemorySupported());
+        threads.setThreadAllocatedMemoryEnabled(true);
+        return threads;
+    }
+
+    // (던진 결과, 말 번호) 쌍을 미리 만들어 둠
+    private static int[] newScript(long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        int[] script = new int[SCRIPT_LENGTH * 2];
+        for (int i = 0; i < SCRIPT_LENGTH; i++) {
+            script[2 * i] = random.nextInt(THROWS.length);
+            script[2 * i + 1] = random.nextInt(5);
+        }
+        return script;
+    }
+
+    /**
+     * 수순대로 게임을 진행하고 실제로 말을 옮긴 횟수를 반환 (meter가 있으면 playTurn 호출 구간의 할당량만 기록)
+     */
+    private static int playScript(Game game, int[] script, MoveMeter meter) {
+        com.sun.management.ThreadMXBean threads = meter == null ? null
+                : (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        int moves = 0;
+        for (int i = 0; i < SCRIPT_LENGTH && !game.isGameOver(); i++) {
+            Player player = game.getCurrentPlayer();
+            ThrowResult result = THROWS[script[2 * i]];
+            Piece selected = pickPiece(player.getPieces(), script[2 * i + 1]);
+            if (!(result == ThrowResult.BACK_DO && player.hasNoMovablePiece(result))) {
+                if (meter == null) {
+                    game.playTurn(player, result, selected);
+                } else {
+                    long before = threads.getCurrentThreadAllocatedBytes();
+                    game.playTurn(player, result, selected);
+                    meter.record(before);
+                }
+                moves++;
+            }
+            if (!game.isGameOver() && (player.checkAllPiecesFinished() || !result.isExtraTurn())) {
+                game.advanceTurn();
+            }
+        }
+        return moves;
+    }
+
+    // index번째 말부터 차례로 보면서 아직 도착하지 않은 말을 고름
+    private static Piece pickPiece(List<Piece> pieces, int index) {
+        for (int k = 0; k < pieces.size(); k++) {
+            Piece piece = pieces.get((index + k) % pieces.size());
+            if (piece.getState() != PieceState.FINISHED) {
+                return piece;
+            }
+        }
+        return null;
+    }
+}
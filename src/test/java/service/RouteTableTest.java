@@ -0,0 +1,115 @@
+package service;
+
+import model.Board;
+import model.BoardShape;
+import model.BoardSpec;
+import model.Cell;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * RouteTableTest
+ *
+ * RouteTable이 기존 moveForward의 한 칸씩 이동 규칙과 같은 결과를 내는지 모든 (칸, 직전 칸, 칸 수)에 대해 검증
+ */
+class RouteTableTest {
+
+    // 기본 판 + 변/대각선 길이를 바꾼 판 (가장 큰 12각형 포함)
+    private static final BoardSpec[] SHAPES = {
+            BoardShape.SQUARE.getSpec(), BoardShape.PENTAGON.getSpec(), BoardShape.HEXAGON.getSpec(),
+            BoardSpec.of(4, 6, 3), BoardSpec.of(7, 2, 1), BoardSpec.of(8, 8, 4), BoardSpec.of(12, 12, 6)
+    };
+
+    @Test
+    void testTableMatchesStepByStepWalk() {
+        for (BoardSpec spec : SHAPES) {
+            Board board = new Board(spec);
+            RouteTable routes = RouteTable.forBoard(board);
+
+            for (Cell cell : board.getAllCells()) {
+                // 직전 칸 후보: 없음(null) + 이 칸으로 들어오는 모든 칸
+                List<Cell> prevs = new ArrayList<>();
+                prevs.add(null);
+                for (Cell other : board.getAllCells()) {
+                    if (other.getNextCells().contains(cell)) prevs.add(other);
+                }
+                for (Cell prev : prevs) {
+                    for (boolean notStarted : new boolean[]{false, true}) {
+                        if (notStarted && !cell.isStartCell()) continue;
+                        for (int steps = 1; steps <= RouteTable.MAX_STEPS; steps++) {
+                            List<Cell> expectedHops = new ArrayList<>();
+                            boolean expectedFinish = referenceWalk(spec, cell, prev, notStarted, steps, expectedHops);
+
+                            int entry = routes.entryIndex(cell.getIndex(), routes.arrivalOf(cell, prev, notStarted), steps);
+                            String where = spec + " " + cell.getId() + " prev=" + (prev == null ? "-" : prev.getId()) + " steps=" + steps;
+                            assertEquals(expectedFinish, routes.isFinish(entry), where);
+                            assertEquals(expectedHops.size(), routes.hopCount(entry), where);
+                            for (int k = 0; k < expectedHops.size(); k++) {
+                                assertEquals(expectedHops.get(k).getIndex(), routes.hop(entry, k), where);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void testSquareCenterGoesStraightFromD2() {
+        Board board = new Board(BoardShape.SQUARE);
+        RouteTable routes = RouteTable.forBoard(board);
+        Cell center = board.getCenterCell();
+
+        // D2_1 --> C 로 들어와서 멈추지 않고 지나가면 출발점 방향(D0)으로 직진
+        Cell d2 = board.getCellById("D2_1");
+        int entry = routes.entryIndex(d2.getIndex(), RouteTable.DEFAULT, 2);
+        assertEquals(center.getIndex(), routes.hop(entry, 0));
+        assertEquals(board.getCellById("D0_0").getIndex(), routes.hop(entry, 1));
+
+        // D1_1 --> C 로 지나가면 D3 방향
+        Cell d1 = board.getCellById("D1_1");
+        entry = routes.entryIndex(d1.getIndex(), RouteTable.DEFAULT, 2);
+        assertEquals(board.getCellById("D3_0").getIndex(), routes.hop(entry, 1));
+    }
+
+    @Test
+    void testLargeSquareCenterGoesStraightFromLastDiagonal() {
+        Board board = new Board(BoardSpec.of(4, 6, 3));
+        RouteTable routes = RouteTable.forBoard(board);
+
+        // 대각 셀이 3개면 D2_2 --> C --> D0_0 으로 직진
+        int entry = routes.entryIndex(board.getCellById("D2_2").getIndex(), RouteTable.DEFAULT, 2);
+        assertEquals(board.getCenterCell().getIndex(), routes.hop(entry, 0));
+        assertEquals(board.getCellById("D0_0").getIndex(), routes.hop(entry, 1));
+    }
+
+    // 기존 MoveActionService.moveForward의 이동 규칙을 그대로 옮긴 기준 구현
+    private static boolean referenceWalk(BoardSpec spec, Cell from, Cell prev, boolean notStarted, int steps, List<Cell> hops) {
+        Cell current = from;
+        boolean onBoard = !notStarted;
+        for (int i = 0; i < steps; i++) {
+            List<Cell> nextList = current.getNextCells();
+            Cell next;
+            if (spec.isStraightThroughCenter() && current.isCenter() && prev != null
+                    && prev.getId().equals("D2_" + (spec.getDiagonalCells() - 1))) {
+                next = nextList.get(1);
+            } else if (i == 0 && nextList.size() >= 2) {
+                next = nextList.get(1);
+            } else {
+                next = nextList.get(0);
+            }
+            if (current.isStartCell() && onBoard) {
+                return true;
+            }
+            hops.add(next);
+            prev = current;
+            current = next;
+            onBoard = true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,110 @@
+package service;
+
+import model.BoardShape;
+import model.Game;
+import model.ThrowResult;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ThrowModelTest
+ *
+ * - 1/2 윷의 분포는 16가지 경우 중 빽도 1, 도 3, 개 6, 걸 4, 윷 1, 모 1
+ * - 치우친 윷의 분포는 합이 1이고, 별칭 표에서 뽑은 빈도가 분포와 맞아야 함
+ * - 한쪽으로만 떨어지는 윷은 한 가지 결과만 나옴
+ * - Game이 넘겨받은 모델로 던짐
+ * - 묶음 뽑기: 1/2 윷은 4비트 조각으로 정확히, 치우친 윷은 21비트 조각으로 반올림해서 뽑음
+ */
+class ThrowModelTest {
+
+    private static final double EPS = 1e-12;
+
+    @Test
+    void testFairDistribution() {
+        ThrowModel fair = ThrowModel.FAIR;
+        assertEquals(1 / 16.0, fair.getProbability(ThrowResult.BACK_DO), EPS);
+        assertEquals(3 / 16.0, fair.getProbability(ThrowResult.DO), EPS);
+        assertEquals(6 / 16.0, fair.getProbability(ThrowResult.GAE), EPS);
+        assertEquals(4 / 16.0, fair.getProbability(ThrowResult.GEOL), EPS);
+        assertEquals(1 / 16.0, fair.getProbability(ThrowResult.YUT), EPS);
+        assertEquals(1 / 16.0, fair.getProbability(ThrowResult.MO), EPS);
+    }
+
+    @Test
+    void testBiasedSticksSampleMatchesDistribution() {
+        ThrowModel model = ThrowModel.ofSticks(0.6, 0.6, 0.55, 0.4);
+        double[] distribution = model.getDistribution();
+        double sum = 0.0;
+        for (double p : distribution) {
+            sum += p;
+        }
+        assertEquals(1.0, sum, EPS);
+        // 모: 넷 다 안 뒤집어짐
+        assertEquals(0.4 * 0.4 * 0.45 * 0.6, model.getProbability(ThrowResult.MO), EPS);
+
+        int samples = 1_000_000;
+        long[] counts = new long[distribution.length];
+        SplittableRandom random = new SplittableRandom(2024);
+        for (int i = 0; i < samples; i++) {
+            counts[model.sample(random).ordinal()]++;
+        }
+        for (int r = 0; r < distribution.length; r++) {
+            double expected = distribution[r] * samples;
+            double sigma = Math.sqrt(samples * distribution[r] * (1 - distribution[r]));
+            assertTrue(Math.abs(counts[r] - expected) < 5 * sigma,
+                    ThrowResult.values()[r] + ": " + counts[r] + " vs " + expected);
+        }
+    }
+
+    @Test
+    void testChunkTables() {
+        ThrowModel fair = ThrowModel.FAIR;
+        assertTrue(fair.isChunkExact());
+        assertEquals(4, fair.getChunkBits());
+        assertEquals(16, fair.getThrowsPerDraw());
+        int[] counts = new int[ThrowResult.values().length];
+        for (int chunk = 0; chunk < 16; chunk++) {
+            counts[fair.fromChunk(chunk).ordinal()]++;
+        }
+        assertArrayEquals(new int[]{1, 3, 6, 4, 1, 1}, counts);
+
+        ThrowModel biased = ThrowModel.ofSticks(0.6, 0.6, 0.55, 0.4);
+        assertFalse(biased.isChunkExact());
+        assertEquals(21, biased.getChunkBits());
+        assertEquals(3, biased.getThrowsPerDraw());
+        counts = new int[ThrowResult.values().length];
+        for (int chunk = 0; chunk < 1 << 21; chunk++) {
+            counts[biased.fromChunk(chunk).ordinal()]++;
+        }
+        for (ThrowResult r : ThrowResult.values()) {
+            assertEquals(biased.getProbability(r), counts[r.ordinal()] / (double) (1 << 21), 1.0 / (1 << 21));
+        }
+    }
+
+    @Test
+    void testDegenerateSticks() {
+        SplittableRandom random = new SplittableRandom(1);
+        ThrowModel allFlat = ThrowModel.ofUniformSticks(1.0);
+        ThrowModel allRound = ThrowModel.ofUniformSticks(0.0);
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(ThrowResult.YUT, allFlat.sample(random));
+            assertEquals(ThrowResult.MO, allRound.sample(random));
+        }
+        assertThrows(IllegalArgumentException.class, () -> ThrowModel.ofUniformSticks(1.5));
+    }
+
+    @Test
+    void testGameUsesGivenModel() {
+        ThrowModel model = ThrowModel.ofUniformSticks(1.0);
+        Game game = new Game(2, new String[]{"A", "B"}, 2, BoardShape.SQUARE.getSpec(), model);
+        assertSame(model, game.getThrowService().getModel());
+        assertEquals(ThrowResult.YUT, game.getThrowService().throwRandom());
+        assertEquals(1.0, game.getThrowService().getProbability(ThrowResult.YUT), EPS);
+
+        Game fair = new Game(2, new String[]{"A", "B"}, 2, BoardShape.SQUARE);
+        assertSame(ThrowModel.FAIR, fair.getThrowService().getModel());
+    }
+}
@@ -0,0 +1,86 @@
+package service;
+
+import model.BoardShape;
+import model.CompactGameState;
+import model.Game;
+import model.Piece;
+import model.Player;
+import model.ThrowResult;
+import org.junit.jupiter.api.Test;
+import service.simulation.Policies;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * YutThrowServiceTest
+ *
+ * - 같은 seed면 같은 결과가 같은 순서로 나오고, 다른 seed면 달라야 함
+ * - 묶음으로 뽑은 결과의 빈도가 모델 분포와 맞아야 함
+ * - 같은 seed로 만든 Game에 같은 정책을 쓰면 한 판 전체가 똑같이 재현되어야 함
+ */
+class YutThrowServiceTest {
+
+    @Test
+    void testSameSeedSameSequence() {
+        YutThrowService a = new YutThrowService(ThrowModel.FAIR, 42L);
+        YutThrowService b = new YutThrowService(ThrowModel.FAIR, 42L);
+        YutThrowService c = new YutThrowService(ThrowModel.FAIR, 43L);
+        boolean differs = false;
+        for (int i = 0; i < 1000; i++) {
+            ThrowResult r = a.throwRandom();
+            assertEquals(r, b.throwRandom());
+            differs |= r != c.throwRandom();
+        }
+        assertTrue(differs);
+    }
+
+    @Test
+    void testBatchedThrowsFollowDistribution() {
+        for (ThrowModel model : List.of(ThrowModel.FAIR, ThrowModel.ofUniformSticks(0.6))) {
+            YutThrowService service = new YutThrowService(model, 7L);
+            int samples = 1_000_000;
+            long[] counts = new long[ThrowResult.values().length];
+            for (int i = 0; i < samples; i++) {
+                counts[service.throwRandom().ordinal()]++;
+            }
+            for (ThrowResult r : ThrowResult.values()) {
+                double p = model.getProbability(r);
+                double sigma = Math.sqrt(samples * p * (1 - p));
+                assertTrue(Math.abs(counts[r.ordinal()] - samples * p) < 5 * sigma, model + " " + r);
+            }
+        }
+    }
+
+    @Test
+    void testSeedReplaysWholeGame() {
+        List<CompactGameState> first = playRecorded(12345L);
+        List<CompactGameState> second = playRecorded(12345L);
+        assertEquals(first, second);
+        assertNotEquals(first, playRecorded(54321L));
+    }
+
+    // seed로 게임을 만들어 SimulationEngine과 같은 흐름으로 끝까지 두고, 수마다 국면을 기록
+    private static List<CompactGameState> playRecorded(long seed) {
+        Game game = new Game(3, new String[]{"A", "B", "C"}, 3, BoardShape.PENTAGON.getSpec(), ThrowModel.FAIR, seed);
+        SplittableRandom policyRandom = game.splitRandom();
+        game.startGame();
+        List<CompactGameState> states = new ArrayList<>();
+        for (int turn = 0; turn < 5000 && !game.isGameOver(); turn++) {
+            Player player = game.getCurrentPlayer();
+            ThrowResult result = game.getThrowService().throwRandom();
+            if (!(result == ThrowResult.BACK_DO && player.hasNoMovablePiece(result))) {
+                Piece piece = Policies.RANDOM.selectPiece(game, player, result, policyRandom);
+                game.playTurn(player, result, piece);
+            }
+            if (!game.isGameOver() && (player.checkAllPiecesFinished() || !result.isExtraTurn())) {
+                game.advanceTurn();
+            }
+            states.add(CompactGameState.of(game));
+        }
+        return states;
+    }
+}
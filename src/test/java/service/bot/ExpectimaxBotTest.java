@@ -0,0 +1,84 @@
+package service.bot;
+
+import model.BoardShape;
+import model.CompactGameState;
+import model.Game;
+import model.Player;
+import model.ThrowResult;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ExpectimaxBotTest
+ *
+ * - 같은 칸 수를 가는 두 선택 중 상대 말을 잡는 쪽을 골라야 함
+ * - 시간 예산을 지키면서 최소 깊이 1은 끝내고 노드/초를 보고해야 함
+ * - 빽도 root에서 움직이지 않는 말(출발 전, 출발점으로 되돌아온 말)은 후보 하나로 묶고, 움직일 말이 없으면 탐색하지 않아야 함
+ */
+class ExpectimaxBotTest {
+
+    private static final String[] NAMES = {"A", "B"};
+
+    @Test
+    void testPrefersCapture() {
+        Game game = new Game(2, NAMES, 2, BoardShape.SQUARE);
+        game.startGame();
+        Player me = game.getPlayers().get(0);
+        Player opponent = game.getPlayers().get(1);
+        game.playTurn(me, ThrowResult.DO, me.getPieces().get(0));             // 내 0번 말: 도 위치
+        game.advanceTurn();
+        game.playTurn(opponent, ThrowResult.GEOL, opponent.getPieces().get(0)); // 상대 말: 걸 위치 (내 0번 말에서 개 거리)
+        game.advanceTurn();
+
+        ExpectimaxBot bot = new ExpectimaxBot(game.getThrowService(), 10_000, 1);
+        bot.setMaxDepth(2);
+        SearchResult result = bot.search(CompactGameState.of(game), List.of(ThrowResult.GAE));
+
+        assertEquals(0, result.getPieceIndex(), "개로 상대 말을 잡을 수 있는 0번 말을 골라야 한다.");
+        assertEquals(2, result.getDepth());
+    }
+
+    @Test
+    void testRespectsTimeBudget() {
+        Game game = new Game(2, NAMES, 4, BoardShape.HEXAGON);
+        game.startGame();
+        Player me = game.getPlayers().get(0);
+        game.playTurn(me, ThrowResult.GAE, me.getPieces().get(0));
+
+        long budgetMillis = 100;
+        ExpectimaxBot bot = new ExpectimaxBot(game.getThrowService(), budgetMillis, 2);
+        long start = System.nanoTime();
+        SearchResult result = bot.search(CompactGameState.of(game), List.of(ThrowResult.GEOL));
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertTrue(elapsedMillis < budgetMillis + 500, "시간 예산을 크게 넘겼다: " + elapsedMillis + "ms");
+        assertTrue(result.getDepth() >= 1);
+        assertTrue(result.getNodes() > 0);
+        assertTrue(result.getNodesPerSecond() > 0);
+        assertNotEquals(-1, result.getPieceIndex());
+    }
+
+    @Test
+    void testBackDoRootCollapsesStayingPieces() {
+        Game game = new Game(2, NAMES, 3, BoardShape.SQUARE);
+        game.startGame();
+        Player me = game.getPlayers().get(0);
+        game.playTurn(me, ThrowResult.DO, me.getPieces().get(0));
+        game.playTurn(me, ThrowResult.BACK_DO, me.getPieces().get(0));  // 0번 말: 출발점으로 되돌아옴, 1·2번 말: 대기
+
+        ExpectimaxBot bot = new ExpectimaxBot(game.getThrowService(), 10_000, 1);
+        bot.setMaxDepth(2);
+        SearchResult result = bot.search(CompactGameState.of(game), List.of(ThrowResult.BACK_DO));
+        assertEquals(-1, result.getPieceIndex(), "빽도로 움직일 말이 없으면 고를 말도 없다.");
+        assertEquals(0, result.getCandidates());
+        assertEquals(0, result.getNodes());
+
+        game.playTurn(me, ThrowResult.GEOL, me.getPieces().get(2));     // 2번 말: 걸 위치
+        result = bot.search(CompactGameState.of(game), List.of(ThrowResult.BACK_DO));
+        assertEquals(2, result.getCandidates(), "움직이지 않는 0번, 1번 말은 후보 하나로 묶여야 한다.");
+        assertTrue(result.getPieceIndex() == 0 || result.getPieceIndex() == 2);
+    }
+}
@@ -0,0 +1,118 @@
+package service.bot;
+
+import model.BoardShape;
+import model.CompactGameState;
+import model.Game;
+import model.Player;
+import model.ThrowResult;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * MctsBotTest
+ *
+ * - 같은 칸 수를 가는 두 선택 중 상대 말을 잡는 쪽을 골라야 함
+ * - 트리마다 돌린 플레이아웃이 root에서 합쳐져야 함
+ * - 큰 판(HEXAGON, 4인, 5말)에서도 마감 시각 안에 답하고 플레이아웃/초, 트리 메모리를 보고해야 함
+ * - 노드 수 상한을 넘겨 트리를 키우지 않아야 함
+ * - 빽도 root에서 움직이지 않는 말(출발 전, 출발점으로 되돌아온 말)은 후보 하나로 묶고, 움직일 말이 없으면 탐색하지 않아야 함
+ */
+class MctsBotTest {
+
+    @Test
+    void testPrefersCapture() {
+        Game game = new Game(2, new String[]{"A", "B"}, 2, BoardShape.SQUARE);
+        game.startGame();
+        Player me = game.getPlayers().get(0);
+        Player opponent = game.getPlayers().get(1);
+        game.playTurn(me, ThrowResult.DO, me.getPieces().get(0));             // 내 0번 말: 도 위치
+        game.advanceTurn();
+        game.playTurn(opponent, ThrowResult.GEOL, opponent.getPieces().get(0)); // 상대 말: 걸 위치 (내 0번 말에서 개 거리)
+        game.advanceTurn();
+
+        MctsBot bot = new MctsBot(game.getThrowService(), 10_000, 1);
+        bot.setSeed(42);
+        bot.setPlayoutLimit(20_000);
+        MctsResult result = bot.search(CompactGameState.of(game), List.of(ThrowResult.GAE));
+
+        assertEquals(0, result.getPieceIndex(), "개로 상대 말을 잡을 수 있는 0번 말을 골라야 한다.");
+        assertEquals(20_000, result.getPlayouts());
+    }
+
+    @Test
+    void testMergesRootParallelTrees() {
+        Game game = newLargeGame();
+        MctsBot bot = new MctsBot(game.getThrowService(), 10_000, 3);
+        bot.setSeed(7);
+        bot.setPlayoutLimit(300);
+        MctsResult result = bot.search(CompactGameState.of(game), List.of(ThrowResult.GEOL));
+
+        assertEquals(3, result.getTrees());
+        assertEquals(900, result.getPlayouts());
+        assertTrue(result.getTreeNodes() > 0);
+        assertTrue(result.getTreeBytes() >= result.getTreeNodes() * MctsBot.NODE_BYTES);
+        assertTrue(result.getValue() >= 0.0 && result.getValue() <= 1.0);
+    }
+
+    @Test
+    void testRespectsDeadline() {
+        Game game = newLargeGame();
+        long budgetMillis = 100;
+        MctsBot bot = new MctsBot(game.getThrowService(), budgetMillis, 2);
+        long start = System.nanoTime();
+        MctsResult result = bot.search(CompactGameState.of(game), List.of(ThrowResult.GEOL));
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertTrue(elapsedMillis < budgetMillis + 500, "마감 시각을 크게 넘겼다: " + elapsedMillis + "ms");
+        assertTrue(result.getPlayouts() >= 2);
+        assertTrue(result.getPlayoutsPerSecond() > 0);
+        assertNotEquals(-1, result.getPieceIndex());
+        assertFalse(bot.getLastSearchSummary().isEmpty());
+    }
+
+    @Test
+    void testStopsGrowingAtNodeLimit() {
+        Game game = newLargeGame();
+        MctsBot bot = new MctsBot(game.getThrowService(), 10_000, 1);
+        bot.setMaxTreeNodes(200);
+        bot.setPlayoutLimit(2_000);
+        MctsResult result = bot.search(CompactGameState.of(game), List.of(ThrowResult.GEOL));
+
+        assertTrue(result.getTreeNodes() <= 200);
+        assertEquals(2_000, result.getPlayouts()); // 트리가 꽉 차도 플레이아웃은 계속
+    }
+
+    // 0번 플레이어의 말 하나가 출발한 HEXAGON, 4인, 5말 판
+    @Test
+    void testBackDoRootCollapsesStayingPieces() {
+        Game game = new Game(2, new String[]{"A", "B"}, 3, BoardShape.SQUARE);
+        game.startGame();
+        Player me = game.getPlayers().get(0);
+        game.playTurn(me, ThrowResult.DO, me.getPieces().get(0));
+        game.playTurn(me, ThrowResult.BACK_DO, me.getPieces().get(0));  // 0번 말: 출발점으로 되돌아옴, 1·2번 말: 대기
+
+        MctsBot bot = new MctsBot(game.getThrowService(), 10_000, 1);
+        bot.setPlayoutLimit(200);
+        bot.setSeed(1);
+        MctsResult result = bot.search(CompactGameState.of(game), List.of(ThrowResult.BACK_DO));
+        assertEquals(-1, result.getPieceIndex(), "빽도로 움직일 말이 없으면 고를 말도 없다.");
+        assertEquals(0, result.getCandidates());
+        assertEquals(0, result.getPlayouts());
+
+        game.playTurn(me, ThrowResult.GEOL, me.getPieces().get(2));     // 2번 말: 걸 위치
+        result = bot.search(CompactGameState.of(game), List.of(ThrowResult.BACK_DO));
+        assertEquals(2, result.getCandidates(), "움직이지 않는 0번, 1번 말은 후보 하나로 묶여야 한다.");
+        assertTrue(result.getPieceIndex() == 0 || result.getPieceIndex() == 2);
+    }
+
+    private static Game newLargeGame() {
+        Game game = new Game(4, new String[]{"A", "B", "C", "D"}, 5, BoardShape.HEXAGON);
+        game.startGame();
+        Player me = game.getPlayers().get(0);
+        game.playTurn(me, ThrowResult.GAE, me.getPieces().get(0));
+        return game;
+    }
+}
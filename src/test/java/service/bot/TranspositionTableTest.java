@@ -0,0 +1,93 @@
+package service.bot;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * TranspositionTableTest
+ *
+ * - 저장한 값/깊이를 그대로 찾고, 없는 키는 MISS
+ * - 같은 버킷에서 깊은 항목은 얕은 항목에 밀려나지 않고, 이전 탐색 세대의 항목은 밀려남
+ * - 여러 스레드가 잠금 없이 동시에 써도 다른 키의 값을 읽지 않음
+ */
+class TranspositionTableTest {
+
+    @Test
+    void testStoreAndProbe() {
+        TranspositionTable table = new TranspositionTable(1000);
+        assertEquals(1024, table.getCapacity());
+        assertEquals(TranspositionTable.MISS, table.probe(42L));
+
+        table.store(42L, 0.25, 3);
+        long entry = table.probe(42L);
+        assertNotEquals(TranspositionTable.MISS, entry);
+        assertEquals(0.25, TranspositionTable.valueOf(entry));
+        assertEquals(3, TranspositionTable.depthOf(entry));
+        assertEquals(TranspositionTable.MISS, table.probe(43L));
+
+        table.clear();
+        assertEquals(TranspositionTable.MISS, table.probe(42L));
+    }
+
+    @Test
+    void testDepthPreferredReplacement() {
+        TranspositionTable table = new TranspositionTable(2); // 버킷 하나
+        table.store(1L, 1.0, 8);
+        table.store(2L, 2.0, 2); // 깊이 우선 항목은 남기고 두 번째 항목에
+        table.store(3L, 3.0, 1); // 두 번째 항목은 항상 교체
+        assertEquals(8, TranspositionTable.depthOf(table.probe(1L)));
+        assertEquals(TranspositionTable.MISS, table.probe(2L));
+        assertEquals(3.0, TranspositionTable.valueOf(table.probe(3L)));
+
+        // 같은 키는 더 얕아도 갱신
+        table.store(1L, -1.0, 4);
+        assertEquals(-1.0, TranspositionTable.valueOf(table.probe(1L)));
+
+        // 새 탐색에서는 이전 세대의 깊은 항목도 교체
+        table.store(1L, 1.0, 8);
+        table.newSearch();
+        table.store(4L, 4.0, 1);
+        assertEquals(TranspositionTable.MISS, table.probe(1L));
+        assertEquals(4.0, TranspositionTable.valueOf(table.probe(4L)));
+    }
+
+    @Test
+    void testConcurrentWritersNeverReturnForeignValue() throws InterruptedException {
+        TranspositionTable table = new TranspositionTable(64); // 작게 잡아서 충돌을 많이 냄
+        AtomicLong mismatches = new AtomicLong();
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            long seed = t;
+            threads.add(new Thread(() -> {
+                SplittableRandom random = new SplittableRandom(seed);
+                for (int i = 0; i < 200_000; i++) {
+                    long key = random.nextLong(1, 512) * 0x9E37_79B9_7F4A_7C15L;
+                    if (random.nextBoolean()) {
+                        table.store(key, expectedValue(key), (int) (key & 7));
+                    } else {
+                        long entry = table.probe(key);
+                        if (entry != TranspositionTable.MISS && TranspositionTable.valueOf(entry) != expectedValue(key)) {
+                            mismatches.incrementAndGet();
+                        }
+                    }
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(0, mismatches.get());
+    }
+
+    // 키마다 정해진 값 (float로 정확히 표현됨)
+    private static double expectedValue(long key) {
+        return (key >>> 40) & 0xFFFF;
+    }
+}
@@ -0,0 +1,160 @@
+package service.record;
+
+import model.BoardShape;
+import model.BoardSpec;
+import model.CompactGameState;
+import model.Game;
+import model.Piece;
+import model.PieceState;
+import model.Player;
+import model.ThrowResult;
+import org.junit.jupiter.api.Test;
+import service.ThrowModel;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * GameRecordCodecTest
+ *
+ * - 여러 게임을 이어 쓴 스트림을 같은 기록으로 읽어야 함 (말 1개 --> 말 번호 0비트, 말 16개 --> 4비트 포함)
+ * - 실제 게임(2인, 말 4개)은 한 판에 150바이트 안쪽이어야 함 (백만 판 150MB 이하)
+ * - 잘린 스트림, 다른 형식, 범위를 벗어난 값은 거부
+ */
+class GameRecordCodecTest {
+
+    @Test
+    void testRoundTripManyGames() throws IOException {
+        SplittableRandom random = new SplittableRandom(5);
+        List<GameRecord> records = new ArrayList<>();
+        records.add(new GameRecord(BoardShape.SQUARE.getSpec(), 2, 1, 0L, new int[0]));
+        records.add(new GameRecord(BoardShape.HEXAGON.getSpec(), 16, 16, -1L,
+                new int[]{GameRecord.throwEvent(ThrowResult.MO), GameRecord.moveEvent(15), GameRecord.moveEvent(0)}));
+        // 기본이 아닌 판 형태 (꼭짓점 수, 일반 셀 수, 대각 셀 수를 따로 기록)
+        records.add(new GameRecord(BoardSpec.of(12, 12, 6), 4, 4, 9L, new int[]{GameRecord.throwEvent(ThrowResult.DO)}));
+        records.add(new GameRecord(BoardSpec.of(4, 1, 1), 2, 2, 3L, new int[0]));
+        for (int g = 0; g < 200; g++) {
+            int pieces = 1 + random.nextInt(5);
+            int[] events = new int[random.nextInt(300)];
+            for (int i = 0; i < events.length; i++) {
+                events[i] = random.nextBoolean() ? GameRecord.moveEvent(random.nextInt(pieces))
+                        : GameRecord.throwEvent(ThrowResult.values()[random.nextInt(6)]);
+            }
+            records.add(new GameRecord(BoardShape.values()[random.nextInt(3)].getSpec(), 2 + random.nextInt(3), pieces,
+                    random.nextLong(), events));
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GameRecordWriter writer = new GameRecordWriter(bytes)) {
+            for (GameRecord record : records) {
+                writer.write(record);
+            }
+            assertEquals(records.size(), writer.getGamesWritten());
+            assertEquals(bytes.size() * 8L, writer.getBitsWritten());
+        }
+        try (GameRecordReader reader = new GameRecordReader(new ByteArrayInputStream(bytes.toByteArray()))) {
+            for (GameRecord expected : records) {
+                assertEquals(expected, reader.next());
+            }
+            assertNull(reader.next());
+        }
+    }
+
+    @Test
+    void testRealGamesAreSmall() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        List<GameRecord> played = new ArrayList<>();
+        int games = 500;
+        try (GameRecordWriter writer = new GameRecordWriter(bytes)) {
+            for (int g = 0; g < games; g++) {
+                GameRecord record = playRandomGame(g, null);
+                played.add(record);
+                writer.write(record);
+            }
+        }
+        double bytesPerGame = bytes.size() / (double) games;
+        assertTrue(bytesPerGame < 150, "한 판 평균 " + bytesPerGame + "바이트");
+
+        try (GameRecordReader reader = new GameRecordReader(new ByteArrayInputStream(bytes.toByteArray()))) {
+            for (GameRecord expected : played) {
+                assertEquals(expected, reader.next());
+            }
+        }
+    }
+
+    @Test
+    void testRejectsBadInput() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        GameRecordWriter writer = new GameRecordWriter(bytes);
+        writer.beginGame(BoardShape.SQUARE.getSpec(), 2, 4, 7L);
+        writer.writeThrow(ThrowResult.GAE);
+        writer.writeMove(3);
+        assertThrows(IllegalArgumentException.class, () -> writer.writeMove(4));
+        assertThrows(IllegalStateException.class, () -> writer.beginGame(BoardShape.SQUARE.getSpec(), 2, 4, 8L));
+        writer.endGame();
+        assertThrows(IllegalStateException.class, () -> writer.writeThrow(ThrowResult.DO));
+        assertThrows(IllegalArgumentException.class, () -> writer.beginGame(BoardShape.SQUARE.getSpec(), 17, 4, 8L));
+
+        byte[] data = bytes.toByteArray();
+        byte[] truncated = Arrays.copyOf(data, data.length - 2);
+        GameRecordReader reader = new GameRecordReader(new ByteArrayInputStream(truncated));
+        assertThrows(EOFException.class, reader::next);
+        data[0] = 'X';
+        assertThrows(IOException.class, () -> new GameRecordReader(new ByteArrayInputStream(data)));
+    }
+
+    /**
+     * GameController와 같은 흐름으로 무작위 게임을 두면서 기록
+     * (윷/모면 계속 던지고, 모은 결과를 차례대로 무작위 말에 적용, 첫 결과가 빽도인데 움직일 말이 없으면 넘어감)
+     * @param snapshots null이 아니면 이벤트마다 적용한 뒤의 국면을 담음 (0번 = 시작 국면)
+     */
+    static GameRecord playRandomGame(long seed, List<CompactGameState> snapshots) {
+        Game game = new Game(2, new String[]{"A", "B"}, 4, BoardShape.SQUARE.getSpec(), ThrowModel.FAIR, seed);
+        SplittableRandom random = game.splitRandom();
+        game.startGame();
+        List<Integer> events = new ArrayList<>();
+        if (snapshots != null) snapshots.add(CompactGameState.of(game));
+        while (!game.isGameOver()) {
+            Player player = game.getCurrentPlayer();
+            List<ThrowResult> results = new ArrayList<>();
+            ThrowResult result;
+            boolean passed = false;
+            do {
+                result = game.getThrowService().throwRandom();
+                results.add(result);
+                events.add(GameRecord.throwEvent(result));
+                if (results.size() == 1 && result == ThrowResult.BACK_DO && player.hasNoMovablePiece(result)) {
+                    game.advanceTurn();
+                    passed = true;
+                }
+                if (snapshots != null) snapshots.add(CompactGameState.of(game));
+            } while (result.isExtraTurn());
+            if (passed) continue;
+
+            for (int i = 0; i < results.size(); i++) {
+                List<Piece> movable = new ArrayList<>();
+                for (Piece piece : player.getPieces()) {
+                    if (piece.getState() != PieceState.FINISHED) movable.add(piece);
+                }
+                Piece chosen = movable.get(random.nextInt(movable.size()));
+                events.add(GameRecord.moveEvent(player.getPieces().indexOf(chosen)));
+                game.playTurn(player, results.get(i), chosen);
+                boolean finished = player.checkAllPiecesFinished();
+                if (finished || i == results.size() - 1) {
+                    game.advanceTurn(); // 다 도착했으면 남은 결과는 버림
+                }
+                if (snapshots != null) snapshots.add(CompactGameState.of(game));
+                if (finished) break;
+            }
+        }
+        return new GameRecord(BoardShape.SQUARE.getSpec(), 2, 4, seed, events.stream().mapToInt(Integer::intValue).toArray());
+    }
+}
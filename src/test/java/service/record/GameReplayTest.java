@@ -0,0 +1,91 @@
+package service.record;
+
+import model.BoardShape;
+import model.CompactGameState;
+import model.Game;
+import model.ThrowResult;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * GameReplayTest
+ *
+ * - 어느 위치로 seek해도 실제로 둔 게임의 그 시점 국면과 같아야 함 (앞/뒤 한 칸씩, 무작위 순서 모두)
+ * - 턴 시작 위치는 윷을 던지는 이벤트이고, getTurnAt과 서로 맞아야 함
+ * - 복원한 Game은 같은 국면이어야 함
+ * - 규칙에 맞지 않는 기록은 거부
+ */
+class GameReplayTest {
+
+    @Test
+    void testSeekMatchesPlayedGame() {
+        SplittableRandom random = new SplittableRandom(3);
+        for (long seed = 0; seed < 20; seed++) {
+            List<CompactGameState> snapshots = new ArrayList<>();
+            GameRecord record = GameRecordCodecTest.playRandomGame(seed, snapshots);
+            GameReplay replay = new GameReplay(record, 1 + (int) seed);
+            assertEquals(record.getEventCount() + 1, snapshots.size());
+            assertTrue(replay.isAtEnd());
+            assertTrue(replay.getState().isGameOver());
+
+            while (replay.stepBackward()) {
+                assertEquals(snapshots.get(replay.getPosition()), replay.getState(), "seed " + seed);
+            }
+            assertEquals(0, replay.getPosition());
+            while (replay.stepForward()) {
+                assertEquals(snapshots.get(replay.getPosition()), replay.getState(), "seed " + seed);
+            }
+            for (int k = 0; k < 100; k++) {
+                int position = random.nextInt(record.getEventCount() + 1);
+                replay.seek(position);
+                assertEquals(snapshots.get(position), replay.getState(), "seed " + seed + ", " + position);
+            }
+        }
+    }
+
+    @Test
+    void testTurnIndex() {
+        GameRecord record = GameRecordCodecTest.playRandomGame(11, null);
+        GameReplay replay = new GameReplay(record);
+        assertEquals(0, replay.getTurnStart(0));
+        for (int turn = 0; turn < replay.getTurnCount(); turn++) {
+            int start = replay.getTurnStart(turn);
+            assertFalse(GameRecord.isMove(record.getEvent(start)));
+            assertEquals(turn, replay.getTurnAt(start));
+            if (turn > 0) {
+                assertEquals(turn - 1, replay.getTurnAt(start - 1));
+            }
+            replay.seekTurn(turn);
+            assertTrue(replay.getPendingThrows().isEmpty());
+            assertEquals(replay.getActor(start), replay.getState().getCurrentPlayer());
+        }
+    }
+
+    @Test
+    void testRestoreToGame() {
+        List<CompactGameState> snapshots = new ArrayList<>();
+        GameRecord record = GameRecordCodecTest.playRandomGame(5, snapshots);
+        GameReplay replay = new GameReplay(record);
+        replay.seek(record.getEventCount() / 2);
+        Game game = replay.newGame(new String[]{"A", "B"});
+        assertEquals(snapshots.get(record.getEventCount() / 2), CompactGameState.of(game));
+        assertEquals(record.getSeed(), game.getSeed());
+    }
+
+    @Test
+    void testRejectsInvalidRecord() {
+        int move = GameRecord.moveEvent(0);
+        int gae = GameRecord.throwEvent(ThrowResult.GAE);
+        assertThrows(IllegalArgumentException.class,
+                () -> new GameReplay(new GameRecord(BoardShape.SQUARE.getSpec(), 2, 2, 0L, new int[]{move})));
+        assertThrows(IllegalArgumentException.class,
+                () -> new GameReplay(new GameRecord(BoardShape.SQUARE.getSpec(), 2, 2, 0L, new int[]{gae, gae})));
+        GameReplay replay = new GameReplay(new GameRecord(BoardShape.SQUARE.getSpec(), 2, 2, 0L, new int[]{gae, move}));
+        assertThrows(IndexOutOfBoundsException.class, () -> replay.seek(3));
+    }
+}
@@ -0,0 +1,84 @@
+package service.simulation;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * HistogramTest
+ *
+ * - 64 미만의 값은 정확히, 그 위는 1/32 이내 오차로 백분위를 내야 함
+ * - 여러 히스토그램을 합친 결과는 모든 값을 한 히스토그램에 넣은 것과 같아야 함
+ */
+class HistogramTest {
+
+    @Test
+    void testSmallValuesAreExact() {
+        Histogram histogram = new Histogram();
+        for (int v = 0; v < 50; v++) {
+            histogram.record(v);
+        }
+        assertEquals(50, histogram.getCount());
+        assertEquals(49 * 50 / 2, histogram.getSum());
+        assertEquals(24.5, histogram.getMean(), 1e-9);
+        assertEquals(24, histogram.getPercentile(50));
+        assertEquals(49, histogram.getPercentile(100));
+        assertEquals(0, histogram.getPercentile(0));
+        assertEquals(1, histogram.getBucketCount(7));
+        assertThrows(IllegalArgumentException.class, () -> histogram.record(-1));
+    }
+
+    @Test
+    void testPercentileErrorIsBounded() {
+        SplittableRandom random = new SplittableRandom(3);
+        long[] values = new long[10_000];
+        Histogram histogram = new Histogram();
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextLong(1, 5_000_000);
+            histogram.record(values[i]);
+        }
+        Arrays.sort(values);
+        for (double p : new double[]{1, 10, 50, 90, 99, 99.9}) {
+            long exact = values[(int) Math.ceil(values.length * p / 100.0) - 1];
+            long approx = histogram.getPercentile(p);
+            assertTrue(approx >= exact && approx <= exact + exact / 32 + 1, p + "%: " + exact + " vs " + approx);
+        }
+        assertEquals(values[values.length - 1], histogram.getMax());
+        assertEquals(values[values.length - 1], histogram.getPercentile(100));
+    }
+
+    @Test
+    void testBucketsCoverWholeRange() {
+        for (long v : new long[]{63, 64, 65, 127, 128, 1L << 40, Long.MAX_VALUE}) {
+            int bucket = Histogram.bucketOf(v);
+            assertTrue(bucket < Histogram.BUCKETS);
+            assertTrue(Histogram.upperBoundOf(bucket) >= v, "value " + v);
+            if (bucket > 0) {
+                assertTrue(Histogram.upperBoundOf(bucket - 1) < v, "value " + v);
+            }
+        }
+    }
+
+    @Test
+    void testMergeMatchesSingleHistogram() {
+        SplittableRandom random = new SplittableRandom(8);
+        Histogram all = new Histogram();
+        Histogram[] parts = {new Histogram(), new Histogram(), new Histogram()};
+        for (int i = 0; i < 3000; i++) {
+            long v = random.nextLong(0, 2000);
+            all.record(v);
+            parts[i % 3].record(v);
+        }
+        Histogram merged = parts[0].copy().merge(parts[1]).merge(parts[2]);
+        assertEquals(all.getCount(), merged.getCount());
+        assertEquals(all.getSum(), merged.getSum());
+        assertEquals(all.getMax(), merged.getMax());
+        for (double p = 0; p <= 100; p += 2.5) {
+            assertEquals(all.getPercentile(p), merged.getPercentile(p));
+        }
+        assertEquals(1000, parts[0].getCount(), "copy().merge는 원본을 바꾸지 않음");
+    }
+}
@@ -0,0 +1,56 @@
+package service.simulation;
+
+import model.BoardShape;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * SimulationEngineTest
+ *
+ * - 작은 설정으로 모든 게임이 중단 없이 끝나고, 같은 설정이면 같은 결과가 나와야 함
+ * - 같은 seed면 스레드 수(작업 분할)와 관계없이 집계 결과가 같아야 함
+ */
+class SimulationEngineTest {
+
+    @Test
+    void testSmallRunCompletesDeterministically() {
+        SimulationConfig config = new SimulationConfig(BoardShape.SQUARE.getSpec(), 2, 2, 50)
+                .setParallelism(1)
+                .setSeed(7L);
+        SimulationReport first = new SimulationEngine(config).run();
+        SimulationReport second = new SimulationEngine(config).run();
+
+        assertEquals(50, first.getCompletedGames());
+        assertEquals(0, first.getAbortedGames());
+        assertEquals(50, first.getWins(0) + first.getWins(1));
+        assertTrue(first.getTotalTurns() >= 50 * 2, "한 판은 최소 두 턴 이상이어야 한다.");
+
+        assertEquals(first.getTotalTurns(), second.getTotalTurns());
+        assertEquals(first.getWins(0), second.getWins(0));
+    }
+
+    @Test
+    void testSeedReproducibleAcrossThreadCounts() {
+        SimulationReport single = run(1);
+        SimulationReport parallel = run(3);
+        assertEquals(single.getCompletedGames(), parallel.getCompletedGames());
+        assertEquals(single.getAbortedGames(), parallel.getAbortedGames());
+        assertEquals(single.getTotalTurns(), parallel.getTotalTurns());
+        for (int seat = 0; seat < 3; seat++) {
+            assertEquals(single.getWins(seat), parallel.getWins(seat));
+        }
+
+        SimulationReport otherSeed = new SimulationEngine(new SimulationConfig(BoardShape.HEXAGON.getSpec(), 3, 3, 1000)
+                .setParallelism(1).setSeed(2L)).run();
+        assertNotEquals(single.getTotalTurns(), otherSeed.getTotalTurns());
+    }
+
+    private static SimulationReport run(int parallelism) {
+        SimulationConfig config = new SimulationConfig(BoardShape.HEXAGON.getSpec(), 3, 3, 1000)
+                .setParallelism(parallelism)
+                .setSeed(1L)
+                .setAllPolicies(Policies.FURTHEST_FIRST);
+        return new SimulationEngine(config).run();
+    }
+}
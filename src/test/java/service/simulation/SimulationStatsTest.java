@@ -0,0 +1,131 @@
+package service.simulation;
+
+import controller.event.GameEvent;
+import controller.event.GameEventRing;
+import controller.event.StatsEventHandler;
+import model.BoardShape;
+import model.BoardSpec;
+import model.ThrowResult;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * SimulationStatsTest
+ *
+ * - 시뮬레이션과 함께 모은 통계는 SimulationReport와 같아야 하고, 스레드 수와 관계없이 같아야 함
+ * - 실행 중에 읽은 통계는 끝난 게임 수만큼 늘어나기만 해야 함
+ * - 링 이벤트로 모은 통계 (StatsEventHandler)
+ */
+class SimulationStatsTest {
+
+    @Test
+    void testStatsMatchReportAcrossThreadCounts() {
+        SimulationStats.Snapshot single = null;
+        for (int parallelism : new int[]{1, 4}) {
+            SimulationStats stats = new SimulationStats();
+            SimulationConfig config = new SimulationConfig(BoardShape.PENTAGON.getSpec(), 3, 3, 2000)
+                    .setParallelism(parallelism).setSeed(11L);
+            SimulationReport report = new SimulationEngine(config, stats).run();
+
+            SimulationStats.Snapshot snapshot = stats.snapshot(BoardShape.PENTAGON.getSpec(), 3, 3);
+            assertEquals(report.getCompletedGames(), snapshot.getCompletedGames());
+            assertEquals(report.getAbortedGames(), snapshot.getAbortedGames());
+            assertEquals(report.getTotalTurns(), snapshot.getTotalTurns());
+            assertEquals(report.getTotalTurns(), snapshot.getGameLength().getSum());
+            assertEquals(snapshot.getTotalCaptures(), snapshot.getCapturesPerGame().getSum());
+            assertEquals(snapshot.getTotalGroupings(), snapshot.getGroupingsPerGame().getSum());
+            assertTrue(snapshot.getTotalCaptures() > 0);
+            assertTrue(snapshot.getTotalGroupings() > 0);
+            for (int seat = 0; seat < 3; seat++) {
+                assertEquals(report.getWins(seat), snapshot.getWins(seat));
+            }
+
+            if (single == null) {
+                single = snapshot;
+            } else {
+                assertEquals(single.getTotalMoves(), snapshot.getTotalMoves());
+                assertEquals(single.getTotalCaptures(), snapshot.getTotalCaptures());
+                assertEquals(single.getTotalGroupings(), snapshot.getTotalGroupings());
+                assertEquals(single.getGameLength().getPercentile(90), snapshot.getGameLength().getPercentile(90));
+            }
+        }
+    }
+
+    @Test
+    void testLiveSnapshotsWhileRunning() throws Exception {
+        SimulationStats stats = new SimulationStats();
+        SimulationConfig config = new SimulationConfig(BoardShape.SQUARE.getSpec(), 2, 4, 20_000).setParallelism(4).setSeed(5L);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<SimulationReport> run = executor.submit(() -> new SimulationEngine(config, stats).run());
+            long previous = 0;
+            while (!run.isDone()) {
+                SimulationStats.Snapshot snapshot = stats.snapshot(BoardShape.SQUARE.getSpec(), 2, 4);
+                if (snapshot != null) {
+                    long games = snapshot.getCompletedGames() + snapshot.getAbortedGames();
+                    assertTrue(games >= previous);
+                    assertTrue(snapshot.getGameLength().getCount() <= 20_000);
+                    previous = games;
+                }
+                Thread.sleep(1);
+            }
+            assertEquals(20_000, run.get().getCompletedGames() + run.get().getAbortedGames());
+            assertEquals(20_000, stats.getGames());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testSegmentsPerShapeAndPieces() {
+        SimulationStats stats = new SimulationStats();
+        new SimulationEngine(new SimulationConfig(BoardShape.SQUARE.getSpec(), 2, 2, 100).setSeed(1L), stats).run();
+        new SimulationEngine(new SimulationConfig(BoardShape.SQUARE.getSpec(), 2, 4, 100).setSeed(1L), stats).run();
+        new SimulationEngine(new SimulationConfig(BoardSpec.of(8, 6, 3), 2, 2, 50).setSeed(1L), stats).run();
+
+        assertEquals(3, stats.snapshot().size());
+        assertEquals(2, stats.snapshot().get(0).getPiecesNum());
+        assertEquals(4, stats.snapshot().get(1).getPiecesNum());
+        assertEquals(BoardSpec.of(8, 6, 3), stats.snapshot().get(2).getSpec());
+        assertEquals(250, stats.getGames());
+        assertNull(stats.snapshot(BoardShape.HEXAGON.getSpec(), 2, 2));
+    }
+
+    @Test
+    void testEventHandlerFeedsStats() {
+        SimulationStats stats = new SimulationStats();
+        StatsEventHandler handler = new StatsEventHandler(stats, BoardShape.SQUARE.getSpec(), 2, 1);
+        GameEventRing ring = new GameEventRing(16);
+
+        // 0번: 도 --> 이동, 1번: 개 --> 0번 말을 잡음, 0번: 모 --> 업기, 윷 --> 도착 (1등)
+        publish(handler, ring, ring.claim().reset(GameEvent.Type.THROW, 0).throwResult(ThrowResult.DO));
+        publish(handler, ring, ring.claim().reset(GameEvent.Type.MOVE, 0).piece(0).throwResult(ThrowResult.DO));
+        publish(handler, ring, ring.claim().reset(GameEvent.Type.TURN_CHANGE, 1));
+        publish(handler, ring, ring.claim().reset(GameEvent.Type.MOVE, 1).piece(0).throwResult(ThrowResult.GAE));
+        publish(handler, ring, ring.claim().reset(GameEvent.Type.CAPTURE, 1).otherPlayer(0).count(1));
+        publish(handler, ring, ring.claim().reset(GameEvent.Type.TURN_CHANGE, 0));
+        publish(handler, ring, ring.claim().reset(GameEvent.Type.MOVE, 0).piece(0).throwResult(ThrowResult.MO));
+        publish(handler, ring, ring.claim().reset(GameEvent.Type.GROUP, 0).piece(0).count(2));
+        publish(handler, ring, ring.claim().reset(GameEvent.Type.MOVE, 0).piece(0).throwResult(ThrowResult.YUT));
+        publish(handler, ring, ring.claim().reset(GameEvent.Type.FINISH, 0).piece(0).count(2).rank(0));
+        publish(handler, ring, ring.claim().reset(GameEvent.Type.GAME_OVER, 0).count(2));
+
+        SimulationStats.Snapshot snapshot = stats.snapshot(BoardShape.SQUARE.getSpec(), 2, 1);
+        assertEquals(1, snapshot.getCompletedGames());
+        assertEquals(1, snapshot.getWins(0));
+        assertEquals(3, snapshot.getTotalTurns());
+        assertEquals(4, snapshot.getTotalMoves());
+        assertEquals(1, snapshot.getTotalCaptures());
+        assertEquals(1, snapshot.getTotalGroupings());
+    }
+
+    private static void publish(StatsEventHandler handler, GameEventRing ring, GameEvent event) {
+        ring.publish();
+        handler.onEvent(event, true);
+    }
+}
@@ -0,0 +1,116 @@
+package service.simulation;
+
+import model.BoardShape;
+import org.junit.jupiter.api.Test;
+import service.ThrowModel;
+import service.YutThrowService;
+import service.bot.MctsBot;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * TournamentTest
+ *
+ * - 같은 seed면 스레드 수와 관계없이 모든 대진 결과(조기 종료 시점 포함)가 같아야 함
+ * - 시간 제한 없이 플레이아웃 수로만 탐색하는 봇 참가자도 마찬가지이고, 리그전이 끝나면 만든 봇은 모두 닫혀 있어야 함
+ * - 실력 차이가 분명한 대진은 최대 게임 수보다 일찍 멈추고, 강한 쪽의 점수/Elo가 높아야 함
+ * - Wilson 구간, Elo 변환, Bradley-Terry 맞춤 값 확인
+ */
+class TournamentTest {
+
+    private static final List<TournamentEntrant> ENTRANTS = List.of(
+            TournamentEntrant.of("random", Policies.RANDOM),
+            TournamentEntrant.of("furthest", Policies.FURTHEST_FIRST),
+            TournamentEntrant.of("greedy", Policies.GREEDY_CAPTURE));
+
+    @Test
+    void testReproducibleAcrossThreadCounts() {
+        TournamentReport single = run(1);
+        TournamentReport parallel = run(4);
+        assertEquals(6, single.getPairings().size(), "참가자 3명 --> 3쌍 x 보드 모양 2개");
+        for (int i = 0; i < single.getPairings().size(); i++) {
+            assertEquals(single.getPairings().get(i).toString(), parallel.getPairings().get(i).toString());
+        }
+        for (int i = 0; i < ENTRANTS.size(); i++) {
+            assertEquals(single.getElo(i), parallel.getElo(i), 1e-9);
+        }
+    }
+
+    @Test
+    void testBotEntrantsReproducibleAndClosed() {
+        AtomicInteger created = new AtomicInteger();
+        AtomicInteger closed = new AtomicInteger();
+        TournamentEntrant mcts = TournamentEntrant.ofBot("mcts", () -> {
+            created.incrementAndGet();
+            MctsBot bot = new MctsBot(new YutThrowService(ThrowModel.FAIR), 0, 1) {
+                @Override
+                public void close() {
+                    closed.incrementAndGet();
+                    super.close();
+                }
+            };
+            bot.setPlayoutLimit(64);
+            bot.setSeed(5L);
+            return bot;
+        });
+        List<TournamentEntrant> entrants = List.of(mcts, TournamentEntrant.of("random", Policies.RANDOM));
+
+        String[] results = new String[2];
+        int[] parallelisms = {1, 3};
+        for (int i = 0; i < parallelisms.length; i++) {
+            TournamentConfig config = new TournamentConfig(entrants, List.of(BoardShape.SQUARE.getSpec()))
+                    .setPiecesNum(2).setMaxGames(48).setEarlyStop(false)
+                    .setParallelism(parallelisms[i]).setSeed(9L);
+            results[i] = new Tournament(config).run().getPairings().get(0).toString();
+            assertTrue(created.get() > 0);
+            assertEquals(created.get(), closed.get(), "리그전이 끝나면 만든 봇을 모두 닫아야 한다.");
+        }
+        assertEquals(results[0], results[1]);
+    }
+
+    @Test
+    void testStrongerPolicyWinsAndStopsEarly() {
+        TournamentConfig config = new TournamentConfig(ENTRANTS, List.of(BoardShape.SQUARE.getSpec()))
+                .setMaxGames(20_000).setMinGames(400).setBatchGames(400).setSeed(7L);
+        TournamentReport report = new Tournament(config).run();
+
+        TournamentReport.PairingResult greedyVsRandom = report.getPairing(BoardShape.SQUARE.getSpec(), "greedy", "random");
+        assertEquals("random", greedyVsRandom.getFirstName());
+        assertTrue(greedyVsRandom.isStoppedEarly(), greedyVsRandom.toString());
+        assertTrue(greedyVsRandom.getGames() < 20_000);
+        assertEquals(0, greedyVsRandom.getGames() % 2, "자리를 바꾼 두 판씩");
+        assertTrue(greedyVsRandom.getScoreHigh() < 0.5, greedyVsRandom.toString());
+        assertTrue(greedyVsRandom.getEloDiffHigh() < 0);
+        assertTrue(report.getElo(2) > report.getElo(0));
+        assertEquals(0.0, report.getElo(0) + report.getElo(1) + report.getElo(2), 1e-6);
+    }
+
+    @Test
+    void testStatisticsHelpers() {
+        double[] interval = TournamentReport.wilson(0.5, 100, 1.96);
+        assertEquals(0.4038, interval[0], 1e-4);
+        assertEquals(0.5962, interval[1], 1e-4);
+        assertFalse(TournamentReport.isDecided(0.5, 100, 1.96));
+        assertTrue(TournamentReport.isDecided(0.65, 400, 1.96));
+
+        assertEquals(0.0, TournamentReport.eloDifference(0.5), 1e-9);
+        assertEquals(190.85, TournamentReport.eloDifference(0.75), 0.01);
+        assertEquals(Double.POSITIVE_INFINITY, TournamentReport.eloDifference(1.0));
+
+        // 3000판에서 0번이 1번에게 75% --> Elo 차이는 약 190 (한 판 무승부 보정만큼 조금 작음)
+        TournamentReport.PairingResult result = new TournamentReport.PairingResult(
+                BoardShape.SQUARE.getSpec(), 0, 1, "a", "b", 3000, 2250, 750, 0, 1500, false, 1.96);
+        double[] elo = TournamentReport.eloRatings(2, List.of(result));
+        assertEquals(190.85, elo[0] - elo[1], 0.2);
+        assertEquals(0.0, elo[0] + elo[1], 1e-9);
+    }
+
+    private static TournamentReport run(int parallelism) {
+        TournamentConfig config = new TournamentConfig(ENTRANTS, List.of(BoardShape.SQUARE.getSpec(), BoardShape.PENTAGON.getSpec()))
+                .setMaxGames(600).setMinGames(100).setBatchGames(100).setParallelism(parallelism).setSeed(3L);
+        return new Tournament(config).run();
+    }
+}
@@ -0,0 +1,196 @@
+package service.tablebase;
+
+import model.BoardShape;
+import model.CompactGameState;
+import model.Game;
+import model.Player;
+import model.ThrowResult;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import service.CompactMoveEngine;
+import service.ThrowModel;
+import service.bot.GameBot;
+import service.bot.TablebaseBot;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * TablebaseTest
+ *
+ * - 표의 값은 CompactMoveEngine으로 한 수씩 두어 본 값(벨만 식)과 같아야 함
+ *   (생성기는 말 상태 번호로 규칙을 따로 구현하므로, 엔진과 다르게 옮기면 여기서 어긋남)
+ *   말 1개는 모든 국면, 말 2개는 무작위로 고른 국면
+ * - 먼저 던지는 쪽이 유리하고, 바로 도착할 수 있으면 도착하는 말을 골라야 함
+ * - 다른 규칙/깨진 파일은 열지 않음
+ * - TablebaseBot은 표에 없는 국면을 다른 봇에게 맡김
+ */
+class TablebaseTest {
+    private static final double EPS = 1e-5;
+    private static final ThrowResult[] THROWS = ThrowResult.values();
+
+    @TempDir
+    static Path dir;
+    private static Path twoPieces;
+
+    @BeforeAll
+    static void generate() throws IOException {
+        twoPieces = dir.resolve("square-2.ytb");
+        TablebaseGenerator generator = new TablebaseGenerator(BoardShape.SQUARE.getSpec(), 2, ThrowModel.FAIR);
+        generator.setParallelism(2);
+        generator.solve();
+        generator.write(twoPieces);
+    }
+
+    @Test
+    void testSinglePieceMatchesEngine() throws IOException {
+        Path path = dir.resolve("square-1.ytb");
+        TablebaseGenerator generator = new TablebaseGenerator(BoardShape.SQUARE.getSpec(), 1, ThrowModel.FAIR);
+        generator.solve();
+        generator.write(path);
+
+        try (Tablebase tablebase = Tablebase.open(path)) {
+            PositionIndex index = PositionIndex.build(BoardShape.SQUARE.getSpec(), 1);
+            int checked = 0;
+            for (int m = 0; m < index.rankCount; m++) {
+                for (int o = 0; o < index.rankCount; o++) {
+                    if ((index.cellMasks[m] & index.cellMasks[o]) != 0) continue;
+                    assertBellman(tablebase, stateOf(index, m, o));
+                    checked++;
+                }
+            }
+            assertTrue(checked > 1000);
+        }
+    }
+
+    @Test
+    void testTwoPiecesMatchEngine() throws IOException {
+        try (Tablebase tablebase = Tablebase.open(twoPieces)) {
+            assertEquals(BoardShape.SQUARE.getSpec(), tablebase.getSpec());
+            assertEquals(2, tablebase.getPiecesNum());
+            assertEquals(ThrowModel.FAIR, tablebase.getThrowModel());
+
+            PositionIndex index = PositionIndex.build(BoardShape.SQUARE.getSpec(), 2);
+            assertEquals(index.positionCount(), tablebase.getPositionCount());
+            SplittableRandom random = new SplittableRandom(12);
+            int checked = 0;
+            while (checked < 3000) {
+                int m = random.nextInt(index.rankCount);
+                int o = random.nextInt(index.rankCount);
+                if ((index.cellMasks[m] & index.cellMasks[o]) != 0) continue;
+                assertBellman(tablebase, stateOf(index, m, o));
+                checked++;
+            }
+        }
+    }
+
+    @Test
+    void testOpeningAndFinishingMove() throws IOException {
+        try (Tablebase tablebase = Tablebase.open(twoPieces)) {
+            Game game = new Game(2, new String[]{"A", "B"}, 2, BoardShape.SQUARE.getSpec(), ThrowModel.FAIR, 1L);
+            game.startGame();
+            double opening = tablebase.winProbability(CompactGameState.of(game));
+            assertTrue(opening > 0.5 && opening < 0.7, "먼저 던지는 쪽이 조금 유리해야 한다: " + opening);
+
+            // 0번 말은 개로 도착할 수 있는 칸, 1번 말은 이미 도착 --> 개로 0번 말을 옮기면 이김
+            Player me = game.getPlayers().get(0);
+            CompactGameState state = CompactGameState.of(game);
+            PositionIndex index = PositionIndex.build(BoardShape.SQUARE.getSpec(), 2);
+            int nearEnd = 0;
+            while (index.next[nearEnd * THROWS.length + ThrowResult.GAE.ordinal()] != index.finished) {
+                nearEnd++;
+            }
+            int key = index.stateKeys[nearEnd];
+            state.setPiece(me.getId(), 0, key & 0xFF, key >>> 8);
+            state.setPiece(me.getId(), 1, CompactGameState.FINISHED_CODE, 0);
+            assertEquals(1.0, tablebase.moveValue(state, 0, List.of(ThrowResult.GAE)), EPS);
+            assertEquals(0, tablebase.bestPiece(state, List.of(ThrowResult.GAE)));
+        }
+    }
+
+    @Test
+    void testRejectsCorruptFile() throws IOException {
+        Path path = dir.resolve("broken.ytb");
+        Files.copy(twoPieces, path);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(4).putInt(0, 99), 16); // 말 수
+        }
+        assertThrows(IOException.class, () -> Tablebase.open(path));
+        assertThrows(IllegalArgumentException.class,
+                () -> new TablebaseGenerator(BoardShape.SQUARE.getSpec(), 4, ThrowModel.FAIR));
+    }
+
+    @Test
+    void testBotFallsBackOutsideTable() throws IOException {
+        try (Tablebase tablebase = Tablebase.open(twoPieces)) {
+            GameBot fallback = new GameBot() {
+                @Override
+                public int choosePiece(CompactGameState state, List<ThrowResult> throwsToApply) {
+                    return 2;
+                }
+
+                @Override
+                public String getLastSearchSummary() {
+                    return "fallback";
+                }
+            };
+            TablebaseBot bot = new TablebaseBot(tablebase, fallback);
+
+            Game threePlayers = new Game(3, new String[]{"A", "B", "C"}, 3, BoardShape.SQUARE);
+            threePlayers.startGame();
+            assertEquals(2, bot.choosePiece(CompactGameState.of(threePlayers), List.of(ThrowResult.DO)));
+            assertEquals("fallback", bot.getLastSearchSummary());
+
+            Game covered = new Game(2, new String[]{"A", "B"}, 2, BoardShape.SQUARE);
+            covered.startGame();
+            assertEquals(0, bot.choosePiece(CompactGameState.of(covered), List.of(ThrowResult.DO)));
+            assertTrue(bot.getLastSearchSummary().startsWith("엔드게임 표"));
+        }
+    }
+
+    // 차례인 플레이어 0의 배치 m, 상대 배치 o
+    private static CompactGameState stateOf(PositionIndex index, int m, int o) {
+        CompactMoveEngine engine = CompactMoveEngine.forSpec(index.spec);
+        CompactGameState state = new CompactGameState(index.spec, engine.getBoard().getCellCount(), 2, index.piecesNum);
+        for (int k = 0; k < index.piecesNum; k++) {
+            int mine = index.stateKeys[index.tuples[m * index.piecesNum + k]];
+            int theirs = index.stateKeys[index.tuples[o * index.piecesNum + k]];
+            state.setPiece(0, k, mine & 0xFF, mine >>> 8);
+            state.setPiece(1, k, theirs & 0xFF, theirs >>> 8);
+        }
+        state.setStarted(true);
+        return state;
+    }
+
+    // V(s) = Σ p(t) * (빽도에 움직일 말이 없으면 1 - V(상대 차례), 아니면 가장 좋은 말의 값)
+    private static void assertBellman(Tablebase tablebase, CompactGameState state) {
+        CompactMoveEngine engine = CompactMoveEngine.forSpec(state.getSpec());
+        CompactGameState passed = state.copy();
+        passed.setCurrentPlayer(1);
+        double expected = 0.0;
+        int[] moves = new int[state.getPiecesNum()];
+        for (ThrowResult t : THROWS) {
+            double best;
+            if (t == ThrowResult.BACK_DO && engine.hasNoMovablePiece(state, 0, t)) {
+                best = 1.0 - tablebase.winProbability(passed);
+            } else {
+                best = 0.0;
+                int count = engine.legalMoves(state, 0, moves);
+                for (int k = 0; k < count; k++) {
+                    best = Math.max(best, tablebase.moveValue(state, moves[k], List.of(t)));
+                }
+            }
+            expected += ThrowModel.FAIR.getProbability(t) * best;
+        }
+        assertEquals(expected, tablebase.winProbability(state), EPS, state.toString());
+    }
+}
@@ -0,0 +1,76 @@
+package view;
+
+import model.Board;
+import model.BoardShape;
+import model.BoardSpec;
+import model.Cell;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * BoardGeometryTest
+ *
+ * - (모양, 크기)마다 같은 객체를 돌려줌 (한 번만 계산)
+ * - 꼭짓점은 판 반지름의 원 위, 중앙 셀은 가운데, 모든 셀 좌표가 서로 다르고 그림 안에 있어야 함
+ * - 크기를 바꾸면 좌표가 같은 비율로 바뀜
+ */
+class BoardGeometryTest {
+    private static final double EPS = 1e-9;
+
+    @Test
+    void testCachedPerShapeAndSize() {
+        assertSame(BoardGeometry.of(BoardShape.SQUARE.getSpec()), BoardGeometry.of(BoardShape.SQUARE.getSpec(), 520));
+        assertNotSame(BoardGeometry.of(BoardShape.SQUARE.getSpec(), 520), BoardGeometry.of(BoardShape.SQUARE.getSpec(), 600));
+        assertNotSame(BoardGeometry.of(BoardShape.SQUARE.getSpec()), BoardGeometry.of(BoardShape.PENTAGON.getSpec()));
+        assertThrows(IllegalArgumentException.class, () -> BoardGeometry.of(BoardShape.SQUARE.getSpec(), 0));
+    }
+
+    @Test
+    void testCellPositions() {
+        for (BoardShape shape : BoardShape.values()) {
+            BoardSpec spec = shape.getSpec();
+            Board board = new Board(spec);
+            BoardGeometry geometry = BoardGeometry.of(spec);
+            BoardGeometry doubled = BoardGeometry.of(spec, 1040);
+            assertEquals(board.getCellCount(), geometry.getCellCount());
+
+            Set<String> seen = new HashSet<>();
+            for (Cell cell : board.getAllCells()) {
+                int i = cell.getIndex();
+                double x = geometry.getX(i);
+                double y = geometry.getY(i);
+                assertTrue(x > 0 && x < 520 && y > 0 && y < 520, cell.getId());
+                assertTrue(seen.add(Math.round(x) + "," + Math.round(y)), spec + " 겹친 셀 " + cell.getId());
+                if (cell.isVertex()) {
+                    assertEquals(geometry.getRadius(), Math.hypot(x - 260, y - 260), 1e-6, cell.getId());
+                }
+                if (cell.isCenter()) {
+                    assertEquals(260, x, EPS);
+                    assertEquals(260, y, EPS);
+                }
+                assertEquals(2 * x, doubled.getX(i), 1e-6);
+                assertEquals(2 * y, doubled.getY(i), 1e-6);
+            }
+            // 출발점(V0)은 화면 아래 (y가 아래로 커짐)
+            assertEquals(260 + 180, geometry.getY(board.getStartCell().getIndex()), 1e-6);
+        }
+    }
+
+    @Test
+    void testOffBoardPositions() {
+        BoardGeometry geometry = BoardGeometry.of(BoardShape.SQUARE.getSpec());
+        assertEquals(40, geometry.getOffBoardX(0, 2), EPS);
+        assertEquals(40, geometry.getOffBoardY(0, 2), EPS);
+        assertEquals(480, geometry.getOffBoardX(1, 2), EPS);
+        assertEquals(480, geometry.getOffBoardY(1, 2), EPS);
+        assertEquals(480, geometry.getOffBoardX(1, 3), EPS);
+        assertEquals(40, geometry.getOffBoardY(1, 3), EPS);
+        assertEquals(40, geometry.getOffBoardX(3, 4), EPS);
+        assertEquals(480, geometry.getOffBoardY(3, 4), EPS);
+        assertEquals(260, geometry.getOffBoardX(0, 5), EPS);
+    }
+}
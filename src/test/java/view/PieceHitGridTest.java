@@ -0,0 +1,81 @@
+package view;
+
+import model.BoardShape;
+import model.Game;
+import model.Piece;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * PieceHitGridTest
+ *
+ * - 무작위로 겹친 범위에서도 모든 말을 훑어 찾은 결과(나중에 넣은 말 우선)와 같아야 함
+ * - 한 칸에 말이 많이 겹쳐도 맨 위의 말이 잡히고, clear() 후 다시 채우면 예전 말은 안 잡힘
+ */
+class PieceHitGridTest {
+
+    @Test
+    void testMatchesLinearScanWithTopmostFirst() {
+        List<Piece> pieces = newPieces(20);
+        SplittableRandom random = new SplittableRandom(7);
+        PieceHitGrid grid = new PieceHitGrid(520, 520, 20);
+        double[][] rects = new double[pieces.size() * 3][];
+        Piece[] owners = new Piece[rects.length];
+        for (int round = 0; round < 3; round++) {
+            grid.clear();
+            for (int i = 0; i < rects.length; i++) {
+                double x = random.nextDouble(-30, 520);
+                double y = random.nextDouble(-30, 520);
+                rects[i] = new double[]{x, y, random.nextDouble(1, 60), random.nextDouble(1, 60)};
+                owners[i] = pieces.get(i % pieces.size());
+                grid.add(owners[i], x, y, rects[i][2], rects[i][3]);
+            }
+            assertEquals(rects.length, grid.size());
+            for (int k = 0; k < 20_000; k++) {
+                double x = random.nextDouble(-40, 560);
+                double y = random.nextDouble(-40, 560);
+                Piece expected = null;
+                for (int i = rects.length - 1; i >= 0 && expected == null; i--) {
+                    double[] r = rects[i];
+                    if (x >= r[0] && y >= r[1] && x < r[0] + r[2] && y < r[1] + r[3]) expected = owners[i];
+                }
+                assertSame(expected, grid.pieceAt(x, y), x + ", " + y);
+            }
+        }
+    }
+
+    @Test
+    void testStackedPiecesOnOneCell() {
+        // 보드 패널처럼 한 칸에 20개를 8px 간격으로 겹쳐 그림
+        List<Piece> pieces = newPieces(20);
+        PieceHitGrid grid = new PieceHitGrid(520, 520, 20);
+        for (int i = 0; i < pieces.size(); i++) {
+            double px = 260 + (i - 9.5) * 8;
+            grid.add(pieces.get(i), px - 10, 250, 20, 20);
+        }
+        // 두 말이 겹치는 곳은 나중에 그린 말, 맨 오른쪽은 마지막 말만
+        double leftEdge = 260 - 9.5 * 8 - 10;
+        assertSame(pieces.get(0), grid.pieceAt(leftEdge + 1, 260));
+        assertSame(pieces.get(2), grid.pieceAt(leftEdge + 17, 260));
+        assertSame(pieces.get(19), grid.pieceAt(260 + 9.5 * 8 + 9, 260));
+        assertNull(grid.pieceAt(260, 271));
+
+        grid.clear();
+        assertNull(grid.pieceAt(260, 260));
+        grid.add(pieces.get(5), 250, 250, 20, 20);
+        assertSame(pieces.get(5), grid.pieceAt(260, 260));
+        assertThrows(IllegalArgumentException.class, () -> new PieceHitGrid(520, 520, 0));
+    }
+
+    private static List<Piece> newPieces(int count) {
+        Game game = new Game(4, new String[]{"A", "B", "C", "D"}, 5, BoardShape.SQUARE);
+        List<Piece> pieces = new ArrayList<>();
+        game.getPlayers().forEach(p -> pieces.addAll(p.getPieces()));
+        return pieces.subList(0, count);
+    }
+}
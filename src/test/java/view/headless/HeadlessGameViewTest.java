@@ -0,0 +1,240 @@
+package view.headless;
+
+import controller.GameController;
+import model.BoardShape;
+import model.CompactGameState;
+import model.Game;
+import model.Piece;
+import model.PieceState;
+import model.Player;
+import model.ThrowResult;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import service.CompactMoveEngine;
+import service.ThrowModel;
+import service.bot.GameBot;
+import service.tablebase.Tablebase;
+import service.tablebase.TablebaseGenerator;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * HeadlessGameViewTest
+ *
+ * - 가상 시계: 예약한 작업은 시각 순(같으면 예약 순)으로, 시계를 옮긴 만큼만 실행
+ * - 봇이 있는 게임도 가상 시계로 끝까지 진행 (봇 스레드의 결과는 runOnUiThread로 예약되어 테스트 스레드에서 실행), 끝나면 봇을 닫음
+ * - 엔드게임 표 힌트: 사람 차례 상태 표시줄에 표가 고른 말이 붙고, -Dyut.tablebase는 게임과 맞는 표만 씀
+ * - -Dyut.bots로 지정한 자리는 컴퓨터가 두고, 사람 자리와 알 수 없는 종류는 사람이 둠
+ */
+class HeadlessGameViewTest {
+
+    @Test
+    void testVirtualClockOrder() {
+        HeadlessGameView view = new HeadlessGameView(HeadlessGameView.DelayMode.VIRTUAL_CLOCK, true);
+        List<String> log = new ArrayList<>();
+        view.delayNextTurn(() -> log.add("c@" + view.currentTimeMillis()), 30);
+        view.delayNextTurn(() -> log.add("a@" + view.currentTimeMillis()), 10);
+        view.delayNextTurn(() -> {
+            log.add("b@" + view.currentTimeMillis());
+            view.delayNextTurn(() -> log.add("d@" + view.currentTimeMillis()), 5); // 실행 중 예약
+        }, 10);
+        view.runOnUiThread(() -> log.add("now@" + view.currentTimeMillis()));
+        assertTrue(log.isEmpty());
+        assertEquals(4, view.getPendingTasks());
+
+        assertEquals(1, view.advanceBy(5));
+        assertEquals(List.of("now@0"), log);
+        assertEquals(5, view.currentTimeMillis());
+
+        assertEquals(3, view.advanceBy(10));
+        assertEquals(List.of("now@0", "a@10", "b@10", "d@15"), log);
+        assertEquals(15, view.currentTimeMillis());
+
+        assertEquals(1, view.runUntilIdle());
+        assertEquals("c@30", log.get(4));
+        assertEquals(30, view.currentTimeMillis());
+        assertEquals(0, view.getPendingTasks());
+    }
+
+    @Test
+    void testImmediateModeRecordsCalls() {
+        Game game = new Game(2, new String[]{"A", "B"}, 1, BoardShape.SQUARE.getSpec(), ThrowModel.FAIR, 5L);
+        HeadlessGameView view = new HeadlessGameView();
+        GameController controller = new GameController(game, view);
+        assertTrue(view.isWindowShown());
+        assertSame(controller, view.getListener());
+        assertEquals("A님, 윷을 던져주세요.", view.getLastStatus());
+        assertTrue(view.isThrowEnabled());
+        assertFalse(view.isPieceSelectable());
+
+        controller.onFixedThrowClicked(ThrowResult.GAE);
+        assertTrue(view.isPieceSelectable());
+        controller.onPieceClicked(game.getPlayers().get(0).getPieces().get(0));
+        assertEquals(1, view.getBoardUpdates());
+        assertEquals("B님, 윷을 던져주세요.", view.getLastStatus());
+        assertEquals(view.getStatusUpdates(), view.getStatusLog().size());
+
+        HeadlessGameView quiet = new HeadlessGameView(HeadlessGameView.DelayMode.IMMEDIATE, false);
+        new GameController(new Game(2, new String[]{"A", "B"}, 1, BoardShape.SQUARE), quiet);
+        assertEquals(1, quiet.getStatusUpdates());
+        assertTrue(quiet.getStatusLog().isEmpty());
+    }
+
+    @Test
+    void testBotGameOnVirtualClock() throws InterruptedException {
+        Game game = new Game(2, new String[]{"사람", "컴퓨터"}, 2, BoardShape.SQUARE.getSpec(), ThrowModel.FAIR, 21L);
+        HeadlessGameView view = new HeadlessGameView(HeadlessGameView.DelayMode.VIRTUAL_CLOCK, true);
+        GameController controller = new GameController(game, view);
+        FirstPieceBot bot = new FirstPieceBot();
+        controller.setBot(1, bot);
+
+        int clicks = playWithHuman(game, view, controller, 0);
+        assertEquals(2, view.getRanking().size());
+        assertEquals(1, bot.closed, "게임이 끝나면 봇을 닫아야 함");
+        assertTrue(clicks > 0);
+        assertTrue(view.currentTimeMillis() >= 700, "봇이 던지기 전에 가상 시계로 기다려야 함");
+        assertTrue(view.getStatusLog().stream().anyMatch(s -> s.contains("(컴퓨터) 차례")));
+    }
+
+    @Test
+    void testTablebaseHint(@TempDir Path dir) throws IOException {
+        Path path = dir.resolve("square-2.ytb");
+        TablebaseGenerator generator = new TablebaseGenerator(BoardShape.SQUARE.getSpec(), 2, ThrowModel.FAIR);
+        generator.setParallelism(2);
+        generator.solve();
+        generator.write(path);
+
+        Game game = new Game(2, new String[]{"A", "B"}, 2, BoardShape.SQUARE.getSpec(), ThrowModel.FAIR, 3L);
+        HeadlessGameView view = new HeadlessGameView();
+        GameController controller = new GameController(game, view);
+        try (Tablebase tablebase = Tablebase.open(path)) {
+            controller.setHintTablebase(tablebase);
+
+            // A: 첫 말을 걸로 내보냄, B: 첫 말을 도로 내보냄 (A의 두 번째 말이 도로 잡을 수 있는 칸)
+            controller.onFixedThrowClicked(ThrowResult.GEOL);
+            assertTrue(view.getLastStatus().contains("(추천: 1번 말"), view.getLastStatus()); // 두 말이 모두 출발 전이면 같은 수이므로 첫 말
+            controller.onPieceClicked(game.getPlayers().get(0).getPieces().get(0));
+            controller.onFixedThrowClicked(ThrowResult.DO);
+            controller.onPieceClicked(game.getPlayers().get(1).getPieces().get(0));
+
+            // A가 도: 판 위의 말을 한 칸 옮기는 것보다 새 말로 B의 말을 잡는 것이 나음
+            CompactGameState state = CompactGameState.of(game);
+            controller.onFixedThrowClicked(ThrowResult.DO);
+            int best = tablebase.bestPiece(state, List.of(ThrowResult.DO));
+            assertEquals(1, best);
+            String expected = String.format(" (추천: 2번 말, 승률 %.0f%%)",
+                    100 * tablebase.moveValue(state, best, List.of(ThrowResult.DO)));
+            assertTrue(view.getLastStatus().endsWith(expected), view.getLastStatus());
+        }
+    }
+
+    @Test
+    void testTablebaseHintFromProperty(@TempDir Path dir) throws IOException {
+        Path path = dir.resolve("square-1.ytb");
+        TablebaseGenerator generator = new TablebaseGenerator(BoardShape.SQUARE.getSpec(), 1, ThrowModel.FAIR);
+        generator.solve();
+        generator.write(path);
+
+        String previous = System.setProperty("yut.tablebase", path.toString());
+        try {
+            Game game = new Game(2, new String[]{"A", "B"}, 1, BoardShape.SQUARE.getSpec(), ThrowModel.FAIR, 3L);
+            HeadlessGameView view = new HeadlessGameView();
+            GameController controller = new GameController(game, view);
+            controller.openHintTablebaseFromProperty();
+            controller.onFixedThrowClicked(ThrowResult.GAE);
+            assertTrue(view.getLastStatus().contains("(추천: 1번 말"), view.getLastStatus());
+
+            // 말 수가 다른 게임에서는 표를 쓰지 않음
+            Game other = new Game(2, new String[]{"A", "B"}, 2, BoardShape.SQUARE.getSpec(), ThrowModel.FAIR, 3L);
+            HeadlessGameView otherView = new HeadlessGameView();
+            GameController otherController = new GameController(other, otherView);
+            otherController.openHintTablebaseFromProperty();
+            otherController.onFixedThrowClicked(ThrowResult.GAE);
+            assertFalse(otherView.getLastStatus().contains("추천"), otherView.getLastStatus());
+        } finally {
+            if (previous == null) {
+                System.clearProperty("yut.tablebase");
+            } else {
+                System.setProperty("yut.tablebase", previous);
+            }
+        }
+    }
+
+    @Test
+    void testBotsFromProperty() throws InterruptedException {
+        String previous = System.setProperty("yut.bots", "human, MCTS,unknown");
+        try {
+            Game game = new Game(3, new String[]{"A", "B", "C"}, 1, BoardShape.SQUARE.getSpec(), ThrowModel.FAIR, 8L);
+            HeadlessGameView view = new HeadlessGameView(HeadlessGameView.DelayMode.VIRTUAL_CLOCK, true);
+            GameController controller = new GameController(game, view);
+            controller.setBotsFromProperty();
+
+            int clicks = playWithHuman(game, view, controller, 0, 2);
+            assertEquals(3, view.getRanking().size());
+            assertTrue(clicks > 0);
+            assertTrue(view.getStatusLog().stream().anyMatch(s -> s.startsWith("B님(컴퓨터) 차례")));
+            assertTrue(view.getStatusLog().stream().noneMatch(s -> s.startsWith("A님(컴퓨터)") || s.startsWith("C님(컴퓨터)")));
+        } finally {
+            if (previous == null) {
+                System.clearProperty("yut.bots");
+            } else {
+                System.setProperty("yut.bots", previous);
+            }
+        }
+    }
+
+    // humans 자리는 첫 말을 클릭해서 두고, 나머지(봇) 차례에는 가상 시계를 돌리며 결과를 기다림 --> 사람이 누른 횟수
+    private static int playWithHuman(Game game, HeadlessGameView view, GameController controller, int... humans)
+            throws InterruptedException {
+        int clicks = 0;
+        while (view.getRanking() == null) {
+            int current = game.getCurrentPlayer().getId();
+            boolean human = Arrays.stream(humans).anyMatch(id -> id == current);
+            if (human && view.isThrowEnabled()) {
+                controller.onRandomThrowClicked();
+                clicks++;
+            } else if (human && view.isPieceSelectable()) {
+                controller.onPieceClicked(firstMovable(game.getCurrentPlayer()));
+                clicks++;
+            } else if (view.runUntilIdle() == 0) {
+                assertTrue(view.awaitTask(5_000), "봇 결과가 오지 않음: " + view.getLastStatus());
+            }
+        }
+        return clicks;
+    }
+
+    private static Piece firstMovable(Player player) {
+        for (Piece piece : player.getPieces()) {
+            if (piece.getState() != PieceState.FINISHED) return piece;
+        }
+        throw new AssertionError("움직일 말이 없음");
+    }
+
+    // 움직일 수 있는 첫 말을 고르는 봇
+    private static final class FirstPieceBot implements GameBot {
+        int closed;
+
+        @Override
+        public int choosePiece(CompactGameState state, List<ThrowResult> throwsToApply) {
+            int[] moves = new int[state.getPiecesNum()];
+            int count = CompactMoveEngine.forSpec(state.getSpec()).legalMoves(state, state.getCurrentPlayer(), moves);
+            return count == 0 ? -1 : moves[0];
+        }
+
+        @Override
+        public String getLastSearchSummary() {
+            return "첫 말";
+        }
+
+        @Override
+        public void close() {
+            closed++;
+        }
+    }
+}
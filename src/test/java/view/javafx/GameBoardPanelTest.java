@@ -0,0 +1,71 @@
+package view.javafx;
+
+import model.BoardShape;
+import model.Game;
+import model.Piece;
+import model.PieceState;
+import model.Player;
+import model.ThrowResult;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * GameBoardPanelTest (JavaFX 툴킷을 띄우지 않고 Canvas 명령만 쌓음)
+ *
+ * - 보드 레이어는 처음 한 번만 그리고, 말 레이어는 모습이 바뀐 슬롯(칸, off-board 자리)만 다시 그려야 함
+ * - 잡기는 도착 칸 + 두 플레이어의 off-board 자리가 바뀜
+ * - 다시 그린 뒤에도 말 클릭 범위는 그대로 찾아져야 함
+ */
+class GameBoardPanelTest {
+
+    @Test
+    void testRedrawsOnlyChangedSlots() {
+        Game game = new Game(2, new String[]{"A", "B"}, 2, BoardShape.SQUARE);
+        game.startGame();
+        GameBoardPanel panel = new GameBoardPanel(game.getBoard(), game);
+        assertEquals(1, panel.getBoardLayerDraws());
+        assertEquals(game.getBoard().getCellCount() + 2, panel.getSlotCount());
+        assertEquals(panel.getSlotCount(), panel.getLastDirtySlots());
+
+        // 바뀐 것이 없으면 아무것도 그리지 않음
+        panel.redrawDirtySlots();
+        assertEquals(0, panel.getLastDirtySlots());
+        assertEquals(0, panel.getLastRedrawnSlots());
+
+        // 말 하나가 출발 --> 도착 칸 + A의 off-board 자리
+        Player a = game.getPlayers().get(0);
+        Player b = game.getPlayers().get(1);
+        Piece moved = a.getPieces().get(0);
+        game.playTurn(a, ThrowResult.GAE, moved);
+        panel.redrawDirtySlots();
+        assertEquals(2, panel.getLastDirtySlots());
+        assertTrue(panel.getLastRedrawnSlots() >= 2 && panel.getLastRedrawnSlots() < 5,
+                "다시 그린 슬롯: " + panel.getLastRedrawnSlots());
+        assertSame(moved, findOnPanel(panel, moved));
+
+        // B가 같은 칸으로 와서 잡음 --> 도착 칸 + 두 off-board 자리
+        game.playTurn(b, ThrowResult.GAE, b.getPieces().get(0));
+        assertEquals(PieceState.NOT_STARTED, moved.getState());
+        panel.redrawDirtySlots();
+        assertEquals(3, panel.getLastDirtySlots());
+        assertSame(b.getPieces().get(0), findOnPanel(panel, b.getPieces().get(0)));
+        assertEquals(1, panel.getBoardLayerDraws());
+        assertEquals(4, panel.getPieceLayerUpdates());
+
+        // 전체 다시 그리기는 두 레이어 모두
+        panel.drawBoard();
+        assertEquals(2, panel.getBoardLayerDraws());
+        assertEquals(panel.getSlotCount(), panel.getLastRedrawnSlots());
+    }
+
+    // 화면을 훑어서 piece의 클릭 범위를 찾음
+    private static Piece findOnPanel(GameBoardPanel panel, Piece piece) {
+        for (int y = 0; y < 520; y++) {
+            for (int x = 0; x < 520; x++) {
+                if (panel.getPieceAt(x, y) == piece) return piece;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,103 @@
+package view.swing;
+
+import model.BoardShape;
+import model.Game;
+import model.Piece;
+import model.Player;
+import model.ThrowResult;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.awt.Graphics2D;
+import java.awt.Point;
+import java.awt.image.BufferedImage;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * GameBoardPanelTest (화면 없이 BufferedImage에 그림)
+ *
+ * - 정적 레이어 캐시를 써도 매번 전부 그린 것과 픽셀이 같아야 함
+ * - 캐시는 크기가 바뀔 때만 다시 그리고, 말 클릭 범위는 그대로 찾아져야 함
+ */
+class GameBoardPanelTest {
+
+    @BeforeAll
+    static void headless() {
+        System.setProperty("java.awt.headless", "true");
+    }
+
+    @Test
+    void testCachedLayerMatchesFullRepaint() {
+        for (BoardShape shape : BoardShape.values()) {
+            Game game = new Game(3, new String[]{"A", "B", "C"}, 3, shape);
+            game.startGame();
+            for (Player player : game.getPlayers()) {
+                game.playTurn(player, ThrowResult.values()[2 + player.getId()], player.getPieces().get(0));
+            }
+            GameBoardPanel panel = new GameBoardPanel(game.getBoard(), game);
+            panel.setSize(panel.getPreferredSize());
+
+            BufferedImage cached = paint(panel);
+            BufferedImage again = paint(panel);
+            panel.setStaticLayerCached(false);
+            BufferedImage full = paint(panel);
+
+            assertSamePixels(full, cached, shape + " 캐시");
+            assertSamePixels(full, again, shape + " 두 번째");
+            assertEquals(1, panel.getStaticLayerBuilds(), shape.toString());
+            assertEquals(3, panel.getPaintCount());
+            assertTrue(panel.getMeanPaintNanos() > 0);
+        }
+    }
+
+    @Test
+    void testRebuildsOnResizeAndFindsPieces() {
+        Game game = new Game(2, new String[]{"A", "B"}, 2, BoardShape.SQUARE);
+        game.startGame();
+        Player a = game.getPlayers().get(0);
+        Piece moved = a.getPieces().get(0);
+        game.playTurn(a, ThrowResult.GAE, moved);
+
+        GameBoardPanel panel = new GameBoardPanel(game.getBoard(), game);
+        panel.setSize(panel.getPreferredSize());
+        BufferedImage image = paint(panel);
+        paint(panel);
+        assertEquals(1, panel.getStaticLayerBuilds());
+        panel.setSize(600, 560);
+        paint(panel);
+        assertEquals(2, panel.getStaticLayerBuilds());
+
+        // 판 위의 말을 찾을 때까지 클릭해 봄
+        Piece found = null;
+        for (int y = 0; y < image.getHeight() && found == null; y++) {
+            for (int x = 0; x < image.getWidth() && found == null; x++) {
+                if (panel.getPieceAtPoint(new Point(x, y)) == moved) found = moved;
+            }
+        }
+        assertSame(moved, found);
+    }
+
+    private static BufferedImage paint(GameBoardPanel panel) {
+        BufferedImage image = new BufferedImage(panel.getWidth(), panel.getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = image.createGraphics();
+        try {
+            panel.paintComponent(g);
+        } finally {
+            g.dispose();
+        }
+        return image;
+    }
+
+    private static void assertSamePixels(BufferedImage expected, BufferedImage actual, String message) {
+        assertEquals(expected.getWidth(), actual.getWidth());
+        assertEquals(expected.getHeight(), actual.getHeight());
+        int different = 0;
+        for (int y = 0; y < expected.getHeight(); y++) {
+            for (int x = 0; x < expected.getWidth(); x++) {
+                if (expected.getRGB(x, y) != actual.getRGB(x, y)) different++;
+            }
+        }
+        assertEquals(0, different, message);
+    }
+}